@@ -1,18 +1,34 @@
 package pdfact.cli;
 
 import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import pdfact.cli.model.ExtractionUnit;
+import pdfact.cli.model.PdfActSignal;
 import pdfact.cli.model.SerializationFormat;
+import pdfact.cli.pipes.PdfActListener;
 import pdfact.cli.pipes.PdfActServicePipe;
 import pdfact.cli.pipes.PlainPdfActServicePipe;
+import pdfact.cli.pipes.index.OutlineBasedIndexPageSearch;
 import pdfact.core.model.Document;
+import pdfact.core.model.DocumentSource;
 import pdfact.core.model.SemanticRole;
+import pdfact.core.pipes.parse.DocumentCostEstimator;
+import pdfact.core.pipes.parse.PageComplexityLimits;
+import pdfact.core.pipes.parse.PageSelector;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.Deadline;
+import pdfact.core.util.pipeline.MemoryBudget;
+import pdfact.core.util.pipeline.PageExecutor;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
+import java.util.concurrent.Flow;
 
 import static org.apache.logging.log4j.Level.DEBUG;
 import static org.apache.logging.log4j.Level.ERROR;
@@ -119,6 +135,12 @@ public class PdfAct {
      */
     protected Path indexExtractionPath;
 
+    /**
+     * A boolean flag indicating whether or not to parse only the index pages found in the outline
+     * of the PDF (all pages are parsed if the outline has no index).
+     */
+    protected boolean parseIndexPagesOnly;
+
     /**
      * A boolean flag indicating whether or not to insert certain control characters
      * into the TXT serialization output, for example: (1) the character "^L" ("form
@@ -127,6 +149,34 @@ public class PdfAct {
      */
     protected boolean insertControlCharacters;
 
+    /**
+     * The number of pages to process in parallel (0 to use one thread per available processor).
+     */
+    protected int parallelism;
+
+    /**
+     * A boolean flag indicating whether or not to process the pages in virtual threads (if
+     * available), instead of a fixed number of platform threads.
+     */
+    protected boolean useVirtualThreads;
+
+    /**
+     * The time budget for processing a PDF in milliseconds (0 for no time budget).
+     */
+    protected long timeoutMillis;
+
+    /**
+     * The per-page complexity limits above which a page is processed with cheaper strategies, or
+     * null to use the default limits.
+     */
+    protected PageComplexityLimits pageComplexityLimits;
+
+    /**
+     * The heap memory budget shared with other documents processed concurrently, or null if the
+     * documents are not admitted by their estimated heap usage.
+     */
+    protected MemoryBudget memoryBudget;
+
     // ==============================================================================================
 
     /**
@@ -148,6 +198,81 @@ public class PdfAct {
      * @throws PdfActException If something went wrong on parsing the PDF.
      */
     public Document parse(Path pdfPath) throws PdfActException {
+        return parse(pdfPath, null);
+    }
+
+    /**
+     * Parses the PDF file given by the path and notifies the given listener about the
+     * intermediate results as soon as they are available.
+     *
+     * @param pdfPath  The path to the PDF file to parse.
+     * @param listener The listener to notify, or null if there is none.
+     * @return The parsed PDF document.
+     * @throws PdfActException If something went wrong on parsing the PDF.
+     */
+    public Document parse(Path pdfPath, PdfActListener listener) throws PdfActException {
+        return parse(new Document(pdfPath), listener);
+    }
+
+    /**
+     * Parses the PDF file held in the given byte array, without writing it to disk.
+     *
+     * @param bytes The bytes of the PDF file to parse.
+     * @return The parsed PDF document.
+     * @throws PdfActException If something went wrong on parsing the PDF.
+     */
+    public Document parse(byte[] bytes) throws PdfActException {
+        return parse(DocumentSource.of(bytes, null));
+    }
+
+    /**
+     * Parses the PDF file held in the remaining bytes of the given buffer, without writing it to
+     * disk.
+     *
+     * @param buffer The buffer with the bytes of the PDF file to parse.
+     * @return The parsed PDF document.
+     * @throws PdfActException If something went wrong on parsing the PDF.
+     */
+    public Document parse(ByteBuffer buffer) throws PdfActException {
+        return parse(DocumentSource.of(buffer, null));
+    }
+
+    /**
+     * Parses the PDF file provided by the given channel, without writing it to disk. The channel
+     * is not closed.
+     *
+     * @param channel The channel that provides the bytes of the PDF file to parse.
+     * @return The parsed PDF document.
+     * @throws PdfActException If something went wrong on parsing the PDF.
+     */
+    public Document parse(SeekableByteChannel channel) throws PdfActException {
+        return parse(DocumentSource.of(channel, null));
+    }
+
+    /**
+     * Parses the PDF file given by the source.
+     *
+     * @param source The source of the PDF file to parse.
+     * @return The parsed PDF document.
+     * @throws PdfActException If something went wrong on parsing the PDF.
+     */
+    public Document parse(DocumentSource source) throws PdfActException {
+        return parse(new Document(source), null);
+    }
+
+    /**
+     * Parses the given PDF document and notifies the given listener about the intermediate results
+     * as soon as they are available. The processing can be cancelled via the deadline of the
+     * document (see {@link Document#setDeadline(Deadline)}); if the document has no deadline, a
+     * deadline according to the time budget is set. On expiry of the deadline, a
+     * {@link pdfact.core.util.exception.PdfActTimeoutException} with the partial result is thrown.
+     *
+     * @param pdf      The PDF document to parse.
+     * @param listener The listener to notify, or null if there is none.
+     * @return The parsed PDF document.
+     * @throws PdfActException If something went wrong on parsing the PDF.
+     */
+    public Document parse(Document pdf, PdfActListener listener) throws PdfActException {
         // Set the different debug levels according to the given debug flags.
         Configurator.setLevel("pdf-parsing", this.isDebugPdfParsing ? DEBUG : ERROR);
         Configurator.setLevel("char-extraction", this.isDebugCharacterExtraction ? DEBUG : ERROR);
@@ -196,18 +321,149 @@ public class PdfAct {
         if (this.indexExtractionPath != null) {
             service.setIndexExtractionPath(this.indexExtractionPath);
         }
+        service.setParseIndexPagesOnly(this.parseIndexPagesOnly);
 
         service.setInsertControlCharacters(this.insertControlCharacters);
 
-        // Create the PDF document from the given path.
-        Document pdf = new Document(pdfPath);
+        service.setListener(listener);
+
+        if (this.pageComplexityLimits != null) {
+            service.setPageComplexityLimits(this.pageComplexityLimits);
+        }
+
+        // Set the deadline, unless the caller has given its own deadline.
+        if (pdf.getDeadline() == null && this.timeoutMillis > 0) {
+            pdf.setDeadline(Deadline.after(this.timeoutMillis));
+        }
 
-        // Run PdfAct.
-        service.execute(pdf);
+        // Wait until the estimated heap usage of the document fits into the memory budget.
+        MemoryBudget.Reservation reservation = null;
+        PageExecutor executor = null;
+        try {
+            if (this.memoryBudget != null && pdf.getSource() != null) {
+                reservation = reserveMemory(pdf);
+            }
+
+            // Run PdfAct, on an own executor if a specific parallelism is given.
+            executor = createPageExecutor();
+            service.execute(pdf, executor != null ? executor : PageExecutor.getDefault());
+        } finally {
+            if (executor != null) {
+                executor.close();
+            }
+            if (reservation != null) {
+                reservation.close();
+            }
+            closePdDocument(pdf);
+        }
 
         return pdf;
     }
 
+    /**
+     * Reserves the estimated heap usage of the given document from the memory budget, waiting until
+     * it fits. The loading of the PDF file counts against the budget, too: the heap usage of the
+     * loaded file (estimated from the file size) is reserved before the file is loaded, and the
+     * reservation is extended by the estimate of the pages (sampled from the loaded file)
+     * afterwards. The loaded file is kept open for the parsing (see {@link Document#getPdDocument()})
+     * if the extension fits right away; a document that has to wait closes it instead, so that it
+     * holds no memory while waiting, and is loaded again by the parser.
+     *
+     * @param pdf The document to process.
+     * @return The reservation, which must be closed after the document was processed.
+     * @throws PdfActException If the deadline of the document expired while waiting.
+     */
+    protected MemoryBudget.Reservation reserveMemory(Document pdf) throws PdfActException {
+        // Only the outline is cheap enough to find the index pages before the admission.
+        PageSelector selector = this.parseIndexPagesOnly && this.indexExtractionPath != null
+                ? new OutlineBasedIndexPageSearch() : null;
+        DocumentCostEstimator estimator = new DocumentCostEstimator();
+
+        long numLoadBytes = 0;
+        try {
+            numLoadBytes = estimator.estimateLoad(pdf.getSource());
+        } catch (IOException e) {
+            // The parser reports the actual error.
+        }
+        MemoryBudget.Reservation reservation = this.memoryBudget.reserve(numLoadBytes, pdf.getDeadline());
+
+        PDDocument doc;
+        long numPageBytes;
+        try {
+            doc = pdf.getSource().load();
+        } catch (IOException | RuntimeException e) {
+            // Estimate by the file size only, the parser reports the actual error.
+            return reservation;
+        }
+        try {
+            numPageBytes = estimator.estimate(doc, selector);
+        } catch (RuntimeException e) {
+            // Estimate by the file size only, the parser reports the actual error.
+            numPageBytes = 0;
+        }
+
+        if (reservation.tryExtend(numPageBytes)) {
+            pdf.setPdDocument(doc);
+            return reservation;
+        }
+        IOUtils.closeQuietly(doc);
+        reservation.close();
+        return this.memoryBudget.reserve(numLoadBytes + numPageBytes, pdf.getDeadline());
+    }
+
+    /**
+     * Closes the PDF file of the given document, if it is still open (e.g. if the processing was
+     * aborted before the parsing took it over).
+     *
+     * @param pdf The document.
+     */
+    protected void closePdDocument(Document pdf) {
+        if (pdf.getPdDocument() != null) {
+            IOUtils.closeQuietly(pdf.getPdDocument());
+            pdf.setPdDocument(null);
+        }
+    }
+
+    /**
+     * Returns a publisher that parses the PDF file given by the path on each subscription and
+     * publishes a snapshot of each page as soon as its text blocks are detected, followed by the
+     * document and the extracted index entries. The publisher supports back-pressure and aborts the
+     * processing if the subscription is cancelled.
+     *
+     * @param pdfPath The path to the PDF file to parse.
+     * @return The publisher.
+     */
+    public Flow.Publisher<PdfActSignal> publish(Path pdfPath) {
+        return publish(DocumentSource.of(pdfPath));
+    }
+
+    /**
+     * Returns a publisher that parses the PDF file given by the source on each subscription (see
+     * {@link #publish(Path)}).
+     *
+     * @param source The source of the PDF file to parse.
+     * @return The publisher.
+     */
+    public Flow.Publisher<PdfActSignal> publish(DocumentSource source) {
+        return new PdfActPublisher(this, source);
+    }
+
+    /**
+     * Creates the executor on which the pages are processed, according to the given parallelism
+     * settings.
+     *
+     * @return The created executor, or null if the default executor should be used.
+     */
+    protected PageExecutor createPageExecutor() {
+        if (this.useVirtualThreads) {
+            return PageExecutor.withVirtualThreads();
+        }
+        if (this.parallelism > 0) {
+            return PageExecutor.withParallelism(this.parallelism);
+        }
+        return null;
+    }
+
     // ==============================================================================================
 
     /**
@@ -403,6 +659,22 @@ public class PdfAct {
         this.indexExtractionPath = indexExtractionPath;
     }
 
+    /**
+     * Returns true if only the index pages found in the outline of the PDF are parsed, false
+     * otherwise.
+     */
+    public boolean isParseIndexPagesOnly() {
+        return this.parseIndexPagesOnly;
+    }
+
+    /**
+     * Sets whether or not to parse only the index pages found in the outline of the PDF. Note that
+     * the page offsets of the index entries can't be computed from the pages that are not parsed.
+     */
+    public void setParseIndexPagesOnly(boolean parseIndexPagesOnly) {
+        this.parseIndexPagesOnly = parseIndexPagesOnly;
+    }
+
     // ==============================================================================================
 
     /**
@@ -526,4 +798,88 @@ public class PdfAct {
     public void setInsertControlCharacters(boolean insertControlCharacters) {
         this.insertControlCharacters = insertControlCharacters;
     }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the number of pages to process in parallel (0 if one thread per available processor
+     * is used).
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Sets the number of pages to process in parallel (0 to use one thread per available
+     * processor, 1 to process the pages sequentially).
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns true if the pages are processed in virtual threads, false otherwise.
+     */
+    public boolean isUseVirtualThreads() {
+        return this.useVirtualThreads;
+    }
+
+    /**
+     * Sets whether or not to process the pages in virtual threads (if available).
+     */
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the time budget for processing a PDF in milliseconds (0 if there is no time budget).
+     */
+    public long getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    /**
+     * Sets the time budget for processing a PDF in milliseconds (0 for no time budget).
+     */
+    public void setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the per-page complexity limits, or null if the default limits are used.
+     */
+    public PageComplexityLimits getPageComplexityLimits() {
+        return this.pageComplexityLimits;
+    }
+
+    /**
+     * Sets the per-page complexity limits above which a page is processed with cheaper strategies
+     * (null to use the default limits).
+     */
+    public void setPageComplexityLimits(PageComplexityLimits pageComplexityLimits) {
+        this.pageComplexityLimits = pageComplexityLimits;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the heap memory budget shared with other documents, or null if there is none.
+     */
+    public MemoryBudget getMemoryBudget() {
+        return this.memoryBudget;
+    }
+
+    /**
+     * Sets the heap memory budget to share with other documents processed concurrently (null for
+     * no budget). Before a document is processed, its heap usage is estimated from the file size,
+     * the number of pages and a sample of the content streams, and reserved from the budget; the
+     * processing waits until the estimate fits into the budget.
+     */
+    public void setMemoryBudget(MemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
 }
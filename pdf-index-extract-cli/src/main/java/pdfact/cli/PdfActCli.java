@@ -2,6 +2,7 @@ package pdfact.cli;
 
 import net.sourceforge.argparse4j.ArgumentParsers;
 import net.sourceforge.argparse4j.annotation.Arg;
+import net.sourceforge.argparse4j.impl.Arguments;
 import net.sourceforge.argparse4j.helper.HelpScreenException;
 import net.sourceforge.argparse4j.inf.Argument;
 import net.sourceforge.argparse4j.inf.ArgumentAction;
@@ -101,6 +102,17 @@ public class PdfActCli {
             if (indexExtractionPathStr != null) {
                 pdfAct.setIndexExtractionPath(Paths.get(indexExtractionPathStr));
             }
+
+            // Set the "parse index pages only"-flag.
+            pdfAct.setParseIndexPagesOnly(parser.parseIndexPagesOnly);
+
+            // Pass the parallelism settings.
+            pdfAct.setParallelism(parser.parallelism);
+            pdfAct.setUseVirtualThreads(parser.useVirtualThreads);
+
+            // Pass the time budget.
+            pdfAct.setTimeoutMillis(parser.timeoutMillis);
+
             // Run PdfAct.
             pdfAct.parse(parser.pdfPath);
         } catch (PdfActException e) {
@@ -417,6 +429,58 @@ public class PdfActCli {
 
         // ============================================================================================
 
+        /**
+         * The name of the option to parse only the index pages found in the outline of the PDF.
+         */
+        public static final String INDEX_PAGES_ONLY = "index-pages-only";
+
+        /**
+         * The flag indicating whether or not to parse only the index pages found in the outline.
+         */
+        @Arg(dest = INDEX_PAGES_ONLY)
+        public boolean parseIndexPagesOnly = false;
+
+        // ============================================================================================
+
+        /**
+         * The name of the option to define the number of pages to process in parallel.
+         */
+        public static final String PARALLELISM = "parallelism";
+
+        /**
+         * The number of pages to process in parallel (0 for one thread per available processor).
+         */
+        @Arg(dest = PARALLELISM)
+        public int parallelism = 0;
+
+        // ============================================================================================
+
+        /**
+         * The name of the option to process the pages in virtual threads.
+         */
+        public static final String VIRTUAL_THREADS = "virtual-threads";
+
+        /**
+         * The flag indicating whether or not to process the pages in virtual threads.
+         */
+        @Arg(dest = VIRTUAL_THREADS)
+        public boolean useVirtualThreads = false;
+
+        // ============================================================================================
+
+        /**
+         * The name of the option to define the time budget for processing the PDF.
+         */
+        public static final String TIMEOUT = "timeout";
+
+        /**
+         * The time budget for processing the PDF in milliseconds (0 for no time budget).
+         */
+        @Arg(dest = TIMEOUT)
+        public long timeoutMillis = 0;
+
+        // ============================================================================================
+
         /**
          * Creates a new command line argument parser.
          */
@@ -433,6 +497,29 @@ public class PdfActCli {
             this.parser.addArgument(INDEX_EXTRACTION).dest(INDEX_EXTRACTION).required(true).type(String.class)
                     .metavar("<index-xml-output-path>")
                     .help("The option to extract the index from the pdf. The extracted index will be written to a xml file");
+
+            // Add an option to parse only the index pages found in the outline or by the prescan.
+            this.parser.addArgument("--" + INDEX_PAGES_ONLY).dest(INDEX_PAGES_ONLY).action(Arguments.storeTrue())
+                    .help("Parse only the index pages of the PDF, given by the outline (bookmarks) or, if the "
+                            + "outline has no index, found by a prescan of the content streams. All pages are "
+                            + "parsed if neither finds an index. The page offsets of the index entries are computed "
+                            + "from the printed page numbers of the parsed pages.");
+
+            // Add an option to define the number of pages to process in parallel.
+            this.parser.addArgument("--" + PARALLELISM).dest(PARALLELISM).type(Integer.class).setDefault(0)
+                    .metavar("<num-threads>")
+                    .help("The number of pages to process in parallel. 0 uses one thread per available processor, "
+                            + "1 processes the pages sequentially.");
+
+            // Add an option to process the pages in virtual threads.
+            this.parser.addArgument("--" + VIRTUAL_THREADS).dest(VIRTUAL_THREADS).action(Arguments.storeTrue())
+                    .help("Process the pages in virtual threads (requires Java 21+, ignored otherwise).");
+
+            // Add an option to define the time budget.
+            this.parser.addArgument("--" + TIMEOUT).dest(TIMEOUT).type(Long.class).setDefault(0L)
+                    .metavar("<millis>")
+                    .help("The time budget for processing the PDF in milliseconds. The processing is aborted with "
+                            + "exit code 22 when the budget is exceeded. 0 means no time budget.");
         }
 
         /**
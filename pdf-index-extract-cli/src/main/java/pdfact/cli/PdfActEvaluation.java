@@ -0,0 +1,723 @@
+package pdfact.cli;
+
+import net.sourceforge.argparse4j.ArgumentParsers;
+import net.sourceforge.argparse4j.annotation.Arg;
+import net.sourceforge.argparse4j.helper.HelpScreenException;
+import net.sourceforge.argparse4j.impl.Arguments;
+import net.sourceforge.argparse4j.inf.ArgumentParser;
+import net.sourceforge.argparse4j.inf.ArgumentParserException;
+import pdfact.cli.util.exception.PdfActParseCommandLineException;
+import pdfact.core.model.Document;
+import pdfact.core.model.Page;
+import pdfact.core.util.Comparator;
+import pdfact.core.util.ComparisonResult;
+import pdfact.core.util.IndexEntry;
+import pdfact.core.util.ReadIndexXML;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActTimeoutException;
+import pdfact.core.util.pipeline.MemoryBudget;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Evaluates the index extraction on a corpus of books: extracts the indices of the PDF files
+ * listed in a manifest (in the format of the files in "evaluation_data": a TSV file with the
+ * columns "id", "name" and "md5sum", where only the rows of PDF files are considered) in parallel,
+ * compares each index with its gold standard and prints per book and in total the precision,
+ * recall and F1-measure, together with the wall time, the throughput (in pages per second) and
+ * the peak heap usage (per book only if the books are processed by a single thread, as the heap is
+ * shared by all threads). The gold standard of a PDF file "foo.pdf" is expected in "foo.xml" in the
+ * gold directory, in the format of the extracted indices.
+ */
+public class PdfActEvaluation {
+    /**
+     * The comparator of the extracted indices with the gold standard (shared by all threads).
+     */
+    protected static final Comparator COMPARATOR = new Comparator();
+
+    /**
+     * The directory of the PDF files.
+     */
+    protected Path pdfDir;
+
+    /**
+     * The directory of the gold standard files.
+     */
+    protected Path goldDir;
+
+    /**
+     * The directory to keep the extracted indices in, or null to discard them.
+     */
+    protected Path outputDir;
+
+    /**
+     * The number of books to process in parallel.
+     */
+    protected int numThreads = 1;
+
+    /**
+     * Whether or not to parse only the index pages found in the outline.
+     */
+    protected boolean parseIndexPagesOnly;
+
+    /**
+     * The time budget per book in milliseconds (0 for no time budget).
+     */
+    protected long timeoutMillis;
+
+    /**
+     * The heap memory budget shared by the books processed in parallel, or null if there is none.
+     */
+    protected MemoryBudget memoryBudget;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new evaluation.
+     *
+     * @param pdfDir  The directory of the PDF files.
+     * @param goldDir The directory of the gold standard files.
+     */
+    public PdfActEvaluation(Path pdfDir, Path goldDir) {
+        this.pdfDir = pdfDir;
+        this.goldDir = goldDir;
+    }
+
+    /**
+     * Reads the names of the PDF files from the given manifest.
+     *
+     * @param manifest The path to the manifest.
+     * @return The names of the PDF files, in the order of the manifest.
+     * @throws IOException If reading the manifest fails.
+     */
+    public static List<String> readManifest(Path manifest) throws IOException {
+        List<String> pdfNames = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+            // Skip the header.
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t");
+                if (fields.length >= 2 && fields[1].toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+                    pdfNames.add(fields[1].strip());
+                }
+            }
+        }
+        return pdfNames;
+    }
+
+    /**
+     * Evaluates the given books, printing the result of each book as soon as it (and all books
+     * before it) are evaluated.
+     *
+     * @param pdfNames The names of the PDF files.
+     * @param out      The stream to print the results to.
+     * @return The results of the books, in the given order.
+     * @throws InterruptedException If the evaluation was interrupted.
+     */
+    public List<BookResult> evaluate(List<String> pdfNames, PrintStream out) throws InterruptedException {
+        // Reset the peak heap usages, such that they only cover this evaluation.
+        resetPeakHeapUsage();
+
+        List<BookResult> results = new ArrayList<>();
+        out.println(BookResult.HEADER);
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(this.numThreads);
+        try {
+            List<Future<BookResult>> futures = new ArrayList<>();
+            for (String pdfName : pdfNames) {
+                futures.add(executor.submit(() -> evaluate(pdfName)));
+            }
+            for (Future<BookResult> future : futures) {
+                BookResult result;
+                try {
+                    result = future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+                results.add(result);
+                out.println(result);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        printSummary(results, (System.nanoTime() - start) / 1_000_000, out);
+        return results;
+    }
+
+    /**
+     * Evaluates a single book.
+     *
+     * @param pdfName The name of the PDF file.
+     * @return The result of the book.
+     */
+    protected BookResult evaluate(String pdfName) {
+        BookResult result = new BookResult(pdfName);
+        Path pdfPath = this.pdfDir.resolve(pdfName);
+        String baseName = pdfName.substring(0, pdfName.length() - ".pdf".length());
+        Path goldPath = this.goldDir.resolve(baseName + ".xml");
+        if (!Files.isReadable(pdfPath)) {
+            result.status = "missing pdf";
+            return result;
+        }
+        if (!Files.isReadable(goldPath)) {
+            result.status = "missing gold";
+            return result;
+        }
+
+        // With a single thread, the peak heap usage can be attributed to the book.
+        if (this.numThreads == 1) {
+            resetPeakHeapUsage();
+        }
+
+        Path xmlPath = null;
+        try {
+            xmlPath = this.outputDir != null
+                    ? this.outputDir.resolve(baseName + ".xml")
+                    : Files.createTempFile("pdfact-", ".xml");
+
+            PdfAct pdfAct = new PdfAct();
+            pdfAct.setIndexExtractionPath(xmlPath);
+            pdfAct.setParseIndexPagesOnly(this.parseIndexPagesOnly);
+            pdfAct.setTimeoutMillis(this.timeoutMillis);
+            pdfAct.setMemoryBudget(this.memoryBudget);
+            // An output left by a previous run must not be scored if this extraction fails.
+            Files.deleteIfExists(xmlPath);
+
+            long start = System.nanoTime();
+            try {
+                Document pdf = pdfAct.parse(pdfPath);
+                result.numPages = pdf.getPages() != null ? pdf.getPages().size() : 0;
+                result.numDegradedPages = countDegradedPages(pdf);
+                result.status = "ok";
+            } catch (PdfActTimeoutException e) {
+                Document pdf = e.getDocument();
+                result.numPages = pdf != null && pdf.getPages() != null ? pdf.getPages().size() : 0;
+                result.numDegradedPages = countDegradedPages(pdf);
+                result.status = "timeout";
+            } catch (PdfActException e) {
+                result.status = "exit code " + e.getExitCode();
+            }
+            result.wallMillis = (System.nanoTime() - start) / 1_000_000;
+            // With more threads, the peak heap usage is the one of the JVM, not of the book.
+            if (this.numThreads == 1) {
+                result.peakHeapBytes = getPeakHeapUsage();
+            }
+
+            if ("ok".equals(result.status) && Files.isReadable(xmlPath)) {
+                ReadIndexXML reader = new ReadIndexXML();
+                Collection<IndexEntry> gold = reader.readPdf(goldPath.toString());
+                Collection<IndexEntry> extracted = reader.readPdf(xmlPath.toString());
+                ComparisonResult comparison = COMPARATOR.compare(gold, extracted);
+                result.numGoldEntries = comparison.getNumGoldEntries();
+                result.numExtractedEntries = comparison.getNumExtractedEntries();
+                result.precision = comparison.getPrecision();
+                result.recall = comparison.getRecall();
+                result.f1 = comparison.getF1();
+                result.isEvaluated = true;
+            }
+        } catch (IOException | RuntimeException e) {
+            result.status = "error: " + e;
+        } finally {
+            // Don't keep the (partial) output of a failed extraction.
+            if ((this.outputDir == null || !"ok".equals(result.status)) && xmlPath != null) {
+                try {
+                    Files.deleteIfExists(xmlPath);
+                } catch (IOException e) {
+                    // Nothing to do, it's a temporary file or the output of a failed extraction.
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Prints the macro-averaged precision, recall and F1-measure of the evaluated books, together
+     * with the throughput of the corpus (the total number of pages over the elapsed time of the
+     * evaluation, such that it reflects the parallelism) and the peak heap usage of the JVM.
+     *
+     * @param results       The results of the books.
+     * @param elapsedMillis The elapsed time of the evaluation, in milliseconds.
+     * @param out           The stream to print to.
+     */
+    protected void printSummary(List<BookResult> results, long elapsedMillis, PrintStream out) {
+        int numEvaluated = 0;
+        double sumPrecision = 0;
+        double sumRecall = 0;
+        double sumF1 = 0;
+        long sumPages = 0;
+        long sumDegradedPages = 0;
+        for (BookResult result : results) {
+            sumPages += result.numPages;
+            sumDegradedPages += result.numDegradedPages;
+            if (result.isEvaluated) {
+                numEvaluated++;
+                sumPrecision += result.precision;
+                sumRecall += result.recall;
+                sumF1 += result.f1;
+            }
+        }
+
+        out.println();
+        out.println("books: " + results.size() + ", evaluated: " + numEvaluated);
+        if (numEvaluated > 0) {
+            out.println(String.format(Locale.ROOT, "macro precision: %.4f, macro recall: %.4f, macro F1: %.4f",
+                    sumPrecision / numEvaluated, sumRecall / numEvaluated, sumF1 / numEvaluated));
+        }
+        out.println(String.format(Locale.ROOT, "pages: %d, degraded: %d, seconds: %.1f, pages/s: %.2f, "
+                + "peak heap (JVM): %d MB", sumPages, sumDegradedPages, elapsedMillis / 1000.0,
+                elapsedMillis > 0 ? sumPages * 1000.0 / elapsedMillis : 0, getPeakHeapUsage() >> 20));
+    }
+
+    /**
+     * Counts the pages of the given PDF that were processed with cheaper strategies, because they
+     * exceeded a complexity limit.
+     *
+     * @param pdf The PDF (may be null).
+     * @return The number of degraded pages.
+     */
+    protected static int countDegradedPages(Document pdf) {
+        if (pdf == null || pdf.getPages() == null) {
+            return 0;
+        }
+        return (int) pdf.getPages().stream().filter(Page::isDegraded).count();
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the peak heap usage, as the sum of the peak usages of the heap memory pools.
+     *
+     * @return The peak heap usage in bytes.
+     */
+    protected static long getPeakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * Resets the peak usages of the heap memory pools.
+     */
+    protected static void resetPeakHeapUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Sets the directory to keep the extracted indices in.
+     *
+     * @param outputDir The directory, or null to discard the extracted indices.
+     */
+    public void setOutputDir(Path outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * Sets the number of books to process in parallel.
+     *
+     * @param numThreads The number of books to process in parallel.
+     */
+    public void setNumThreads(int numThreads) {
+        this.numThreads = Math.max(1, numThreads);
+    }
+
+    /**
+     * Sets the flag indicating whether or not to parse only the index pages found in the outline.
+     *
+     * @param parseIndexPagesOnly The flag.
+     */
+    public void setParseIndexPagesOnly(boolean parseIndexPagesOnly) {
+        this.parseIndexPagesOnly = parseIndexPagesOnly;
+    }
+
+    /**
+     * Sets the time budget per book. A book that exceeds it is aborted with the status "timeout".
+     *
+     * @param timeoutMillis The time budget in milliseconds (0 for no time budget).
+     */
+    public void setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Sets the heap memory budget shared by the books processed in parallel. A book waits until its
+     * estimated heap usage fits into the budget.
+     *
+     * @param memoryBudget The memory budget, or null for no budget.
+     */
+    public void setMemoryBudget(MemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * The main method to run the evaluation.
+     *
+     * @param args The command line arguments.
+     */
+    public static void main(String[] args) {
+        PdfActEvaluationCommandLineParser parser = new PdfActEvaluationCommandLineParser();
+        try {
+            parser.parseArgs(args);
+        } catch (PdfActException e) {
+            if (e.getExitCode() != 0) {
+                System.err.println(e.getMessage());
+            }
+            return;
+        }
+
+        Path manifest = Paths.get(parser.manifestPath);
+        Path pdfDir = Paths.get(parser.pdfDir);
+        Path goldDir = parser.goldDir != null ? Paths.get(parser.goldDir) : pdfDir;
+
+        PdfActEvaluation evaluation = new PdfActEvaluation(pdfDir, goldDir);
+        int numThreads = parser.numThreads > 0 ? parser.numThreads : Runtime.getRuntime().availableProcessors();
+        evaluation.setNumThreads(numThreads);
+        // A single book at a time has nothing to share the heap with.
+        if (numThreads > 1 && parser.heapBudgetPercent > 0) {
+            evaluation.setMemoryBudget(MemoryBudget.ofMaxHeap(parser.heapBudgetPercent / 100.0));
+        }
+        evaluation.setParseIndexPagesOnly(parser.parseIndexPagesOnly);
+        evaluation.setTimeoutMillis(parser.timeoutMillis);
+        try {
+            if (parser.outputDir != null) {
+                evaluation.setOutputDir(Files.createDirectories(Paths.get(parser.outputDir)));
+            }
+            evaluation.evaluate(readManifest(manifest), System.out);
+        } catch (IOException e) {
+            System.err.println("Couldn't read the manifest '" + manifest + "': " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * The result of a single book.
+     */
+    public static class BookResult {
+        /**
+         * The header of the (tab-separated) results.
+         */
+        public static final String HEADER = "name\tstatus\tgold\textracted\tprecision\trecall\tf1\tpages"
+                + "\tdegraded\tmillis\tpages/s\tpeak heap (MB)";
+
+        /**
+         * The name of the PDF file.
+         */
+        protected String name;
+
+        /**
+         * The status of the extraction ("ok", "missing pdf", "missing gold", "timeout", "exit code X",
+         * ...).
+         */
+        protected String status;
+
+        /**
+         * Whether or not the extracted index was compared with the gold standard.
+         */
+        protected boolean isEvaluated;
+
+        /**
+         * The number of entries of the gold standard.
+         */
+        protected int numGoldEntries;
+
+        /**
+         * The number of extracted entries.
+         */
+        protected int numExtractedEntries;
+
+        /**
+         * The precision.
+         */
+        protected double precision;
+
+        /**
+         * The recall.
+         */
+        protected double recall;
+
+        /**
+         * The F1-measure.
+         */
+        protected double f1;
+
+        /**
+         * The number of pages of the PDF file.
+         */
+        protected int numPages;
+
+        /**
+         * The number of pages that exceeded a complexity limit and were processed with cheaper
+         * strategies.
+         */
+        protected int numDegradedPages;
+
+        /**
+         * The wall time of the extraction, in milliseconds.
+         */
+        protected long wallMillis;
+
+        /**
+         * The peak heap usage of the extraction, in bytes, or -1 if the books are processed by more
+         * than one thread (such that the peak heap usage can't be attributed to a single book).
+         */
+        protected long peakHeapBytes = -1;
+
+        /**
+         * Creates a new result.
+         *
+         * @param name The name of the PDF file.
+         */
+        public BookResult(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public String getStatus() {
+            return this.status;
+        }
+
+        public boolean isEvaluated() {
+            return this.isEvaluated;
+        }
+
+        public double getPrecision() {
+            return this.precision;
+        }
+
+        public double getRecall() {
+            return this.recall;
+        }
+
+        public double getF1() {
+            return this.f1;
+        }
+
+        public int getNumPages() {
+            return this.numPages;
+        }
+
+        public int getNumDegradedPages() {
+            return this.numDegradedPages;
+        }
+
+        public long getWallMillis() {
+            return this.wallMillis;
+        }
+
+        public long getPeakHeapBytes() {
+            return this.peakHeapBytes;
+        }
+
+        /**
+         * Returns the throughput of the extraction.
+         *
+         * @return The number of pages per second.
+         */
+        public double getPagesPerSecond() {
+            return this.wallMillis > 0 ? this.numPages * 1000.0 / this.wallMillis : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s\t%s\t%d\t%d\t%.4f\t%.4f\t%.4f\t%d\t%d\t%d\t%.2f\t%s",
+                    this.name, this.status, this.numGoldEntries, this.numExtractedEntries, this.precision,
+                    this.recall, this.f1, this.numPages, this.numDegradedPages, this.wallMillis,
+                    getPagesPerSecond(), this.peakHeapBytes >= 0 ? String.valueOf(this.peakHeapBytes >> 20) : "-");
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * A parser to parse the command line arguments of the evaluation.
+     */
+    static class PdfActEvaluationCommandLineParser {
+        /**
+         * The command line argument parser.
+         */
+        protected ArgumentParser parser;
+
+        /**
+         * The name of the option to define the path to the manifest.
+         */
+        public static final String MANIFEST = "manifest";
+
+        /**
+         * The path to the manifest.
+         */
+        @Arg(dest = MANIFEST)
+        public String manifestPath;
+
+        /**
+         * The name of the option to define the directory of the PDF files.
+         */
+        public static final String PDF_DIR = "pdf-dir";
+
+        /**
+         * The directory of the PDF files.
+         */
+        @Arg(dest = PDF_DIR)
+        public String pdfDir;
+
+        /**
+         * The name of the option to define the directory of the gold standard files.
+         */
+        public static final String GOLD_DIR = "gold-dir";
+
+        /**
+         * The directory of the gold standard files.
+         */
+        @Arg(dest = GOLD_DIR)
+        public String goldDir;
+
+        /**
+         * The name of the option to define the directory to keep the extracted indices in.
+         */
+        public static final String OUTPUT_DIR = "output-dir";
+
+        /**
+         * The directory to keep the extracted indices in.
+         */
+        @Arg(dest = OUTPUT_DIR)
+        public String outputDir;
+
+        /**
+         * The name of the option to define the number of books to process in parallel.
+         */
+        public static final String THREADS = "threads";
+
+        /**
+         * The number of books to process in parallel (0 for one per available processor).
+         */
+        @Arg(dest = THREADS)
+        public int numThreads = 1;
+
+        /**
+         * The name of the option to parse only the index pages found in the outline.
+         */
+        public static final String INDEX_PAGES_ONLY = "index-pages-only";
+
+        /**
+         * The flag indicating whether or not to parse only the index pages found in the outline.
+         */
+        @Arg(dest = INDEX_PAGES_ONLY)
+        public boolean parseIndexPagesOnly = false;
+
+        /**
+         * The name of the option to define the time budget per book.
+         */
+        public static final String TIMEOUT = "timeout";
+
+        /**
+         * The time budget per book in milliseconds (0 for no time budget).
+         */
+        @Arg(dest = TIMEOUT)
+        public long timeoutMillis = 0;
+
+        /**
+         * The name of the option to define the heap memory budget.
+         */
+        public static final String HEAP_BUDGET = "heap-budget";
+
+        /**
+         * The percentage of the max. heap size shared by the books processed in parallel (0 for no
+         * budget).
+         */
+        @Arg(dest = HEAP_BUDGET)
+        public int heapBudgetPercent = 75;
+
+        /**
+         * Creates a new command line argument parser.
+         */
+        public PdfActEvaluationCommandLineParser() {
+            this.parser = ArgumentParsers.newFor("pdfIndexExtractEvaluation").terminalWidthDetection(false)
+                    .defaultFormatWidth(100).build();
+            this.parser.description("Evaluates the index extraction on a corpus of books.");
+
+            this.parser.addArgument(MANIFEST).dest(MANIFEST).required(true).metavar("<manifest-path>")
+                    .help("The TSV file that lists the PDF files (columns: id, name, md5sum), e.g. a file "
+                            + "of the folder evaluation_data.");
+
+            this.parser.addArgument("--" + PDF_DIR).dest(PDF_DIR).required(true).metavar("<dir>")
+                    .help("The directory of the PDF files.");
+
+            this.parser.addArgument("--" + GOLD_DIR).dest(GOLD_DIR).metavar("<dir>")
+                    .help("The directory of the gold standard (foo.xml for foo.pdf). Defaults to the "
+                            + "directory of the PDF files.");
+
+            this.parser.addArgument("--" + OUTPUT_DIR).dest(OUTPUT_DIR).metavar("<dir>")
+                    .help("The directory to keep the extracted indices in. They are discarded otherwise.");
+
+            this.parser.addArgument("--" + THREADS).dest(THREADS).type(Integer.class).setDefault(1)
+                    .metavar("<num-threads>")
+                    .help("The number of books to process in parallel. 0 uses one thread per available "
+                            + "processor. The peak heap usage per book is only reported with 1 thread.");
+
+            this.parser.addArgument("--" + INDEX_PAGES_ONLY).dest(INDEX_PAGES_ONLY).action(Arguments.storeTrue())
+                    .help("Parse only the index pages given by the outline (bookmarks) of the PDF.");
+
+            this.parser.addArgument("--" + TIMEOUT).dest(TIMEOUT).type(Long.class).setDefault(0L)
+                    .metavar("<millis>")
+                    .help("The time budget per book in milliseconds. A book that exceeds it is aborted and "
+                            + "reported with the status \"timeout\". 0 means no time budget.");
+
+            this.parser.addArgument("--" + HEAP_BUDGET).dest(HEAP_BUDGET).type(Integer.class).setDefault(75)
+                    .choices(Arguments.range(0, 100)).metavar("<percent>")
+                    .help("The percentage of the max. heap size shared by the books processed in parallel. A "
+                            + "book waits until its estimated heap usage fits into the budget. 0 means no budget.");
+        }
+
+        /**
+         * Parses the given command line arguments.
+         *
+         * @param args The command line arguments to parse.
+         * @throws PdfActException If parsing the command line arguments fails.
+         */
+        public void parseArgs(String[] args) throws PdfActException {
+            try {
+                this.parser.parseArgs(args, this);
+            } catch (HelpScreenException e) {
+                throw new PdfActParseCommandLineException(null, 0, e);
+            } catch (ArgumentParserException e) {
+                String message = e.getMessage() + "\n\n" + this.parser.formatUsage();
+                throw new PdfActParseCommandLineException(message, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package pdfact.cli;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import pdfact.cli.model.PdfActSignal;
+import pdfact.cli.model.PdfActSignal.DocumentSignal;
+import pdfact.cli.model.PdfActSignal.IndexSignal;
+import pdfact.cli.model.PdfActSignal.PageSignal;
+import pdfact.cli.pipes.PdfActListener;
+import pdfact.core.model.Document;
+import pdfact.core.model.DocumentSource;
+import pdfact.core.model.Page;
+import pdfact.core.util.IndexEntry;
+import pdfact.core.util.exception.PdfActTimeoutException;
+import pdfact.core.util.pipeline.Deadline;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A publisher that processes a PDF file with PdfAct and publishes the results as soon as they are
+ * available: a snapshot of each page as soon as its text blocks are detected (see
+ * {@link PageSignal}), then the document with its document-level results, and finally the
+ * extracted index entries. Afterwards, the subscription is completed (or completed exceptionally,
+ * if the processing failed).
+ *
+ * <p>
+ * The publisher is cold: each subscriber gets its own processing of the PDF file, which is started
+ * on subscribing, in an own thread. The publisher supports back-pressure: if a subscriber has not
+ * requested more signals and its buffer is full, the processing waits until the subscriber requests
+ * more. If a subscriber cancels its subscription, the deadline of the document is cancelled, so the
+ * processing is aborted at the next check of the deadline (before the next page of a stage, at the
+ * latest).
+ */
+public class PdfActPublisher implements Flow.Publisher<PdfActSignal> {
+    /**
+     * The logger.
+     */
+    protected static Logger log = LogManager.getLogger(PdfActPublisher.class);
+
+    /**
+     * The counter to create unique thread names.
+     */
+    protected static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * The PdfAct instance (with its settings) that processes the PDF file.
+     */
+    protected final PdfAct pdfAct;
+
+    /**
+     * The source of the PDF file to process.
+     */
+    protected final DocumentSource source;
+
+    /**
+     * The executor on which the signals are delivered to the subscribers.
+     */
+    protected final Executor executor;
+
+    /**
+     * The maximum number of signals that are buffered per subscriber.
+     */
+    protected final int maxBufferCapacity;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new publisher that delivers the signals on the common pool, with the default
+     * buffer capacity.
+     *
+     * @param pdfAct  The PdfAct instance that processes the PDF file.
+     * @param pdfPath The path to the PDF file to process.
+     */
+    public PdfActPublisher(PdfAct pdfAct, Path pdfPath) {
+        this(pdfAct, DocumentSource.of(pdfPath));
+    }
+
+    /**
+     * Creates a new publisher that delivers the signals on the common pool, with the default
+     * buffer capacity.
+     *
+     * @param pdfAct The PdfAct instance that processes the PDF file.
+     * @param source The source of the PDF file to process.
+     */
+    public PdfActPublisher(PdfAct pdfAct, DocumentSource source) {
+        this(pdfAct, source, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a new publisher.
+     *
+     * @param pdfAct            The PdfAct instance that processes the PDF file.
+     * @param source            The source of the PDF file to process.
+     * @param executor          The executor on which the signals are delivered to the subscribers.
+     * @param maxBufferCapacity The maximum number of signals that are buffered per subscriber.
+     */
+    public PdfActPublisher(PdfAct pdfAct, DocumentSource source, Executor executor,
+                           int maxBufferCapacity) {
+        this.pdfAct = Objects.requireNonNull(pdfAct);
+        this.source = Objects.requireNonNull(source);
+        this.executor = Objects.requireNonNull(executor);
+        this.maxBufferCapacity = maxBufferCapacity;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super PdfActSignal> subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        // The deadline of the processing, which is cancelled when the subscription is cancelled.
+        long timeoutMillis = this.pdfAct.getTimeoutMillis();
+        Deadline deadline = timeoutMillis > 0 ? Deadline.after(timeoutMillis) : Deadline.cancellable();
+
+        SubmissionPublisher<PdfActSignal> publisher = new SubmissionPublisher<>(this.executor,
+                this.maxBufferCapacity);
+        publisher.subscribe(new CancellingSubscriber(subscriber, deadline));
+
+        Thread thread = new Thread(() -> process(publisher, deadline),
+                "pdfact-publisher-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Processes the PDF file and publishes the results via the given publisher.
+     *
+     * @param publisher The publisher to publish the results with.
+     * @param deadline  The deadline of the processing.
+     */
+    protected void process(SubmissionPublisher<PdfActSignal> publisher, Deadline deadline) {
+        Document pdf = new Document(this.source);
+        pdf.setDeadline(deadline);
+        try {
+            this.pdfAct.parse(pdf, new PdfActListener() {
+                @Override
+                public void pageCompleted(Page page) {
+                    submit(publisher, new PageSignal(page));
+                }
+
+                @Override
+                public void documentCompleted(Document pdf) {
+                    submit(publisher, new DocumentSignal(pdf));
+                }
+
+                @Override
+                public void indexExtracted(List<IndexEntry> entries) {
+                    submit(publisher, new IndexSignal(entries));
+                }
+            });
+            publisher.close();
+        } catch (CancellationException e) {
+            log.debug("The processing of " + this.source + " was aborted: " + e.getMessage());
+            publisher.close();
+        } catch (PdfActTimeoutException e) {
+            if (deadline.isCancelled()) {
+                log.debug("The processing of " + this.source + " was aborted: " + e.getMessage());
+                publisher.close();
+            } else {
+                publisher.closeExceptionally(e);
+            }
+        } catch (Exception e) {
+            publisher.closeExceptionally(e);
+        }
+    }
+
+    /**
+     * Submits the given signal via the given publisher. Blocks while the buffer of the subscriber
+     * is full.
+     *
+     * @param publisher The publisher.
+     * @param signal    The signal to submit.
+     * @throws CancellationException If the subscriber has cancelled its subscription.
+     */
+    protected void submit(SubmissionPublisher<PdfActSignal> publisher, PdfActSignal signal) {
+        if (!publisher.hasSubscribers()) {
+            throw new CancellationException("The subscription was cancelled.");
+        }
+        publisher.submit(signal);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * A subscriber that passes all signals to another subscriber and cancels the deadline of the
+     * processing when the subscription is cancelled.
+     */
+    protected static class CancellingSubscriber implements Flow.Subscriber<PdfActSignal> {
+        /**
+         * The subscriber to pass the signals to.
+         */
+        protected final Flow.Subscriber<? super PdfActSignal> subscriber;
+
+        /**
+         * The deadline to cancel when the subscription is cancelled.
+         */
+        protected final Deadline deadline;
+
+        /**
+         * Creates a new cancelling subscriber.
+         *
+         * @param subscriber The subscriber to pass the signals to.
+         * @param deadline   The deadline to cancel when the subscription is cancelled.
+         */
+        protected CancellingSubscriber(Flow.Subscriber<? super PdfActSignal> subscriber,
+                                       Deadline deadline) {
+            this.subscriber = subscriber;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    deadline.cancel();
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(PdfActSignal signal) {
+            this.subscriber.onNext(signal);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.subscriber.onComplete();
+        }
+    }
+}
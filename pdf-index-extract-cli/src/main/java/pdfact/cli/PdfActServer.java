@@ -0,0 +1,793 @@
+package pdfact.cli;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.sourceforge.argparse4j.ArgumentParsers;
+import net.sourceforge.argparse4j.annotation.Arg;
+import net.sourceforge.argparse4j.helper.HelpScreenException;
+import net.sourceforge.argparse4j.impl.Arguments;
+import net.sourceforge.argparse4j.inf.ArgumentParser;
+import net.sourceforge.argparse4j.inf.ArgumentParserException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.pdfbox.pdmodel.font.FontMappers;
+import pdfact.cli.util.exception.PdfActParseCommandLineException;
+import pdfact.core.model.Document;
+import pdfact.core.model.DocumentSource;
+import pdfact.core.model.Page;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActNoTextLayerException;
+import pdfact.core.util.exception.PdfActTimeoutException;
+import pdfact.core.util.pipeline.MemoryBudget;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A long-running server mode of PdfAct, such that the JVM (the JIT-compiled code and the loaded
+ * fonts) stays warm between the PDF files. The server is bound to the loopback interface only and
+ * provides the following endpoints:
+ *
+ * <ul>
+ * <li>POST /extract: extracts the index of the PDF given in the request body (or by the query
+ * parameter "path" on the local file system) and returns the index XML. The query parameter
+ * "index-pages-only=true" parses the index pages of the outline only.</li>
+ * <li>GET /health: returns "OK" while the server is running.</li>
+ * <li>GET /metrics: returns some counters about the processed requests, one per line.</li>
+ * </ul>
+ */
+public class PdfActServer {
+    /**
+     * The logger.
+     */
+    protected static final Logger log = LogManager.getLogger(PdfActServer.class);
+
+    /**
+     * The name of the response header that holds the exit code of PdfAct.
+     */
+    public static final String EXIT_CODE_HEADER = "X-PdfAct-Exit-Code";
+
+    /**
+     * The max. number of bytes of a PDF in a request body.
+     */
+    protected static final long MAX_BODY_SIZE = 512L * 1024 * 1024;
+
+    /**
+     * The HTTP server.
+     */
+    protected HttpServer server;
+
+    /**
+     * The workers that run the extraction pipeline.
+     */
+    protected ExecutorService workers;
+
+    /**
+     * The permits for the requests in flight (waiting or running).
+     */
+    protected Semaphore permits;
+
+    /**
+     * The max. time to wait for the result of a request, in milliseconds (0 to wait forever).
+     */
+    protected long timeoutMillis;
+
+    /**
+     * The heap memory budget shared by the running extractions, or null if there is none.
+     */
+    protected MemoryBudget memoryBudget;
+
+    /**
+     * The counters of the processed requests.
+     */
+    protected Metrics metrics = new Metrics();
+
+    // ==============================================================================================
+
+    /**
+     * Starts the server.
+     *
+     * @param port                  The port to bind to (on the loopback interface).
+     * @param numWorkers            The number of PDF files to process in parallel.
+     * @param maxConcurrentRequests The max. number of requests in flight, further requests are
+     *                              rejected.
+     * @param timeoutMillis         The max. time to wait for the result of a request, in
+     *                              milliseconds (0 to wait forever).
+     * @throws IOException If the server could not be bound to the port.
+     */
+    public void start(int port, int numWorkers, int maxConcurrentRequests, long timeoutMillis)
+            throws IOException {
+        this.workers = Executors.newFixedThreadPool(numWorkers, r -> {
+            Thread thread = new Thread(r, "pdfact-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.timeoutMillis = timeoutMillis;
+
+        // Warm up the font mapping (scanning the system fonts), which is shared by all requests.
+        FontMappers.instance();
+
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        this.server = HttpServer.create(address, 0);
+        // Handle at most one exchange per permit, plus the health & metrics requests.
+        this.server.setExecutor(Executors.newFixedThreadPool(maxConcurrentRequests + 2));
+        this.server.createContext("/extract", this::handleExtract);
+        this.server.createContext("/health", this::handleHealth);
+        this.server.createContext("/metrics", this::handleMetrics);
+        this.server.start();
+
+        log.info("PdfAct server listening on " + address.getHostString() + ":" + getPort());
+    }
+
+    /**
+     * Sets the heap memory budget shared by the running extractions. An extraction waits until the
+     * estimated heap usage of its PDF fits into the budget. Must be set before starting the server.
+     *
+     * @param memoryBudget The memory budget, or null for no budget.
+     */
+    public void setMemoryBudget(MemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        this.metrics.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Stops the server, waiting at most the given number of seconds for the running requests.
+     *
+     * @param delaySeconds The max. number of seconds to wait for the running requests.
+     */
+    public void stop(int delaySeconds) {
+        if (this.server != null) {
+            this.server.stop(delaySeconds);
+            ((ExecutorService) this.server.getExecutor()).shutdownNow();
+        }
+        if (this.workers != null) {
+            this.workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the counters of the processed requests.
+     *
+     * @return The counters.
+     */
+    public Metrics getMetrics() {
+        return this.metrics;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Handles a request to extract the index of a PDF.
+     *
+     * @param exchange The HTTP exchange.
+     * @throws IOException If reading the request or writing the response fails.
+     */
+    protected void handleExtract(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            drainAndRespond(exchange, 405, "Only POST is supported.");
+            return;
+        }
+
+        this.metrics.numRequests.incrementAndGet();
+        if (!this.permits.tryAcquire()) {
+            this.metrics.numRejected.incrementAndGet();
+            drainAndRespond(exchange, 503, "Too many concurrent requests.");
+            return;
+        }
+
+        long start = System.nanoTime();
+        Path xmlPath = null;
+        boolean isSubmitted = false;
+        try {
+            Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+            String path = params.get("path");
+            DocumentSource source;
+            if (path != null) {
+                drain(exchange);
+                Path pdfPath = Paths.get(path);
+                if (!Files.isReadable(pdfPath)) {
+                    this.metrics.numFailed.incrementAndGet();
+                    respond(exchange, 400, "The file '" + path + "' can't be read.");
+                    return;
+                }
+                source = DocumentSource.of(pdfPath);
+            } else {
+                // Parse the received bytes in memory, without copying them to a file first.
+                byte[] body = readBody(exchange);
+                if (body == null) {
+                    this.metrics.numFailed.incrementAndGet();
+                    respond(exchange, 413, "The PDF exceeds " + MAX_BODY_SIZE + " bytes.");
+                    return;
+                }
+                source = DocumentSource.of(body, null);
+            }
+            xmlPath = Files.createTempFile("pdfact-", ".xml");
+
+            PdfAct pdfAct = new PdfAct();
+            pdfAct.setIndexExtractionPath(xmlPath);
+            pdfAct.setParseIndexPagesOnly(Boolean.parseBoolean(params.get("index-pages-only")));
+            // Let the extraction stop itself on timeout, such that it doesn't keep the worker busy.
+            pdfAct.setTimeoutMillis(this.timeoutMillis);
+            pdfAct.setMemoryBudget(this.memoryBudget);
+
+            // The permit is released exactly once: by the task when it stops, or by this handler if the
+            // task is cancelled before it started (a cancelled FutureTask never runs its callable).
+            AtomicBoolean isStarted = new AtomicBoolean();
+            AtomicBoolean isReleased = new AtomicBoolean();
+            Future<?> future = this.workers.submit(() -> {
+                isStarted.set(true);
+                this.metrics.numActive.incrementAndGet();
+                try {
+                    Document pdf = pdfAct.parse(source);
+                    this.metrics.numDegradedPages.addAndGet(
+                            pdf.getPages().stream().filter(Page::isDegraded).count());
+                    return null;
+                } finally {
+                    this.metrics.numActive.decrementAndGet();
+                    releasePermit(isReleased);
+                }
+            });
+            isSubmitted = true;
+
+            int exitCode = 0;
+            try {
+                if (this.timeoutMillis > 0) {
+                    future.get(this.timeoutMillis, TimeUnit.MILLISECONDS);
+                } else {
+                    future.get();
+                }
+            } catch (TimeoutException e) {
+                // A running task releases the permit itself as soon as it stops.
+                if (future.cancel(true) && !isStarted.get()) {
+                    releasePermit(isReleased);
+                }
+                this.metrics.numTimedOut.incrementAndGet();
+                respond(exchange, 504, "The extraction didn't finish within " + this.timeoutMillis + " ms.");
+                return;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof PdfActTimeoutException) {
+                    this.metrics.numTimedOut.incrementAndGet();
+                    respond(exchange, 504, "The extraction didn't finish within " + this.timeoutMillis + " ms.");
+                    return;
+                } else if (cause instanceof PdfActNoTextLayerException) {
+                    // The empty index is written nevertheless, answer it with the exit code.
+                    exitCode = ((PdfActException) cause).getExitCode();
+                } else if (cause instanceof PdfActException) {
+                    this.metrics.numFailed.incrementAndGet();
+                    exchange.getResponseHeaders().set(EXIT_CODE_HEADER,
+                            String.valueOf(((PdfActException) cause).getExitCode()));
+                    respond(exchange, 422, String.valueOf(cause.getMessage()));
+                    return;
+                } else {
+                    log.error("Extracting the index failed.", cause);
+                    this.metrics.numFailed.incrementAndGet();
+                    respond(exchange, 500, "Extracting the index failed: " + cause);
+                    return;
+                }
+            } catch (CancellationException | InterruptedException e) {
+                if (future.cancel(true) && !isStarted.get()) {
+                    releasePermit(isReleased);
+                }
+                this.metrics.numFailed.incrementAndGet();
+                respond(exchange, 503, "The server is shutting down.");
+                return;
+            }
+
+            this.metrics.numSucceeded.incrementAndGet();
+            this.metrics.totalLatencyNanos.addAndGet(System.nanoTime() - start);
+            exchange.getResponseHeaders().set(EXIT_CODE_HEADER, String.valueOf(exitCode));
+            exchange.getResponseHeaders().set("Content-Type", "application/xml; charset=utf-8");
+            exchange.sendResponseHeaders(200, Files.size(xmlPath));
+            try (OutputStream os = exchange.getResponseBody()) {
+                Files.copy(xmlPath, os);
+            }
+        } finally {
+            if (!isSubmitted) {
+                this.permits.release();
+            }
+            deleteLater(xmlPath, isSubmitted);
+            exchange.close();
+        }
+    }
+
+    /**
+     * Releases the permit of a request, unless it was released already.
+     *
+     * @param isReleased The flag indicating whether the permit of the request was released.
+     */
+    protected void releasePermit(AtomicBoolean isReleased) {
+        if (isReleased.compareAndSet(false, true)) {
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Handles a health request.
+     *
+     * @param exchange The HTTP exchange.
+     * @throws IOException If writing the response fails.
+     */
+    protected void handleHealth(HttpExchange exchange) throws IOException {
+        drainAndRespond(exchange, 200, "OK");
+    }
+
+    /**
+     * Handles a metrics request.
+     *
+     * @param exchange The HTTP exchange.
+     * @throws IOException If writing the response fails.
+     */
+    protected void handleMetrics(HttpExchange exchange) throws IOException {
+        drainAndRespond(exchange, 200, this.metrics.toString());
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Reads the request body into memory.
+     *
+     * @param exchange The HTTP exchange.
+     * @return The bytes of the body, or null if the body exceeds the max. body size.
+     * @throws IOException If reading the body fails.
+     */
+    protected byte[] readBody(HttpExchange exchange) throws IOException {
+        // Presize the buffer by the announced length, but don't trust it beyond the max. body size.
+        long length = parseContentLength(exchange.getRequestHeaders().getFirst("Content-Length"));
+        if (length > MAX_BODY_SIZE) {
+            return null;
+        }
+        ByteArrayOutputStream os = new ByteArrayOutputStream(length > 0 ? (int) length : 64 * 1024);
+        try (InputStream is = exchange.getRequestBody()) {
+            byte[] buffer = new byte[64 * 1024];
+            long numBytes = 0;
+            int n;
+            while ((n = is.read(buffer)) > 0) {
+                numBytes += n;
+                if (numBytes > MAX_BODY_SIZE) {
+                    return null;
+                }
+                os.write(buffer, 0, n);
+            }
+        }
+        return os.toByteArray();
+    }
+
+    /**
+     * Parses the given value of a Content-Length header.
+     *
+     * @param value The value of the header, may be null.
+     * @return The length, or -1 if the value is missing or not a valid length.
+     */
+    protected static long parseContentLength(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Deletes the given (temporary) file. If the extraction may still be running (after a timeout),
+     * the file is deleted on exit of the JVM instead, if it can't be deleted now.
+     *
+     * @param path        The file to delete.
+     * @param isSubmitted True if the extraction was started.
+     */
+    protected void deleteLater(Path path, boolean isSubmitted) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            if (isSubmitted) {
+                path.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Reads the remaining request body and sends a plain text response.
+     *
+     * @param exchange The HTTP exchange.
+     * @param status   The status code.
+     * @param message  The message.
+     * @throws IOException If writing the response fails.
+     */
+    protected void drainAndRespond(HttpExchange exchange, int status, String message) throws IOException {
+        drain(exchange);
+        respond(exchange, status, message);
+        exchange.close();
+    }
+
+    /**
+     * Reads the remaining request body, such that the connection can be reused.
+     *
+     * @param exchange The HTTP exchange.
+     * @throws IOException If reading the body fails.
+     */
+    protected void drain(HttpExchange exchange) throws IOException {
+        try (InputStream is = exchange.getRequestBody()) {
+            is.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    /**
+     * Sends a plain text response.
+     *
+     * @param exchange The HTTP exchange.
+     * @param status   The status code.
+     * @param message  The message.
+     * @throws IOException If writing the response fails.
+     */
+    protected void respond(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] bytes = (message + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    /**
+     * Parses the given (raw) query string.
+     *
+     * @param query The query string, may be null.
+     * @return The parameters, per name.
+     */
+    protected static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String param : query.split("&")) {
+            int eq = param.indexOf('=');
+            String name = eq < 0 ? param : param.substring(0, eq);
+            String value = eq < 0 ? "true" : param.substring(eq + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * The main method to run the server.
+     *
+     * @param args The command line arguments.
+     */
+    public static void main(String[] args) {
+        PdfActServerCommandLineParser parser = new PdfActServerCommandLineParser();
+        try {
+            parser.parseArgs(args);
+        } catch (PdfActException e) {
+            if (e.getExitCode() != 0) {
+                System.err.println(e.getMessage());
+            }
+            return;
+        }
+
+        int numWorkers = parser.numWorkers > 0 ? parser.numWorkers : Runtime.getRuntime().availableProcessors();
+        int maxConcurrentRequests = parser.maxConcurrentRequests > 0 ? parser.maxConcurrentRequests : 4 * numWorkers;
+
+        PdfActServer server = new PdfActServer();
+        if (parser.heapBudgetPercent > 0) {
+            server.setMemoryBudget(MemoryBudget.ofMaxHeap(parser.heapBudgetPercent / 100.0));
+        }
+        try {
+            server.start(parser.port, numWorkers, maxConcurrentRequests, parser.timeoutSeconds * 1000L);
+        } catch (IOException e) {
+            System.err.println("Couldn't start the server on port " + parser.port + ": " + e.getMessage());
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+    }
+
+    // ==============================================================================================
+
+    /**
+     * The counters of the processed requests.
+     */
+    public static class Metrics {
+        /**
+         * The start time of the server, in milliseconds.
+         */
+        protected final long startMillis = System.currentTimeMillis();
+
+        /**
+         * The number of extraction requests.
+         */
+        protected final AtomicLong numRequests = new AtomicLong();
+
+        /**
+         * The number of extraction requests that succeeded.
+         */
+        protected final AtomicLong numSucceeded = new AtomicLong();
+
+        /**
+         * The number of extraction requests that failed.
+         */
+        protected final AtomicLong numFailed = new AtomicLong();
+
+        /**
+         * The number of extraction requests that were rejected, because of too many requests in
+         * flight.
+         */
+        protected final AtomicLong numRejected = new AtomicLong();
+
+        /**
+         * The number of extraction requests that timed out.
+         */
+        protected final AtomicLong numTimedOut = new AtomicLong();
+
+        /**
+         * The number of extractions that are currently running.
+         */
+        protected final AtomicLong numActive = new AtomicLong();
+
+        /**
+         * The number of pages that exceeded a complexity limit and were processed with cheaper
+         * strategies.
+         */
+        protected final AtomicLong numDegradedPages = new AtomicLong();
+
+        /**
+         * The sum of the latencies of the succeeded requests, in nanoseconds.
+         */
+        protected final AtomicLong totalLatencyNanos = new AtomicLong();
+
+        /**
+         * The heap memory budget shared by the running extractions, or null if there is none.
+         */
+        protected MemoryBudget memoryBudget;
+
+        /**
+         * Returns the number of extraction requests.
+         *
+         * @return The number of extraction requests.
+         */
+        public long getNumRequests() {
+            return this.numRequests.get();
+        }
+
+        /**
+         * Returns the number of extraction requests that succeeded.
+         *
+         * @return The number of extraction requests that succeeded.
+         */
+        public long getNumSucceeded() {
+            return this.numSucceeded.get();
+        }
+
+        /**
+         * Returns the number of extraction requests that failed.
+         *
+         * @return The number of extraction requests that failed.
+         */
+        public long getNumFailed() {
+            return this.numFailed.get();
+        }
+
+        /**
+         * Returns the number of extraction requests that were rejected.
+         *
+         * @return The number of extraction requests that were rejected.
+         */
+        public long getNumRejected() {
+            return this.numRejected.get();
+        }
+
+        /**
+         * Returns the number of extraction requests that timed out.
+         *
+         * @return The number of extraction requests that timed out.
+         */
+        public long getNumTimedOut() {
+            return this.numTimedOut.get();
+        }
+
+        /**
+         * Returns the number of extractions that are currently running.
+         *
+         * @return The number of running extractions.
+         */
+        public long getNumActive() {
+            return this.numActive.get();
+        }
+
+        /**
+         * Returns the number of pages that were processed with cheaper strategies.
+         *
+         * @return The number of degraded pages.
+         */
+        public long getNumDegradedPages() {
+            return this.numDegradedPages.get();
+        }
+
+        /**
+         * Returns the average latency of the succeeded requests.
+         *
+         * @return The average latency in milliseconds, or 0 if no request succeeded yet.
+         */
+        public double getAverageLatencyMillis() {
+            long numSucceeded = this.numSucceeded.get();
+            return numSucceeded > 0 ? this.totalLatencyNanos.get() / 1e6 / numSucceeded : 0;
+        }
+
+        @Override
+        public String toString() {
+            Runtime runtime = Runtime.getRuntime();
+            String metrics = "requests_total " + getNumRequests()
+                    + "\nrequests_succeeded " + getNumSucceeded()
+                    + "\nrequests_failed " + getNumFailed()
+                    + "\nrequests_rejected " + getNumRejected()
+                    + "\nrequests_timed_out " + getNumTimedOut()
+                    + "\nextractions_active " + getNumActive()
+                    + "\npages_degraded " + getNumDegradedPages()
+                    + "\nlatency_avg_ms " + String.format("%.1f", getAverageLatencyMillis())
+                    + "\nuptime_seconds " + (System.currentTimeMillis() - this.startMillis) / 1000
+                    + "\nheap_used_bytes " + (runtime.totalMemory() - runtime.freeMemory())
+                    + "\nheap_max_bytes " + runtime.maxMemory();
+            if (this.memoryBudget != null) {
+                metrics += "\nmemory_budget_bytes " + this.memoryBudget.getBudgetBytes()
+                        + "\nmemory_reserved_bytes " + this.memoryBudget.getReservedBytes()
+                        + "\nextractions_waiting_for_memory " + this.memoryBudget.getNumWaiting()
+                        + "\nextractions_queued_for_memory " + this.memoryBudget.getNumQueued();
+            }
+            return metrics;
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * A parser to parse the command line arguments of the server.
+     */
+    static class PdfActServerCommandLineParser {
+        /**
+         * The command line argument parser.
+         */
+        protected ArgumentParser parser;
+
+        /**
+         * The name of the option to define the port.
+         */
+        public static final String PORT = "port";
+
+        /**
+         * The port to bind to.
+         */
+        @Arg(dest = PORT)
+        public int port = 8570;
+
+        /**
+         * The name of the option to define the number of workers.
+         */
+        public static final String WORKERS = "workers";
+
+        /**
+         * The number of PDF files to process in parallel (0 for one per available processor).
+         */
+        @Arg(dest = WORKERS)
+        public int numWorkers = 0;
+
+        /**
+         * The name of the option to define the max. number of requests in flight.
+         */
+        public static final String MAX_CONCURRENT_REQUESTS = "max-concurrent-requests";
+
+        /**
+         * The max. number of requests in flight (0 for 4 per worker).
+         */
+        @Arg(dest = MAX_CONCURRENT_REQUESTS)
+        public int maxConcurrentRequests = 0;
+
+        /**
+         * The name of the option to define the timeout per request.
+         */
+        public static final String TIMEOUT = "timeout";
+
+        /**
+         * The max. number of seconds to wait for the result of a request (0 to wait forever).
+         */
+        @Arg(dest = TIMEOUT)
+        public int timeoutSeconds = 300;
+
+        /**
+         * The name of the option to define the heap memory budget.
+         */
+        public static final String HEAP_BUDGET = "heap-budget";
+
+        /**
+         * The percentage of the max. heap size shared by the running extractions (0 for no budget).
+         */
+        @Arg(dest = HEAP_BUDGET)
+        public int heapBudgetPercent = 75;
+
+        /**
+         * Creates a new command line argument parser.
+         */
+        public PdfActServerCommandLineParser() {
+            this.parser = ArgumentParsers.newFor("pdfIndexExtractServer").terminalWidthDetection(false)
+                    .defaultFormatWidth(100).build();
+            this.parser.description("A local HTTP server to extract the index from PDF files.");
+
+            this.parser.addArgument("--" + PORT).dest(PORT).type(Integer.class).setDefault(8570)
+                    .metavar("<port>").help("The port to listen on (on the loopback interface only).");
+
+            this.parser.addArgument("--" + WORKERS).dest(WORKERS).type(Integer.class).setDefault(0)
+                    .metavar("<num-workers>")
+                    .help("The number of PDF files to process in parallel. 0 uses one worker per available "
+                            + "processor.");
+
+            this.parser.addArgument("--" + MAX_CONCURRENT_REQUESTS).dest(MAX_CONCURRENT_REQUESTS)
+                    .type(Integer.class).setDefault(0).metavar("<num-requests>")
+                    .help("The max. number of requests in flight (waiting or running). Further requests are "
+                            + "rejected with status 503. 0 allows 4 requests per worker.");
+
+            this.parser.addArgument("--" + TIMEOUT).dest(TIMEOUT).type(Integer.class).setDefault(300)
+                    .metavar("<seconds>")
+                    .help("The max. number of seconds to wait for the result of a request, answered with status "
+                            + "504 otherwise. 0 waits forever.");
+
+            this.parser.addArgument("--" + HEAP_BUDGET).dest(HEAP_BUDGET).type(Integer.class).setDefault(75)
+                    .choices(Arguments.range(0, 100)).metavar("<percent>")
+                    .help("The percentage of the max. heap size shared by the running extractions. An "
+                            + "extraction waits until the estimated heap usage of its PDF fits into the budget. "
+                            + "0 means no budget.");
+        }
+
+        /**
+         * Parses the given command line arguments.
+         *
+         * @param args The command line arguments to parse.
+         * @throws PdfActException If parsing the command line arguments fails.
+         */
+        public void parseArgs(String[] args) throws PdfActException {
+            try {
+                this.parser.parseArgs(args, this);
+            } catch (HelpScreenException e) {
+                throw new PdfActParseCommandLineException(null, 0, e);
+            } catch (ArgumentParserException e) {
+                String message = e.getMessage() + "\n\n" + this.parser.formatUsage();
+                throw new PdfActParseCommandLineException(message, e);
+            }
+        }
+    }
+}
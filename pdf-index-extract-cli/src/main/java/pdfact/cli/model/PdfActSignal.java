@@ -0,0 +1,121 @@
+package pdfact.cli.model;
+
+import pdfact.core.model.Document;
+import pdfact.core.model.Page;
+import pdfact.core.util.IndexEntry;
+
+import java.util.List;
+
+/**
+ * A result published by a {@link pdfact.cli.PdfActPublisher}: a {@link PageSignal} for each page,
+ * followed by a {@link DocumentSignal} and an {@link IndexSignal}.
+ */
+public abstract class PdfActSignal {
+    /**
+     * The signal for a completed page, with its characters, text lines, words and text blocks.
+     *
+     * <p>
+     * The page is a snapshot of the page of the document (see {@link Page#snapshot()}), taken as
+     * soon as its text blocks are detected, so the subscriber can read it without synchronization
+     * while the document-level stages and the index extraction continue. The snapshot doesn't
+     * contain the results of the document-level stages: the semantic roles of the text blocks and
+     * the dehyphenated words are available via the {@link DocumentSignal}. The pages are published
+     * in ascending order of their page numbers.
+     */
+    public static final class PageSignal extends PdfActSignal {
+        /**
+         * The completed page.
+         */
+        protected final Page page;
+
+        /**
+         * Creates a new page signal.
+         *
+         * @param page The completed page.
+         */
+        public PageSignal(Page page) {
+            this.page = page;
+        }
+
+        /**
+         * Returns the completed page.
+         *
+         * @return The completed page.
+         */
+        public Page getPage() {
+            return this.page;
+        }
+
+        @Override
+        public String toString() {
+            return "PageSignal(" + this.page.getPageNumber() + ")";
+        }
+    }
+
+    /**
+     * The signal for the document, after the document-level results (the statistics, semantic
+     * roles and paragraphs) are computed.
+     */
+    public static final class DocumentSignal extends PdfActSignal {
+        /**
+         * The processed document.
+         */
+        protected final Document document;
+
+        /**
+         * Creates a new document signal.
+         *
+         * @param document The processed document.
+         */
+        public DocumentSignal(Document document) {
+            this.document = document;
+        }
+
+        /**
+         * Returns the processed document.
+         *
+         * @return The processed document.
+         */
+        public Document getDocument() {
+            return this.document;
+        }
+
+        @Override
+        public String toString() {
+            return "DocumentSignal(" + this.document + ")";
+        }
+    }
+
+    /**
+     * The signal for the extracted index entries.
+     */
+    public static final class IndexSignal extends PdfActSignal {
+        /**
+         * The extracted index entries.
+         */
+        protected final List<IndexEntry> entries;
+
+        /**
+         * Creates a new index signal.
+         *
+         * @param entries The extracted index entries.
+         */
+        public IndexSignal(List<IndexEntry> entries) {
+            this.entries = entries;
+        }
+
+        /**
+         * Returns the extracted index entries.
+         *
+         * @return The extracted index entries, which is empty if no index was found.
+         */
+        public List<IndexEntry> getEntries() {
+            return this.entries;
+        }
+
+        @Override
+        public String toString() {
+            return "IndexSignal(" + this.entries.size() + " entries)";
+        }
+    }
+}
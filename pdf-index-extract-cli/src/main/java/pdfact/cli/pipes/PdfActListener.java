@@ -0,0 +1,37 @@
+package pdfact.cli.pipes;
+
+import pdfact.core.model.Document;
+import pdfact.core.model.Page;
+import pdfact.core.util.IndexEntry;
+import pdfact.core.util.pipeline.PageListener;
+
+import java.util.List;
+
+/**
+ * A listener that is notified about the intermediate results of a {@link PdfActServicePipe} as
+ * soon as they are available: first each page (see {@link PageListener}), then the document with
+ * its document-level results, and finally the index entries (if the index is extracted). An
+ * unchecked exception thrown by the listener aborts the processing.
+ */
+public interface PdfActListener extends PageListener {
+    @Override
+    default void pageCompleted(Page page) {
+    }
+
+    /**
+     * Handles the given document, after the document-level results (the statistics, semantic
+     * roles and paragraphs) are computed. The document is not serialized or visualized yet.
+     *
+     * @param pdf The processed document.
+     */
+    default void documentCompleted(Document pdf) {
+    }
+
+    /**
+     * Handles the extracted index entries.
+     *
+     * @param entries The index entries, which is empty if no index was found.
+     */
+    default void indexExtracted(List<IndexEntry> entries) {
+    }
+}
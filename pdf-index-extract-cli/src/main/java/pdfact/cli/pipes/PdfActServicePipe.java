@@ -3,7 +3,8 @@ package pdfact.cli.pipes;
 import pdfact.cli.model.ExtractionUnit;
 import pdfact.cli.model.SerializationFormat;
 import pdfact.core.model.SemanticRole;
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.pipes.parse.PageComplexityLimits;
+import pdfact.core.util.pipeline.PagePipe;
 
 import java.io.OutputStream;
 import java.nio.file.Path;
@@ -15,7 +16,7 @@ import java.util.Set;
  *
  * @author Claudius Korzen
  */
-public interface PdfActServicePipe extends Pipe {
+public interface PdfActServicePipe extends PagePipe {
     /**
      * Returns the path to the file where the serialization should be stored.
      *
@@ -158,4 +159,54 @@ public interface PdfActServicePipe extends Pipe {
      * @param indexExtractionPath the path to the output xml
      */
     void setIndexExtractionPath(Path indexExtractionPath);
+
+    /**
+     * Returns true if only the index pages found in the outline of the PDF should be parsed.
+     *
+     * @return True if only the index pages should be parsed.
+     */
+    boolean isParseIndexPagesOnly();
+
+    /**
+     * Sets whether only the index pages found in the outline of the PDF should be parsed. If the
+     * outline has no index, all pages are parsed.
+     *
+     * @param parseIndexPagesOnly True if only the index pages should be parsed.
+     */
+    void setParseIndexPagesOnly(boolean parseIndexPagesOnly);
+
+    // ==============================================================================================
+
+    /**
+     * Returns the listener that is notified about the intermediate results.
+     *
+     * @return The listener, or null if there is none.
+     */
+    PdfActListener getListener();
+
+    /**
+     * Sets the listener that is notified about the intermediate results (the pages, the document
+     * and the index entries) as soon as they are available. If a listener is given, the index is
+     * extracted even if no path to write the index to is given.
+     *
+     * @param listener The listener, or null if there is none.
+     */
+    void setListener(PdfActListener listener);
+
+    // ==============================================================================================
+
+    /**
+     * Returns the per-page complexity limits above which a page is processed with cheaper
+     * strategies.
+     *
+     * @return The limits, or null if no page is degraded.
+     */
+    PageComplexityLimits getPageComplexityLimits();
+
+    /**
+     * Sets the per-page complexity limits above which a page is processed with cheaper strategies.
+     *
+     * @param limits The limits, or null if no page should be degraded.
+     */
+    void setPageComplexityLimits(PageComplexityLimits limits);
 }
@@ -2,8 +2,12 @@ package pdfact.cli.pipes;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.pdfbox.io.IOUtils;
 import pdfact.cli.model.ExtractionUnit;
 import pdfact.cli.model.SerializationFormat;
+import pdfact.cli.pipes.index.ContentStreamIndexPageScan;
+import pdfact.cli.pipes.index.IndexExtraction;
+import pdfact.cli.pipes.index.OutlineBasedIndexPageSearch;
 import pdfact.cli.pipes.index.PlainIndexExtractionPipe;
 import pdfact.cli.pipes.serialize.PlainSerializePdfPipe;
 import pdfact.cli.pipes.serialize.SerializePdfPipe;
@@ -14,13 +18,21 @@ import pdfact.cli.pipes.visualize.VisualizePdfPipe;
 import pdfact.core.model.Document;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.pipes.PlainPdfActCorePipe;
+import pdfact.core.pipes.parse.PageComplexityLimits;
+import pdfact.core.pipes.parse.PageSelector;
+import pdfact.core.pipes.parse.TextLayerProbe;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActNoTextLayerException;
+import pdfact.core.util.pipeline.PageExecutor;
 import pdfact.core.util.pipeline.Pipeline;
 import pdfact.core.util.pipeline.PlainPipeline;
 
 import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
 
 import static pdfact.cli.PdfActCliSettings.*;
 
@@ -88,6 +100,22 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
      */
     protected Path indexExtractionPath;
 
+    /**
+     * Whether only the index pages found in the outline of the PDF (or by a prescan of the content
+     * streams) should be parsed.
+     */
+    protected boolean parseIndexPagesOnly;
+
+    /**
+     * The listener that is notified about the intermediate results, or null if there is none.
+     */
+    protected PdfActListener listener;
+
+    /**
+     * The per-page complexity limits above which a page is processed with cheaper strategies.
+     */
+    protected PageComplexityLimits pageComplexityLimits = new PageComplexityLimits();
+
     // ==============================================================================================
 
     /**
@@ -104,20 +132,62 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
     /**
      * Processes the given PDF document.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
      * @return The PDF document after processing.
      * @throws PdfActException If something went wrong on processing the PDF
      *                         document.
      */
-    public Document execute(Document pdf) throws PdfActException {
+    @Override
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
         log.debug("Start of pipe: " + getClass().getSimpleName() + ".");
 
         log.debug("Process: Processing the service pipeline.");
 
         Pipeline pipeline = new PlainPipeline();
+        // Process the pages of the per-page pipes (the core pipe) on the given executor.
+        pipeline.setPageExecutor(executor);
+
+        // The search of the index pages in the outline, which can be done before parsing.
+        OutlineBasedIndexPageSearch outlineSearch = new OutlineBasedIndexPageSearch();
 
         // Parse the PDF document.
-        pipeline.addPipe(new PlainPdfActCorePipe());
+        PlainPdfActCorePipe corePipe = new PlainPdfActCorePipe();
+        // Reject PDFs without a text layer (e.g. scanned books) before the full parse.
+        corePipe.setTextLayerProbe(new TextLayerProbe());
+        corePipe.setPageComplexityLimits(this.pageComplexityLimits);
+        // The pages selected for parsing, which are the only pages worth visualizing.
+        AtomicReference<IntPredicate> selectedPages = new AtomicReference<>();
+        boolean isExtractingIndex = this.indexExtractionPath != null || this.listener != null;
+        if (this.parseIndexPagesOnly && this.indexExtractionPath != null) {
+            // Fall back to a prescan of the content streams if the outline doesn't point to an index.
+            PageSelector selector = PageSelector.firstOf(outlineSearch,
+                    new ContentStreamIndexPageScan(executor));
+            corePipe.setPageSelector(document -> {
+                selectedPages.set(selector.selectPages(document));
+                return selectedPages.get();
+            });
+        } else if (isExtractingIndex) {
+            // Parse all pages, but read the outline from the PDF file opened by the parser, instead
+            // of loading the file again for the index extraction.
+            corePipe.setPageSelector(document -> {
+                outlineSearch.resolveIndexPageRange(document);
+                return null;
+            });
+        }
+        boolean isVisualizing = this.visualizationStream != null || this.visualizationPath != null;
+        // Keep the PDF file open for the visualization, instead of loading it a second time.
+        corePipe.setKeepPdDocumentOpen(isVisualizing);
+        corePipe.setPageListener(this.listener);
+        pipeline.addPipe(corePipe);
+
+        // Pass the document to the listener, before it is serialized.
+        if (this.listener != null) {
+            pipeline.addPipe(doc -> {
+                this.listener.documentCompleted(doc);
+                return doc;
+            });
+        }
 
         // Validate the target path for the serialization if there is any given.
         if (this.serializationPath != null) {
@@ -146,23 +216,41 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
         }
 
         // Visualize if there is a target given for the visualization.
-        if (this.visualizationStream != null || this.visualizationPath != null) {
+        if (isVisualizing) {
             VisualizePdfPipe visualizePipe = new PlainVisualizePdfPipe();
             visualizePipe.setExtractionUnits(this.extractionUnits);
             visualizePipe.setSemanticRolesToInclude(this.roles);
+            visualizePipe.setPageFilter(pageNum -> selectedPages.get() == null || selectedPages.get().test(pageNum));
             visualizePipe.setTargetPath(this.visualizationPath);
             visualizePipe.setTargetStream(this.visualizationStream);
             pipeline.addPipe(visualizePipe);
         }
 
-        if (this.indexExtractionPath != null) {
-            pipeline.addPipe(new PlainIndexExtractionPipe(indexExtractionPath));
+        if (isExtractingIndex) {
+            PlainIndexExtractionPipe indexPipe = new PlainIndexExtractionPipe(indexExtractionPath, outlineSearch);
+            indexPipe.setListener(this.listener);
+            pipeline.addPipe(indexPipe);
         }
 
         log.debug("# pipes in the pipeline: " + pipeline.size());
 
         long start = System.currentTimeMillis();
-        pipeline.process(pdf);
+        try {
+            pipeline.process(pdf);
+        } catch (PdfActNoTextLayerException e) {
+            // There is nothing to extract, so write an empty index (to mark the PDF as processed).
+            if (this.indexExtractionPath != null) {
+                new IndexExtraction(outlineSearch).writeIndexToXML(Collections.emptyList(), pdf,
+                        this.indexExtractionPath);
+            }
+            throw e;
+        } finally {
+            // Close the PDF file if it was kept open after parsing.
+            if (pdf.getPdDocument() != null) {
+                IOUtils.closeQuietly(pdf.getPdDocument());
+                pdf.setPdDocument(null);
+            }
+        }
         long length = System.currentTimeMillis() - start;
 
         log.debug("Processing the service pipeline done.");
@@ -289,4 +377,38 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
     public void setIndexExtractionPath(Path indexExtractionPath) {
         this.indexExtractionPath = indexExtractionPath;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isParseIndexPagesOnly() {
+        return this.parseIndexPagesOnly;
+    }
+
+    @Override
+    public void setParseIndexPagesOnly(boolean parseIndexPagesOnly) {
+        this.parseIndexPagesOnly = parseIndexPagesOnly;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public PdfActListener getListener() {
+        return this.listener;
+    }
+
+    @Override
+    public void setListener(PdfActListener listener) {
+        this.listener = listener;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public PageComplexityLimits getPageComplexityLimits() {
+        return this.pageComplexityLimits;
+    }
+
+    @Override
+    public void setPageComplexityLimits(PageComplexityLimits limits) {
+        this.pageComplexityLimits = limits;
+    }
+}
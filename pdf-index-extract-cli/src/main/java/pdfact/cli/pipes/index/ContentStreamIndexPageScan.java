@@ -0,0 +1,472 @@
+package pdfact.cli.pipes.index;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSNumber;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import pdfact.core.pipes.parse.PageSelector;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.PageExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * A cheap prescan that bounds the index pages before the full parse, for PDFs without a usable
+ * outline. It decodes only the text-showing operators of the content stream of each page (no glyph
+ * geometry, no font conversion, no statistics), splits the text into lines at the text positioning
+ * operators and scores each page by index headings and by the density of lines that look like
+ * index entries (see {@link ScoreBasedIndexPageSearch}).
+ *
+ * <p>
+ * The content streams are read sequentially (the PDF file can't be accessed concurrently), the
+ * tokenizing, decoding and scoring of the pages runs in parallel. The text of form XObjects that
+ * are drawn by a page (up to a nesting depth of 3) is scanned as part of the
+ * page; the text of annotations and Type3 glyphs is ignored.
+ */
+public class ContentStreamIndexPageScan implements PageSelector {
+
+    private static final Logger log = LogManager.getLogger(ContentStreamIndexPageScan.class);
+
+    // assume that a index will occur in the second half of a pdf
+    private static final double FIRST_POSSIBLE_INDEX_PAGE = 0.5;
+
+    // the min. number of lines of a page to be considered as an index page
+    private static final int MIN_NUM_LINES = 10;
+
+    // the min. ratio of lines that look like index entries on an index page
+    private static final double MIN_INDEX_LINE_RATIO = 0.5;
+
+    // a word gap in a TJ array, in thousandths of text space units
+    private static final float WORD_GAP = 200;
+
+    // the number of pages to add before and after the found range, as safety margin
+    private static final int MARGIN = 1;
+
+    // the max. nesting depth of the form XObjects to scan
+    private static final int MAX_FORM_DEPTH = 3;
+
+    private final PageExecutor executor;
+
+    private List<PageScore> scores = new ArrayList<>();
+
+    public ContentStreamIndexPageScan() {
+        this(PageExecutor.getDefault());
+    }
+
+    public ContentStreamIndexPageScan(PageExecutor executor) {
+        this.executor = executor != null ? executor : PageExecutor.getDefault();
+    }
+
+    @Override
+    public IntPredicate selectPages(PDDocument document) {
+        long start = System.currentTimeMillis();
+        try {
+            scores = scan(document);
+        } catch (IOException | PdfActException e) {
+            log.warn("Couldn't prescan the content streams, parsing all pages.", e);
+            return null;
+        }
+        int[] range = computeIndexPageRange(scores);
+        log.debug("Prescan of " + scores.size() + " pages took " + (System.currentTimeMillis() - start) + "ms.");
+
+        if (range == null) {
+            return null;
+        }
+        log.debug("Index candidate pages: " + range[0] + "-" + range[1]);
+        return pageNumber -> pageNumber >= range[0] && pageNumber <= range[1];
+    }
+
+    /**
+     * Returns the scores of the pages computed by the last scan.
+     */
+    public List<PageScore> getScores() {
+        return scores;
+    }
+
+    /**
+     * Scans the text of all pages of the given PDF.
+     *
+     * @param document the PDF
+     * @return the scores of the pages, in page order
+     */
+    public List<PageScore> scan(PDDocument document) throws IOException, PdfActException {
+        int numPages = document.getNumberOfPages();
+        int firstPage = Math.max(1, (int) (numPages * FIRST_POSSIBLE_INDEX_PAGE));
+
+        // Read the content streams and the fonts sequentially, since PDFBox isn't thread-safe.
+        Map<PDFont, FontDecoder> decoders = new IdentityHashMap<>();
+        Map<COSBase, ContentStream> forms = new IdentityHashMap<>();
+        List<PageScore> pageScores = new ArrayList<>();
+        List<PageScore> toScan = new ArrayList<>();
+        for (int i = 0; i < numPages; i++) {
+            PageScore score = new PageScore(i + 1);
+            pageScores.add(score);
+            if (score.pageNumber < firstPage) {
+                continue;
+            }
+
+            PDPage page = document.getPage(i);
+            if (!page.hasContents()) {
+                continue;
+            }
+            try (InputStream in = page.getContents()) {
+                score.content = readContent(IOUtils.toByteArray(in), page.getResources(), decoders, forms, 0);
+            }
+            toScan.add(score);
+        }
+
+        // Tokenize, decode and score the pages in parallel.
+        executor.forEach(toScan, score -> {
+            try {
+                StringBuilder line = new StringBuilder();
+                scanContent(score, score.content, line, 0);
+                endLine(score, line);
+            } catch (IOException e) {
+                log.debug("Couldn't prescan page " + score.pageNumber + ".", e);
+            }
+            score.content = null;
+        });
+
+        return pageScores;
+    }
+
+    /**
+     * Reads the fonts and the form XObjects of the given content stream.
+     *
+     * @param content   the bytes of the content stream
+     * @param resources the resources of the content stream
+     * @param decoders  the decoders of the fonts read so far, per font
+     * @param forms     the form XObjects read so far, per form
+     * @param depth     the nesting depth of the content stream
+     * @return the content stream
+     */
+    private ContentStream readContent(byte[] content, PDResources resources, Map<PDFont, FontDecoder> decoders,
+                                      Map<COSBase, ContentStream> forms, int depth) {
+        ContentStream stream = new ContentStream(content, readFonts(resources, decoders));
+        if (resources == null || depth >= MAX_FORM_DEPTH) {
+            return stream;
+        }
+        for (COSName name : resources.getXObjectNames()) {
+            if (resources.isImageXObject(name)) {
+                continue;
+            }
+            try {
+                PDXObject xObject = resources.getXObject(name);
+                if (!(xObject instanceof PDFormXObject)) {
+                    continue;
+                }
+                // Read a form drawn by several pages only once.
+                ContentStream form = forms.get(xObject.getCOSObject());
+                if (form == null) {
+                    PDFormXObject formXObject = (PDFormXObject) xObject;
+                    PDResources formResources = formXObject.getResources() != null
+                            ? formXObject.getResources() : resources;
+                    try (InputStream in = formXObject.getContents()) {
+                        form = readContent(IOUtils.toByteArray(in), formResources, decoders, forms, depth + 1);
+                    }
+                    forms.put(xObject.getCOSObject(), form);
+                }
+                stream.forms.put(name.getName(), form);
+            } catch (IOException e) {
+                log.debug("Couldn't read form " + name.getName() + ".", e);
+            }
+        }
+        return stream;
+    }
+
+    private Map<String, FontDecoder> readFonts(PDResources resources, Map<PDFont, FontDecoder> decoders) {
+        Map<String, FontDecoder> fonts = new HashMap<>();
+        if (resources == null) {
+            return fonts;
+        }
+        for (COSName name : resources.getFontNames()) {
+            try {
+                PDFont font = resources.getFont(name);
+                if (font != null) {
+                    fonts.put(name.getName(), decoders.computeIfAbsent(font, FontDecoder::new));
+                }
+            } catch (IOException e) {
+                log.debug("Couldn't read font " + name.getName() + ".", e);
+            }
+        }
+        return fonts;
+    }
+
+    /**
+     * Splits the text of the given content stream of a page (and of the forms drawn by it) into
+     * lines and scores the lines.
+     */
+    private void scanContent(PageScore score, ContentStream stream, StringBuilder line, int depth)
+            throws IOException {
+        PDFStreamParser parser = new PDFStreamParser(stream.content);
+        List<COSBase> operands = new ArrayList<>();
+        FontDecoder font = null;
+        float lastTextMatrixY = Float.NaN;
+
+        Object token;
+        while ((token = parser.parseNextToken()) != null) {
+            if (token instanceof COSBase) {
+                operands.add((COSBase) token);
+                continue;
+            }
+            if (!(token instanceof Operator)) {
+                continue;
+            }
+
+            switch (((Operator) token).getName()) {
+                case "Tf":
+                    if (!operands.isEmpty() && operands.get(0) instanceof COSName) {
+                        font = stream.fonts.get(((COSName) operands.get(0)).getName());
+                    }
+                    break;
+                case "Tj":
+                    appendText(line, operands, 0, font);
+                    break;
+                case "'":
+                    endLine(score, line);
+                    appendText(line, operands, 0, font);
+                    break;
+                case "\"":
+                    endLine(score, line);
+                    appendText(line, operands, 2, font);
+                    break;
+                case "TJ":
+                    if (!operands.isEmpty() && operands.get(0) instanceof COSArray) {
+                        for (COSBase element : (COSArray) operands.get(0)) {
+                            if (element instanceof COSString) {
+                                line.append(decode((COSString) element, font));
+                            } else if (element instanceof COSNumber && ((COSNumber) element).floatValue() < -WORD_GAP) {
+                                line.append(' ');
+                            }
+                        }
+                    }
+                    break;
+                case "Td":
+                case "TD":
+                    // A vertical move starts a new line, a horizontal move separates words.
+                    if (operands.size() >= 2 && operands.get(1) instanceof COSNumber
+                            && ((COSNumber) operands.get(1)).floatValue() != 0) {
+                        endLine(score, line);
+                    } else {
+                        line.append(' ');
+                    }
+                    break;
+                case "Tm":
+                    if (operands.size() >= 6 && operands.get(5) instanceof COSNumber) {
+                        float y = ((COSNumber) operands.get(5)).floatValue();
+                        if (y != lastTextMatrixY) {
+                            endLine(score, line);
+                        } else {
+                            line.append(' ');
+                        }
+                        lastTextMatrixY = y;
+                    }
+                    break;
+                case "T*":
+                case "BT":
+                case "ET":
+                    endLine(score, line);
+                    break;
+                case "Do":
+                    if (!operands.isEmpty() && operands.get(0) instanceof COSName && depth < MAX_FORM_DEPTH) {
+                        ContentStream form = stream.forms.get(((COSName) operands.get(0)).getName());
+                        if (form != null) {
+                            endLine(score, line);
+                            scanContent(score, form, line, depth + 1);
+                            endLine(score, line);
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+            operands.clear();
+        }
+    }
+
+    private void appendText(StringBuilder line, List<COSBase> operands, int index, FontDecoder font) {
+        if (operands.size() > index && operands.get(index) instanceof COSString) {
+            line.append(decode((COSString) operands.get(index), font));
+        }
+    }
+
+    private String decode(COSString string, FontDecoder font) {
+        if (font == null) {
+            return new String(string.getBytes(), StandardCharsets.ISO_8859_1);
+        }
+        return font.decode(string.getBytes());
+    }
+
+    private void endLine(PageScore score, StringBuilder line) {
+        String text = line.toString().trim().replaceAll("\\s+", " ");
+        line.setLength(0);
+        if (text.isEmpty()) {
+            return;
+        }
+
+        score.numLines++;
+        if (ScoreBasedIndexPageSearch.INDEX_LINE_PATTERN.matcher(text).matches()) {
+            score.numIndexLines++;
+        }
+        if (ScoreBasedIndexPageSearch.isIndexHeading(text)) {
+            score.hasIndexHeading = true;
+        }
+    }
+
+    /**
+     * Computes the range of the index pages from the given page scores: the index starts at the
+     * last page with an index heading that is followed by index-like pages (or at the first page
+     * of the first run of index-like pages) and ends at the last index-like page of that run, where
+     * single pages that are not index-like are tolerated.
+     *
+     * @param scores the page scores, in page order
+     * @return the first and last page number of the index (including a safety margin), or null if
+     * no index pages were found.
+     */
+    public int[] computeIndexPageRange(List<PageScore> scores) {
+        int numPages = scores.size();
+        int firstPage = Math.max(1, (int) (numPages * FIRST_POSSIBLE_INDEX_PAGE));
+
+        int start = -1;
+        for (int i = numPages - 1; i >= firstPage - 1 && start < 0; i--) {
+            boolean isFollowedByIndexPage = isIndexLike(scores.get(i))
+                    || (i + 1 < numPages && isIndexLike(scores.get(i + 1)));
+            if (scores.get(i).hasIndexHeading && isFollowedByIndexPage) {
+                start = i;
+            }
+        }
+        for (int i = firstPage - 1; i < numPages && start < 0; i++) {
+            boolean isRun = i + 1 >= numPages || isIndexLike(scores.get(i + 1));
+            if (isIndexLike(scores.get(i)) && isRun) {
+                start = i;
+            }
+        }
+        if (start < 0) {
+            return null;
+        }
+
+        int end = start;
+        for (int i = start + 1; i < numPages; i++) {
+            if (isIndexLike(scores.get(i))) {
+                end = i;
+            } else if (i - end > 1) {
+                break;
+            }
+        }
+
+        return new int[]{Math.max(1, start + 1 - MARGIN), Math.min(numPages, end + 1 + MARGIN)};
+    }
+
+    private boolean isIndexLike(PageScore score) {
+        return score.numLines >= MIN_NUM_LINES && (double) score.numIndexLines / score.numLines > MIN_INDEX_LINE_RATIO;
+    }
+
+    /**
+     * The score of a page in the prescan.
+     */
+    public static class PageScore {
+        final int pageNumber;
+        int numLines;
+        int numIndexLines;
+        boolean hasIndexHeading;
+
+        // the content stream of the page, only kept during the scan
+        ContentStream content;
+
+        PageScore(int pageNumber) {
+            this.pageNumber = pageNumber;
+        }
+
+        public int getPageNumber() {
+            return pageNumber;
+        }
+
+        public int getNumLines() {
+            return numLines;
+        }
+
+        public int getNumIndexLines() {
+            return numIndexLines;
+        }
+
+        public boolean hasIndexHeading() {
+            return hasIndexHeading;
+        }
+
+        @Override
+        public String toString() {
+            return "PageScore(page: " + pageNumber + ", lines: " + numLines + ", index lines: " + numIndexLines
+                    + ", heading: " + hasIndexHeading + ")";
+        }
+    }
+
+    /**
+     * The raw bytes of a content stream (of a page or a form XObject), with the fonts and the form
+     * XObjects of its resources.
+     */
+    private static class ContentStream {
+        private final byte[] content;
+        private final Map<String, FontDecoder> fonts;
+        private final Map<String, ContentStream> forms = new HashMap<>();
+
+        ContentStream(byte[] content, Map<String, FontDecoder> fonts) {
+            this.content = content;
+            this.fonts = fonts;
+        }
+    }
+
+    /**
+     * Decodes the character codes of a font to unicode. A decoder is shared by all pages that use
+     * the font, but the font isn't thread-safe, so a string is decoded while holding the lock of the
+     * decoder. The decoded codes are cached, such that the font is consulted only once per code.
+     */
+    private static class FontDecoder {
+        private final PDFont font;
+        private final Map<Integer, String> unicodes = new HashMap<>();
+
+        FontDecoder(PDFont font) {
+            this.font = font;
+        }
+
+        synchronized String decode(byte[] bytes) {
+            StringBuilder text = new StringBuilder();
+            InputStream in = new ByteArrayInputStream(bytes);
+            try {
+                while (in.available() > 0) {
+                    int code = font.readCode(in);
+                    String unicode = unicodes.get(code);
+                    if (unicode == null) {
+                        unicode = font.toUnicode(code);
+                        unicode = unicode != null ? unicode : "";
+                        unicodes.put(code, unicode);
+                    }
+                    text.append(unicode);
+                }
+            } catch (IOException e) {
+                // Keep the text decoded so far.
+            }
+            return text.toString();
+        }
+    }
+}
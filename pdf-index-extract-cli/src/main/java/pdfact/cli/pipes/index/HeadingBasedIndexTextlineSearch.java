@@ -7,17 +7,11 @@ import pdfact.core.model.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class HeadingBasedIndexTextlineSearch implements IndexTextlineSearch {
 
     private static final Logger log = LogManager.getLogger(IndexExtraction.class);
 
-    private static final Pattern INDEX_HEADING_PATTERN = Pattern
-            .compile("(?i)(index|verzeichnis|namenverzeichnis|sachverzeichnis|"
-                    + "namen- und sachverzeichnis|stichwortverzeichnis|register|konkordanz|"
-                    + "sachwortverzeichnis|sach- und personenregister|Sach- und Namenverzeichnis)");
-
     private final boolean heuristicHeadingSearch;
 
     private int firstIndexPageNumber;
@@ -89,7 +83,7 @@ public class HeadingBasedIndexTextlineSearch implements IndexTextlineSearch {
     private boolean hasIndexHeadingBySemanticRole(TextBlock block) {
         // Check for a heading with text index
         String text = block.getText();
-        return INDEX_HEADING_PATTERN.matcher(text.toLowerCase()).matches()
+        return ScoreBasedIndexPageSearch.isIndexHeading(text)
                 && block.getSemanticRole() == SemanticRole.HEADING && block.getSemanticRole() != SemanticRole.BODY_TEXT;
     }
 
@@ -97,7 +91,7 @@ public class HeadingBasedIndexTextlineSearch implements IndexTextlineSearch {
         // Check if block is heading with text index and if the fontsize is bigger than
         // the average Fontsize
         String text = block.getText();
-        return INDEX_HEADING_PATTERN.matcher(text.toLowerCase()).matches() && block.getCharacterStatistic()
+        return ScoreBasedIndexPageSearch.isIndexHeading(text) && block.getCharacterStatistic()
                 .getAverageFontsize() > pdf.getCharacterStatistic().getAverageFontsize();
     }
 
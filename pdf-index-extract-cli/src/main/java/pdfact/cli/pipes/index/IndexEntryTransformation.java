@@ -2,24 +2,18 @@ package pdfact.cli.pipes.index;
 
 import pdfact.core.model.TextLine;
 import pdfact.core.util.IndexEntry;
+import pdfact.core.util.IndexLocator;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class IndexEntryTransformation {
 
-    private final Pattern LITERALS_ONLY_PATTERN = Pattern.compile("[a-zA-Z]");
-
-    private final Pattern ROMAN_NUMERALS_PATTERN = Pattern
-            .compile("^(?i)(M{0,4}(CM|CD|D?C{0,3})(XC|XL|L?X{0,3})(IX|IV|V?I{0,3}))(,|\\s*)\\s+.*$");
-
-    public final static String DASH_REGEX = "\\u002d|\\u05BE|\\u1806|[\\u2010-\\u2015]|[\\u2E3A-\\u2E3B]|\\uFE58|\\uFE63|\\uFF0D";
-
     private final List<TextLine> lines;
 
+    private final IndexLineLexer lexer = new IndexLineLexer();
+
     public IndexEntryTransformation(List<TextLine> lines) {
         this.lines = lines;
     }
@@ -66,10 +60,7 @@ public class IndexEntryTransformation {
     }
 
     private boolean belongsToSameEntry(String entryText, String nextLineText) {
-        entryText = entryText.replaceAll(DASH_REGEX, "-");
-        nextLineText = nextLineText.replaceAll(DASH_REGEX, "-");
-
-        if (entryText.endsWith("-"))
+        if (IndexLineLexer.endsWithDash(entryText))
             return true;
 
         if (entryText.endsWith("siehe") && nextLineText.startsWith("auch"))
@@ -82,7 +73,7 @@ public class IndexEntryTransformation {
             return true;
 
         //page numbers
-        if (!LITERALS_ONLY_PATTERN.matcher(nextLineText).find() || ROMAN_NUMERALS_PATTERN.matcher(nextLineText).matches()) {
+        if (!IndexLineLexer.containsLetter(nextLineText) || IndexLineLexer.startsWithRomanNumeral(nextLineText)) {
             return true;
         }
 
@@ -91,40 +82,54 @@ public class IndexEntryTransformation {
 
 
     private IndexEntry parseEntryText(String text) {
-        text = text.replaceAll(DASH_REGEX, "-");
+        text = IndexLineLexer.normalizeDashes(text);
 
         if (text.startsWith("-")) {
             text = text.substring(1).strip();
         }
 
-        IndexEntry entry = new IndexEntry();
-        return parsePageNumbers(entry, text, "(,\\s*[0-9-]+)");
+        // The phrase ends at the first page number, all page numbers are added to the entry.
+        List<IndexLocator> locators = new ArrayList<>();
+        int startNumbersIndex = -1;
+        int numTokens = lexer.lex(text);
+        for (int i = 0; i < numTokens; i++) {
+            if (lexer.isLocator(i)) {
+                lexer.addLocators(i, locators);
+                if (startNumbersIndex < 0) {
+                    startNumbersIndex = lexer.getStart(i);
+                }
+            }
+        }
+        return toEntry(new IndexEntry(), text, startNumbersIndex, locators);
     }
 
-    static IndexEntry parsePageNumbers(IndexEntry entry, String text, String pattern) {
-        Pattern numberPattern = Pattern.compile(pattern);
-        Matcher matcher = numberPattern.matcher(text);
-
-        List<String> pageNumbers = new ArrayList<>();
-        int startNumbersIndex = Integer.MAX_VALUE;
-        while (matcher.find()) {
-            String pageNumberMatch = matcher.group(1);
-            addPageNumberMatch(pageNumbers, pageNumberMatch);
-
-            if (matcher.start() < startNumbersIndex) {
-                startNumbersIndex = matcher.start();
+    /**
+     * Splits the page numbers from the end of the phrase of the given entry (e.g. "Foo 12-14"),
+     * for the case the page numbers are not separated by a comma. Updates the entry in place.
+     */
+    static IndexEntry parseTrailingPageNumbers(IndexEntry entry, String text) {
+        List<IndexLocator> locators = new ArrayList<>();
+        int startNumbersIndex = IndexLineLexer.indexOfTrailingNumbers(text);
+        if (startNumbersIndex >= 0) {
+            int endNumbersIndex = startNumbersIndex;
+            while (endNumbersIndex < text.length() && IndexLineLexer.isNumberCharacter(text.charAt(endNumbersIndex))) {
+                endNumbersIndex++;
             }
+            IndexLineLexer.addLocators(text, startNumbersIndex, endNumbersIndex, locators);
         }
+        return toEntry(entry, text, startNumbersIndex, locators);
+    }
 
+    private static IndexEntry toEntry(IndexEntry entry, String text, int startNumbersIndex, List<IndexLocator> locators) {
         String entryText = text.strip();
-        if (startNumbersIndex < Integer.MAX_VALUE) {
+        if (startNumbersIndex >= 0) {
             entryText = text.substring(0, startNumbersIndex).strip();
         }
 
-        if (!entryText.isBlank() && !entryText.matches("[0-9]+")) {
+        if (!entryText.isBlank() && !IndexLineLexer.isNumber(entryText)) {
             entryText = normalizePhrase(entryText);
             entry.setPhrase(entryText);
-            entry.addNumbers(pageNumbers);
+            entry.addLocators(locators);
             return entry;
         }
         return null;
@@ -137,29 +142,6 @@ public class IndexEntryTransformation {
         return entryText;
     }
 
-    private static void addPageNumberMatch(List<String> pageNumbers, String pageNumberMatch) {
-        if (pageNumberMatch.contains("-")) {
-            splitPageNumberRange(pageNumbers, pageNumberMatch, "-");
-        } else if (pageNumberMatch.contains("/")) {
-            splitPageNumberRange(pageNumbers, pageNumberMatch, "/");
-        } else {
-            pageNumbers.add(cleanPageNumber(pageNumberMatch.strip()));
-
-        }
-    }
-
-    private static void splitPageNumberRange(List<String> pageNumbers, String pageNumberMatch, String tok) {
-        String[] pageNumberMatches = pageNumberMatch.split(tok);
-        for (String rangeMatch : pageNumberMatches) {
-            pageNumbers.add(cleanPageNumber(rangeMatch.strip()));
-
-        }
-    }
-
-    private static String cleanPageNumber(String pageNumber) {
-        return pageNumber.replace(",", "").strip();
-    }
-
     @Override
     public String toString() {
         StringBuilder accu = new StringBuilder();
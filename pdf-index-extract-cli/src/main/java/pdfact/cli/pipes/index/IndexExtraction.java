@@ -4,16 +4,17 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import pdfact.core.model.Document;
 import pdfact.core.model.Page;
+import pdfact.core.model.PageGeometryProfile;
 import pdfact.core.model.TextLine;
 import pdfact.core.util.IndexEntry;
+import pdfact.core.util.IndexLocator;
 import pdfact.core.util.WriteToXML;
+import pdfact.core.util.statistician.PageGeometryStatistician;
 
 import java.nio.file.Path;
 import java.util.*;
-import java.util.function.BinaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Extraction of the index from a pdf
@@ -24,15 +25,37 @@ public class IndexExtraction {
 
     private static final Logger log = LogManager.getLogger(IndexExtraction.class);
 
+    // a digit at the end of a line or at the begin of a line, i.e. a printed page number
+    private static final Pattern ACTUAL_PAGE_NUMBER_PATTERN = Pattern.compile("[0-9]+[^,]$|^[^–-][0-9]+");
 
-    public void extract(Document pdf, Path path) {
+    // words of doi links, author lines and copyright notes, which contain digits that are no page numbers
+    private static final Pattern FORBIDDEN_WORDS_PATTERN = Pattern.compile("(?i)doi|Author|Springer|©|[.]|[,]");
 
-        // -------- search index lines in PDF ------------
-        List<IndexPageSearch> availableSearches = Arrays.asList(
-                new HeadingBasedIndexPageSearch(false),
-                new HeadingBasedIndexPageSearch(true),
-                new HeuristicBasedIndexPageSearch());
+    private final List<IndexPageSearch> availableSearches;
+
+    public IndexExtraction() {
+        this(new OutlineBasedIndexPageSearch());
+    }
+
+    /**
+     * @param outlineSearch the outline search to try first (e.g. the one that was already used to
+     *                      restrict the parsing to the index pages)
+     */
+    public IndexExtraction(OutlineBasedIndexPageSearch outlineSearch) {
+        this.availableSearches = Arrays.asList(outlineSearch, new ScoreBasedIndexPageSearch());
+    }
+
+
+    /**
+     * Extracts the index entries of the given pdf and writes them to the given path.
+     *
+     * @param pdf  the pdf document
+     * @param path the path to write, or null if the entries should not be written
+     * @return the extracted entries, which is empty if no index was found
+     */
+    public List<IndexEntry> extract(Document pdf, Path path) {
 
+        // -------- search index lines in PDF ------------
         List<Page> indexPages = Collections.emptyList();
 
         for (IndexPageSearch search : availableSearches) {
@@ -42,34 +65,36 @@ public class IndexExtraction {
             }
         }
 
-        if (indexPages.isEmpty()) {
-            writeIndexToXML(Collections.emptyList(), pdf, path);
-            return;
-        }
-
-
-        int yMaxBoundary = getMostRepeated(pdf.getMaxYRoundedPerPage());
-        int yMinBoundary = getMostRepeated(pdf.getMinYRoundedPerPage());
-
+        List<IndexEntry> result = new ArrayList<>();
+        if (!indexPages.isEmpty()) {
+            PageGeometryProfile profile = getPageGeometryProfile(pdf);
 
+            for (Page page : indexPages) {
+                IndexPage indexPage = new IndexPage(page, profile);
+                List<IndexEntry> phrases = indexPage.getPhrases();
+                result.addAll(phrases);
+            }
 
-        List<IndexEntry> result = new ArrayList<>();
-        for (Page page : indexPages) {
-            IndexPage indexPage = new IndexPage(page, yMaxBoundary, yMinBoundary);
-            List<IndexEntry> phrases = indexPage.getPhrases();
-            result.addAll(phrases);
+            attachOffsets(pdf, result);
         }
 
-        attachOffsets(pdf, result);
-
-        writeIndexToXML(result, pdf, path);
+        if (path != null) {
+            writeIndexToXML(result, pdf, path);
+        }
+        return result;
     }
 
 
     public void attachOffsets(Document pdf, List<IndexEntry> entries) {
         for (IndexEntry entry : entries) {
-            List<Integer> offsets = entry.getNumbers().stream().map(this::toIntegerPage).map(x -> computeOffsetForEntry(pdf, x)).collect(Collectors.toList());
-            entry.addOffsets(offsets);
+            for (IndexLocator locator : entry.getLocators()) {
+                // one offset per written page number; roman page numbers are not counted by the book
+                // page numbers
+                for (int i = 0; i < locator.getNumPageNumbers(); i++) {
+                    int page = i == 0 ? locator.getStart() : locator.getEnd();
+                    entry.addOffset(computeOffsetForEntry(pdf, locator.isRoman() ? -1 : page));
+                }
+            }
             attachOffsets(pdf, entry.getSubentries());
         }
 
@@ -81,32 +106,29 @@ public class IndexExtraction {
     // y-coordinates
     // Check only after the begin of the index
     // ignore Doi Links and Authors
-    private int computeBookPageNumber(List<TextLine> indexTextLines, float pageHeight) {
+    private int computeBookPageNumber(List<TextLine> indexTextLines, float pageHeight, PageGeometryProfile profile) {
 
         if (indexTextLines.isEmpty()) {
             return -1;
         }
         int pagenumber = indexTextLines.get(0).getPosition().getPageNumber();
 
-        // page numbers must be either top 91% or bottom 9%.
-        // we dont need to calculate it dynamically.
-        // it worked all pdfs I checked incl. Bosch2009_Book_Algebra
+        // page numbers must be either in the header band or in the footer band (top 91% or bottom 9%
+        // by default). it worked all pdfs I checked incl. Bosch2009_Book_Algebra
         // Arbeitsmarktökonomik__711d3a13-e970-4a3a-a3c2-468bfdcaaa18
         // etc..
-        float page_number_top = pageHeight * 0.91f;
-        float page_number_bottom = pageHeight * 0.09f;
+        float page_number_top = profile.getHeaderMinY(pageHeight);
+        float page_number_bottom = profile.getFooterMaxY(pageHeight);
 
         int relativePageNumber = 0;
-        Pattern actualPageNumberPattern = Pattern.compile("[0-9]+[^,]$|^[^–-][0-9]+");
 
         for (TextLine line : indexTextLines) {
-            Matcher m = actualPageNumberPattern.matcher(line.getText());
-            Pattern forbiddenWords = Pattern.compile("(?i)doi|Author|Springer|©|[.]|[,]");
+            Matcher m = ACTUAL_PAGE_NUMBER_PATTERN.matcher(line.getText());
             boolean containsRelativePageNumber = m.find()
                     && (line.getPosition().getRectangle().getMaxY() < page_number_bottom
                     || line.getPosition().getRectangle().getMinY() > page_number_top)
                     && line.getPosition().getPageNumber() >= pagenumber
-                    && !forbiddenWords.matcher(line.getText()).find();
+                    && !FORBIDDEN_WORDS_PATTERN.matcher(line.getText()).find();
 
             if (containsRelativePageNumber) {
 
@@ -124,34 +146,24 @@ public class IndexExtraction {
     }
 
 
-    private int toIntegerPage(String s) {
-        try {
-            return Integer.parseInt(s);
-        } catch (NumberFormatException ex) {
-            if (s.matches("[0-9]+-[0-9]")) {
-                return toIntegerPage(s.split("-")[0]);
-            }
-        }
-        return -1;
-    }
-
+    // the offset between the pdf page number and the printed page number, taken from the first page
+    // after the given printed page number that is parsed and has a printed page number. Pages that
+    // were not parsed (see --index-pages-only) have no text lines and are skipped.
     private int computeOffsetForEntry(Document pdf, int entryBookPage) {
-        int pageBookPageNumber = -1;
-        int offset = -1;
-
         if (entryBookPage == -1)
             return 0;
 
-        while (pageBookPageNumber <= entryBookPage && (entryBookPage + offset + 1) < pdf.getPages().size()) {
-            offset += 1;
-            var page = pdf.getPages().get(entryBookPage + offset);
-            pageBookPageNumber = computeBookPageNumber(page.getTextLines(), page.getHeight());
-        }
-
-        if ((entryBookPage + offset + 1) >= pdf.getPages().size()) {
-            return 0;
+        for (int i = entryBookPage; i < pdf.getPages().size(); i++) {
+            Page page = pdf.getPages().get(i);
+            if (page.getTextLines().isEmpty()) {
+                continue;
+            }
+            int pageBookPageNumber = computeBookPageNumber(page.getTextLines(), page.getHeight(), getPageGeometryProfile(pdf));
+            if (pageBookPageNumber > entryBookPage) {
+                return page.getPageNumber() - pageBookPageNumber;
+            }
         }
-        return offset;
+        return 0;
     }
 
 
@@ -165,16 +177,18 @@ public class IndexExtraction {
      */
     public void writeIndexToXML(List<IndexEntry> entries, Document pdf, Path path) {
         WriteToXML xmlWriter = new WriteToXML();
-        String pdfName = pdf.getFile().getName();
+        String pdfName = pdf.getName();
         xmlWriter.saveToXML(path, pdfName, entries);
     }
 
-
-    private int getMostRepeated(ArrayList<Integer> arr) {
-        Collections.sort(arr);
-
-        return arr.stream().reduce(BinaryOperator.maxBy(Comparator.comparingInt(o -> Collections.frequency(arr, o))))
-                .orElse(0);
+    /**
+     * Returns the page geometry profile of the given pdf, computes it if the pdf has none yet.
+     */
+    private PageGeometryProfile getPageGeometryProfile(Document pdf) {
+        if (pdf.getPageGeometryProfile() == null) {
+            pdf.setPageGeometryProfile(new PageGeometryStatistician().compute(pdf));
+        }
+        return pdf.getPageGeometryProfile();
     }
 
 }
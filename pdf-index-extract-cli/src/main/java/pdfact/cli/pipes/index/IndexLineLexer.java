@@ -0,0 +1,477 @@
+package pdfact.cli.pipes.index;
+
+import pdfact.core.util.IndexLocator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A lexer that splits the text of an index entry into typed tokens in a single pass, without
+ * regular expressions: the phrase, the page numbers (locators and ranges, each with its leading
+ * comma), roman page numbers, cross references ("siehe", "siehe auch", "see", "see also") and the
+ * dash that marks the continuation of the previous entry. The tokens are kept as offsets into the
+ * text, so a lexer can be reused for any number of lines.
+ *
+ * <p>
+ * The locators follow the pattern that was used to split the phrase from the page numbers before,
+ * that is: a comma, optional whitespace and a run of digits and dashes.
+ */
+public class IndexLineLexer {
+
+    public enum TokenType {
+        /**
+         * A part of the phrase.
+         */
+        PHRASE,
+        /**
+         * A single page number, e.g. ", 12".
+         */
+        LOCATOR,
+        /**
+         * A page range (or a run of digits and dashes), e.g. ", 12-14".
+         */
+        RANGE,
+        /**
+         * A roman page number, e.g. ", xii".
+         */
+        ROMAN_LOCATOR,
+        /**
+         * A cross reference to another entry, e.g. "siehe auch".
+         */
+        CROSS_REFERENCE,
+        /**
+         * A dash at the beginning of the line, which continues the previous entry.
+         */
+        DASH
+    }
+
+    // the length of the longest roman number, MMMMDCCCLXXXVIII
+    private static final int MAX_ROMAN_NUMERAL_LENGTH = 16;
+
+    private static final String[] CROSS_REFERENCES = {"siehe auch", "siehe", "see also", "see"};
+
+    private String text;
+    private int numTokens;
+    private TokenType[] types = new TokenType[8];
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+
+    /**
+     * Splits the given text into tokens.
+     *
+     * @param text the text of an index entry
+     * @return the number of tokens
+     */
+    public int lex(String text) {
+        this.text = text;
+        this.numTokens = 0;
+
+        int n = text.length();
+        int i = 0;
+        while (i < n && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        if (i < n && isDash(text.charAt(i))) {
+            add(TokenType.DASH, i, i + 1);
+            i++;
+        }
+
+        int phraseStart = i;
+        while (i < n) {
+            char c = text.charAt(i);
+            int end;
+            if (c == ',' && (end = lexLocator(i)) > i) {
+                addPhrase(phraseStart, i);
+                add(isRange(i, end) ? TokenType.RANGE : TokenType.LOCATOR, i, end);
+                i = phraseStart = end;
+            } else if (c == ',' && (end = lexRomanLocator(i)) > i) {
+                addPhrase(phraseStart, i);
+                add(TokenType.ROMAN_LOCATOR, i, end);
+                i = phraseStart = end;
+            } else if ((end = lexCrossReference(i)) > i) {
+                addPhrase(phraseStart, i);
+                add(TokenType.CROSS_REFERENCE, i, end);
+                i = phraseStart = end;
+            } else {
+                i++;
+            }
+        }
+        addPhrase(phraseStart, n);
+        return numTokens;
+    }
+
+    /**
+     * Returns the end of the locator that starts with the comma at the given position: whitespace
+     * and a (non-empty) run of digits and dashes. Returns the given position if there is none.
+     */
+    private int lexLocator(int comma) {
+        int n = text.length();
+        int i = comma + 1;
+        while (i < n && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        int runStart = i;
+        while (i < n && (isDigit(text.charAt(i)) || isDash(text.charAt(i)))) {
+            i++;
+        }
+        return i > runStart ? i : comma;
+    }
+
+    private boolean isRange(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (isDash(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the end of the roman number that starts after the comma at the given position (and
+     * optional whitespace), if the number is a word on its own. Returns the given position if
+     * there is none.
+     */
+    private int lexRomanLocator(int comma) {
+        int n = text.length();
+        int i = comma + 1;
+        while (i < n && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        int wordStart = i;
+        while (i < n && isAsciiLetter(text.charAt(i))) {
+            i++;
+        }
+        if (i == wordStart || i - wordStart > MAX_ROMAN_NUMERAL_LENGTH
+                || (i < n && text.charAt(i) != ',' && !isWhitespace(text.charAt(i)))) {
+            return comma;
+        }
+        return (romanNumeralEnds(text, wordStart) & (1L << (i - wordStart))) != 0 ? i : comma;
+    }
+
+    /**
+     * Returns the end of the cross reference that starts at the given position, or the given
+     * position if there is none.
+     */
+    private int lexCrossReference(int start) {
+        if (start > 0 && Character.isLetter(text.charAt(start - 1))) {
+            return start;
+        }
+        for (String reference : CROSS_REFERENCES) {
+            int end = start + reference.length();
+            if (text.regionMatches(true, start, reference, 0, reference.length())
+                    && (end == text.length() || !Character.isLetter(text.charAt(end)))) {
+                return end;
+            }
+        }
+        return start;
+    }
+
+    private void addPhrase(int start, int end) {
+        if (end > start) {
+            add(TokenType.PHRASE, start, end);
+        }
+    }
+
+    private void add(TokenType type, int start, int end) {
+        if (numTokens == types.length) {
+            types = Arrays.copyOf(types, numTokens * 2);
+            starts = Arrays.copyOf(starts, numTokens * 2);
+            ends = Arrays.copyOf(ends, numTokens * 2);
+        }
+        types[numTokens] = type;
+        starts[numTokens] = start;
+        ends[numTokens] = end;
+        numTokens++;
+    }
+
+    public int getNumTokens() {
+        return numTokens;
+    }
+
+    public TokenType getType(int token) {
+        return types[token];
+    }
+
+    public int getStart(int token) {
+        return starts[token];
+    }
+
+    public int getEnd(int token) {
+        return ends[token];
+    }
+
+    public String getText(int token) {
+        return text.substring(starts[token], ends[token]);
+    }
+
+    public boolean isLocator(int token) {
+        return types[token] == TokenType.LOCATOR || types[token] == TokenType.RANGE;
+    }
+
+    /**
+     * Adds the locators of the given locator (or range) token to the given list.
+     */
+    public void addLocators(int token, List<IndexLocator> locators) {
+        addLocators(text, starts[token] + 1, ends[token], locators);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Checks if the given character is a dash (a hyphen-minus or any of the unicode dashes).
+     */
+    public static boolean isDash(char c) {
+        return c == '-' || c == '\u05BE' || c == '\u1806' || (c >= '\u2010' && c <= '\u2015')
+                || c == '\u2E3A' || c == '\u2E3B' || c == '\uFE58' || c == '\uFE63' || c == '\uFF0D';
+    }
+
+    /**
+     * Replaces all dashes in the given text by a hyphen-minus.
+     */
+    public static String normalizeDashes(String text) {
+        char[] chars = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '-' && isDash(c)) {
+                if (chars == null) {
+                    chars = text.toCharArray();
+                }
+                chars[i] = '-';
+            }
+        }
+        return chars == null ? text : new String(chars);
+    }
+
+    /**
+     * Checks if the first character of the given text that is not a whitespace is a dash.
+     */
+    public static boolean startsWithDash(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return isDash(c);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the last character of the given text is a dash.
+     */
+    public static boolean endsWithDash(CharSequence text) {
+        return text.length() > 0 && isDash(text.charAt(text.length() - 1));
+    }
+
+    /**
+     * Checks if the given text contains any (ASCII) letter.
+     */
+    public static boolean containsLetter(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isAsciiLetter(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the given text consists of digits only (and isn't empty).
+     */
+    public static boolean isNumber(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return !text.isEmpty();
+    }
+
+    /**
+     * Checks if the given text starts with a (possibly empty) roman number, followed by an optional
+     * comma and whitespace, e.g. "xii, 12" or "iv 3". Such a line continues the page numbers of the
+     * previous line.
+     */
+    public static boolean startsWithRomanNumeral(String text) {
+        long ends = romanNumeralEnds(text, 0);
+        int n = text.length();
+        for (int end = 0; end <= n && end < 64; end++) {
+            if ((ends & (1L << end)) == 0) {
+                continue;
+            }
+            int i = end < n && text.charAt(end) == ',' ? end + 1 : end;
+            if (i < n && isWhitespace(text.charAt(i)) && isRestOfLine(text, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the text after the whitespace at the given position contains no line terminator.
+     */
+    private static boolean isRestOfLine(String text, int whitespace) {
+        int i = whitespace;
+        while (i < text.length() && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        for (; i < text.length(); i++) {
+            if (isLineTerminator(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns the (relative) ends of all prefixes of the text from the given position that are
+     * roman numbers (M{0,4}(CM|CD|D?C{0,3})(XC|XL|L?X{0,3})(IX|IV|V?I{0,3}), case-insensitive), as
+     * a bit set. The bit 0 (the empty prefix) is always set.
+     */
+    static long romanNumeralEnds(String text, int start) {
+        int n = Math.min(text.length() - start, 62);
+        long ends = 1L;
+        for (int i = 0; i < 4 && i < n && lower(text.charAt(start + i)) == 'm'; i++) {
+            ends |= 1L << (i + 1);
+        }
+        ends = romanDigitEnds(text, start, n, ends, 'c', 'd', 'm');
+        ends = romanDigitEnds(text, start, n, ends, 'x', 'l', 'c');
+        return romanDigitEnds(text, start, n, ends, 'i', 'v', 'x');
+    }
+
+    /**
+     * Returns the ends after a roman digit (one+ten | one+five | five? one{0,3}) that follows any
+     * of the given ends.
+     */
+    private static long romanDigitEnds(String text, int start, int n, long ends, char one, char five, char ten) {
+        long result = 0;
+        for (int end = 0; end <= n; end++) {
+            if ((ends & (1L << end)) == 0) {
+                continue;
+            }
+            result |= 1L << end;
+            int i = end;
+            if (i < n && lower(text.charAt(start + i)) == one && i + 1 < n) {
+                char next = lower(text.charAt(start + i + 1));
+                if (next == ten || next == five) {
+                    result |= 1L << (i + 2);
+                }
+            }
+            if (i < n && lower(text.charAt(start + i)) == five) {
+                i++;
+                result |= 1L << i;
+            }
+            for (int j = 0; j < 3 && i < n && lower(text.charAt(start + i)) == one; j++) {
+                i++;
+                result |= 1L << i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the start of the run of digits and dashes at the end of the given text, or -1 if the
+     * text doesn't end with a digit or dash.
+     */
+    public static int indexOfTrailingNumbers(String text) {
+        // Like $ of a regular expression, ignore a line terminator at the end of the text.
+        int end = text.length();
+        if (end > 0 && isLineTerminator(text.charAt(end - 1))) {
+            end -= end > 1 && text.charAt(end - 1) == '\n' && text.charAt(end - 2) == '\r' ? 2 : 1;
+        }
+        int i = end;
+        while (i > 0 && isNumberCharacter(text.charAt(i - 1))) {
+            i--;
+        }
+        return i < end ? i : -1;
+    }
+
+    /**
+     * Adds the locators of the given run of digits and hyphen-minuses (and leading whitespace) to
+     * the given list: a page range for two page numbers separated by a single dash (e.g. "12-14"),
+     * otherwise a single page for each page number. Empty page numbers (e.g. of "12-") and numbers
+     * beyond the int range are skipped.
+     */
+    public static void addLocators(CharSequence text, int start, int end, List<IndexLocator> locators) {
+        while (start < end && isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        int dash = -1;
+        int numDashes = 0;
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == '-') {
+                dash = numDashes++ == 0 ? i : dash;
+            }
+        }
+        if (numDashes == 1) {
+            int first = IndexLocator.parseNumber(text, start, dash);
+            int last = IndexLocator.parseNumber(text, dash + 1, end);
+            if (first >= 0 && last >= 0) {
+                locators.add(IndexLocator.range(first, last));
+                return;
+            }
+        }
+        int pageNumberStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || text.charAt(i) == '-') {
+                int page = IndexLocator.parseNumber(text, pageNumberStart, i);
+                if (page >= 0) {
+                    locators.add(IndexLocator.page(page));
+                }
+                pageNumberStart = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Checks if the given character is a digit or a hyphen-minus.
+     */
+    public static boolean isNumberCharacter(char c) {
+        return isDigit(c) || c == '-';
+    }
+
+    /**
+     * Parses the given page number, e.g. "12" or "12-3" (the first page of the range).
+     *
+     * @return the page number, or -1 if it isn't a page number
+     */
+    public static int parsePageNumber(String text) {
+        int n = text.length();
+        long value = 0;
+        int i = 0;
+        for (; i < n && isDigit(text.charAt(i)); i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+            if (value > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        if (i == 0 || (i < n && (i != n - 2 || text.charAt(i) != '-' || !isDigit(text.charAt(n - 1))))) {
+            return -1;
+        }
+        return (int) value;
+    }
+
+    // ==============================================================================================
+
+    private static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Checks if the given character is a whitespace in the sense of \s of a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
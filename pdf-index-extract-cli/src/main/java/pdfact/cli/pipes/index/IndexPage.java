@@ -1,50 +1,41 @@
 package pdfact.cli.pipes.index;
 
 import pdfact.core.model.Page;
+import pdfact.core.model.PageGeometryProfile;
+import pdfact.core.model.PageGeometryProfile.PageGeometry;
 import pdfact.core.model.Rectangle;
-import pdfact.core.model.TextBlock;
 import pdfact.core.model.TextLine;
 import pdfact.core.util.IndexEntry;
-import pdfact.core.util.list.ElementList;
+import pdfact.core.util.column.ColumnDetector;
+import pdfact.core.util.column.ColumnLayout;
+import pdfact.core.util.statistician.PageGeometryStatistician;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static pdfact.cli.pipes.index.IndexEntryTransformation.DASH_REGEX;
 
 public class IndexPage {
 
-    public static final String INDEX_HEADING_PATTERN = "[a-zA-Z]|(?:Numerals|Symbols|Index|[a-zA-Z]*[vV]erzeichnis)";
+    // the headings of the groups of the index entries, e.g. "A" or "Symbols"
+    public static final Pattern GROUP_HEADING_PATTERN = Pattern.compile("[a-zA-Z]|Numerals|Symbols");
 
     private final float pageWidth;
     private final float pageHeight;
     private final double contentMaxY;
-    private final double contentMinY;
+    private final PageGeometryProfile profile;
     private final Page page;
 
 
-    public IndexPage(Page p, int yMaxBoundary, int yMinBoundary) {
+    public IndexPage(Page p, PageGeometryProfile profile) {
 
         this.page = p;
         this.pageWidth = p.getWidth();
         this.pageHeight = p.getHeight();
-
-
-        double content_max_y = yMaxBoundary * 1.01;
-        if (content_max_y < 0.8 * pageHeight) {
-            content_max_y = 0.92 * pageHeight;
-        }
-        this.contentMaxY = content_max_y;
-
-
-        double content_min_y = yMinBoundary * 0.99;
-        if (content_min_y > 0.2 * pageHeight) {
-            content_min_y = 0.08 * pageHeight;
-        }
-        this.contentMinY = content_min_y;
+        this.profile = profile;
+        this.contentMaxY = profile.getContentMaxY(pageHeight);
     }
 
 
@@ -53,18 +44,18 @@ public class IndexPage {
 
         List<TextLine> lineAccu = new ArrayList<>();
 
-        float contentMinY = computeFooterYMax(page);
+        float contentMinY = getPageGeometry().getFooterMaxY();
 
         List<TextLine> textLines = filterToIndexPhraseCandidateList(page.getTextLines(), contentMaxY, contentMinY);
 
 
-        List<Rectangle> columnBoundingBoxes = computeColumnBoundingBoxes(textLines);
+        ColumnLayout columns = new ColumnDetector().detect(textLines);
 
 
         for (TextLine line : textLines) {
-            int currentColumn = assignColumn(line, columnBoundingBoxes);
-            boolean isIndented = isIndented(line, columnBoundingBoxes.get(currentColumn));
-            boolean startsWithDash = line.getText().strip().replaceAll(DASH_REGEX, "-").startsWith("-");
+            int currentColumn = columns.getColumn(line);
+            boolean isIndented = isIndented(line, columns, currentColumn);
+            boolean startsWithDash = IndexLineLexer.startsWithDash(line.getText());
 
             if (isIndented || startsWithDash) {
                 lineAccu.add(line);
@@ -89,50 +80,23 @@ public class IndexPage {
         return entries;
     }
 
-    /**
-    If the last block has unusual width (too wide) and a larger than 2 line height vertical spacing, assume footer.
-     */
-    private float computeFooterYMax(Page page) {
-        ElementList<TextBlock> blocks = page.getTextBlocks();
-        Collections.sort(blocks, (b1, b2) -> Float.compare(b2.getPosition().getRectangle().getMinY(), b1.getPosition().getRectangle().getMinY()));
-
-        if (blocks.size() < 2){
-            return 0;
-        }
-
-        Rectangle boundingRect = blocks.getLastElement().getPosition().getRectangle();
-
-        double meanTextlineHeight = page.getTextLines().stream()
-                .mapToDouble(x -> x.getPosition().getRectangle().getHeight()).average().getAsDouble();
-
-        List<Float> meanTextlineWidth = page.getTextLines().stream()
-                .map(x -> x.getPosition().getRectangle().getWidth()).collect(Collectors.toList());
-
-        double maxAllowedWidth = computeMaxAllowedWidthDeviation(meanTextlineWidth);
-
-        Rectangle currentRect = blocks.get(blocks.size()-2).getPosition().getRectangle();
-        float verticalSpacing = currentRect.getMaxY() - boundingRect.getMinY();
-
-        if (verticalSpacing > 2 * meanTextlineHeight && maxAllowedWidth < boundingRect.getWidth()) {
-            return boundingRect.getMaxY();
-        }
-        return 0;
+    private PageGeometry getPageGeometry() {
+        PageGeometry geometry = profile.getPageGeometry(page);
+        return geometry != null ? geometry : new PageGeometryStatistician().computePageGeometry(page);
     }
 
     private void fixAllEntriesEndWithNumber(List<IndexEntry> entries) {
-        String numberEndingRegex = "([0-9-]+)$";
-
-        double count = entries.stream().map(e -> e.getPhrase().matches(numberEndingRegex)).count();
+        double count = entries.stream().map(e -> IndexLineLexer.indexOfTrailingNumbers(e.getPhrase()) >= 0).count();
 
         //if 50% of all entries on the page end with number something is off
         if (count / entries.size() > 0.5) {
             for (IndexEntry entry : entries) {
                 for (IndexEntry subEntry : entry.getSubentries()) {
                     //updates entry in place
-                    IndexEntryTransformation.parsePageNumbers(subEntry, subEntry.getPhrase(), numberEndingRegex);
+                    IndexEntryTransformation.parseTrailingPageNumbers(subEntry, subEntry.getPhrase());
                 }
                 //updates entry in place
-                IndexEntryTransformation.parsePageNumbers(entry, entry.getPhrase(), numberEndingRegex);
+                IndexEntryTransformation.parseTrailingPageNumbers(entry, entry.getPhrase());
             }
         }
     }
@@ -152,10 +116,14 @@ public class IndexPage {
         Stream<TextLine> onlyLinesWithSmallWidth = linesInYBoundaries.stream().filter(x -> x.getPosition().getRectangle().getWidth() < maxAllowedWidth);
 
         return onlyLinesWithSmallWidth
-                .filter(line -> !line.getText().matches(INDEX_HEADING_PATTERN) && line.getBaseline() != null
+                .filter(line -> !isHeading(line.getText()) && line.getBaseline() != null
                 ).collect(Collectors.toList());
     }
 
+    private static boolean isHeading(String text) {
+        return GROUP_HEADING_PATTERN.matcher(text).matches() || ScoreBasedIndexPageSearch.isIndexHeading(text);
+    }
+
     private static double computeMaxAllowedWidthDeviation(List<Float> list) {
         float avg = 0f;
         for (float i : list)
@@ -169,53 +137,8 @@ public class IndexPage {
     }
 
 
-    private boolean isIndented(TextLine line, Rectangle boundingBox) {
+    private boolean isIndented(TextLine line, ColumnLayout columns, int column) {
         Rectangle lineRect = line.getPosition().getRectangle();
-        return (lineRect.getMinX() - boundingBox.getMinX()) > 0.02 * boundingBox.getWidth();
+        return (lineRect.getMinX() - columns.getMinX(column)) > 0.02 * columns.getWidth(column);
     }
-
-    private int assignColumn(TextLine line, List<Rectangle> boundingBoxes) {
-        int i = 0;
-        Rectangle rect = line.getPosition().getRectangle();
-
-        for (Rectangle r : boundingBoxes) {
-            if (r.contains(rect))
-                return i;
-            i++;
-        }
-        return i;
-    }
-
-    private List<Rectangle> computeColumnBoundingBoxes(List<TextLine> indexTextLines) {
-
-        List<Rectangle> nonHorizontalOverlappingRects = new ArrayList<>();
-
-        for (TextLine line : indexTextLines) {
-
-            Rectangle lineRect = line.getPosition().getRectangle();
-
-            Rectangle overlapRect = overlapsHorizontallyWith(nonHorizontalOverlappingRects, lineRect);
-            if (overlapRect == null) {
-                nonHorizontalOverlappingRects.add(lineRect);
-            } else {
-                Rectangle unionRect = overlapRect.union(lineRect);
-                int indexToReplace = nonHorizontalOverlappingRects.indexOf(overlapRect);
-                nonHorizontalOverlappingRects.set(indexToReplace, unionRect);
-            }
-        }
-
-        return nonHorizontalOverlappingRects;
-    }
-
-
-    private Rectangle overlapsHorizontallyWith(List<Rectangle> nonHorizontalOverlappingRects, Rectangle lineRect) {
-        for (Rectangle r : nonHorizontalOverlappingRects) {
-            if (lineRect.overlapsHorizontally(r)) {
-                return r;
-            }
-        }
-        return null;
-    }
-
-
 }
@@ -0,0 +1,204 @@
+package pdfact.cli.pipes.index;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.action.PDAction;
+import org.apache.pdfbox.pdmodel.interactive.action.PDActionGoTo;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDDestination;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDNamedDestination;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDPageDestination;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineNode;
+import pdfact.core.model.Document;
+import pdfact.core.model.Page;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.pipes.parse.PageSelector;
+import pdfact.core.util.lexicon.HeadingDictionary;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+/**
+ * Finds the index pages by the outline (the bookmarks) of the PDF: the index starts at the page
+ * the outline item with an index heading (e.g. "Index", "Sachverzeichnis") points to, and ends
+ * before the page the next outline item points to (or at the last page of the PDF). Since this
+ * needs the outline only, the index pages can be found before any layout analysis. That's why this
+ * search can also be used as {@link PageSelector}, to restrict the parsing to the index pages.
+ * The outline should be resolved from the PDF file opened by the parser (see
+ * {@link #resolveIndexPageRange(PDDocument)}), such that the PDF file isn't loaded again.
+ */
+public class OutlineBasedIndexPageSearch implements IndexPageSearch, PageSelector {
+
+    private static final Logger log = LogManager.getLogger(OutlineBasedIndexPageSearch.class);
+
+    private boolean isResolved;
+
+    private int firstIndexPageNumber = -1;
+
+    private int lastIndexPageNumber = -1;
+
+    public List<Page> extractIndexPages(Document pdf) {
+        if (pdf == null || pdf.getPages() == null) {
+            return Collections.emptyList();
+        }
+
+        if (!isResolved && pdf.getPdDocument() != null) {
+            resolveIndexPageRange(pdf.getPdDocument());
+        } else if (!isResolved) {
+            // The outline wasn't resolved while parsing (e.g. the document was parsed elsewhere),
+            // so there is no way around loading the PDF file again.
+            try (PDDocument doc = pdf.getSource().load()) {
+                resolveIndexPageRange(doc);
+            } catch (IOException e) {
+                log.warn("Couldn't read the outline of the PDF.", e);
+                isResolved = true;
+            }
+        }
+
+        if (firstIndexPageNumber < 0) {
+            return Collections.emptyList();
+        }
+
+        List<Page> indexPages = new ArrayList<>();
+        for (Page page : pdf.getPages()) {
+            if (page != null && page.getPageNumber() >= firstIndexPageNumber
+                    && page.getPageNumber() <= lastIndexPageNumber) {
+                indexPages.add(page);
+            }
+        }
+        return indexPages;
+    }
+
+    @Override
+    public IntPredicate selectPages(PDDocument document) {
+        resolveIndexPageRange(document);
+        if (firstIndexPageNumber < 0) {
+            // No index in the outline, so parse all pages to let the other searches find it.
+            return null;
+        }
+        return pageNumber -> pageNumber >= firstIndexPageNumber && pageNumber <= lastIndexPageNumber;
+    }
+
+    /**
+     * Resolves the page range of the index from the outline of the given PDF.
+     *
+     * @param doc The PDF.
+     */
+    public void resolveIndexPageRange(PDDocument doc) {
+        isResolved = true;
+        firstIndexPageNumber = -1;
+        lastIndexPageNumber = -1;
+
+        PDDocumentOutline outline = doc.getDocumentCatalog().getDocumentOutline();
+        if (outline == null) {
+            return;
+        }
+
+        // Flatten the outline in reading order, the index is usually one of the last items.
+        List<PDOutlineItem> items = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        flatten(outline, 0, items, depths, Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        for (int i = items.size() - 1; i >= 0; i--) {
+            if (!isIndexHeading(items.get(i).getTitle())) {
+                continue;
+            }
+            int firstPage = resolvePageNumber(doc, items.get(i));
+            if (firstPage < 0) {
+                continue;
+            }
+
+            // The index ends before the next item that is not a child of the index item.
+            int lastPage = doc.getNumberOfPages();
+            for (int j = i + 1; j < items.size(); j++) {
+                if (depths.get(j) > depths.get(i)) {
+                    continue;
+                }
+                int nextPage = resolvePageNumber(doc, items.get(j));
+                if (nextPage > firstPage) {
+                    lastPage = nextPage - 1;
+                    break;
+                }
+            }
+
+            firstIndexPageNumber = firstPage;
+            lastIndexPageNumber = lastPage;
+            log.debug("Index found in the outline on pages " + firstPage + "-" + lastPage);
+            return;
+        }
+    }
+
+    /**
+     * Adds the items below the given node in reading order. The siblings are walked by hand instead
+     * of by children(), which loops forever if a sibling points back to an earlier item; an item
+     * that was already visited (of a cyclic outline) ends the walk.
+     */
+    private void flatten(PDOutlineNode node, int depth, List<PDOutlineItem> items, List<Integer> depths,
+                         Set<COSDictionary> visited) {
+        for (PDOutlineItem item = node.getFirstChild(); item != null && visited.add(item.getCOSObject());
+             item = item.getNextSibling()) {
+            items.add(item);
+            depths.add(depth);
+            flatten(item, depth + 1, items, depths, visited);
+        }
+    }
+
+    private boolean isIndexHeading(String title) {
+        // Section numbers and page numbers around the title (e.g. "12 Index" or "Index 415") are
+        // ignored, since only the letters of the title are compared.
+        return HeadingDictionary.getDefault().isHeading(title, SemanticRole.INDEX);
+    }
+
+    /**
+     * Returns the (1-based) number of the page the given outline item points to, either by a
+     * destination, a named destination or a GoTo action. Returns the page of the first child if the
+     * item doesn't point to a page itself.
+     */
+    private int resolvePageNumber(PDDocument doc, PDOutlineItem item) {
+        Set<COSDictionary> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (PDOutlineItem current = item; current != null && visited.add(current.getCOSObject());
+             current = current.getFirstChild()) {
+            int pageNumber = resolveOwnPageNumber(doc, current);
+            if (pageNumber > 0) {
+                return pageNumber;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the (1-based) number of the page the given outline item itself points to, or -1 if it
+     * doesn't point to a page.
+     */
+    private int resolveOwnPageNumber(PDDocument doc, PDOutlineItem item) {
+        try {
+            PDDestination destination = item.getDestination();
+            if (destination == null) {
+                PDAction action = item.getAction();
+                if (action instanceof PDActionGoTo) {
+                    destination = ((PDActionGoTo) action).getDestination();
+                }
+            }
+            if (destination instanceof PDNamedDestination) {
+                destination = doc.getDocumentCatalog().findNamedDestinationPage((PDNamedDestination) destination);
+            }
+            if (destination instanceof PDPageDestination) {
+                int pageIndex = ((PDPageDestination) destination).retrievePageNumber();
+                if (pageIndex >= 0) {
+                    return pageIndex + 1;
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Couldn't resolve the destination of outline item " + item.getTitle() + ".", e);
+        }
+        return -1;
+    }
+}
@@ -1,15 +1,27 @@
 package pdfact.cli.pipes.index;
 
+import pdfact.cli.pipes.PdfActListener;
 import pdfact.core.model.Document;
+import pdfact.core.util.IndexEntry;
 
 import java.nio.file.Path;
+import java.util.List;
 
 public class PlainIndexExtractionPipe implements IndexExtractionPipe {
 
     protected Path indexExtractionPath;
 
+    protected OutlineBasedIndexPageSearch outlineSearch;
+
+    protected PdfActListener listener;
+
     public PlainIndexExtractionPipe(Path indexExtractionPath) {
+        this(indexExtractionPath, new OutlineBasedIndexPageSearch());
+    }
+
+    public PlainIndexExtractionPipe(Path indexExtractionPath, OutlineBasedIndexPageSearch outlineSearch) {
         this.indexExtractionPath = indexExtractionPath;
+        this.outlineSearch = outlineSearch;
     }
 
     public void setIndexExtractionPath(Path indexExtractionPath) {
@@ -20,6 +32,14 @@ public class PlainIndexExtractionPipe implements IndexExtractionPipe {
         return this.indexExtractionPath;
     }
 
+    public void setListener(PdfActListener listener) {
+        this.listener = listener;
+    }
+
+    public PdfActListener getListener() {
+        return this.listener;
+    }
+
     @Override
     public Document execute(Document pdf) {
         detectIndex(pdf);
@@ -28,7 +48,10 @@ public class PlainIndexExtractionPipe implements IndexExtractionPipe {
 
     @Override
     public Document detectIndex(Document pdf) {
-        new IndexExtraction().extract(pdf, indexExtractionPath);
+        List<IndexEntry> entries = new IndexExtraction(outlineSearch).extract(pdf, indexExtractionPath);
+        if (listener != null) {
+            listener.indexExtracted(entries);
+        }
         return pdf;
     }
 }
@@ -0,0 +1,238 @@
+package pdfact.cli.pipes.index;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import pdfact.core.model.Document;
+import pdfact.core.model.Page;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.model.TextBlock;
+import pdfact.core.model.TextLine;
+import pdfact.core.util.lexicon.HeadingDictionary;
+import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.PositionOrder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the index pages by an index heading (with the semantic role of a heading or with a font
+ * size above the average) or else by the pages with many lines that look like index entries, in a
+ * single pass over the last pages of the PDF. Each page gets a score with all signals, the index
+ * pages are chosen from the scores afterwards, with the same precedence (and the same result) as
+ * the former chain of a heading-based and a heuristic-based search, which ran one after another.
+ *
+ * <p>
+ * The scores and the decision are kept as a trace, see {@link #getPageScores()} and
+ * {@link #getTrace()}.
+ */
+public class ScoreBasedIndexPageSearch implements IndexPageSearch {
+
+    private static final Logger log = LogManager.getLogger(ScoreBasedIndexPageSearch.class);
+
+    // a line that looks like an index entry, e.g. "Apfel, 3, 12" (the last number is often followed by a ",")
+    static final Pattern INDEX_LINE_PATTERN = Pattern.compile("[a-zA-Z-; ]+,?(\\s+|(\\s?\\.\\s?)+)([0-9]+,? ?)+");
+
+    // assume that a index heading will occur near the end of a pdf around last 30 % of it
+    private static final double FIRST_POSSIBLE_HEADING_PAGE = 0.7;
+
+    // assume that the index lines are part of the last 20% of the pdf (to avoid the toc)
+    private static final double FIRST_POSSIBLE_INDEX_LINES_PAGE = 0.8;
+
+    // the min. number of lines of a page to be considered by the index line heuristic
+    private static final int MIN_NUM_LINES = 20;
+
+    // the min. ratio of lines that look like index entries on the first index page
+    private static final double MIN_INDEX_LINE_RATIO = 0.7;
+
+    private final List<PageScore> pageScores = new ArrayList<>();
+
+    private final List<String> trace = new ArrayList<>();
+
+    public List<Page> extractIndexPages(Document pdf) {
+        pageScores.clear();
+        trace.clear();
+
+        if (pdf == null || pdf.getPages() == null || pdf.getLastPage() == null) {
+            return Collections.emptyList();
+        }
+
+        int lastPageNumber = pdf.getLastPage().getPageNumber();
+        int firstPossibleHeadingPageNumber = (int) (lastPageNumber * FIRST_POSSIBLE_HEADING_PAGE);
+        float averageFontsize = pdf.getCharacterStatistic().getAverageFontsize();
+
+        for (Page page : pdf.getPages()) {
+            if (page != null && page.getPageNumber() > firstPossibleHeadingPageNumber) {
+                pageScores.add(score(page, lastPageNumber, averageFontsize));
+            }
+        }
+
+        List<Page> indexPages = selectByHeading();
+        if (indexPages.isEmpty()) {
+            indexPages = selectByIndexLines(lastPageNumber);
+        }
+        if (indexPages.isEmpty()) {
+            trace.add("no index pages found");
+        }
+
+        if (log.isDebugEnabled()) {
+            pageScores.forEach(log::debug);
+            trace.forEach(log::debug);
+        }
+        return indexPages;
+    }
+
+    /**
+     * Computes the score of the given page.
+     */
+    private PageScore score(Page page, int lastPageNumber, float averageFontsize) {
+        PageScore score = new PageScore(page);
+
+        // Iterate the blocks top-down, without changing the order of the blocks of the page.
+        ElementList<TextBlock> blocks = page.getTextBlocks(PositionOrder.MIN_Y_DESCENDING);
+        for (TextBlock block : blocks) {
+            if (block == null) {
+                continue;
+            }
+            score.numBlocks++;
+
+            if (score.hasIndexHeading()) {
+                score.numBlocksAfterHeading++;
+            } else if (isIndexHeading(block.getText())) {
+                score.isHeadingByRole = block.getSemanticRole() == SemanticRole.HEADING;
+                score.isHeadingByFontsize = block.getCharacterStatistic().getAverageFontsize() > averageFontsize;
+            }
+        }
+
+        if (page.getPageNumber() >= lastPageNumber * FIRST_POSSIBLE_INDEX_LINES_PAGE) {
+            for (TextLine line : page.getTextLines()) {
+                String text = line.getText();
+                score.numLines++;
+                score.containsLiteral |= text.strip().matches("[A-Z-a-z]");
+                if (INDEX_LINE_PATTERN.matcher(text).matches()) {
+                    score.numIndexLines++;
+                }
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Selects the pages after the first index heading: the page of the heading (if there is any
+     * block below the heading) and all following pages with text.
+     */
+    private List<Page> selectByHeading() {
+        List<Page> indexPages = new ArrayList<>();
+        boolean isIndexSection = false;
+        for (PageScore score : pageScores) {
+            if (isIndexSection) {
+                if (score.numBlocks > 0) {
+                    indexPages.add(score.page);
+                }
+            } else if (score.hasIndexHeading()) {
+                isIndexSection = true;
+                log.info("INDEX FOUND ON PAGE " + score.getPageNumber());
+                trace.add("index heading on page " + score.getPageNumber() + " (by "
+                        + (score.isHeadingByRole ? "semantic role" : "font size") + ")");
+                if (score.numBlocksAfterHeading > 0) {
+                    indexPages.add(score.page);
+                }
+            }
+        }
+        if (!indexPages.isEmpty()) {
+            trace.add("index pages by heading: " + getRange(indexPages));
+        }
+        return indexPages;
+    }
+
+    /**
+     * Selects the pages from the first page with many index lines on (and all following pages with
+     * enough lines).
+     */
+    private List<Page> selectByIndexLines(int lastPageNumber) {
+        List<Page> indexPages = new ArrayList<>();
+        boolean sectionFound = false;
+        for (PageScore score : pageScores) {
+            if (score.getPageNumber() < lastPageNumber * FIRST_POSSIBLE_INDEX_LINES_PAGE
+                    || score.numLines < MIN_NUM_LINES) {
+                continue;
+            }
+            if (sectionFound) {
+                indexPages.add(score.page);
+            } else if (score.getIndexLineRatio() > MIN_INDEX_LINE_RATIO && score.containsLiteral) {
+                sectionFound = true;
+                trace.add("index lines on page " + score.getPageNumber() + " (ratio "
+                        + String.format("%.2f", score.getIndexLineRatio()) + ")");
+                indexPages.add(score.page);
+            }
+        }
+        if (!indexPages.isEmpty()) {
+            trace.add("index pages by index lines: " + getRange(indexPages));
+        }
+        return indexPages;
+    }
+
+    /**
+     * Checks if the given text is an index heading (e.g. "Index", "Sachverzeichnis"). The whole text
+     * must be the heading, so index entries like "Register, 12" are no headings.
+     */
+    static boolean isIndexHeading(String text) {
+        return HeadingDictionary.getDefault().isExactHeading(text, SemanticRole.INDEX);
+    }
+
+    private String getRange(List<Page> pages) {
+        return pages.get(0).getPageNumber() + "-" + pages.get(pages.size() - 1).getPageNumber();
+    }
+
+    /**
+     * Returns the scores of the last pages of the PDF of the last search.
+     */
+    public List<PageScore> getPageScores() {
+        return pageScores;
+    }
+
+    /**
+     * Returns the decisions of the last search, in the order they were made.
+     */
+    public List<String> getTrace() {
+        return trace;
+    }
+
+    /**
+     * The signals of a single page.
+     */
+    public static class PageScore {
+        final Page page;
+        int numBlocks;
+        boolean isHeadingByRole;
+        boolean isHeadingByFontsize;
+        int numBlocksAfterHeading;
+        int numLines;
+        int numIndexLines;
+        boolean containsLiteral;
+
+        PageScore(Page page) {
+            this.page = page;
+        }
+
+        public int getPageNumber() {
+            return page.getPageNumber();
+        }
+
+        public boolean hasIndexHeading() {
+            return isHeadingByRole || isHeadingByFontsize;
+        }
+
+        public double getIndexLineRatio() {
+            return numLines == 0 ? 0 : (double) numIndexLines / numLines;
+        }
+
+        @Override
+        public String toString() {
+            return "PageScore(page: " + getPageNumber() + ", blocks: " + numBlocks + ", heading by role: "
+                    + isHeadingByRole + ", heading by font size: " + isHeadingByFontsize + ", lines: " + numLines
+                    + ", index lines: " + numIndexLines + ", literal: " + containsLiteral + ")";
+        }
+    }
+}
@@ -3,9 +3,15 @@ package pdfact.cli.pipes.serialize;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import pdfact.cli.model.ExtractionUnit;
+import pdfact.cli.util.exception.PdfActSerializeException;
 import pdfact.core.model.Character;
 import pdfact.core.model.*;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -47,6 +53,21 @@ public class PdfJsonSerializer implements PdfSerializer {
      */
     protected Set<Color> usedColors;
 
+    /**
+     * The writer to write the serialization to.
+     */
+    protected Writer writer;
+
+    /**
+     * The boolean flag indicating whether or not no member of the JSON object was written yet.
+     */
+    protected boolean isFirstMember;
+
+    /**
+     * The boolean flag indicating whether or not no element of the current array was written yet.
+     */
+    protected boolean isFirstElement;
+
     // ==============================================================================================
     // Constructors.
 
@@ -73,71 +94,76 @@ public class PdfJsonSerializer implements PdfSerializer {
     // ==============================================================================================
 
     @Override
-    public byte[] serialize(Document pdf) {
-        // The serialization to return.
-        String result = "";
+    public void serialize(Document pdf, OutputStream stream) throws PdfActSerializeException {
+        if (pdf == null) {
+            return;
+        }
 
-        if (pdf != null) {
-            // The JSON object to fill.
-            JSONObject json = new JSONObject();
+        this.writer = new BufferedWriter(new OutputStreamWriter(stream, DEFAULT_ENCODING));
+        this.isFirstMember = true;
+        try {
+            this.writer.write("{");
 
-            // Create the section that contains all serialized PDF elements.
-            serializePdfElements(pdf, json);
+            // Write the sections that contain all serialized PDF elements.
+            serializePdfElements(pdf);
 
-            // Create the section that contains the used fonts.
+            // Write the section that contains the used fonts.
             JSONArray fontsJson = serializeFonts(this.usedFonts);
             if (fontsJson != null && fontsJson.length() > 0) {
-                json.put(FONTS, fontsJson);
+                writeArray(FONTS, fontsJson);
             }
 
-            // Create the section that contains the used colors.
+            // Write the section that contains the used colors.
             JSONArray colorsJson = serializeColors(this.usedColors);
             if (colorsJson != null && colorsJson.length() > 0) {
-                json.put(COLORS, colorsJson);
+                writeArray(COLORS, colorsJson);
             }
 
-            // Create the section that contains the metadata about the used pages.
+            // Write the section that contains the metadata about the used pages.
             if (this.extractionUnits.contains(ExtractionUnit.PAGE)) {
                 JSONArray pagesJson = serializePages(pdf.getPages());
                 if (pagesJson != null && pagesJson.length() > 0) {
-                    json.put(PAGES, pagesJson);
+                    writeArray(PAGES, pagesJson);
                 }
             }
 
-            // Serialize the JSON object.
-            result = json.toString(INDENT_LENGTH);
+            this.writer.write(this.isFirstMember ? "}" : "\n}");
+            this.writer.flush();
+        } catch (IOException e) {
+            throw new PdfActSerializeException("Couldn't write the serialization.", e);
+        } finally {
+            this.writer = null;
         }
-        return result.getBytes(DEFAULT_ENCODING);
     }
 
     // ==============================================================================================
 
     /**
-     * Serializes the elements of the given PDF document.
+     * Serializes the elements of the given PDF document, one section per extraction unit.
      *
-     * @param pdf  The PDF document to process.
-     * @param json The JSON object to which the serialization should be appended.
+     * @param pdf The PDF document to process.
+     * @throws IOException If writing the serialization failed.
      */
-    public void serializePdfElements(Document pdf, JSONObject json) {
+    public void serializePdfElements(Document pdf) throws IOException {
         for (ExtractionUnit unit : this.extractionUnits) {
             switch (unit) {
                 case CHARACTER:
-                    serializeCharacters(pdf, json);
+                    serializeCharacters(pdf);
                     break;
                 case WORD:
-                    serializeWords(pdf, json);
+                    serializeWords(pdf);
                     break;
                 case TEXT_BLOCK:
-                    serializeTextBlocks(pdf, json);
+                    serializeTextBlocks(pdf);
                     break;
                 case PARAGRAPH:
-                    serializeParagraphs(pdf, json);
+                    serializeParagraphs(pdf);
                     break;
                 case FIGURE:
-                    serializeFigures(pdf, json);
+                    serializeFigures(pdf);
                     break;
                 case SHAPE:
-                    serializeShapes(pdf, json);
+                    serializeShapes(pdf);
                     break;
                 default:
                     break;
@@ -147,14 +173,81 @@ public class PdfJsonSerializer implements PdfSerializer {
 
     // ==============================================================================================
 
+    /**
+     * Writes the name of a member of the top-level JSON object.
+     *
+     * @param name The name of the member.
+     * @throws IOException If writing the name failed.
+     */
+    protected void writeMemberName(String name) throws IOException {
+        this.writer.write(this.isFirstMember ? "\n" : ",\n");
+        this.writer.write(PdfXmlSerializer.repeat(" ", INDENT_LENGTH));
+        this.writer.write(JSONObject.quote(name));
+        this.writer.write(": ");
+        this.isFirstMember = false;
+    }
+
+    /**
+     * Writes the given array as a member of the top-level JSON object.
+     *
+     * @param name  The name of the member.
+     * @param array The array to write.
+     * @throws IOException If writing the array failed.
+     */
+    protected void writeArray(String name, JSONArray array) throws IOException {
+        writeMemberName(name);
+        array.write(this.writer, INDENT_LENGTH, INDENT_LENGTH);
+    }
+
+    /**
+     * Starts an array member of the top-level JSON object, whose elements are written one by one
+     * with {@link #writeElement(JSONObject)}.
+     *
+     * @param name The name of the member.
+     * @throws IOException If writing the start of the array failed.
+     */
+    protected void startArray(String name) throws IOException {
+        writeMemberName(name);
+        this.writer.write("[");
+        this.isFirstElement = true;
+    }
+
+    /**
+     * Writes the given element of the current array.
+     *
+     * @param element The element to write.
+     * @throws IOException If writing the element failed.
+     */
+    protected void writeElement(JSONObject element) throws IOException {
+        this.writer.write(this.isFirstElement ? "\n" : ",\n");
+        this.writer.write(PdfXmlSerializer.repeat(" ", 2 * INDENT_LENGTH));
+        element.write(this.writer, INDENT_LENGTH, 2 * INDENT_LENGTH);
+        this.isFirstElement = false;
+    }
+
+    /**
+     * Ends the current array.
+     *
+     * @throws IOException If writing the end of the array failed.
+     */
+    protected void endArray() throws IOException {
+        if (!this.isFirstElement) {
+            this.writer.write("\n");
+            this.writer.write(PdfXmlSerializer.repeat(" ", INDENT_LENGTH));
+        }
+        this.writer.write("]");
+    }
+
+    // ==============================================================================================
+
     /**
      * Serializes the paragraphs of the given PDF document.
      *
-     * @param pdf  The PDF document to process.
-     * @param json The JSON object to which the serialization should be appended.
+     * @param pdf The PDF document to process.
+     * @throws IOException If writing the serialization failed.
      */
-    protected void serializeParagraphs(Document pdf, JSONObject json) {
-        JSONArray result = new JSONArray();
+    protected void serializeParagraphs(Document pdf) throws IOException {
+        startArray(PARAGRAPHS);
 
         if (pdf != null) {
             for (Paragraph paragraph : pdf.getParagraphs()) {
@@ -165,12 +258,12 @@ public class PdfJsonSerializer implements PdfSerializer {
 
                 JSONObject paragraphJson = serializeParagraph(paragraph);
                 if (paragraphJson != null) {
-                    result.put(paragraphJson);
+                    writeElement(paragraphJson);
                 }
             }
         }
 
-        json.put(PARAGRAPHS, result);
+        endArray();
     }
 
     /**
@@ -194,11 +287,11 @@ public class PdfJsonSerializer implements PdfSerializer {
     /**
      * Serializes the text blocks of the given PDF document.
      *
-     * @param pdf  The PDF document to process.
-     * @param json The JSON object to which the serialization should be appended.
+     * @param pdf The PDF document to process.
+     * @throws IOException If writing the serialization failed.
      */
-    protected void serializeTextBlocks(Document pdf, JSONObject json) {
-        JSONArray result = new JSONArray();
+    protected void serializeTextBlocks(Document pdf) throws IOException {
+        startArray(TEXT_BLOCKS);
 
         if (pdf != null) {
             for (Page page : pdf.getPages()) {
@@ -209,13 +302,13 @@ public class PdfJsonSerializer implements PdfSerializer {
                     }
                     JSONObject blockJson = serializeTextBlock(block);
                     if (blockJson != null) {
-                        result.put(blockJson);
+                        writeElement(blockJson);
                     }
                 }
             }
         }
 
-        json.put(TEXT_BLOCKS, result);
+        endArray();
     }
 
     /**
@@ -239,11 +332,11 @@ public class PdfJsonSerializer implements PdfSerializer {
     /**
      * Serializes the words of the given PDF document.
      *
-     * @param pdf  The PDF document to process.
-     * @param json The JSON object to which the serialization should be appended.
+     * @param pdf The PDF document to process.
+     * @throws IOException If writing the serialization failed.
      */
-    protected void serializeWords(Document pdf, JSONObject json) {
-        JSONArray result = new JSONArray();
+    protected void serializeWords(Document pdf) throws IOException {
+        startArray(WORDS);
 
         if (pdf != null) {
             for (Paragraph paragraph : pdf.getParagraphs()) {
@@ -255,13 +348,13 @@ public class PdfJsonSerializer implements PdfSerializer {
                 for (Word word : paragraph.getWords()) {
                     JSONObject wordJson = serializeWord(word);
                     if (wordJson != null) {
-                        result.put(wordJson);
+                        writeElement(wordJson);
                     }
                 }
             }
         }
 
-        json.put(WORDS, result);
+        endArray();
     }
 
     /**
@@ -285,11 +378,11 @@ public class PdfJsonSerializer implements PdfSerializer {
     /**
      * Serializes the characters of the given PDF document.
      *
-     * @param pdf  The PDF document to process.
-     * @param json The JSON object to which the serialization should be appended.
+     * @param pdf The PDF document to process.
+     * @throws IOException If writing the serialization failed.
      */
-    protected void serializeCharacters(Document pdf, JSONObject json) {
-        JSONArray result = new JSONArray();
+    protected void serializeCharacters(Document pdf) throws IOException {
+        startArray(CHARACTERS);
 
         if (pdf != null) {
             for (Paragraph paragraph : pdf.getParagraphs()) {
@@ -302,14 +395,14 @@ public class PdfJsonSerializer implements PdfSerializer {
                     for (Character character : word.getCharacters()) {
                         JSONObject characterJson = serializeCharacter(character);
                         if (characterJson != null) {
-                            result.put(characterJson);
+                            writeElement(characterJson);
                         }
                     }
                 }
             }
         }
 
-        json.put(CHARACTERS, result);
+        endArray();
     }
 
     /**
@@ -333,24 +426,24 @@ public class PdfJsonSerializer implements PdfSerializer {
     /**
      * Serializes the figures of the given PDF document.
      *
-     * @param pdf  The PDF document to process.
-     * @param json The JSON object to which the serialization should be appended.
+     * @param pdf The PDF document to process.
+     * @throws IOException If writing the serialization failed.
      */
-    protected void serializeFigures(Document pdf, JSONObject json) {
-        JSONArray result = new JSONArray();
+    protected void serializeFigures(Document pdf) throws IOException {
+        startArray(FIGURES);
 
         if (pdf != null) {
             for (Page page : pdf.getPages()) {
                 for (Figure figure : page.getFigures()) {
                     JSONObject figureJson = serializeFigure(figure);
                     if (figureJson != null) {
-                        result.put(figureJson);
+                        writeElement(figureJson);
                     }
                 }
             }
         }
 
-        json.put(FIGURES, result);
+        endArray();
     }
 
     /**
@@ -374,24 +467,24 @@ public class PdfJsonSerializer implements PdfSerializer {
     /**
      * Serializes the shapes of the given PDF document.
      *
-     * @param pdf  The PDF document to process.
-     * @param json The JSON object to which the serialization should be appended.
+     * @param pdf The PDF document to process.
+     * @throws IOException If writing the serialization failed.
      */
-    protected void serializeShapes(Document pdf, JSONObject json) {
-        JSONArray result = new JSONArray();
+    protected void serializeShapes(Document pdf) throws IOException {
+        startArray(SHAPES);
 
         if (pdf != null) {
             for (Page page : pdf.getPages()) {
                 for (Shape shape : page.getShapes()) {
                     JSONObject shapeJson = serializeShape(shape);
                     if (shapeJson != null) {
-                        result.put(shapeJson);
+                        writeElement(shapeJson);
                     }
                 }
             }
         }
 
-        json.put(SHAPES, result);
+        endArray();
     }
 
     /**
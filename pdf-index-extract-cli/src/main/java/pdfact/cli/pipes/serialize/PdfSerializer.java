@@ -5,6 +5,8 @@ import pdfact.core.model.Document;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.util.exception.PdfActException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.Set;
 
 /**
@@ -13,6 +15,17 @@ import java.util.Set;
  * @author Claudius Korzen
  */
 public interface PdfSerializer {
+    /**
+     * Serializes the given PDF document and writes the serialization incrementally to the given
+     * stream, such that the serialization is never held in memory as a whole. The stream is
+     * flushed, but not closed.
+     *
+     * @param pdf    The PDF document to serialize.
+     * @param stream The stream to write the serialization to.
+     * @throws PdfActException If the serilization failed.
+     */
+    void serialize(Document pdf, OutputStream stream) throws PdfActException;
+
     /**
      * Serializes the given PDF document.
      *
@@ -20,7 +33,11 @@ public interface PdfSerializer {
      * @return The serialization.
      * @throws PdfActException If the serilization failed.
      */
-    byte[] serialize(Document pdf) throws PdfActException;
+    default byte[] serialize(Document pdf) throws PdfActException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        serialize(pdf, stream);
+        return stream.toByteArray();
+    }
 
     // ==============================================================================================
 
@@ -1,13 +1,16 @@
 package pdfact.cli.pipes.serialize;
 
 import pdfact.cli.model.ExtractionUnit;
+import pdfact.cli.util.exception.PdfActSerializeException;
 import pdfact.core.model.Character;
 import pdfact.core.model.*;
-import pdfact.core.util.PdfActUtils;
 
-import java.util.ArrayList;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Set;
 
 import static pdfact.core.PdfActCoreSettings.DEFAULT_ENCODING;
@@ -56,10 +59,15 @@ public class PdfTxtSerializer implements PdfSerializer {
     protected Position prevPosition;
 
     /**
-     * The delimiter to use on joining the serialized elements.
+     * The delimiter to write after each serialized element.
      */
     protected static final String TYPES_DELIMITER = System.lineSeparator() + System.lineSeparator();
 
+    /**
+     * The writer to write the serialization to.
+     */
+    protected Writer writer;
+
     // ==============================================================================================
 
     /**
@@ -90,50 +98,56 @@ public class PdfTxtSerializer implements PdfSerializer {
     // ==============================================================================================
 
     @Override
-    public byte[] serialize(Document pdf) {
+    public void serialize(Document pdf, OutputStream stream) throws PdfActSerializeException {
         this.prevPosition = null;
 
-        // The serialization to return.
-        String result = "";
-
-        if (pdf != null) {
-            List<String> lines = new ArrayList<>();
-
-            // Create the section that contains all serialized PDF elements.
-            List<String> elementsLines = serializePdfElements(pdf);
-            if (elementsLines != null) {
-                lines.addAll(elementsLines);
-            }
-            lines.add("");
-
-            result = PdfActUtils.join(lines, TYPES_DELIMITER);
+        if (pdf == null) {
+            return;
         }
 
-        return result.getBytes(DEFAULT_ENCODING);
+        try {
+            this.writer = new BufferedWriter(new OutputStreamWriter(stream, DEFAULT_ENCODING));
+            // Write all serialized PDF elements.
+            serializePdfElements(pdf);
+            this.writer.flush();
+        } catch (IOException e) {
+            throw new PdfActSerializeException("Couldn't write the serialization.", e);
+        } finally {
+            this.writer = null;
+        }
     }
 
     /**
      * Serializes the elements of the given PDF document.
      *
      * @param pdf The PDF document to process.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializePdfElements(Document pdf) {
-        List<String> lines = new ArrayList<>();
+    protected void serializePdfElements(Document pdf) throws IOException {
         for (ExtractionUnit unit : this.extractionUnits) {
             switch (unit) {
                 case CHARACTER:
-                    lines.addAll(serializeCharacters(pdf));
+                    serializeCharacters(pdf);
                     break;
                 case WORD:
-                    lines.addAll(serializeWords(pdf));
+                    serializeWords(pdf);
                     break;
                 case PARAGRAPH:
                 default:
-                    lines.addAll(serializeParagraphs(pdf));
+                    serializeParagraphs(pdf);
             }
         }
-        return lines;
+    }
+
+    /**
+     * Writes the given serialized element, followed by the delimiter.
+     *
+     * @param element The serialized element.
+     * @throws IOException If writing the element failed.
+     */
+    protected void write(String element) throws IOException {
+        this.writer.write(element);
+        this.writer.write(TYPES_DELIMITER);
     }
 
     // ==============================================================================================
@@ -142,11 +156,9 @@ public class PdfTxtSerializer implements PdfSerializer {
      * Serializes the paragraphs of the given PDF document.
      *
      * @param pdf The PDF document to process.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializeParagraphs(Document pdf) {
-        List<String> result = new ArrayList<>();
-
+    protected void serializeParagraphs(Document pdf) throws IOException {
         if (pdf != null) {
             for (Paragraph paragraph : pdf.getParagraphs()) {
                 // Ignore the paragraph if its role should not be extracted.
@@ -169,11 +181,11 @@ public class PdfTxtSerializer implements PdfSerializer {
                         // break.
                         if (prevPosition != null && position != null) {
                             if (prevPosition.getPageNumber() != position.getPageNumber()) {
-                                result.add(java.lang.Character.toString(PAGE_BREAK_CONTROL_CHARACTER));
+                                write(java.lang.Character.toString(PAGE_BREAK_CONTROL_CHARACTER));
                             }
                         }
                     }
-                    result.add(paragraphStr);
+                    write(paragraphStr);
                 }
                 // Keep track of the position of this element, for deciding if a page break
                 // occured between
@@ -181,7 +193,6 @@ public class PdfTxtSerializer implements PdfSerializer {
                 this.prevPosition = position;
             }
         }
-        return result;
     }
 
     /**
@@ -200,11 +211,9 @@ public class PdfTxtSerializer implements PdfSerializer {
      * Serializes the words of the given PDF document.
      *
      * @param pdf The PDF document to process.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializeWords(Document pdf) {
-        List<String> result = new ArrayList<>();
-
+    protected void serializeWords(Document pdf) throws IOException {
         if (pdf != null) {
             for (Paragraph paragraph : pdf.getParagraphs()) {
                 // Ignore the paragraph if its role should not be extracted.
@@ -215,13 +224,11 @@ public class PdfTxtSerializer implements PdfSerializer {
                 for (Word word : paragraph.getWords()) {
                     String wordStr = serializeWord(word);
                     if (wordStr != null) {
-                        result.add(wordStr);
+                        write(wordStr);
                     }
                 }
             }
         }
-
-        return result;
     }
 
     /**
@@ -240,11 +247,9 @@ public class PdfTxtSerializer implements PdfSerializer {
      * Serializes the characters of the given PDF document.
      *
      * @param pdf The PDF document to process.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializeCharacters(Document pdf) {
-        List<String> result = new ArrayList<>();
-
+    protected void serializeCharacters(Document pdf) throws IOException {
         if (pdf != null) {
             for (Paragraph paragraph : pdf.getParagraphs()) {
                 // Ignore the paragraph if its role should not be extracted.
@@ -256,14 +261,12 @@ public class PdfTxtSerializer implements PdfSerializer {
                     for (Character character : word.getCharacters()) {
                         String characterStr = serializeCharacter(character);
                         if (characterStr != null) {
-                            result.add(characterStr);
+                            write(characterStr);
                         }
                     }
                 }
             }
         }
-
-        return result;
     }
 
     /**
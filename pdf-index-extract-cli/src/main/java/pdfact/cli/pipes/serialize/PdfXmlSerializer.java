@@ -5,8 +5,12 @@ import pdfact.cli.model.ExtractionUnit;
 import pdfact.cli.util.exception.PdfActSerializeException;
 import pdfact.core.model.Character;
 import pdfact.core.model.*;
-import pdfact.core.util.PdfActUtils;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.*;
 
 import static pdfact.cli.pipes.serialize.PdfSerializerConstants.*;
@@ -25,7 +29,7 @@ public class PdfXmlSerializer implements PdfSerializer {
     protected static final int INDENT_LENGTH = 2;
 
     /**
-     * The line delimiter to use on joining the individual lines.
+     * The line delimiter to write between the individual lines.
      */
     protected static final String LINE_DELIMITER = System.lineSeparator();
 
@@ -51,6 +55,16 @@ public class PdfXmlSerializer implements PdfSerializer {
      */
     protected Set<Color> usedColors;
 
+    /**
+     * The writer to write the serialization to.
+     */
+    protected Writer writer;
+
+    /**
+     * The boolean flag indicating whether or not no line was written yet.
+     */
+    protected boolean isFirstLine;
+
     // ==============================================================================================
     // Constructors.
 
@@ -77,59 +91,80 @@ public class PdfXmlSerializer implements PdfSerializer {
     // ==============================================================================================
 
     @Override
-    public byte[] serialize(Document pdf) throws PdfActSerializeException {
+    public void serialize(Document pdf, OutputStream stream) throws PdfActSerializeException {
         // The current indentation level.
         int level = 0;
-        // The serialization to return.
-        String result = "";
 
-        if (pdf != null) {
-            // The individual lines of the serialization.
-            List<String> resultLines = new ArrayList<>();
+        if (pdf == null) {
+            return;
+        }
 
+        this.writer = new BufferedWriter(new OutputStreamWriter(stream, DEFAULT_ENCODING));
+        this.isFirstLine = true;
+        try {
             // Start the XML document.
-            resultLines.add(start(DOCUMENT, level));
+            writeLine(start(DOCUMENT, level));
 
-            // Create the section that contains all serialized PDF elements.
-            List<String> elementsLines = serializePdfElements(level + 1, pdf);
-            if (elementsLines != null && !elementsLines.isEmpty()) {
-                resultLines.addAll(elementsLines);
-            }
+            // Write the section that contains all serialized PDF elements.
+            serializePdfElements(level + 1, pdf);
 
-            // Create the section that contains the used fonts.
+            // Write the section that contains the used fonts.
             List<String> fontsLines = serializeFonts(level + 2, this.usedFonts);
             if (fontsLines != null && !fontsLines.isEmpty()) {
-                resultLines.add(start(FONTS, level + 1));
-                resultLines.addAll(fontsLines);
-                resultLines.add(end(FONTS, level + 1));
+                writeLine(start(FONTS, level + 1));
+                writeLines(fontsLines);
+                writeLine(end(FONTS, level + 1));
             }
 
-            // Create the section that contains the used colors.
+            // Write the section that contains the used colors.
             List<String> colorsLines = serializeColors(level + 2, this.usedColors);
             if (colorsLines != null && !colorsLines.isEmpty()) {
-                resultLines.add(start(COLORS, level + 1));
-                resultLines.addAll(colorsLines);
-                resultLines.add(end(COLORS, level + 1));
+                writeLine(start(COLORS, level + 1));
+                writeLines(colorsLines);
+                writeLine(end(COLORS, level + 1));
             }
 
             if (this.extractionUnits.contains(ExtractionUnit.PAGE)) {
-                // Create the section that contains information about the pages.
-                List<String> pagesLines = serializePages(level + 2, pdf.getPages());
-                if (pagesLines != null && !pagesLines.isEmpty()) {
-                    resultLines.add(start(PAGES, level + 1));
-                    resultLines.addAll(pagesLines);
-                    resultLines.add(end(PAGES, level + 1));
-                }
+                // Write the section that contains information about the pages.
+                serializePages(level + 1, pdf.getPages());
             }
 
             // End the XML document.
-            resultLines.add(end(DOCUMENT, level));
+            writeLine(end(DOCUMENT, level));
+            this.writer.flush();
+        } catch (IOException e) {
+            throw new PdfActSerializeException("Couldn't write the serialization.", e);
+        } finally {
+            this.writer = null;
+        }
+    }
 
-            // Join the lines to a single string.
-            result = PdfActUtils.join(resultLines, LINE_DELIMITER);
+    /**
+     * Writes the given line, separated from the previous line by the line delimiter.
+     *
+     * @param line The line to write.
+     * @throws IOException If writing the line failed.
+     */
+    protected void writeLine(String line) throws IOException {
+        if (!this.isFirstLine) {
+            this.writer.write(LINE_DELIMITER);
         }
+        this.writer.write(line);
+        this.isFirstLine = false;
+    }
 
-        return result.getBytes(DEFAULT_ENCODING);
+    /**
+     * Writes the given lines.
+     *
+     * @param lines The lines to write, may be null.
+     * @throws IOException If writing the lines failed.
+     */
+    protected void writeLines(List<String> lines) throws IOException {
+        if (lines != null) {
+            for (String line : lines) {
+                writeLine(line);
+            }
+        }
     }
 
     // ==============================================================================================
@@ -139,32 +174,30 @@ public class PdfXmlSerializer implements PdfSerializer {
      *
      * @param level The current indentation level.
      * @param pdf   The PDF document to process.
-     * @return A list of strings that represent the serialized elements.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializePdfElements(int level, Document pdf) {
-        List<String> lines = new ArrayList<>();
+    protected void serializePdfElements(int level, Document pdf) throws IOException {
         for (ExtractionUnit unit : this.extractionUnits) {
             switch (unit) {
                 case CHARACTER:
-                    lines.addAll(serializeCharacters(level, pdf));
+                    serializeCharacters(level, pdf);
                     break;
                 case WORD:
-                    lines.addAll(serializeWords(level, pdf));
+                    serializeWords(level, pdf);
                     break;
                 case PARAGRAPH:
-                    lines.addAll(serializeParagraphs(level, pdf));
+                    serializeParagraphs(level, pdf);
                     break;
                 case FIGURE:
-                    lines.addAll(serializeFigures(level, pdf));
+                    serializeFigures(level, pdf);
                     break;
                 case SHAPE:
-                    lines.addAll(serializeShapes(level, pdf));
+                    serializeShapes(level, pdf);
                     break;
                 default:
                     break;
             }
         }
-        return lines;
     }
 
     // ==============================================================================================
@@ -174,13 +207,11 @@ public class PdfXmlSerializer implements PdfSerializer {
      *
      * @param level The current indentation level.
      * @param pdf   The PDF document to process.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializeParagraphs(int level, Document pdf) {
-        List<String> result = new ArrayList<>();
-
+    protected void serializeParagraphs(int level, Document pdf) throws IOException {
         if (pdf != null) {
-            result.add(start(PARAGRAPHS, level));
+            writeLine(start(PARAGRAPHS, level));
             for (Paragraph paragraph : pdf.getParagraphs()) {
                 // Ignore the paragraph if its role should not be extracted.
                 if (!hasRelevantRole(paragraph)) {
@@ -189,13 +220,11 @@ public class PdfXmlSerializer implements PdfSerializer {
 
                 List<String> paragraphLines = serializeParagraph(level + 1, paragraph);
                 if (paragraphLines != null) {
-                    result.addAll(paragraphLines);
+                    writeLines(paragraphLines);
                 }
             }
-            result.add(end(PARAGRAPHS, level));
+            writeLine(end(PARAGRAPHS, level));
         }
-
-        return result;
     }
 
     /**
@@ -224,13 +253,11 @@ public class PdfXmlSerializer implements PdfSerializer {
      *
      * @param level The current indentation level.
      * @param pdf   The PDF document to process.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializeWords(int level, Document pdf) {
-        List<String> result = new ArrayList<>();
-
+    protected void serializeWords(int level, Document pdf) throws IOException {
         if (pdf != null) {
-            result.add(start(WORDS, level));
+            writeLine(start(WORDS, level));
             for (Paragraph paragraph : pdf.getParagraphs()) {
                 // Ignore the paragraph if its role should not be extracted.
                 if (!hasRelevantRole(paragraph)) {
@@ -240,14 +267,12 @@ public class PdfXmlSerializer implements PdfSerializer {
                 for (Word word : paragraph.getWords()) {
                     List<String> wordLines = serializeWord(level + 1, word);
                     if (wordLines != null) {
-                        result.addAll(wordLines);
+                        writeLines(wordLines);
                     }
                 }
             }
-            result.add(end(WORDS, level));
+            writeLine(end(WORDS, level));
         }
-
-        return result;
     }
 
     /**
@@ -276,13 +301,11 @@ public class PdfXmlSerializer implements PdfSerializer {
      *
      * @param level The current indentation level.
      * @param pdf   The PDF document to process.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializeCharacters(int level, Document pdf) {
-        List<String> result = new ArrayList<>();
-
+    protected void serializeCharacters(int level, Document pdf) throws IOException {
         if (pdf != null) {
-            result.add(start(CHARACTERS, level));
+            writeLine(start(CHARACTERS, level));
             for (Paragraph paragraph : pdf.getParagraphs()) {
                 // Ignore the paragraph if its role should not be extracted.
                 if (!hasRelevantRole(paragraph)) {
@@ -293,15 +316,13 @@ public class PdfXmlSerializer implements PdfSerializer {
                     for (Character character : word.getCharacters()) {
                         List<String> characterLines = serializeCharacter(level + 1, character);
                         if (characterLines != null) {
-                            result.addAll(characterLines);
+                            writeLines(characterLines);
                         }
                     }
                 }
             }
-            result.add(end(CHARACTERS, level));
+            writeLine(end(CHARACTERS, level));
         }
-
-        return result;
     }
 
     /**
@@ -330,25 +351,21 @@ public class PdfXmlSerializer implements PdfSerializer {
      *
      * @param level The current indentation level.
      * @param pdf   The PDF document to process.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializeFigures(int level, Document pdf) {
-        List<String> result = new ArrayList<>();
-
+    protected void serializeFigures(int level, Document pdf) throws IOException {
         if (pdf != null) {
-            result.add(start(FIGURES, level));
+            writeLine(start(FIGURES, level));
             for (Page page : pdf.getPages()) {
                 for (Figure figure : page.getFigures()) {
                     List<String> figureLines = serializeFigure(level + 1, figure);
                     if (figureLines != null) {
-                        result.addAll(figureLines);
+                        writeLines(figureLines);
                     }
                 }
             }
-            result.add(end(FIGURES, level));
+            writeLine(end(FIGURES, level));
         }
-
-        return result;
     }
 
     /**
@@ -377,25 +394,21 @@ public class PdfXmlSerializer implements PdfSerializer {
      *
      * @param level The current indentation level.
      * @param pdf   The PDF document to process.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializeShapes(int level, Document pdf) {
-        List<String> result = new ArrayList<>();
-
+    protected void serializeShapes(int level, Document pdf) throws IOException {
         if (pdf != null) {
-            result.add(start(SHAPES, level));
+            writeLine(start(SHAPES, level));
             for (Page page : pdf.getPages()) {
                 for (Shape shape : page.getShapes()) {
                     List<String> shapeLines = serializeShape(level + 1, shape);
                     if (shapeLines != null) {
-                        result.addAll(shapeLines);
+                        writeLines(shapeLines);
                     }
                 }
             }
-            result.add(end(SHAPES, level));
+            writeLine(end(SHAPES, level));
         }
-
-        return result;
     }
 
     /**
@@ -710,37 +723,41 @@ public class PdfXmlSerializer implements PdfSerializer {
     // Methods to serialize the page information.
 
     /**
-     * Serializes the metadata of the given pages.
+     * Serializes the metadata of the given pages, wrapped in a section that describes the pages
+     * (if there is any page).
      *
-     * @param level The current indentation level.
+     * @param level The current indentation level of the section.
      * @param pages The pages to serialize.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializePages(int level, Page... pages) {
-        return serializePages(level, Arrays.asList(pages));
+    protected void serializePages(int level, Page... pages) throws IOException {
+        serializePages(level, Arrays.asList(pages));
     }
 
     /**
-     * Serializes the metadata of the given pages.
+     * Serializes the metadata of the given pages, wrapped in a section that describes the pages
+     * (if there is any page).
      *
-     * @param level The current indentation level.
+     * @param level The current indentation level of the section.
      * @param pages The pages to serialize.
-     * @return A list of strings that represent the lines of the serialization.
+     * @throws IOException If writing the serialization failed.
      */
-    protected List<String> serializePages(int level, List<Page> pages) {
-        List<String> result = new ArrayList<>();
-
+    protected void serializePages(int level, List<Page> pages) throws IOException {
+        boolean isSectionStarted = false;
         if (pages != null) {
             for (Page page : pages) {
                 if (page != null) {
-                    List<String> pageLines = serializePage(level, page);
-                    if (pageLines != null) {
-                        result.addAll(pageLines);
+                    if (!isSectionStarted) {
+                        writeLine(start(PAGES, level));
+                        isSectionStarted = true;
                     }
+                    writeLines(serializePage(level + 1, page));
                 }
             }
         }
-        return result;
+        if (isSectionStarted) {
+            writeLine(end(PAGES, level));
+        }
     }
 
     /**
@@ -9,6 +9,7 @@ import pdfact.core.model.Document;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.util.exception.PdfActException;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
@@ -116,49 +117,45 @@ public class PlainSerializePdfPipe implements SerializePdfPipe {
                 throw new PdfActSerializeException("Couldn't find a serializer for the format '" + this.format + "'.");
         }
 
-        // Serialize the PDF document.
-        byte[] serialization = serializer.serialize(pdf);
-
         // If the target is given as a stream, write the serialization it.
         if (this.targetStream != null) {
-            // writeToStream(serialization, this.targetStream);
+            // writeToStream(serializer, pdf, this.targetStream);
         }
 
         // If the target is given as a file, open it and write the serialization.
         if (this.targetPath != null) {
-            writeToPath(serialization, this.targetPath);
+            writeToPath(serializer, pdf, this.targetPath);
         }
     }
 
     /**
-     * Writes the given bytes to the given output stream.
+     * Serializes the given PDF document directly to the given output stream.
      *
-     * @param bytes  The bytes to write.
-     * @param stream The stream to write to.
-     * @throws PdfActSerializeException If something went wrong while writing the
-     *                                  bytes to the stream.
+     * @param serializer The serializer to use.
+     * @param pdf        The PDF document to serialize.
+     * @param stream     The stream to write to.
+     * @throws PdfActException If something went wrong while writing the
+     *                         serialization to the stream.
      */
-    protected void writeToStream(byte[] bytes, OutputStream stream) throws PdfActSerializeException {
-        try {
-            stream.write(bytes);
-        } catch (IOException e) {
-            throw new PdfActSerializeException("Couldn't write to output stream.", e);
-        }
+    protected void writeToStream(PdfSerializer serializer, Document pdf, OutputStream stream)
+            throws PdfActException {
+        serializer.serialize(pdf, stream);
     }
 
     /**
-     * Writes the given bytes to the given file.
+     * Serializes the given PDF document directly to the given file.
      *
-     * @param bytes The bytes to write.
-     * @param path  The file to write to.
-     * @throws PdfActSerializeException If something went wrong while writing the
-     *                                  bytes to the stream.
+     * @param serializer The serializer to use.
+     * @param pdf        The PDF document to serialize.
+     * @param path       The file to write to.
+     * @throws PdfActException If something went wrong while writing the
+     *                         serialization to the file.
      */
-    protected void writeToPath(byte[] bytes, Path path) throws PdfActSerializeException {
-        try (OutputStream os = Files.newOutputStream(path)) {
-            os.write(bytes);
+    protected void writeToPath(PdfSerializer serializer, Document pdf, Path path) throws PdfActException {
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(path))) {
+            serializer.serialize(pdf, os);
         } catch (IOException e) {
-            throw new PdfActSerializeException("Couldn't write to file.");
+            throw new PdfActSerializeException("Couldn't write to file.", e);
         }
     }
 
@@ -5,14 +5,17 @@ import pdfact.core.model.Rectangle;
 import pdfact.core.model.*;
 
 import java.awt.Color;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.IntPredicate;
 
 /**
  * An interface to draw into a PDF file.
  *
  * @author Claudius Korzen
  */
-public interface PdfDrawer {
+public interface PdfDrawer extends Closeable {
     /**
      * Draws the given line on the given page.
      *
@@ -494,4 +497,22 @@ public interface PdfDrawer {
      * @throws IOException If getting the bytes has failed.
      */
     byte[] toByteArray() throws IOException;
+
+    /**
+     * Writes the drawn PDF file to the given stream. The stream is flushed, but not closed.
+     *
+     * @param stream The stream to write to.
+     * @param pages  A predicate that tests if the page with a given (1-based) page number should
+     *               be included, or null if all pages should be included.
+     * @throws IOException If writing the PDF file failed.
+     */
+    void writeTo(OutputStream stream, IntPredicate pages) throws IOException;
+
+    /**
+     * Closes the PDF file, if it was loaded by this drawer.
+     *
+     * @throws IOException If closing the PDF file failed.
+     */
+    @Override
+    void close() throws IOException;
 }
@@ -5,7 +5,10 @@ import pdfact.cli.util.exception.PdfActVisualizeException;
 import pdfact.core.model.Document;
 import pdfact.core.model.SemanticRole;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.Set;
+import java.util.function.IntPredicate;
 
 /**
  * The interface for all concrete implementations to visualize the features of a
@@ -15,13 +18,27 @@ import java.util.Set;
  */
 public interface PdfVisualizer {
     /**
-     * Visualizes all features of the given document to the given stream.
+     * Visualizes all features of the given document and writes the visualization directly to the
+     * given stream. The stream is flushed, but not closed.
+     *
+     * @param pdf    The PDF document to process.
+     * @param stream The stream to write the visualization to.
+     * @throws PdfActVisualizeException If something went wrong while visualizing.
+     */
+    void visualize(Document pdf, OutputStream stream) throws PdfActVisualizeException;
+
+    /**
+     * Visualizes all features of the given document.
      *
      * @param pdf The PDF document to process.
      * @return the visualization.
      * @throws PdfActVisualizeException If something went wrong while visualizing.
      */
-    byte[] visualize(Document pdf) throws PdfActVisualizeException;
+    default byte[] visualize(Document pdf) throws PdfActVisualizeException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        visualize(pdf, stream);
+        return stream.toByteArray();
+    }
 
     // ==============================================================================================
 
@@ -54,4 +71,23 @@ public interface PdfVisualizer {
      * @param roles The semantic roles to include.
      */
     void setSemanticRolesToInclude(Set<SemanticRole> roles);
+
+    // ==============================================================================================
+
+    /**
+     * Returns the filter of the pages to visualize.
+     *
+     * @return A predicate that tests if the page with a given (1-based) page number should be
+     * visualized, or null if all pages are visualized.
+     */
+    IntPredicate getPageFilter();
+
+    /**
+     * Sets the filter of the pages to visualize. Pages that are not visualized are not included in
+     * the visualization.
+     *
+     * @param pages A predicate that tests if the page with a given (1-based) page number should be
+     *              visualized, or null if all pages should be visualized.
+     */
+    void setPageFilter(IntPredicate pages);
 }
@@ -12,9 +12,11 @@ import pdfact.core.model.*;
 
 import java.awt.Color;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.function.IntPredicate;
 
 /**
  * A plain implementation of {@link PdfVisualizer}.
@@ -32,6 +34,11 @@ public class PlainPdfVisualizer implements PdfVisualizer {
      */
     protected Set<SemanticRole> semanticRolesToInclude;
 
+    /**
+     * The filter of the pages to visualize, or null if all pages should be visualized.
+     */
+    protected IntPredicate pageFilter;
+
     // ==============================================================================================
     // Constructors.
 
@@ -49,10 +56,12 @@ public class PlainPdfVisualizer implements PdfVisualizer {
     // ==============================================================================================
 
     @Override
-    public byte[] visualize(Document pdf) throws PdfActVisualizeException {
+    public void visualize(Document pdf, OutputStream stream) throws PdfActVisualizeException {
         if (pdf != null) {
-            try {
-                PdfDrawer drawer = new PdfBoxDrawer(pdf.getFile());
+            // Draw into the PDF file kept open on parsing, if there is any.
+            try (PdfDrawer drawer = pdf.getPdDocument() != null
+                    ? new PdfBoxDrawer(pdf.getPdDocument())
+                    : new PdfBoxDrawer(pdf.getSource())) {
 
                 for (ExtractionUnit unit : this.extractionUnits) {
                     switch (unit) {
@@ -78,12 +87,11 @@ public class PlainPdfVisualizer implements PdfVisualizer {
                     }
                 }
 
-                return drawer.toByteArray();
+                drawer.writeTo(stream, this.pageFilter);
             } catch (IOException e) {
                 throw new PdfActVisualizeException("Error on visualization.", e);
             }
         }
-        return null;
     }
 
     // ==============================================================================================
@@ -402,6 +410,9 @@ public class PlainPdfVisualizer implements PdfVisualizer {
 
             if (page != null && rect != null) {
                 int pageNum = page.getPageNumber();
+                if (this.pageFilter != null && !this.pageFilter.test(pageNum)) {
+                    return;
+                }
                 try {
                     drawer.drawRectangle(rect, pageNum, color, null, 1f);
 
@@ -448,6 +459,18 @@ public class PlainPdfVisualizer implements PdfVisualizer {
 
     // ==============================================================================================
 
+    @Override
+    public IntPredicate getPageFilter() {
+        return this.pageFilter;
+    }
+
+    @Override
+    public void setPageFilter(IntPredicate pages) {
+        this.pageFilter = pages;
+    }
+
+    // ==============================================================================================
+
     /**
      * Checks if the semantic role of the given element is relevant, that is: if it
      * is included in this.semanticRolesToInclude.
@@ -8,11 +8,13 @@ import pdfact.core.model.Document;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.util.exception.PdfActException;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.function.IntPredicate;
 
 /**
  * A plain implementation of {@link VisualizePdfPipe}.
@@ -45,6 +47,11 @@ public class PlainVisualizePdfPipe implements VisualizePdfPipe {
      */
     protected Set<SemanticRole> roles;
 
+    /**
+     * The filter of the pages to visualize, or null if all pages should be visualized.
+     */
+    protected IntPredicate pageFilter;
+
     // ==============================================================================================
 
     @Override
@@ -75,52 +82,71 @@ public class PlainVisualizePdfPipe implements VisualizePdfPipe {
     protected void visualize(Document pdf) throws PdfActException {
         // Create the visualizer.
         PdfVisualizer visualizer = new PlainPdfVisualizer(this.extractionUnits, this.roles);
+        visualizer.setPageFilter(this.pageFilter);
 
-        // Serialize the PDF document.
-        byte[] visualization = visualizer.visualize(pdf);
+        // If the target is given as a file, open it and write the visualization.
+        if (this.targetPath != null) {
+            writeToFile(visualizer, pdf, this.targetPath);
 
-        // If the target is given as a stream, write the serialization it.
-        if (this.targetStream != null) {
-            writeToStream(visualization, this.targetStream);
+            // The PDF file was drawn into already, so copy the visualization from the file.
+            if (this.targetStream != null) {
+                copyToStream(this.targetPath, this.targetStream);
+            }
+            return;
         }
 
-        // If the target is given as a file, open it and write the serialization.
-        if (this.targetPath != null) {
-            writeToFile(visualization, this.targetPath);
+        // If the target is given as a stream, write the visualization to it.
+        if (this.targetStream != null) {
+            writeToStream(visualizer, pdf, this.targetStream);
         }
     }
 
     // ==============================================================================================
 
     /**
-     * Writes the given bytes to the given output stream.
+     * Visualizes the given PDF document directly to the given output stream.
      *
-     * @param bytes  The bytes to write.
-     * @param stream The stream to write to.
-     * @throws PdfActSerializeException If something went wrong while writing the
-     *                                  bytes to the stream.
+     * @param visualizer The visualizer to use.
+     * @param pdf        The PDF document to visualize.
+     * @param stream     The stream to write to.
+     * @throws PdfActException If something went wrong while writing the
+     *                         visualization to the stream.
      */
-    protected void writeToStream(byte[] bytes, OutputStream stream) throws PdfActSerializeException {
-        try {
-            stream.write(bytes);
+    protected void writeToStream(PdfVisualizer visualizer, Document pdf, OutputStream stream)
+            throws PdfActException {
+        visualizer.visualize(pdf, stream);
+    }
+
+    /**
+     * Visualizes the given PDF document directly to the given file.
+     *
+     * @param visualizer The visualizer to use.
+     * @param pdf        The PDF document to visualize.
+     * @param path       The file to write to.
+     * @throws PdfActException If something went wrong while writing the
+     *                         visualization to the file.
+     */
+    protected void writeToFile(PdfVisualizer visualizer, Document pdf, Path path) throws PdfActException {
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(path))) {
+            visualizer.visualize(pdf, os);
         } catch (IOException e) {
-            throw new PdfActSerializeException("Couldn't write to output stream.", e);
+            throw new PdfActSerializeException("Couldn't write to file.", e);
         }
     }
 
     /**
-     * Writes the given bytes to the given file.
+     * Copies the given file to the given output stream.
      *
-     * @param bytes The bytes to write.
-     * @param path  The file to write to.
+     * @param path   The file to copy.
+     * @param stream The stream to write to.
      * @throws PdfActSerializeException If something went wrong while writing the
-     *                                  bytes to the stream.
+     *                                  file to the stream.
      */
-    protected void writeToFile(byte[] bytes, Path path) throws PdfActSerializeException {
-        try (OutputStream os = Files.newOutputStream(path)) {
-            os.write(bytes);
+    protected void copyToStream(Path path, OutputStream stream) throws PdfActSerializeException {
+        try {
+            Files.copy(path, stream);
         } catch (IOException e) {
-            throw new PdfActSerializeException("Couldn't write to file.");
+            throw new PdfActSerializeException("Couldn't write to output stream.", e);
         }
     }
 
@@ -171,4 +197,16 @@ public class PlainVisualizePdfPipe implements VisualizePdfPipe {
     public void setTargetPath(Path path) {
         this.targetPath = path;
     }
+
+    // ==============================================================================================
+
+    @Override
+    public IntPredicate getPageFilter() {
+        return this.pageFilter;
+    }
+
+    @Override
+    public void setPageFilter(IntPredicate pages) {
+        this.pageFilter = pages;
+    }
 }
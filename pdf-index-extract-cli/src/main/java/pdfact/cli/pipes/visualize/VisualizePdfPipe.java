@@ -7,6 +7,7 @@ import pdfact.core.util.pipeline.Pipe;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.function.IntPredicate;
 
 /**
  * A pipe to visualize PDF documents.
@@ -75,4 +76,22 @@ public interface VisualizePdfPipe extends Pipe {
      * @param roles The semantic roles to include.
      */
     void setSemanticRolesToInclude(Set<SemanticRole> roles);
+
+    // ==============================================================================================
+
+    /**
+     * Returns the filter of the pages to visualize.
+     *
+     * @return A predicate that tests if the page with a given (1-based) page number should be
+     * visualized, or null if all pages are visualized.
+     */
+    IntPredicate getPageFilter();
+
+    /**
+     * Sets the filter of the pages to visualize (for example the index pages only).
+     *
+     * @param pages A predicate that tests if the page with a given (1-based) page number should be
+     *              visualized, or null if all pages should be visualized.
+     */
+    void setPageFilter(IntPredicate pages);
 }
@@ -13,10 +13,13 @@ import pdfact.core.model.*;
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntPredicate;
 
 /**
  * An implementation of PdfVisualizer using PdfBox.
@@ -55,7 +58,12 @@ public class PdfBoxDrawer implements PdfDrawer {
     protected PDDocument pdDocument;
 
     /**
-     * The cache of PDPageContentStream objects.
+     * Whether the PDF file was loaded by this drawer (and must be closed by it).
+     */
+    protected boolean isOwningPdDocument;
+
+    /**
+     * The cache of PDPageContentStream objects, created on the first drawing into a page.
      */
     protected List<PDPageContentStream> pageStreams = new ArrayList<>();
 
@@ -81,7 +89,30 @@ public class PdfBoxDrawer implements PdfDrawer {
      * @throws IOException If reading the PDF file failed.
      */
     public PdfBoxDrawer(File pdfFile) throws IOException {
-        this.pdDocument = PDDocument.load(pdfFile);
+        this(PDDocument.load(pdfFile));
+        this.isOwningPdDocument = true;
+    }
+
+    /**
+     * Creates a new visualizer from the given source of a PDF file.
+     *
+     * @param source The source of the PDF file to process.
+     * @throws IOException If reading the PDF file failed.
+     */
+    public PdfBoxDrawer(DocumentSource source) throws IOException {
+        this(source.load());
+        this.isOwningPdDocument = true;
+    }
+
+    /**
+     * Creates a new visualizer from the given PDDocument, which is already loaded (for example on
+     * parsing). The PDDocument is drawn into, but not closed by this visualizer.
+     *
+     * @param pdDocument The PDDocument.
+     * @throws IOException If parsing the PDDocument failed.
+     */
+    public PdfBoxDrawer(PDDocument pdDocument) throws IOException {
+        this.pdDocument = pdDocument;
 
         if (this.pdDocument == null) {
             throw new IllegalArgumentException("No PD document given");
@@ -101,10 +132,9 @@ public class PdfBoxDrawer implements PdfDrawer {
 
         this.pageStreams.add(null); // Add dummy, because pageNumbers are 1-based.
         this.pageBoundingBoxes.add(null);
-        // Preallocate the list of streams.
         for (PDPage page : pages) {
-            this.pageStreams
-                    .add(new PDPageContentStream(pdDocument, page, PDPageContentStream.AppendMode.APPEND, true));
+            // The content streams are created on demand, such that untouched pages stay untouched.
+            this.pageStreams.add(null);
 
             Rectangle boundingBox = new Rectangle();
 
@@ -123,16 +153,6 @@ public class PdfBoxDrawer implements PdfDrawer {
         }
     }
 
-    /**
-     * Creates a new visualizer from the given PDDocument.
-     *
-     * @param pdDocument The PDDocument.
-     * @throws IOException If parsing the PDDocument failed.
-     */
-    public PdfBoxDrawer(PDDocument pdDocument) throws IOException {
-
-    }
-
     // ==============================================================================================
 
     @Override
@@ -403,23 +423,45 @@ public class PdfBoxDrawer implements PdfDrawer {
     }
 
     @Override
-    public byte[] toByteArray() throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    public void writeTo(OutputStream stream, IntPredicate pages) throws IOException {
         try {
-            // Close all the open PDPageContentStream objects. Start at 1 because of
-            // the dummy at the start.
-            for (int i = 1; i < this.pageStreams.size(); i++) {
-                try {
-                    this.pageStreams.get(i).close();
-                } catch (IOException e) {
-                    continue;
+            closePageStreams();
+
+            // Remove the pages to exclude, from back to front to keep the indexes valid.
+            if (pages != null) {
+                PDPageTree pageTree = this.pdDocument.getPages();
+                for (int i = pageTree.getCount(); i > 0; i--) {
+                    if (!pages.test(i)) {
+                        pageTree.remove(i - 1);
+                    }
                 }
+                // The outline would still refer to (and thereby include) the removed pages.
+                this.pdDocument.getDocumentCatalog().setDocumentOutline(null);
             }
-            // Try to save the pdf document to the given file.
-            this.pdDocument.save(baos);
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new IOException("Error on visualization: " + e.getMessage());
+
+            // PDDocument.save() closes the stream, so shield it.
+            OutputStream shield = new FilterOutputStream(stream) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    this.out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+            this.pdDocument.save(shield);
+        } catch (IOException e) {
+            throw new IOException("Error on visualization: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public byte[] toByteArray() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try {
+            writeTo(baos, null);
         } finally {
             try {
                 // Try to close the pdf document.
@@ -431,17 +473,50 @@ public class PdfBoxDrawer implements PdfDrawer {
         return baos.toByteArray();
     }
 
+    @Override
+    public void close() throws IOException {
+        closePageStreams();
+        if (this.isOwningPdDocument) {
+            this.pdDocument.close();
+        }
+    }
+
     /**
-     * Returns the content stream for the given page.
+     * Closes all open content streams, such that the drawings are written to the pages.
+     */
+    protected void closePageStreams() {
+        // Start at 1 because of the dummy at the start.
+        for (int i = 1; i < this.pageStreams.size(); i++) {
+            PDPageContentStream stream = this.pageStreams.get(i);
+            if (stream != null) {
+                try {
+                    stream.close();
+                } catch (IOException e) {
+                    // Nothing to do.
+                }
+                this.pageStreams.set(i, null);
+            }
+        }
+    }
+
+    /**
+     * Returns the content stream for the given page and creates it if it doesn't exist yet.
      *
      * @param pageNum The number of page to process.
      * @return The content stream of the given page.
+     * @throws IOException If the content stream couldn't be created.
      */
-    protected PDPageContentStream getPdPageContentStream(int pageNum) {
+    protected PDPageContentStream getPdPageContentStream(int pageNum) throws IOException {
         if (pageNum < 1 || pageNum >= this.pageStreams.size()) {
             throw new IllegalArgumentException("The given page number is invalid.");
         }
-        return this.pageStreams.get(pageNum);
+        PDPageContentStream stream = this.pageStreams.get(pageNum);
+        if (stream == null) {
+            PDPage page = this.pdDocument.getPage(pageNum - 1);
+            stream = new PDPageContentStream(this.pdDocument, page, PDPageContentStream.AppendMode.APPEND, true);
+            this.pageStreams.set(pageNum, stream);
+        }
+        return stream;
     }
 
     /**
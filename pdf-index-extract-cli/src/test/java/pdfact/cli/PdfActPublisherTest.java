@@ -0,0 +1,140 @@
+package pdfact.cli;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import pdfact.cli.model.PdfActSignal;
+import pdfact.cli.model.PdfActSignal.DocumentSignal;
+import pdfact.cli.model.PdfActSignal.IndexSignal;
+import pdfact.cli.model.PdfActSignal.PageSignal;
+import pdfact.core.model.Page;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the publishing of the results of PdfAct.
+ */
+public class PdfActPublisherTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPublishWithBackPressure() throws Exception {
+        Path pdf = createPdf(3);
+
+        List<PdfActSignal> signals = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Throwable[] error = new Throwable[1];
+
+        new PdfAct().publish(pdf).subscribe(new Flow.Subscriber<PdfActSignal>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(PdfActSignal signal) {
+                signals.add(signal);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error[0] = throwable;
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        Assert.assertTrue(done.await(60, TimeUnit.SECONDS));
+        Assert.assertNull(error[0]);
+        Assert.assertEquals(5, signals.size());
+        Assert.assertTrue(signals.get(3) instanceof DocumentSignal);
+        List<Page> pages = ((DocumentSignal) signals.get(3)).getDocument().getPages();
+        Assert.assertEquals(3, pages.size());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(signals.get(i) instanceof PageSignal);
+            Page page = ((PageSignal) signals.get(i)).getPage();
+            Assert.assertEquals(i + 1, page.getPageNumber());
+            Assert.assertFalse(page.getTextBlocks().isEmpty());
+            // The page is published as a snapshot, before the semantic roles are detected.
+            Assert.assertNotSame(pages.get(i), page);
+            Assert.assertNotSame(pages.get(i).getTextBlocks().get(0), page.getTextBlocks().get(0));
+            Assert.assertNull(page.getTextBlocks().get(0).getSemanticRole());
+            Assert.assertNotNull(pages.get(i).getTextBlocks().get(0).getSemanticRole());
+            Assert.assertEquals(pages.get(i).getTextLines().get(0).getText(),
+                    page.getTextLines().get(0).getText());
+        }
+        Assert.assertTrue(signals.get(4) instanceof IndexSignal);
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        Path pdf = createPdf(3);
+
+        CountDownLatch received = new CountDownLatch(1);
+        new PdfAct().publish(pdf).subscribe(new Flow.Subscriber<PdfActSignal>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(PdfActSignal signal) {
+                subscription.cancel();
+                received.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        Assert.assertTrue(received.await(60, TimeUnit.SECONDS));
+    }
+
+    private Path createPdf(int numPages) throws IOException {
+        Path path = folder.newFile("test.pdf").toPath();
+        try (PDDocument doc = new PDDocument()) {
+            for (int i = 1; i <= numPages; i++) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+                try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                    stream.beginText();
+                    stream.setFont(PDType1Font.HELVETICA, 12);
+                    stream.newLineAtOffset(72, 700);
+                    stream.showText("This is the text of page " + i + ".");
+                    stream.endText();
+                }
+            }
+            doc.save(path.toFile());
+        }
+        return path;
+    }
+}
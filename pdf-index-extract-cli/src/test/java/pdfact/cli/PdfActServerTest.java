@@ -0,0 +1,123 @@
+package pdfact.cli;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the handling of the requests in flight by the server.
+ */
+public class PdfActServerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private PdfActServer server;
+
+    @After
+    public void tearDown() {
+        if (this.server != null) {
+            this.server.stop(0);
+        }
+    }
+
+    @Test
+    public void testTimeoutOfQueuedRequestReleasesPermit() throws Exception {
+        this.server = new PdfActServer();
+        this.server.start(0, 1, 2, 200);
+
+        // Keep the only worker busy, such that the request is queued until it times out.
+        CountDownLatch busy = new CountDownLatch(1);
+        this.server.workers.submit(() -> {
+            busy.await();
+            return null;
+        });
+
+        Path pdf = folder.newFile("queued.pdf").toPath();
+        Assert.assertEquals(504, extract(pdf));
+        busy.countDown();
+
+        // The cancelled request never runs, so its permit must be released by the handler.
+        for (int i = 0; i < 200 && this.server.permits.availablePermits() < 2; i++) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(2, this.server.permits.availablePermits());
+        Assert.assertEquals(1, this.server.getMetrics().getNumTimedOut());
+    }
+
+    @Test
+    public void testExtractFromBody() throws Exception {
+        this.server = new PdfActServer();
+        this.server.start(0, 1, 1, 0);
+
+        byte[] pdf;
+        try (PDDocument doc = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            doc.addPage(page);
+            try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                stream.beginText();
+                stream.setFont(PDType1Font.HELVETICA, 10);
+                stream.newLineAtOffset(72, 720);
+                stream.showText("Body text of the book.");
+                stream.endText();
+            }
+            doc.save(out);
+            pdf = out.toByteArray();
+        }
+
+        // The PDF is parsed from the received bytes.
+        URL url = new URL("http://localhost:" + this.server.getPort() + "/extract");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setReadTimeout((int) TimeUnit.SECONDS.toMillis(30));
+        try {
+            try (OutputStream os = connection.getOutputStream()) {
+                os.write(pdf);
+            }
+            Assert.assertEquals(200, connection.getResponseCode());
+            try (InputStream is = connection.getInputStream()) {
+                Assert.assertTrue(new String(is.readAllBytes(), StandardCharsets.UTF_8).contains("<"));
+            }
+        } finally {
+            connection.disconnect();
+        }
+        Assert.assertEquals(1, this.server.getMetrics().getNumSucceeded());
+    }
+
+    /**
+     * Requests the extraction of the index of the given local file.
+     *
+     * @return The status code of the response.
+     */
+    private int extract(Path pdf) throws IOException {
+        URL url = new URL("http://localhost:" + this.server.getPort() + "/extract?path="
+                + URLEncoder.encode(pdf.toString(), StandardCharsets.UTF_8));
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setReadTimeout((int) TimeUnit.SECONDS.toMillis(30));
+        try {
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
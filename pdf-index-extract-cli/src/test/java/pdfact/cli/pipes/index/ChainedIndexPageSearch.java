@@ -0,0 +1,148 @@
+package pdfact.cli.pipes.index;
+
+import pdfact.core.model.Document;
+import pdfact.core.model.Page;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.model.TextBlock;
+import pdfact.core.model.TextLine;
+import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.PositionOrder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The former chain of index page searches, which is replaced by {@link ScoreBasedIndexPageSearch}:
+ * the search by an index heading with the semantic role of a heading (or a font size above the
+ * average), the search by an index heading with a font size above the average, and the search by
+ * the pages with many lines that look like index entries, asked one after another. Kept as the
+ * reference for the equivalence test.
+ */
+public class ChainedIndexPageSearch implements IndexPageSearch {
+
+    public List<Page> extractIndexPages(Document pdf) {
+        List<Page> indexPages = extractIndexPagesByHeading(pdf, false);
+        if (indexPages.isEmpty()) {
+            indexPages = extractIndexPagesByHeading(pdf, true);
+        }
+        if (indexPages.isEmpty()) {
+            indexPages = extractIndexPagesByIndexLines(pdf);
+        }
+        return indexPages;
+    }
+
+    // ==============================================================================================
+    // The former HeadingBasedIndexPageSearch.
+
+    static List<Page> extractIndexPagesByHeading(Document pdf, boolean heuristicHeadingSearch) {
+
+        if (pdf == null) {
+            return Collections.emptyList();
+        }
+
+        boolean isIndexSection = false;
+        List<Page> pages = pdf.getPages();
+        ArrayList<Page> indexPages = new ArrayList<>();
+
+        // assume that a index will occur near the end of a pdf around last 30 % of it
+        int firstPossibleIndexPageNumber = (int) (pdf.getLastPage().getPageNumber() * 0.7);
+
+        if (pages == null) {
+            return Collections.emptyList();
+        }
+
+        for (Page page : pages) {
+            if (page == null) {
+                continue;
+            }
+            ElementList<TextBlock> blocks = page.getTextBlocks(PositionOrder.MIN_Y_DESCENDING);
+
+            for (TextBlock block : blocks) {
+                if (block == null) {
+                    continue;
+                }
+
+                int currentBlockPageNumber = block.getPosition().getPageNumber();
+
+                if (currentBlockPageNumber <= firstPossibleIndexPageNumber) {
+                    continue;
+                }
+
+                // add all lines of text which are relevant for the index extraction
+                if (isIndexSection) {
+                    indexPages.add(page);
+                    break;
+                } else if (!heuristicHeadingSearch && hasIndexHeadingBySemanticRole(block)) {
+                    isIndexSection = true;
+                    continue;
+                } else if (hasIndexHeadingByHeuristicFontDifference(block, pdf)) {
+                    isIndexSection = true;
+                    continue;
+                }
+
+            }
+        }
+
+        return indexPages;
+    }
+
+    private static boolean hasIndexHeadingBySemanticRole(TextBlock block) {
+        // Check for a heading with text index
+        String text = block.getText();
+        return ScoreBasedIndexPageSearch.isIndexHeading(text)
+                && block.getSemanticRole() == SemanticRole.HEADING && block.getSemanticRole() != SemanticRole.BODY_TEXT;
+    }
+
+    private static boolean hasIndexHeadingByHeuristicFontDifference(TextBlock block, Document pdf) {
+        // Check if block is heading with text index and if the fontsize is bigger than
+        // the average Fontsize
+        String text = block.getText();
+        return ScoreBasedIndexPageSearch.isIndexHeading(text) && block.getCharacterStatistic()
+                .getAverageFontsize() > pdf.getCharacterStatistic().getAverageFontsize();
+    }
+
+    // ==============================================================================================
+    // The former HeuristicBasedIndexPageSearch.
+
+    static List<Page> extractIndexPagesByIndexLines(Document pdf) {
+        int amountOfPossibleIndexLines = 0;
+        int amountOfLines = 0;
+        boolean sectionFound = false;
+        int totalNumberOfPages = pdf.getLastPage().getPageNumber();
+        List<Page> indexPages = new ArrayList<>();
+
+        for (Page p : pdf.getPages()) {
+            // Assume index is part of the last 20% of the pdf -> avoid finding table of
+            // contents as index-section
+            // Also we need to do the assumption here that more then 20 lines exists to
+            // avoid some special pages
+            if (p.getPageNumber() < totalNumberOfPages * 0.8 || p.getTextLines().size() < 20) {
+                amountOfLines = 0;
+                amountOfPossibleIndexLines = 0;
+                continue;
+            }
+            if (sectionFound)
+                indexPages.add(p);
+            else {
+                amountOfLines = (p.getTextLines().size());
+                boolean containsLiteral = false;
+                for (TextLine line : p.getTextLines()) {
+                    String text = line.getText();
+                    containsLiteral |= text.strip().matches("[A-Z-a-z]");
+
+                    boolean entryHasIndexStructure = ScoreBasedIndexPageSearch.INDEX_LINE_PATTERN.matcher(text).matches();
+                    if (entryHasIndexStructure)
+                        amountOfPossibleIndexLines++;
+                }
+                if (amountOfLines != 0 && ((double) amountOfPossibleIndexLines / amountOfLines) > 0.7 && containsLiteral) {
+                    sectionFound = true;
+                    indexPages.add(p);
+                }
+                amountOfLines = 0;
+                amountOfPossibleIndexLines = 0;
+            }
+        }
+        return indexPages;
+    }
+}
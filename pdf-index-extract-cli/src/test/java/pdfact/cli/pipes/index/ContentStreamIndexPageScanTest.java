@@ -0,0 +1,109 @@
+package pdfact.cli.pipes.index;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.util.pipeline.PageExecutor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntPredicate;
+
+/**
+ * Checks the prescan of the content streams for the index pages.
+ */
+public class ContentStreamIndexPageScanTest {
+
+    @Test
+    public void testIndexPageRange() throws Exception {
+        try (PDDocument doc = new PDDocument(); PageExecutor executor = PageExecutor.withParallelism(4)) {
+            for (int i = 1; i <= 10; i++) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+                try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                    if (i == 7) {
+                        // The index heading and index lines, drawn by the page.
+                        showLines(stream, "Index", 15);
+                    } else if (i == 8) {
+                        // More index lines, drawn by a form.
+                        stream.drawForm(createForm(doc, 15));
+                    } else {
+                        showLines(stream, "Body text of the book.", 0);
+                    }
+                }
+            }
+
+            ContentStreamIndexPageScan scan = new ContentStreamIndexPageScan(executor);
+            IntPredicate pages = scan.selectPages(doc);
+            Assert.assertNotNull(pages);
+            Assert.assertTrue(scan.getScores().get(6).hasIndexHeading());
+            Assert.assertEquals(16, scan.getScores().get(6).getNumLines());
+            Assert.assertEquals(15, scan.getScores().get(7).getNumIndexLines());
+            // The index pages 7-8, with a margin of one page.
+            Assert.assertFalse(pages.test(5));
+            Assert.assertTrue(pages.test(6));
+            Assert.assertTrue(pages.test(9));
+            Assert.assertFalse(pages.test(10));
+        }
+    }
+
+    @Test
+    public void testNoIndex() throws Exception {
+        try (PDDocument doc = new PDDocument()) {
+            for (int i = 1; i <= 4; i++) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+                try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                    showLines(stream, "Body text of the book.", 0);
+                }
+            }
+            Assert.assertNull(new ContentStreamIndexPageScan(PageExecutor.sequential()).selectPages(doc));
+        }
+    }
+
+    /**
+     * Shows the given first line, followed by the given number of index lines.
+     */
+    private static void showLines(PDPageContentStream stream, String firstLine, int numIndexLines)
+            throws IOException {
+        stream.beginText();
+        stream.setFont(PDType1Font.HELVETICA, 10);
+        stream.newLineAtOffset(72, 720);
+        stream.showText(firstLine);
+        for (int i = 0; i < numIndexLines; i++) {
+            stream.newLineAtOffset(0, -14);
+            stream.showText("Apfel, " + (i + 3));
+        }
+        stream.endText();
+    }
+
+    /**
+     * Creates a form that shows the given number of index lines.
+     */
+    private static PDFormXObject createForm(PDDocument doc, int numIndexLines) throws IOException {
+        PDResources resources = new PDResources();
+        COSName font = resources.add(PDType1Font.HELVETICA);
+
+        StringBuilder content = new StringBuilder("BT /" + font.getName() + " 10 Tf 72 720 Td\n");
+        for (int i = 0; i < numIndexLines; i++) {
+            content.append("(Birne, ").append(i + 7).append(") Tj 0 -14 Td\n");
+        }
+        content.append("ET\n");
+
+        PDFormXObject form = new PDFormXObject(doc);
+        form.setBBox(PDRectangle.LETTER);
+        form.setResources(resources);
+        try (OutputStream out = form.getContentStream().createOutputStream()) {
+            out.write(content.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+        return form;
+    }
+}
@@ -0,0 +1,108 @@
+package pdfact.cli.pipes.index;
+
+import pdfact.core.model.TextLine;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Compares the time and the allocated memory of the lexer-based transformation of index lines with
+ * the regex-based transformation. Run it with the paths to text files that contain the lines of
+ * real index pages (e.g. extracted by pdftotext -layout from the index pages of a book), one index
+ * line per line. Lines that start with whitespace or a dash are grouped with the previous line, as
+ * the indented lines on an index page. Without arguments, generated index lines are used.
+ */
+public class IndexLineLexerBenchmark {
+
+    private static final int NUM_ROUNDS = 20;
+
+    public static void main(String[] args) throws IOException {
+        List<List<TextLine>> entries = new ArrayList<>();
+        if (args.length == 0) {
+            entries.addAll(generateEntries(50000));
+        }
+        for (String arg : args) {
+            entries.addAll(readEntries(Files.readAllLines(Paths.get(arg), StandardCharsets.UTF_8)));
+        }
+        int numLines = entries.stream().mapToInt(List::size).sum();
+        System.out.println("Entries: " + entries.size() + ", lines: " + numLines);
+
+        for (int round = 0; round < NUM_ROUNDS; round++) {
+            boolean isLastRound = round == NUM_ROUNDS - 1;
+            run("regex", entries, numLines, l -> new RegexIndexEntryTransformation(l).apply(), isLastRound);
+            run("lexer", entries, numLines, l -> new IndexEntryTransformation(l).apply(), isLastRound);
+        }
+    }
+
+    private static void run(String name, List<List<TextLine>> entries, int numLines,
+                            Function<List<TextLine>, Object> transformation, boolean print) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytes = bean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int numResults = 0;
+        for (List<TextLine> lines : entries) {
+            if (transformation.apply(lines) != null) {
+                numResults++;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        bytes = bean.getThreadAllocatedBytes(threadId) - bytes;
+        if (print) {
+            System.out.printf("%s: %.1f ms, %.0f ns/line, %.0f bytes/line (%d results)%n", name, nanos / 1e6,
+                    (double) nanos / numLines, (double) bytes / numLines, numResults);
+        }
+    }
+
+    private static List<List<TextLine>> readEntries(List<String> texts) {
+        List<List<TextLine>> entries = new ArrayList<>();
+        for (String text : texts) {
+            if (text.isBlank()) {
+                continue;
+            }
+            boolean isContinuation = Character.isWhitespace(text.charAt(0)) || IndexLineLexer.startsWithDash(text);
+            if (!isContinuation || entries.isEmpty()) {
+                entries.add(new ArrayList<>());
+            }
+            TextLine line = new TextLine();
+            line.setText(text);
+            entries.get(entries.size() - 1).add(line);
+        }
+        return entries;
+    }
+
+    private static List<List<TextLine>> generateEntries(int numEntries) {
+        String[] words = {"Algebra", "lineare", "Abbildung", "Matrix", "Gau\u00DF\u2013Markov", "Theorem", "of", "the",
+                "Vektorraum", "Basis", "Determinante", "Eigenwert", "Kern", "Gruppe", "abelsche", "Ring"};
+        Random random = new Random(0);
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < numEntries; i++) {
+            int numSubentries = random.nextInt(5) == 0 ? 1 + random.nextInt(4) : 0;
+            for (int j = 0; j <= numSubentries; j++) {
+                StringBuilder text = new StringBuilder(j > 0 ? "  " : "");
+                for (int k = 0; k < 1 + random.nextInt(3); k++) {
+                    text.append(k > 0 ? " " : "").append(words[random.nextInt(words.length)]);
+                }
+                if (random.nextInt(10) == 0) {
+                    text.append(", siehe auch ").append(words[random.nextInt(words.length)]);
+                }
+                for (int k = 0; k < 1 + random.nextInt(4); k++) {
+                    int page = 1 + random.nextInt(600);
+                    text.append(", ").append(page);
+                    if (random.nextInt(5) == 0) {
+                        text.append("\u2013").append(page + 1 + random.nextInt(5));
+                    }
+                }
+                texts.add(text.toString());
+            }
+        }
+        return readEntries(texts);
+    }
+}
@@ -0,0 +1,140 @@
+package pdfact.cli.pipes.index;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.model.TextLine;
+import pdfact.core.util.IndexEntry;
+import pdfact.core.util.IndexLocator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static pdfact.cli.pipes.index.IndexLineLexer.TokenType.*;
+
+/**
+ * Checks the lexer and that the transformation of index lines gives the same entries as the
+ * regex-based transformation.
+ */
+public class IndexLineLexerTest {
+    /**
+     * The fragments of the generated lines.
+     */
+    static final String[] FRAGMENTS = {"Mandelbrot", "set", "mix", "Civil", "xii", "IV", "MCM", "c", "d", "v",
+            "siehe", "auch", "see also", "12", "3", "140", "0", ",", ", ", ",  ", " ", "  ", "\t", ".", "-", "\u2013",
+            "\u2014", "\uFF0D", "/", "\u00E4", "\n", "\u2028"};
+
+    @Test
+    public void testTokens() {
+        IndexLineLexer lexer = new IndexLineLexer();
+        lexer.lex("\u2013 Gauss-Markov, xii, 12\u201314, siehe auch Foo, 7");
+
+        IndexLineLexer.TokenType[] types = {DASH, PHRASE, ROMAN_LOCATOR, RANGE, PHRASE, CROSS_REFERENCE, PHRASE, LOCATOR};
+        String[] texts = {"\u2013", " Gauss-Markov", ", xii", ", 12\u201314", ", ", "siehe auch", " Foo", ", 7"};
+        Assert.assertEquals(types.length, lexer.getNumTokens());
+        for (int i = 0; i < types.length; i++) {
+            Assert.assertEquals(types[i], lexer.getType(i));
+            Assert.assertEquals(texts[i], lexer.getText(i));
+        }
+    }
+
+    @Test
+    public void testEquivalence() {
+        Random random = new Random(0);
+        for (int n = 0; n < 20000; n++) {
+            List<TextLine> lines = new ArrayList<>();
+            int numLines = 1 + random.nextInt(4);
+            for (int i = 0; i < numLines; i++) {
+                TextLine line = new TextLine();
+                line.setText(randomText(random));
+                lines.add(line);
+            }
+
+            Optional<IndexEntry> expected = new RegexIndexEntryTransformation(lines).apply();
+            Optional<IndexEntry> actual = new IndexEntryTransformation(lines).apply();
+            Assert.assertEquals(lines.toString(), expected.isPresent(), actual.isPresent());
+            if (expected.isPresent()) {
+                assertEquals(expected.get(), actual.get());
+            }
+
+            // The page numbers at the end of the phrase, without a comma.
+            String text = randomText(random);
+            IndexEntry expectedEntry = RegexIndexEntryTransformation.parsePageNumbers(new IndexEntry(), text,
+                    "([0-9-]+)$");
+            IndexEntry actualEntry = IndexEntryTransformation.parseTrailingPageNumbers(new IndexEntry(), text);
+            Assert.assertEquals(text, expectedEntry != null, actualEntry != null);
+            if (expectedEntry != null) {
+                assertEquals(expectedEntry, actualEntry);
+            }
+        }
+    }
+
+    @Test
+    public void testRomanNumerals() {
+        Pattern pattern = Pattern.compile("^(?i)(M{0,4}(CM|CD|D?C{0,3})(XC|XL|L?X{0,3})(IX|IV|V?I{0,3}))(,|\\s*)\\s+.*$");
+        Random random = new Random(0);
+        String alphabet = "MDCLXVImdclxvi ,\n\u2028a";
+        for (int n = 0; n < 100000; n++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(10);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            Assert.assertEquals(text.toString(), pattern.matcher(text).matches(),
+                    IndexLineLexer.startsWithRomanNumeral(text.toString()));
+        }
+    }
+
+    @Test
+    public void testPageNumbers() {
+        Assert.assertEquals(12, IndexLineLexer.parsePageNumber("12"));
+        Assert.assertEquals(12, IndexLineLexer.parsePageNumber("12-4"));
+        Assert.assertEquals(-1, IndexLineLexer.parsePageNumber("12-14"));
+        Assert.assertEquals(-1, IndexLineLexer.parsePageNumber(""));
+        Assert.assertEquals(-1, IndexLineLexer.parsePageNumber("xii"));
+        Assert.assertEquals(-1, IndexLineLexer.parsePageNumber("99999999999"));
+    }
+
+    @Test
+    public void testLocators() {
+        IndexLineLexer lexer = new IndexLineLexer();
+        lexer.lex("Mandelbrot set, 12-14, 7, 3--5");
+        List<IndexLocator> locators = new ArrayList<>();
+        for (int i = 0; i < lexer.getNumTokens(); i++) {
+            if (lexer.isLocator(i)) {
+                lexer.addLocators(i, locators);
+            }
+        }
+        Assert.assertEquals(List.of(IndexLocator.range(12, 14), IndexLocator.page(7), IndexLocator.page(3),
+                IndexLocator.page(5)), locators);
+
+        Assert.assertEquals(IndexLocator.range(12, 15), IndexLocator.parse("12-15"));
+        Assert.assertEquals(new IndexLocator(12, 12, false, true, false, false), IndexLocator.parse("XII"));
+        Assert.assertEquals(new IndexLocator(12, 12, false, false, false, true), IndexLocator.parse("12ff."));
+        Assert.assertEquals("12f.", IndexLocator.parse("12f.").getPageNumber(0));
+        Assert.assertNull(IndexLocator.parse("passim"));
+    }
+
+    // ==============================================================================================
+
+    static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int numFragments = random.nextInt(10);
+        for (int i = 0; i < numFragments; i++) {
+            text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return text.toString();
+    }
+
+    static void assertEquals(IndexEntry expected, IndexEntry actual) {
+        Assert.assertEquals(expected.getPhrase(), actual.getPhrase());
+        Assert.assertEquals(expected.getNumbers(), actual.getNumbers());
+        Assert.assertEquals(expected.getSubentries().size(), actual.getSubentries().size());
+        for (int i = 0; i < expected.getSubentries().size(); i++) {
+            assertEquals(expected.getSubentries().get(i), actual.getSubentries().get(i));
+        }
+    }
+}
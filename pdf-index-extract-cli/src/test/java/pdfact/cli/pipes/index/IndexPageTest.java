@@ -0,0 +1,91 @@
+package pdfact.cli.pipes.index;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import pdfact.cli.PdfAct;
+import pdfact.cli.pipes.PdfActListener;
+import pdfact.core.util.IndexEntry;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks the extraction of the entries of an index page.
+ */
+public class IndexPageTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testEntriesSpelledLikeHeadings() throws Exception {
+        Path pdf = createPdf("Apfel, 3", "Birne, 7", "Kirsche, 12", "Pflaume, 21", "Register, 12, 45",
+                "Konkordanz, 33", "Subject index, 3", "Traube, 8", "Zitrone, 19", "Zwetschge, 40");
+
+        List<IndexEntry> entries = new ArrayList<>();
+        new PdfAct().parse(pdf, new PdfActListener() {
+            @Override
+            public void indexExtracted(List<IndexEntry> extracted) {
+                entries.addAll(extracted);
+            }
+        });
+
+        List<String> phrases = new ArrayList<>();
+        entries.forEach(entry -> phrases.add(entry.getPhrase()));
+        Assert.assertTrue(phrases.toString(), phrases.containsAll(Arrays.asList("Register", "Konkordanz",
+                "Subject index")));
+        Assert.assertEquals(10, phrases.size());
+        Assert.assertEquals(Arrays.asList("12", "45"), entries.get(phrases.indexOf("Register")).getNumbers());
+    }
+
+    /**
+     * Creates a PDF with some pages of body text, followed by an index page with the given lines.
+     */
+    private Path createPdf(String... indexLines) throws IOException {
+        Path path = folder.newFile("index.pdf").toPath();
+        try (PDDocument doc = new PDDocument()) {
+            for (int i = 0; i < 3; i++) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+                try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                    stream.beginText();
+                    stream.setFont(PDType1Font.HELVETICA, 11);
+                    stream.newLineAtOffset(72, 700);
+                    for (int j = 0; j < 30; j++) {
+                        stream.showText("Body text of the book with some words on line " + j);
+                        stream.newLineAtOffset(0, -14);
+                    }
+                    stream.endText();
+                }
+            }
+            PDPage page = new PDPage();
+            doc.addPage(page);
+            try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                stream.beginText();
+                stream.setFont(PDType1Font.HELVETICA_BOLD, 20);
+                stream.newLineAtOffset(72, 720);
+                stream.showText("Index");
+                stream.endText();
+                stream.beginText();
+                stream.setFont(PDType1Font.HELVETICA, 10);
+                stream.newLineAtOffset(72, 680);
+                for (String line : indexLines) {
+                    stream.showText(line);
+                    stream.newLineAtOffset(0, -13);
+                }
+                stream.endText();
+            }
+            doc.save(path.toFile());
+        }
+        return path;
+    }
+}
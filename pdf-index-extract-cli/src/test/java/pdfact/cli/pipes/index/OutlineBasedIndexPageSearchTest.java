@@ -0,0 +1,79 @@
+package pdfact.cli.pipes.index;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDPageFitDestination;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Checks the search of the index pages in the outline of a PDF.
+ */
+public class OutlineBasedIndexPageSearchTest {
+
+    @Test
+    public void testIndexPageRange() throws Exception {
+        try (PDDocument doc = createPdf(6)) {
+            PDDocumentOutline outline = doc.getDocumentCatalog().getDocumentOutline();
+            outline.addLast(createItem(doc, "1 Introduction", 0));
+            outline.addLast(createItem(doc, "Sachverzeichnis", 3));
+            outline.addLast(createItem(doc, "Bibliography", 5));
+
+            IntPredicate pages = new OutlineBasedIndexPageSearch().selectPages(doc);
+            Assert.assertNotNull(pages);
+            Assert.assertFalse(pages.test(3));
+            Assert.assertTrue(pages.test(4));
+            Assert.assertTrue(pages.test(5));
+            Assert.assertFalse(pages.test(6));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testCyclicOutline() throws Exception {
+        try (PDDocument doc = createPdf(6)) {
+            PDDocumentOutline outline = doc.getDocumentCatalog().getDocumentOutline();
+            PDOutlineItem chapter = createItem(doc, "1 Introduction", 0);
+            PDOutlineItem index = createItem(doc, "Index", 3);
+            outline.addLast(chapter);
+            outline.addLast(index);
+            // The index points back to the chapter as its next sibling, the chapter to itself as child.
+            index.getCOSObject().setItem(COSName.NEXT, chapter.getCOSObject());
+            chapter.getCOSObject().setItem(COSName.FIRST, chapter.getCOSObject());
+
+            IntPredicate pages = new OutlineBasedIndexPageSearch().selectPages(doc);
+            Assert.assertNotNull(pages);
+            Assert.assertTrue(pages.test(4));
+            Assert.assertTrue(pages.test(6));
+            Assert.assertFalse(pages.test(3));
+        }
+    }
+
+    /**
+     * Creates a PDF with the given number of empty pages and an empty outline.
+     */
+    private static PDDocument createPdf(int numPages) {
+        PDDocument doc = new PDDocument();
+        for (int i = 0; i < numPages; i++) {
+            doc.addPage(new PDPage());
+        }
+        doc.getDocumentCatalog().setDocumentOutline(new PDDocumentOutline());
+        return doc;
+    }
+
+    /**
+     * Creates an outline item with the given title that points to the page with the given index.
+     */
+    private static PDOutlineItem createItem(PDDocument doc, String title, int pageIndex) {
+        PDPageFitDestination destination = new PDPageFitDestination();
+        destination.setPage(doc.getPage(pageIndex));
+        PDOutlineItem item = new PDOutlineItem();
+        item.setTitle(title);
+        item.setDestination(destination);
+        return item;
+    }
+}
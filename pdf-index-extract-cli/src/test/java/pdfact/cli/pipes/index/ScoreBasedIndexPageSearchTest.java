@@ -0,0 +1,122 @@
+package pdfact.cli.pipes.index;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.model.CharacterStatistic;
+import pdfact.core.model.Document;
+import pdfact.core.model.DocumentSource;
+import pdfact.core.model.Page;
+import pdfact.core.model.Position;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.model.TextBlock;
+import pdfact.core.model.TextLine;
+import pdfact.core.util.counter.FloatHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks that the score-based search finds the same index pages as the former chain of searches.
+ */
+public class ScoreBasedIndexPageSearchTest {
+    /**
+     * The texts of the generated text blocks.
+     */
+    static final String[] BLOCK_TEXTS = {"Index", "Sachverzeichnis", "Register", "Stichwortverzeichnis",
+            "Register, 12", "Index of the book", "Body text of the book.", "Apfel, 3", "12 Index"};
+
+    /**
+     * The texts of the generated text lines.
+     */
+    static final String[] LINE_TEXTS = {"Apfel, 3", "Birne 7, 12", "Kirsche . . . 21", "Pflaume; Zwetschge 4",
+            "A", "b", "Body text of the book.", "Index", "12", "Traube, 8, 19, 40"};
+
+    /**
+     * The semantic roles of the generated text blocks.
+     */
+    static final SemanticRole[] ROLES = {SemanticRole.HEADING, SemanticRole.BODY_TEXT, null};
+
+    @Test
+    public void testEquivalence() {
+        Random random = new Random(0);
+        int numNotFound = 0;
+        int numFoundByHeading = 0;
+        int numFoundByIndexLines = 0;
+        for (int n = 0; n < 5000; n++) {
+            Document pdf = randomDocument(random);
+
+            ScoreBasedIndexPageSearch search = new ScoreBasedIndexPageSearch();
+            List<Page> expected = new ChainedIndexPageSearch().extractIndexPages(pdf);
+            List<Page> actual = search.extractIndexPages(pdf);
+            Assert.assertEquals("document " + n, getPageNumbers(expected), getPageNumbers(actual));
+
+            String decision = search.getTrace().get(search.getTrace().size() - 1);
+            if (decision.startsWith("index pages by heading")) {
+                numFoundByHeading++;
+            } else if (decision.startsWith("index pages by index lines")) {
+                numFoundByIndexLines++;
+            } else {
+                numNotFound++;
+            }
+        }
+        // All decisions must be covered.
+        Assert.assertTrue(numNotFound > 250);
+        Assert.assertTrue(numFoundByHeading > 250);
+        Assert.assertTrue(numFoundByIndexLines > 250);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Creates a document with random pages, whose last pages are likely to contain index headings
+     * and index lines.
+     */
+    static Document randomDocument(Random random) {
+        Document pdf = new Document((DocumentSource) null);
+        pdf.setCharacterStatistic(characterStatistic(10));
+
+        int numPages = 1 + random.nextInt(30);
+        for (int i = 1; i <= numPages; i++) {
+            Page page = new Page(i);
+            int numBlocks = random.nextInt(5);
+            for (int j = 0; j < numBlocks; j++) {
+                TextBlock block = new TextBlock();
+                block.setText(BLOCK_TEXTS[random.nextInt(BLOCK_TEXTS.length)]);
+                block.setSemanticRole(ROLES[random.nextInt(ROLES.length)]);
+                block.setCharacterStatistic(characterStatistic(8 + random.nextInt(5)));
+                float minY = random.nextInt(700);
+                block.setPosition(new Position(page, 72, minY, 500, minY + 12));
+                page.addTextBlock(block);
+            }
+            // Pages with few lines, with many index lines or with mixed lines.
+            int numLines = random.nextBoolean() ? random.nextInt(25) : 20 + random.nextInt(20);
+            int numBodyLines = random.nextBoolean() ? 0 : random.nextInt(numLines + 1);
+            for (int j = 0; j < numLines; j++) {
+                TextLine line = new TextLine();
+                line.setText(j < numBodyLines ? LINE_TEXTS[random.nextInt(LINE_TEXTS.length)]
+                        : LINE_TEXTS[random.nextInt(6)]);
+                page.addTextLine(line);
+            }
+            pdf.addPage(page);
+        }
+        return pdf;
+    }
+
+    /**
+     * Creates a character statistic with the given font size.
+     */
+    static CharacterStatistic characterStatistic(float fontsize) {
+        FloatHistogram fontsizes = new FloatHistogram();
+        fontsizes.add(fontsize);
+        CharacterStatistic statistic = new CharacterStatistic();
+        statistic.setFontSizeFrequencies(fontsizes);
+        return statistic;
+    }
+
+    static List<Integer> getPageNumbers(List<Page> pages) {
+        List<Integer> pageNumbers = new ArrayList<>();
+        pages.forEach(page -> pageNumbers.add(page.getPageNumber()));
+        return pageNumbers;
+    }
+}
@@ -0,0 +1,156 @@
+package pdfact.cli.pipes.serialize;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import pdfact.cli.PdfAct;
+import pdfact.cli.model.ExtractionUnit;
+import pdfact.core.model.Document;
+import pdfact.core.model.Paragraph;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.model.Word;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checks that the serializations written to a stream can be read back, with the same texts.
+ */
+public class PdfSerializerTest {
+    /**
+     * The lines of the test PDF, with characters that need to be escaped in XML and JSON.
+     */
+    static final String[] LINES = {"Apfel & Birne <Kirsche> \"Zitat\" 'M\u00fcller'",
+            "C:\\Programme\\Obst, Seite 12."};
+
+    /**
+     * The units to serialize.
+     */
+    static final Set<ExtractionUnit> UNITS = new LinkedHashSet<>(
+            Arrays.asList(ExtractionUnit.PARAGRAPH, ExtractionUnit.WORD));
+
+    /**
+     * The roles to serialize.
+     */
+    static final Set<SemanticRole> ROLES = EnumSet.allOf(SemanticRole.class);
+
+    /**
+     * The parsed test PDF.
+     */
+    static Document pdf;
+
+    @BeforeClass
+    public static void parsePdf() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PDDocument doc = new PDDocument()) {
+            PDPage page = new PDPage();
+            doc.addPage(page);
+            try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                stream.beginText();
+                stream.setFont(PDType1Font.HELVETICA, 10);
+                stream.newLineAtOffset(72, 720);
+                for (String line : LINES) {
+                    stream.showText(line);
+                    stream.newLineAtOffset(0, -12);
+                }
+                stream.endText();
+            }
+            doc.save(out);
+            pdf = new PdfAct().parse(out.toByteArray());
+        }
+        // The texts to compare contain the characters to escape.
+        Assert.assertTrue(getWordTexts().containsAll(Arrays.asList(
+                "&", "<Kirsche>", "\"Zitat\"", "'M\u00fcller'", "C:\\Programme\\Obst,")));
+    }
+
+    @Test
+    public void testXmlRoundTrip() throws Exception {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new PdfXmlSerializer(UNITS, ROLES).serialize(pdf, stream);
+
+        org.w3c.dom.Document xml = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(stream.toByteArray()));
+        Assert.assertEquals(getParagraphTexts(), getXmlTexts(xml, "paragraph"));
+        Assert.assertEquals(getWordTexts(), getXmlTexts(xml, "word"));
+    }
+
+    @Test
+    public void testJsonRoundTrip() throws Exception {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new PdfJsonSerializer(UNITS, ROLES).serialize(pdf, stream);
+
+        JSONObject json = new JSONObject(new String(stream.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertEquals(getParagraphTexts(), getJsonTexts(json, "paragraphs", "paragraph"));
+        Assert.assertEquals(getWordTexts(), getJsonTexts(json, "words", "word"));
+    }
+
+    @Test
+    public void testStreamIsNotClosed() throws Exception {
+        // The serialization is written to the given stream, which stays open for more output.
+        ByteArrayOutputStream stream = new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+                Assert.fail("The stream must not be closed.");
+            }
+        };
+        new PdfXmlSerializer(UNITS, ROLES).serialize(pdf, stream);
+        new PdfJsonSerializer(UNITS, ROLES).serialize(pdf, stream);
+        Assert.assertTrue(stream.size() > 0);
+    }
+
+    // ==============================================================================================
+
+    private static List<String> getParagraphTexts() {
+        List<String> texts = new ArrayList<>();
+        for (Paragraph paragraph : pdf.getParagraphs()) {
+            texts.add(paragraph.getText());
+        }
+        return texts;
+    }
+
+    private static List<String> getWordTexts() {
+        List<String> texts = new ArrayList<>();
+        for (Paragraph paragraph : pdf.getParagraphs()) {
+            for (Word word : paragraph.getWords()) {
+                texts.add(word.getText());
+            }
+        }
+        return texts;
+    }
+
+    private static List<String> getXmlTexts(org.w3c.dom.Document xml, String tag) {
+        List<String> texts = new ArrayList<>();
+        NodeList elements = xml.getElementsByTagName(tag);
+        for (int i = 0; i < elements.getLength(); i++) {
+            Element element = (Element) elements.item(i);
+            texts.add(element.getElementsByTagName("text").item(0).getTextContent());
+        }
+        return texts;
+    }
+
+    private static List<String> getJsonTexts(JSONObject json, String arrayName, String name) {
+        List<String> texts = new ArrayList<>();
+        JSONArray array = json.getJSONArray(arrayName);
+        for (int i = 0; i < array.length(); i++) {
+            texts.add(array.getJSONObject(i).getJSONObject(name).getString("text"));
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,94 @@
+package pdfact.cli.pipes.visualize;
+
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.cli.PdfAct;
+import pdfact.cli.model.ExtractionUnit;
+import pdfact.core.model.Document;
+import pdfact.core.model.SemanticRole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Checks that the visualizer draws into and writes only the selected pages.
+ */
+public class PlainPdfVisualizerTest {
+
+    @Test
+    public void testPageFilter() throws Exception {
+        byte[] bytes = createPdf(3);
+        Document pdf = new PdfAct().parse(bytes);
+
+        try (PDDocument doc = PDDocument.load(bytes)) {
+            pdf.setPdDocument(doc);
+            // Keep the pages, since the unselected pages are removed from the document on writing.
+            List<PDPage> pages = new ArrayList<>();
+            doc.getPages().forEach(pages::add);
+
+            PdfVisualizer visualizer = new PlainPdfVisualizer(
+                    Collections.singleton(ExtractionUnit.PARAGRAPH),
+                    EnumSet.allOf(SemanticRole.class));
+            visualizer.setPageFilter(pageNum -> pageNum == 2);
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            visualizer.visualize(pdf, stream);
+
+            Assert.assertEquals(0, countRectangles(pages.get(0)));
+            Assert.assertTrue(countRectangles(pages.get(1)) > 0);
+            Assert.assertEquals(0, countRectangles(pages.get(2)));
+
+            try (PDDocument visualization = PDDocument.load(stream.toByteArray())) {
+                Assert.assertEquals(1, visualization.getNumberOfPages());
+                Assert.assertTrue(countRectangles(visualization.getPage(0)) > 0);
+                String text = new PDFTextStripper().getText(visualization);
+                Assert.assertTrue(text.contains("Seite 2"));
+                Assert.assertFalse(text.contains("Seite 1"));
+                Assert.assertFalse(text.contains("Seite 3"));
+            }
+        }
+    }
+
+    // ==============================================================================================
+
+    private static byte[] createPdf(int numPages) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PDDocument doc = new PDDocument()) {
+            for (int i = 1; i <= numPages; i++) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+                try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                    stream.beginText();
+                    stream.setFont(PDType1Font.HELVETICA, 10);
+                    stream.newLineAtOffset(72, 720);
+                    stream.showText("Dies ist der Text auf Seite " + i + ".");
+                    stream.endText();
+                }
+            }
+            doc.save(out);
+        }
+        return out.toByteArray();
+    }
+
+    private static int countRectangles(PDPage page) throws IOException {
+        PDFStreamParser parser = new PDFStreamParser(page);
+        parser.parse();
+        int numRectangles = 0;
+        for (Object token : parser.getTokens()) {
+            if (token instanceof Operator && "re".equals(((Operator) token).getName())) {
+                numRectangles++;
+            }
+        }
+        return numRectangles;
+    }
+}
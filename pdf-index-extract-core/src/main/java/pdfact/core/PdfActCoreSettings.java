@@ -35,4 +35,12 @@ public class PdfActCoreSettings {
      * The field delimiter in the AFM file.
      */
     public static final String AFM_FILE_FIELD_DELIMITER = "\t";
+
+    // ==============================================================================================
+
+    /**
+     * The path to the file with the known section headings. All files with this path on the
+     * classpath are merged, so further headings can be added by an additional resource.
+     */
+    public static final String HEADINGS_FILE_PATH = "headings.txt";
 }
@@ -1,6 +1,6 @@
 package pdfact.core.model;
 
-import pdfact.core.util.counter.FloatCounter;
+import pdfact.core.util.counter.FloatHistogram;
 import pdfact.core.util.counter.ObjectCounter;
 
 /**
@@ -12,27 +12,27 @@ public class CharacterStatistic {
     /**
      * The height frequencies.
      */
-    protected FloatCounter heightFrequencies;
+    protected FloatHistogram heightFrequencies = new FloatHistogram();
 
     /**
      * The width frequencies.
      */
-    protected FloatCounter widthFrequencies;
+    protected FloatHistogram widthFrequencies = new FloatHistogram();
 
     /**
      * The font face frequencies.
      */
-    protected ObjectCounter<FontFace> fontFaceFrequencies;
+    protected ObjectCounter<FontFace> fontFaceFrequencies = new ObjectCounter<>();
 
     /**
      * The font size frequencies.
      */
-    protected FloatCounter fontsizeFrequencies;
+    protected FloatHistogram fontsizeFrequencies = new FloatHistogram();
 
     /**
      * The color frequencies.
      */
-    protected ObjectCounter<Color> colorFrequencies;
+    protected ObjectCounter<Color> colorFrequencies = new ObjectCounter<>();
 
     /**
      * The smallest minX value.
@@ -61,7 +61,7 @@ public class CharacterStatistic {
      *
      * @return The height frequencies of the characters.
      */
-    public FloatCounter getHeightFrequencies() {
+    public FloatHistogram getHeightFrequencies() {
         return this.heightFrequencies;
     }
 
@@ -70,7 +70,7 @@ public class CharacterStatistic {
      *
      * @param freqs The height frequencies of the characters.
      */
-    public void setHeightFrequencies(FloatCounter freqs) {
+    public void setHeightFrequencies(FloatHistogram freqs) {
         this.heightFrequencies = freqs;
     }
 
@@ -107,7 +107,7 @@ public class CharacterStatistic {
      *
      * @return The width frequencies of the characters.
      */
-    public FloatCounter getWidthFrequencies() {
+    public FloatHistogram getWidthFrequencies() {
         return this.widthFrequencies;
     }
 
@@ -116,7 +116,7 @@ public class CharacterStatistic {
      *
      * @param freqs The width frequencies of the characters.
      */
-    public void setWidthFrequencies(FloatCounter freqs) {
+    public void setWidthFrequencies(FloatHistogram freqs) {
         this.widthFrequencies = freqs;
     }
 
@@ -187,7 +187,7 @@ public class CharacterStatistic {
      *
      * @return The font size frequencies of the characters.
      */
-    public FloatCounter getFontSizeFrequencies() {
+    public FloatHistogram getFontSizeFrequencies() {
         return this.fontsizeFrequencies;
     }
 
@@ -196,7 +196,7 @@ public class CharacterStatistic {
      *
      * @param freqs The font size frequencies of the characters.
      */
-    public void setFontSizeFrequencies(FloatCounter freqs) {
+    public void setFontSizeFrequencies(FloatHistogram freqs) {
         this.fontsizeFrequencies = freqs;
     }
 
@@ -326,4 +326,75 @@ public class CharacterStatistic {
     public void setLargestMaxY(float maxY) {
         this.largestMaxY = maxY;
     }
+
+    // ==============================================================================================
+
+    /**
+     * Adds the given character to this statistic.
+     *
+     * @param character The character to add.
+     */
+    public void add(Character character) {
+        if (character == null) {
+            return;
+        }
+
+        Rectangle rectangle = character.getPosition().getRectangle();
+        FontFace fontFace = character.getFontFace();
+
+        this.heightFrequencies.add(rectangle.getHeight());
+        this.widthFrequencies.add(rectangle.getWidth());
+        this.fontFaceFrequencies.add(fontFace);
+        this.fontsizeFrequencies.add(fontFace.getFontSize());
+        this.colorFrequencies.add(character.getColor());
+
+        extend(rectangle.getMinX(), rectangle.getMinY(), rectangle.getMaxX(), rectangle.getMaxY());
+    }
+
+    /**
+     * Merges the given statistic into this statistic, such that this statistic afterwards describes
+     * the union of both collections of characters.
+     *
+     * @param statistic The statistic to add.
+     */
+    public void add(CharacterStatistic statistic) {
+        if (statistic == null) {
+            return;
+        }
+
+        this.heightFrequencies.add(statistic.getHeightFrequencies());
+        this.widthFrequencies.add(statistic.getWidthFrequencies());
+        this.fontFaceFrequencies.add(statistic.getFontFaceFrequencies());
+        this.fontsizeFrequencies.add(statistic.getFontSizeFrequencies());
+        this.colorFrequencies.add(statistic.getColorFrequencies());
+
+        extend(statistic.getSmallestMinX(), statistic.getSmallestMinY(), statistic.getLargestMaxX(),
+                statistic.getLargestMaxY());
+    }
+
+    /**
+     * Extends the smallest and largest coordinates of this statistic by the given coordinates.
+     *
+     * @param minX The minX value to process.
+     * @param minY The minY value to process.
+     * @param maxX The maxX value to process.
+     * @param maxY The maxY value to process.
+     */
+    protected void extend(float minX, float minY, float maxX, float maxY) {
+        if (minX < this.smallestMinX) {
+            this.smallestMinX = minX;
+        }
+
+        if (minY < this.smallestMinY) {
+            this.smallestMinY = minY;
+        }
+
+        if (maxX > this.largestMaxX) {
+            this.largestMaxX = maxX;
+        }
+
+        if (maxY > this.largestMaxY) {
+            this.largestMaxY = maxY;
+        }
+    }
 }
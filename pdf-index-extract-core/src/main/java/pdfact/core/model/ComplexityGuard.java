@@ -0,0 +1,43 @@
+package pdfact.core.model;
+
+/**
+ * An enumeration of the per-page complexity guards. A page that exceeds one of the guards is
+ * degraded, that is: it is processed with cheaper strategies (see {@link Page#isDegraded()}).
+ */
+public enum ComplexityGuard {
+    /**
+     * The number of operators in the content streams of the page.
+     */
+    OPERATORS("operators"),
+    /**
+     * The number of characters (glyphs) on the page.
+     */
+    CHARACTERS("characters"),
+    /**
+     * The number of shapes (path segments) on the page.
+     */
+    SHAPES("shapes");
+
+    /**
+     * The name of the guard.
+     */
+    protected String name;
+
+    /**
+     * Creates a new complexity guard.
+     *
+     * @param name The name of the guard.
+     */
+    ComplexityGuard(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of this guard.
+     *
+     * @return The name of this guard.
+     */
+    public String getName() {
+        return this.name;
+    }
+}
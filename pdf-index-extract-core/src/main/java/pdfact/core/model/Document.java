@@ -2,9 +2,13 @@ package pdfact.core.model;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.pipeline.Deadline;
 
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -17,10 +21,15 @@ import java.util.List;
  */
 public class Document implements HasParagraphs {
     /**
-     * The path to the underlying file.
+     * The path to the underlying file, or null if the underlying file is not given as a file.
      */
     protected Path path;
 
+    /**
+     * The source of the underlying file.
+     */
+    protected DocumentSource source;
+
     /**
      * The pages of this document.
      */
@@ -41,9 +50,20 @@ public class Document implements HasParagraphs {
      */
     protected TextLineStatistic textLineStatistic;
 
-    private ArrayList<Integer> minYRoundedPerPage;
+    /**
+     * The profile of the page geometry of this document.
+     */
+    protected PageGeometryProfile pageGeometryProfile;
+
+    /**
+     * The underlying file in fashion of PdfBox, if it was kept open after parsing.
+     */
+    protected PDDocument pdDocument;
 
-    private ArrayList<Integer> maxYRoundedPerPage;
+    /**
+     * The deadline for the processing of this document, or null if there is none.
+     */
+    protected Deadline deadline;
 
     // ==============================================================================================
 
@@ -71,9 +91,48 @@ public class Document implements HasParagraphs {
      * @param path The path to the underlying file.
      */
     public Document(Path path) {
+        this(path != null ? DocumentSource.of(path) : null);
+    }
+
+    /**
+     * Creates a new document from a PDF file held in memory.
+     *
+     * @param bytes The bytes of the underlying file.
+     * @param name  The name of the underlying file, or null if it has no name.
+     */
+    public Document(byte[] bytes, String name) {
+        this(DocumentSource.of(bytes, name));
+    }
+
+    /**
+     * Creates a new document from a PDF file held in a buffer.
+     *
+     * @param buffer The buffer with the bytes of the underlying file.
+     * @param name   The name of the underlying file, or null if it has no name.
+     */
+    public Document(ByteBuffer buffer, String name) {
+        this(DocumentSource.of(buffer, name));
+    }
+
+    /**
+     * Creates a new document from a PDF file provided by a channel.
+     *
+     * @param channel The channel that provides the bytes of the underlying file.
+     * @param name    The name of the underlying file, or null if it has no name.
+     */
+    public Document(SeekableByteChannel channel, String name) {
+        this(DocumentSource.of(channel, name));
+    }
+
+    /**
+     * Creates a new document.
+     *
+     * @param source The source of the underlying file.
+     */
+    public Document(DocumentSource source) {
         this.pages = new ArrayList<>();
         this.paragraphs = new ElementList<>();
-        this.path = path;
+        setSource(source);
     }
 
     // ==============================================================================================
@@ -93,7 +152,7 @@ public class Document implements HasParagraphs {
      * @param file The path to the underlying file.
      */
     public void setFile(File file) {
-        this.path = file != null ? file.toPath() : null;
+        setPath(file != null ? file.toPath() : null);
     }
 
     // ==============================================================================================
@@ -113,7 +172,37 @@ public class Document implements HasParagraphs {
      * @param path The path to the underlying file.
      */
     public void setPath(Path path) {
-        this.path = path;
+        setSource(path != null ? DocumentSource.of(path) : null);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the source of the underlying file.
+     *
+     * @return The source of the underlying file.
+     */
+    public DocumentSource getSource() {
+        return this.source;
+    }
+
+    /**
+     * Sets the source of the underlying file.
+     *
+     * @param source The source of the underlying file.
+     */
+    public void setSource(DocumentSource source) {
+        this.source = source;
+        this.path = source != null ? source.getPath() : null;
+    }
+
+    /**
+     * Returns the name of the underlying file.
+     *
+     * @return The name of the underlying file, or null if there is no underlying file.
+     */
+    public String getName() {
+        return this.source != null ? this.source.getName() : null;
     }
 
     // ==============================================================================================
@@ -233,9 +322,71 @@ public class Document implements HasParagraphs {
 
     // ==============================================================================================
 
+    /**
+     * Returns the profile of the page geometry of this document.
+     *
+     * @return The profile of the page geometry, or null if it was not computed yet.
+     */
+    public PageGeometryProfile getPageGeometryProfile() {
+        return this.pageGeometryProfile;
+    }
+
+    /**
+     * Sets the profile of the page geometry of this document.
+     *
+     * @param profile The profile of the page geometry.
+     */
+    public void setPageGeometryProfile(PageGeometryProfile profile) {
+        this.pageGeometryProfile = profile;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the underlying file in fashion of PdfBox, if it was kept open after parsing. Whoever
+     * requested to keep it open is responsible for closing it.
+     *
+     * @return The opened file, or null if it was closed after parsing.
+     */
+    public PDDocument getPdDocument() {
+        return this.pdDocument;
+    }
+
+    /**
+     * Sets the underlying file in fashion of PdfBox. A file that is set before parsing is parsed
+     * instead of loading the source again (and closed by the parser, unless it is kept open).
+     *
+     * @param pdDocument The opened file, or null.
+     */
+    public void setPdDocument(PDDocument pdDocument) {
+        this.pdDocument = pdDocument;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the deadline for the processing of this document.
+     *
+     * @return The deadline, or null if there is none.
+     */
+    public Deadline getDeadline() {
+        return this.deadline;
+    }
+
+    /**
+     * Sets the deadline for the processing of this document.
+     *
+     * @param deadline The deadline, or null if there is none.
+     */
+    public void setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+    }
+
+    // ==============================================================================================
+
     @Override
     public String toString() {
-        return "PdfDocument(" + this.path + ")";
+        return "PdfDocument(" + this.source + ")";
     }
 
     // ==============================================================================================
@@ -246,7 +397,7 @@ public class Document implements HasParagraphs {
             Document otherDocument = (Document) other;
 
             EqualsBuilder builder = new EqualsBuilder();
-            builder.append(getPath(), otherDocument.getPath());
+            builder.append(getSource(), otherDocument.getSource());
 
             return builder.isEquals();
         }
@@ -256,24 +407,7 @@ public class Document implements HasParagraphs {
     @Override
     public int hashCode() {
         HashCodeBuilder builder = new HashCodeBuilder();
-        builder.append(getPath());
+        builder.append(getSource());
         return builder.hashCode();
     }
-
-    public void setRoundMinYForPages(ArrayList<Integer> minYRoundedPerPage) {
-        this.minYRoundedPerPage = minYRoundedPerPage;
-
-    }
-
-    public void setRoundMaxYForPages(ArrayList<Integer> maxYRoundedPerPage) {
-        this.maxYRoundedPerPage = maxYRoundedPerPage;
-    }
-
-    public ArrayList<Integer> getMaxYRoundedPerPage() {
-        return maxYRoundedPerPage;
-    }
-
-    public ArrayList<Integer> getMinYRoundedPerPage() {
-        return minYRoundedPerPage;
-    }
 }
@@ -0,0 +1,273 @@
+package pdfact.core.model;
+
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.pdfparser.PDFParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import pdfact.core.pipes.parse.stream.pdfbox.utils.ByteBufferRandomAccessRead;
+import pdfact.core.pipes.parse.stream.pdfbox.utils.SeekableByteChannelRandomAccessRead;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The source of the bytes of a PDF file: a file, or a PDF file held in memory (as byte array or
+ * byte buffer) or provided by a channel, such that a PDF file doesn't need to be written to disk
+ * before it can be processed. A source can be loaded any number of times.
+ */
+public abstract class DocumentSource {
+    /**
+     * The name of a PDF file that has no name.
+     */
+    public static final String DEFAULT_NAME = "document.pdf";
+
+    /**
+     * The name of the PDF file.
+     */
+    protected final String name;
+
+    /**
+     * Creates a new source.
+     *
+     * @param name The name of the PDF file, or null if it has no name.
+     */
+    protected DocumentSource(String name) {
+        this.name = name != null ? name : DEFAULT_NAME;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Creates a source for the given file.
+     *
+     * @param path The path to the PDF file.
+     * @return The created source.
+     */
+    public static DocumentSource of(Path path) {
+        return new PathSource(path);
+    }
+
+    /**
+     * Creates a source for the given bytes (which are not copied).
+     *
+     * @param bytes The bytes of the PDF file.
+     * @param name  The name of the PDF file, or null if it has no name.
+     * @return The created source.
+     */
+    public static DocumentSource of(byte[] bytes, String name) {
+        return new ByteBufferSource(ByteBuffer.wrap(bytes), name);
+    }
+
+    /**
+     * Creates a source for the remaining bytes of the given buffer (which are not copied).
+     *
+     * @param buffer The buffer with the bytes of the PDF file.
+     * @param name   The name of the PDF file, or null if it has no name.
+     * @return The created source.
+     */
+    public static DocumentSource of(ByteBuffer buffer, String name) {
+        return new ByteBufferSource(buffer, name);
+    }
+
+    /**
+     * Creates a source for the given channel. The channel is read from its beginning on each load
+     * and must not be closed before the processing of the PDF file is finished.
+     *
+     * @param channel The channel that provides the bytes of the PDF file.
+     * @param name    The name of the PDF file, or null if it has no name.
+     * @return The created source.
+     */
+    public static DocumentSource of(SeekableByteChannel channel, String name) {
+        return new ChannelSource(channel, name);
+    }
+
+    /**
+     * Creates a source for the given stream. As a stream can be read only once, it is read
+     * completely into memory (but not closed).
+     *
+     * @param stream The stream that provides the bytes of the PDF file.
+     * @param name   The name of the PDF file, or null if it has no name.
+     * @return The created source.
+     * @throws IOException If reading the stream failed.
+     */
+    public static DocumentSource of(InputStream stream, String name) throws IOException {
+        return of(IOUtils.toByteArray(stream), name);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Loads the PDF file. The caller is responsible for closing the returned document.
+     *
+     * @return The loaded PDF file.
+     * @throws IOException If loading the PDF file failed.
+     */
+    public abstract PDDocument load() throws IOException;
+
+    /**
+     * Returns the size of the PDF file.
+     *
+     * @return The size of the PDF file in bytes.
+     * @throws IOException If the size couldn't be read.
+     */
+    public abstract long size() throws IOException;
+
+    /**
+     * Returns the path to the PDF file.
+     *
+     * @return The path to the PDF file, or null if the PDF file is not given as a file.
+     */
+    public Path getPath() {
+        return null;
+    }
+
+    /**
+     * Returns the name of the PDF file.
+     *
+     * @return The name of the PDF file.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Loads a PDF file from the given reader.
+     *
+     * @param source The reader to load the PDF file from.
+     * @return The loaded PDF file.
+     * @throws IOException If loading the PDF file failed.
+     */
+    protected static PDDocument load(RandomAccessRead source) throws IOException {
+        try {
+            PDFParser parser = new PDFParser(source);
+            parser.parse();
+            return parser.getPDDocument();
+        } catch (IOException e) {
+            IOUtils.closeQuietly(source);
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * A source for a PDF file on disk.
+     */
+    protected static class PathSource extends DocumentSource {
+        /**
+         * The path to the PDF file.
+         */
+        protected final Path path;
+
+        /**
+         * Creates a new source for the given file.
+         *
+         * @param path The path to the PDF file.
+         */
+        protected PathSource(Path path) {
+            super(path.getFileName() != null ? path.getFileName().toString() : null);
+            this.path = path;
+        }
+
+        @Override
+        public PDDocument load() throws IOException {
+            return PDDocument.load(this.path.toFile());
+        }
+
+        @Override
+        public long size() throws IOException {
+            return Files.size(this.path);
+        }
+
+        @Override
+        public Path getPath() {
+            return this.path;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof PathSource && this.path.equals(((PathSource) other).path);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.path.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.path.toString();
+        }
+    }
+
+    /**
+     * A source for a PDF file held in a byte buffer.
+     */
+    protected static class ByteBufferSource extends DocumentSource {
+        /**
+         * The buffer with the bytes of the PDF file.
+         */
+        protected final ByteBuffer buffer;
+
+        /**
+         * Creates a new source for the remaining bytes of the given buffer.
+         *
+         * @param buffer The buffer with the bytes of the PDF file.
+         * @param name   The name of the PDF file, or null if it has no name.
+         */
+        protected ByteBufferSource(ByteBuffer buffer, String name) {
+            super(name);
+            this.buffer = buffer.slice();
+        }
+
+        @Override
+        public PDDocument load() throws IOException {
+            return load(new ByteBufferRandomAccessRead(this.buffer));
+        }
+
+        @Override
+        public long size() {
+            return this.buffer.remaining();
+        }
+    }
+
+    /**
+     * A source for a PDF file provided by a channel.
+     */
+    protected static class ChannelSource extends DocumentSource {
+        /**
+         * The channel that provides the bytes of the PDF file.
+         */
+        protected final SeekableByteChannel channel;
+
+        /**
+         * Creates a new source for the given channel.
+         *
+         * @param channel The channel that provides the bytes of the PDF file.
+         * @param name    The name of the PDF file, or null if it has no name.
+         */
+        protected ChannelSource(SeekableByteChannel channel, String name) {
+            super(name);
+            this.channel = channel;
+        }
+
+        @Override
+        public PDDocument load() throws IOException {
+            return load(new SeekableByteChannelRandomAccessRead(this.channel));
+        }
+
+        @Override
+        public long size() throws IOException {
+            return this.channel.size();
+        }
+    }
+}
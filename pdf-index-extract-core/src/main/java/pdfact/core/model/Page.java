@@ -3,6 +3,13 @@ package pdfact.core.model;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.PositionOrder;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A page in a document.
@@ -66,6 +73,11 @@ public class Page implements HasCharacters, HasFigures, HasShapes, HasTextAreas,
      */
     protected TextLineStatistic textLineStatistic;
 
+    /**
+     * The complexity guards exceeded by this page (empty if the page is not degraded).
+     */
+    protected Set<ComplexityGuard> exceededGuards = EnumSet.noneOf(ComplexityGuard.class);
+
     // ==============================================================================================
 
     /**
@@ -257,6 +269,17 @@ public class Page implements HasCharacters, HasFigures, HasShapes, HasTextAreas,
         return this.textBlocks;
     }
 
+    /**
+     * Returns the text blocks of this page in the given order, as a new list, such that readers
+     * don't reorder the list returned by getTextBlocks() in place.
+     *
+     * @param order The order.
+     * @return A new list with the text blocks of this page in the given order.
+     */
+    public ElementList<TextBlock> getTextBlocks(PositionOrder order) {
+        return this.textBlocks.permute(order.computePermutation(this.textBlocks));
+    }
+
     @Override
     public TextBlock getFirstTextBlock() {
         return this.textBlocks.getFirstElement();
@@ -368,6 +391,105 @@ public class Page implements HasCharacters, HasFigures, HasShapes, HasTextAreas,
 
     // ==============================================================================================
 
+    /**
+     * Returns true if this page exceeded a complexity guard, such that it is processed with cheaper
+     * strategies (see {@link pdfact.core.pipes.parse.PageComplexityLimits}).
+     *
+     * @return True if this page is degraded, false otherwise.
+     */
+    public boolean isDegraded() {
+        return !this.exceededGuards.isEmpty();
+    }
+
+    /**
+     * Returns the complexity guards exceeded by this page.
+     *
+     * @return The exceeded guards (empty if this page is not degraded).
+     */
+    public Set<ComplexityGuard> getExceededGuards() {
+        return this.exceededGuards;
+    }
+
+    /**
+     * Adds a complexity guard exceeded by this page.
+     *
+     * @param guard The exceeded guard.
+     */
+    public void addExceededGuard(ComplexityGuard guard) {
+        this.exceededGuards.add(guard);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns a snapshot of this page: a copy of its text lines, words and text blocks, which is not
+     * affected by later modifications of this page (e.g. the semantic roles of the text blocks or
+     * the dehyphenation of the words). The characters, figures, shapes, text areas, positions and
+     * statistics are not modified after the page is tokenized and are shared with this page.
+     *
+     * @return The snapshot of this page.
+     */
+    public Page snapshot() {
+        Page snapshot = new Page(this.pageNumber);
+        snapshot.width = this.width;
+        snapshot.height = this.height;
+        snapshot.characters.addAll(this.characters);
+        snapshot.figures.addAll(this.figures);
+        snapshot.shapes.addAll(this.shapes);
+        snapshot.textAreas.addAll(this.textAreas);
+        snapshot.characterStatistic = this.characterStatistic;
+        snapshot.textLineStatistic = this.textLineStatistic;
+        snapshot.exceededGuards.addAll(this.exceededGuards);
+
+        // The text blocks consist of the text lines of the page, so copy each line only once.
+        Map<TextLine, TextLine> lineCopies = new IdentityHashMap<>();
+        for (TextLine line : this.textLines) {
+            snapshot.textLines.add(lineCopies.computeIfAbsent(line, Page::copy));
+        }
+        for (TextBlock block : this.textBlocks) {
+            TextBlock blockCopy = new TextBlock();
+            for (TextLine line : block.textLines) {
+                blockCopy.textLines.add(lineCopies.computeIfAbsent(line, Page::copy));
+            }
+            blockCopy.text = block.text;
+            blockCopy.position = block.position;
+            blockCopy.semanticRole = block.semanticRole;
+            blockCopy.secondaryRole = block.secondaryRole;
+            blockCopy.characterStatistic = block.characterStatistic;
+            blockCopy.textLineStatistic = block.textLineStatistic;
+            snapshot.textBlocks.add(blockCopy);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Copies the given text line, together with its words.
+     *
+     * @param line The text line to copy.
+     * @return The copy of the text line.
+     */
+    protected static TextLine copy(TextLine line) {
+        TextLine lineCopy = new TextLine();
+        lineCopy.characters.addAll(line.characters);
+        for (Word word : line.words) {
+            Word wordCopy = new Word();
+            wordCopy.characters.addAll(word.characters);
+            wordCopy.text = word.text;
+            wordCopy.positions = word.positions != null ? new ArrayList<>(word.positions) : null;
+            wordCopy.isHyphenated = word.isHyphenated;
+            wordCopy.isDehyphenated = word.isDehyphenated;
+            wordCopy.characterStatistic = word.characterStatistic;
+            lineCopy.words.add(wordCopy);
+        }
+        lineCopy.text = line.text;
+        lineCopy.position = line.position;
+        lineCopy.baseLine = line.baseLine;
+        lineCopy.characterStatistic = line.characterStatistic;
+        return lineCopy;
+    }
+
+    // ==============================================================================================
+
     @Override
     public String toString() {
         return "Page(" + this.pageNumber + ")";
@@ -0,0 +1,314 @@
+package pdfact.core.model;
+
+import pdfact.core.util.counter.FloatHistogram;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A profile of the page geometry of a document: the vertical band of the body text, the bands of
+ * the page headers and page footers and the distribution of the heights of the text lines. The
+ * profile is computed once per document (see
+ * {@link pdfact.core.util.statistician.PageGeometryStatistician}), such that all consumers share
+ * the same boundaries.
+ */
+public class PageGeometryProfile {
+    /**
+     * The default ratio of the page height above which the page headers are located.
+     */
+    public static final float DEFAULT_HEADER_RATIO = 0.91f;
+
+    /**
+     * The default ratio of the page height below which the page footers are located.
+     */
+    public static final float DEFAULT_FOOTER_RATIO = 0.09f;
+
+    /**
+     * The most common (rounded) minY value of the body text blocks on a page, or 0 if there is no
+     * body text.
+     */
+    protected int bodyTextMinY;
+
+    /**
+     * The most common (rounded) maxY value of the body text blocks on a page, or 0 if there is no
+     * body text.
+     */
+    protected int bodyTextMaxY;
+
+    /**
+     * The ratio of the page height above which the page headers are located.
+     */
+    protected float headerRatio = DEFAULT_HEADER_RATIO;
+
+    /**
+     * The ratio of the page height below which the page footers are located.
+     */
+    protected float footerRatio = DEFAULT_FOOTER_RATIO;
+
+    /**
+     * The frequencies of the heights of the text lines.
+     */
+    protected FloatHistogram lineHeightFrequencies = new FloatHistogram();
+
+    /**
+     * The geometries of the individual pages, per page number.
+     */
+    protected Map<Integer, PageGeometry> pageGeometries = new HashMap<>();
+
+    // ==============================================================================================
+
+    /**
+     * Returns the most common (rounded) minY value of the body text blocks on a page.
+     *
+     * @return The most common minY value of the body text, or 0 if there is no body text.
+     */
+    public int getBodyTextMinY() {
+        return this.bodyTextMinY;
+    }
+
+    /**
+     * Sets the most common (rounded) minY value of the body text blocks on a page.
+     *
+     * @param minY The most common minY value of the body text.
+     */
+    public void setBodyTextMinY(int minY) {
+        this.bodyTextMinY = minY;
+    }
+
+    /**
+     * Returns the most common (rounded) maxY value of the body text blocks on a page.
+     *
+     * @return The most common maxY value of the body text, or 0 if there is no body text.
+     */
+    public int getBodyTextMaxY() {
+        return this.bodyTextMaxY;
+    }
+
+    /**
+     * Sets the most common (rounded) maxY value of the body text blocks on a page.
+     *
+     * @param maxY The most common maxY value of the body text.
+     */
+    public void setBodyTextMaxY(int maxY) {
+        this.bodyTextMaxY = maxY;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the upper boundary of the content of a page with the given height: slightly above
+     * the body text, or near the top of the page if the body text ends suspiciously low.
+     *
+     * @param pageHeight The height of the page.
+     * @return The upper boundary of the content.
+     */
+    public double getContentMaxY(float pageHeight) {
+        double contentMaxY = this.bodyTextMaxY * 1.01;
+        if (contentMaxY < 0.8 * pageHeight) {
+            contentMaxY = 0.92 * pageHeight;
+        }
+        return contentMaxY;
+    }
+
+    /**
+     * Returns the lower boundary of the content of a page with the given height: slightly below
+     * the body text, or near the bottom of the page if the body text starts suspiciously high.
+     *
+     * @param pageHeight The height of the page.
+     * @return The lower boundary of the content.
+     */
+    public double getContentMinY(float pageHeight) {
+        double contentMinY = this.bodyTextMinY * 0.99;
+        if (contentMinY > 0.2 * pageHeight) {
+            contentMinY = 0.08 * pageHeight;
+        }
+        return contentMinY;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the minY value above which the page headers of a page with the given height are
+     * located.
+     *
+     * @param pageHeight The height of the page.
+     * @return The lower boundary of the header band.
+     */
+    public float getHeaderMinY(float pageHeight) {
+        return pageHeight * this.headerRatio;
+    }
+
+    /**
+     * Returns the maxY value below which the page footers of a page with the given height are
+     * located.
+     *
+     * @param pageHeight The height of the page.
+     * @return The upper boundary of the footer band.
+     */
+    public float getFooterMaxY(float pageHeight) {
+        return pageHeight * this.footerRatio;
+    }
+
+    /**
+     * Sets the ratios of the page height that separate the page headers and the page footers from
+     * the content.
+     *
+     * @param headerRatio The ratio above which the page headers are located.
+     * @param footerRatio The ratio below which the page footers are located.
+     */
+    public void setHeaderFooterRatios(float headerRatio, float footerRatio) {
+        this.headerRatio = headerRatio;
+        this.footerRatio = footerRatio;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the frequencies of the heights of the text lines.
+     *
+     * @return The frequencies of the heights of the text lines.
+     */
+    public FloatHistogram getLineHeightFrequencies() {
+        return this.lineHeightFrequencies;
+    }
+
+    /**
+     * Returns the average height of the text lines.
+     *
+     * @return The average height of the text lines, or 0 if there are no text lines.
+     */
+    public float getAverageLineHeight() {
+        return this.lineHeightFrequencies.getAverageFloat();
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the geometry of the given page.
+     *
+     * @param page The page.
+     * @return The geometry of the given page, or null if the page is not part of this profile.
+     */
+    public PageGeometry getPageGeometry(Page page) {
+        return page != null ? this.pageGeometries.get(page.getPageNumber()) : null;
+    }
+
+    /**
+     * Adds the geometry of a page to this profile.
+     *
+     * @param page     The page.
+     * @param geometry The geometry of the page.
+     */
+    public void addPageGeometry(Page page, PageGeometry geometry) {
+        this.pageGeometries.put(page.getPageNumber(), geometry);
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public String toString() {
+        return "PageGeometryProfile(bodyTextMinY: " + this.bodyTextMinY + ", bodyTextMaxY: "
+                + this.bodyTextMaxY + ", avgLineHeight: " + getAverageLineHeight() + ", pages: "
+                + this.pageGeometries.size() + ")";
+    }
+
+    // ==============================================================================================
+
+    /**
+     * The geometry of a single page.
+     */
+    public static class PageGeometry {
+        /**
+         * The average height of the text lines of the page.
+         */
+        protected double averageLineHeight;
+
+        /**
+         * The average width of the text lines of the page.
+         */
+        protected float averageLineWidth;
+
+        /**
+         * The variance of the widths of the text lines of the page.
+         */
+        protected float lineWidthVariance;
+
+        /**
+         * The maxY value of the footer block of the page, or 0 if the page has no footer block.
+         */
+        protected float footerMaxY;
+
+        /**
+         * Creates a new page geometry.
+         *
+         * @param averageLineHeight The average height of the text lines.
+         * @param averageLineWidth  The average width of the text lines.
+         * @param lineWidthVariance The variance of the widths of the text lines.
+         * @param footerMaxY        The maxY value of the footer block, or 0 if there is none.
+         */
+        public PageGeometry(double averageLineHeight, float averageLineWidth, float lineWidthVariance,
+                            float footerMaxY) {
+            this.averageLineHeight = averageLineHeight;
+            this.averageLineWidth = averageLineWidth;
+            this.lineWidthVariance = lineWidthVariance;
+            this.footerMaxY = footerMaxY;
+        }
+
+        /**
+         * Returns the average height of the text lines of the page.
+         *
+         * @return The average height of the text lines.
+         */
+        public double getAverageLineHeight() {
+            return this.averageLineHeight;
+        }
+
+        /**
+         * Returns the average width of the text lines of the page.
+         *
+         * @return The average width of the text lines.
+         */
+        public float getAverageLineWidth() {
+            return this.averageLineWidth;
+        }
+
+        /**
+         * Returns the variance of the widths of the text lines of the page.
+         *
+         * @return The variance of the widths of the text lines.
+         */
+        public float getLineWidthVariance() {
+            return this.lineWidthVariance;
+        }
+
+        /**
+         * Returns the max. width of a regular text line of the page, that is: a line that is at
+         * most 3 standard deviations (and at least 15 units) wider than the average line.
+         *
+         * @return The max. width of a regular text line.
+         */
+        public double getMaxRegularLineWidth() {
+            return Math.max(this.averageLineWidth + Math.sqrt(this.lineWidthVariance) * 3,
+                    this.averageLineWidth + 15);
+        }
+
+        /**
+         * Returns the maxY value of the footer block of the page: the lowest block, if it is
+         * unusually wide and separated from the block above by more than 2 line heights.
+         *
+         * @return The maxY value of the footer block, or 0 if the page has no footer block.
+         */
+        public float getFooterMaxY() {
+            return this.footerMaxY;
+        }
+
+        /**
+         * Sets the maxY value of the footer block of the page.
+         *
+         * @param footerMaxY The maxY value of the footer block, or 0 if the page has no footer block.
+         */
+        public void setFooterMaxY(float footerMaxY) {
+            this.footerMaxY = footerMaxY;
+        }
+    }
+}
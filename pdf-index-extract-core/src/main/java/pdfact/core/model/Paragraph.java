@@ -49,6 +49,7 @@ public class Paragraph extends Element implements HasWords, HasText, HasPosition
      */
     public Paragraph() {
         this.words = new ElementList<>();
+        this.characterStatistic = new CharacterStatistic();
     }
 
     // ==============================================================================================
@@ -74,19 +75,41 @@ public class Paragraph extends Element implements HasWords, HasText, HasPosition
         return this.words.get(this.words.size() - 1);
     }
 
+    /**
+     * Sets the words of this paragraph and recomputes the character statistic of this paragraph from
+     * the given words.
+     *
+     * @param words The words.
+     */
     @Override
     public void setWords(ElementList<Word> words) {
-        this.words = words;
+        this.words = new ElementList<>();
+        this.characterStatistic = new CharacterStatistic();
+        addWords(words);
     }
 
     @Override
     public void addWords(ElementList<Word> words) {
-        this.words.addAll(words);
+        if (words == null) {
+            return;
+        }
+        for (Word word : words) {
+            addWord(word);
+        }
     }
 
+    /**
+     * Adds the given word to this paragraph and merges the character statistic of the word into the
+     * character statistic of this paragraph.
+     *
+     * @param word The word to add.
+     */
     @Override
     public void addWord(Word word) {
         this.words.add(word);
+        if (word != null) {
+            this.characterStatistic.add(word.getCharacterStatistic());
+        }
     }
 
     // ==============================================================================================
@@ -29,6 +29,7 @@ public class TextArea extends Element implements HasCharacters, HasPosition {
      */
     public TextArea() {
         this.characters = new ElementList<>();
+        this.characterStatistic = new CharacterStatistic();
     }
 
     // ==============================================================================================
@@ -54,19 +55,51 @@ public class TextArea extends Element implements HasCharacters, HasPosition {
         return this.characters.get(this.characters.size() - 1);
     }
 
+    /**
+     * Sets the characters of this text area and recomputes the position and the character statistic
+     * of this text area from the given characters.
+     *
+     * @param characters The characters.
+     */
     @Override
     public void setCharacters(ElementList<Character> characters) {
-        this.characters = characters;
+        this.characters = new ElementList<>();
+        this.position = null;
+        this.characterStatistic = new CharacterStatistic();
+        addCharacters(characters);
     }
 
     @Override
     public void addCharacters(ElementList<Character> characters) {
-        this.characters.addAll(characters);
+        if (characters == null) {
+            return;
+        }
+        for (Character character : characters) {
+            addCharacter(character);
+        }
     }
 
+    /**
+     * Adds the given character to this text area and extends the position and the character
+     * statistic of this text area by the character.
+     *
+     * @param character The character to add.
+     */
     @Override
     public void addCharacter(Character character) {
         this.characters.add(character);
+
+        if (character == null) {
+            return;
+        }
+
+        Position charPosition = character.getPosition();
+        if (this.position == null) {
+            this.position = new Position(charPosition.getPage(), new Rectangle(charPosition.getRectangle()));
+        } else {
+            this.position.getRectangle().extend(charPosition.getRectangle());
+        }
+        this.characterStatistic.add(character);
     }
 
     // ==============================================================================================
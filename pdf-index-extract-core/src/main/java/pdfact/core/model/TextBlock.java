@@ -52,6 +52,8 @@ public class TextBlock extends Element implements HasTextLines, HasText, HasPosi
      */
     public TextBlock() {
         this.textLines = new ElementList<>();
+        this.characterStatistic = new CharacterStatistic();
+        this.textLineStatistic = new TextLineStatistic();
     }
 
     // ==============================================================================================
@@ -77,19 +79,56 @@ public class TextBlock extends Element implements HasTextLines, HasText, HasPosi
         return this.textLines.get(this.textLines.size() - 1);
     }
 
+    /**
+     * Sets the text lines of this text block and recomputes the position and the statistics of this
+     * text block from the given text lines.
+     *
+     * @param textLines The text lines.
+     */
     @Override
     public void setTextLines(ElementList<TextLine> textLines) {
-        this.textLines = textLines;
+        this.textLines = new ElementList<>();
+        this.position = null;
+        this.characterStatistic = new CharacterStatistic();
+        this.textLineStatistic = new TextLineStatistic();
+        addTextLines(textLines);
     }
 
     @Override
     public void addTextLines(ElementList<TextLine> textLines) {
-        this.textLines.addAll(textLines);
+        if (textLines == null) {
+            return;
+        }
+        for (TextLine textLine : textLines) {
+            addTextLine(textLine);
+        }
     }
 
+    /**
+     * Adds the given text line to this text block and extends the position and the statistics of
+     * this text block by the text line, without iterating the text lines added before.
+     *
+     * @param textLine The text line to add.
+     */
     @Override
-    public void addTextLine(TextLine word) {
-        this.textLines.add(word);
+    public void addTextLine(TextLine textLine) {
+        TextLine prevTextLine = getLastTextLine();
+        this.textLines.add(textLine);
+
+        if (textLine == null) {
+            return;
+        }
+
+        Position linePosition = textLine.getPosition();
+        if (linePosition != null) {
+            if (this.position == null) {
+                this.position = new Position(linePosition.getPage(), new Rectangle(linePosition.getRectangle()));
+            } else {
+                this.position.getRectangle().extend(linePosition.getRectangle());
+            }
+        }
+        this.characterStatistic.add(textLine.getCharacterStatistic());
+        this.textLineStatistic.add(prevTextLine, textLine);
     }
 
     // ==============================================================================================
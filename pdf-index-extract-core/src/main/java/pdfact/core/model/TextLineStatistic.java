@@ -2,8 +2,12 @@ package pdfact.core.model;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import pdfact.core.util.counter.FloatCounter;
+import pdfact.core.util.counter.FloatHistogram;
 
+import pdfact.core.util.list.ElementList;
+import pdfact.core.util.statistician.TextLineStatistician;
+
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -15,12 +19,12 @@ public class TextLineStatistic {
     /**
      * The most common line pitches per font faces.
      */
-    protected Map<FontFace, FloatCounter> linePitchFrequenciesPerFontFace;
+    protected Map<FontFace, FloatHistogram> linePitchFrequenciesPerFontFace = new HashMap<>();
 
     /**
      * The frequencies of whitespace widths.
      */
-    protected FloatCounter whitespaceWidthFrequencies;
+    protected FloatHistogram whitespaceWidthFrequencies = new FloatHistogram();
 
     // ==============================================================================================
 
@@ -29,7 +33,7 @@ public class TextLineStatistic {
      *
      * @return The line pitch frequencies of the text lines, per font face.
      */
-    public Map<FontFace, FloatCounter> getLinePitchFrequencies() {
+    public Map<FontFace, FloatHistogram> getLinePitchFrequencies() {
         return this.linePitchFrequenciesPerFontFace;
     }
 
@@ -38,7 +42,7 @@ public class TextLineStatistic {
      *
      * @param freqs The line pitch frequencies of the text lines.
      */
-    public void setLinePitchFrequencies(Map<FontFace, FloatCounter> freqs) {
+    public void setLinePitchFrequencies(Map<FontFace, FloatHistogram> freqs) {
         this.linePitchFrequenciesPerFontFace = freqs;
     }
 
@@ -52,7 +56,7 @@ public class TextLineStatistic {
      * the given font face.
      */
     public float getMostCommonLinePitch(FontFace fontFace) {
-        FloatCounter freqs = this.linePitchFrequenciesPerFontFace.get(fontFace);
+        FloatHistogram freqs = this.linePitchFrequenciesPerFontFace.get(fontFace);
         return freqs != null ? freqs.getMostCommonFloat() : Float.NaN;
     }
 
@@ -63,7 +67,7 @@ public class TextLineStatistic {
      *
      * @return The whitespace width frequencies in the text lines.
      */
-    public FloatCounter getWhitespaceWidthFrequencies() {
+    public FloatHistogram getWhitespaceWidthFrequencies() {
         return this.whitespaceWidthFrequencies;
     }
 
@@ -72,7 +76,7 @@ public class TextLineStatistic {
      *
      * @param freqs The whitespace width frequencies in the text lines.
      */
-    public void setWhitespaceWidthFrequencies(FloatCounter freqs) {
+    public void setWhitespaceWidthFrequencies(FloatHistogram freqs) {
         this.whitespaceWidthFrequencies = freqs;
     }
 
@@ -94,6 +98,75 @@ public class TextLineStatistic {
 
     // ==============================================================================================
 
+    /**
+     * Adds the given text line, which directly follows the given previous text line, to this
+     * statistic. Adds the line pitch between both lines (to the frequencies of the most common font
+     * face of the given line) and the widths of the whitespaces between the words of the given line.
+     *
+     * @param prevLine The previous text line.
+     * @param line     The text line to add.
+     */
+    public void add(TextLine prevLine, TextLine line) {
+        if (prevLine == null || line == null) {
+            return;
+        }
+
+        // Compute the line pitch between the current line and the previous line.
+        float linePitch = TextLineStatistician.computeLinePitch(prevLine, line);
+        if (!Float.isNaN(linePitch)) {
+            FontFace fontFace = line.getCharacterStatistic().getMostCommonFontFace();
+            addLinePitch(fontFace, linePitch);
+        }
+
+        // Compute the whitespace widths in the line.
+        ElementList<Word> words = line.getWords();
+        if (words != null) {
+            for (int j = 1; j < words.size(); j++) {
+                Word prevWord = words.get(j - 1);
+                Word word = words.get(j);
+                if (prevWord != null && word != null) {
+                    Rectangle prevRectangle = prevWord.getLastPosition().getRectangle();
+                    Rectangle rectangle = word.getFirstPosition().getRectangle();
+                    if (prevRectangle != null && rectangle != null) {
+                        this.whitespaceWidthFrequencies.add(rectangle.getMinX() - prevRectangle.getMaxX());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the given line pitch to the line pitch frequencies of the given font face.
+     *
+     * @param fontFace  The font face.
+     * @param linePitch The line pitch to add.
+     */
+    public void addLinePitch(FontFace fontFace, float linePitch) {
+        this.linePitchFrequenciesPerFontFace.computeIfAbsent(fontFace, f -> new FloatHistogram()).add(linePitch);
+    }
+
+    /**
+     * Merges the given statistic into this statistic.
+     *
+     * @param statistic The statistic to add.
+     */
+    public void add(TextLineStatistic statistic) {
+        if (statistic == null) {
+            return;
+        }
+
+        Map<FontFace, FloatHistogram> linePitches = statistic.getLinePitchFrequencies();
+        if (linePitches != null) {
+            for (Map.Entry<FontFace, FloatHistogram> entry : linePitches.entrySet()) {
+                this.linePitchFrequenciesPerFontFace.computeIfAbsent(entry.getKey(), f -> new FloatHistogram())
+                        .add(entry.getValue());
+            }
+        }
+        this.whitespaceWidthFrequencies.add(statistic.getWhitespaceWidthFrequencies());
+    }
+
+    // ==============================================================================================
+
     @Override
     public boolean equals(Object o) {
         if (o instanceof TextLineStatistic) {
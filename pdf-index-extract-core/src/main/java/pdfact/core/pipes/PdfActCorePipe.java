@@ -1,6 +1,12 @@
 package pdfact.core.pipes;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.model.Document;
+import pdfact.core.pipes.parse.PageComplexityLimits;
+import pdfact.core.pipes.parse.PageSelector;
+import pdfact.core.pipes.parse.TextLayerProbe;
+import pdfact.core.util.exception.PdfActNoTextLayerException;
+import pdfact.core.util.pipeline.PageListener;
+import pdfact.core.util.pipeline.PagePipe;
 
 /**
  * A pipe that wires up all necessary steps to identify the document structure
@@ -8,6 +14,99 @@ import pdfact.core.util.pipeline.Pipe;
  *
  * @author Claudius Korzen
  */
-public interface PdfActCorePipe extends Pipe {
+public interface PdfActCorePipe extends PagePipe {
+    /**
+     * Returns true if the characters, figures and shapes are normalized while parsing the PDF
+     * document; false if they are normalized in a separate pass over the parsed pages.
+     *
+     * @return True if the characters, figures and shapes are normalized while parsing.
+     */
+    boolean isNormalizeWhileParsing();
 
+    /**
+     * Sets whether the characters, figures and shapes should be normalized while parsing the PDF
+     * document (true) or in a separate pass over the parsed pages (false).
+     *
+     * @param normalizeWhileParsing True if the characters, figures and shapes should be normalized
+     *                              while parsing.
+     */
+    void setNormalizeWhileParsing(boolean normalizeWhileParsing);
+
+    /**
+     * Returns the selector of the pages to parse.
+     *
+     * @return The selector of the pages to parse, or null if all pages are parsed.
+     */
+    PageSelector getPageSelector();
+
+    /**
+     * Sets the selector of the pages to parse. Pages that are not selected are added to the
+     * document as empty pages.
+     *
+     * @param selector The selector of the pages to parse, or null if all pages should be parsed.
+     */
+    void setPageSelector(PageSelector selector);
+
+    /**
+     * Returns the probe that checks whether the PDF has a text layer before it is parsed.
+     *
+     * @return The probe, or null if the PDF is parsed without probing.
+     */
+    TextLayerProbe getTextLayerProbe();
+
+    /**
+     * Sets the probe that checks whether the PDF has a text layer before it is parsed. If the PDF
+     * has no text layer, the parsing is aborted with a {@link PdfActNoTextLayerException}.
+     *
+     * @param probe The probe, or null if the PDF should be parsed without probing.
+     */
+    void setTextLayerProbe(TextLayerProbe probe);
+
+    /**
+     * Returns the per-page complexity limits above which a page is degraded.
+     *
+     * @return The limits, or null if no page is degraded.
+     */
+    PageComplexityLimits getPageComplexityLimits();
+
+    /**
+     * Sets the per-page complexity limits above which a page is degraded.
+     *
+     * @param limits The limits, or null if no page should be degraded.
+     */
+    void setPageComplexityLimits(PageComplexityLimits limits);
+
+    /**
+     * Returns whether the PDF file is kept open after parsing.
+     *
+     * @return True if the PDF file is kept open after parsing.
+     */
+    boolean isKeepPdDocumentOpen();
+
+    /**
+     * Sets whether the PDF file should be kept open after parsing (see
+     * {@link Document#getPdDocument()}), such that later pipes can reuse it. The caller is then
+     * responsible for closing it.
+     *
+     * @param keepPdDocumentOpen True to keep the PDF file open after parsing.
+     */
+    void setKeepPdDocumentOpen(boolean keepPdDocumentOpen);
+
+    /**
+     * Returns the listener that is notified about a snapshot of each page after the per-page
+     * stages.
+     *
+     * @return The listener, or null if there is none.
+     */
+    PageListener getPageListener();
+
+    /**
+     * Sets the listener that is notified about a snapshot of each page after the per-page stages,
+     * i.e. after the text blocks are detected, in the order of the pages. The snapshots (see
+     * {@link pdfact.core.model.Page#snapshot()}) don't contain the results of the document-level
+     * stages (the semantic roles and the dehyphenated words).
+     *
+     * @param listener The listener, or null if there is none.
+     */
+    void setPageListener(PageListener listener);
 }
@@ -3,22 +3,25 @@ package pdfact.core.pipes;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import pdfact.core.model.Document;
+import pdfact.core.model.Page;
 import pdfact.core.pipes.dehyphenate.PlainDehyphenateWordsPipe;
-import pdfact.core.pipes.filter.characters.PlainFilterCharactersPipe;
-import pdfact.core.pipes.filter.figures.PlainFilterFiguresPipe;
-import pdfact.core.pipes.filter.shapes.PlainFilterShapesPipe;
+import pdfact.core.pipes.normalize.NormalizeCharactersPipe;
+import pdfact.core.pipes.normalize.PlainNormalizeCharactersPipe;
+import pdfact.core.pipes.parse.PageSelector;
+import pdfact.core.pipes.parse.ParseDocumentPipe;
 import pdfact.core.pipes.parse.PlainParseDocumentPipe;
+import pdfact.core.pipes.parse.PageComplexityLimits;
+import pdfact.core.pipes.parse.TextLayerProbe;
 import pdfact.core.pipes.semanticize.PlainDetectSemanticsPipe;
 import pdfact.core.pipes.tokenize.areas.XYCutTokenizeToTextAreasPipe;
 import pdfact.core.pipes.tokenize.blocks.PlainTokenizeToTextBlocksPipe;
 import pdfact.core.pipes.tokenize.lines.PlainTokenizeToTextLinesPipe;
 import pdfact.core.pipes.tokenize.paragraphs.PlainTokenizeToParagraphsPipe;
 import pdfact.core.pipes.tokenize.words.XYCutTokenizeToWordsPipe;
-import pdfact.core.pipes.translate.characters.PlainStandardizeCharactersPipe;
-import pdfact.core.pipes.translate.diacritics.PlainMergeDiacriticsPipe;
-import pdfact.core.pipes.translate.ligatures.PlainSplitLigaturesPipe;
 import pdfact.core.pipes.validate.PlainValidatePdfPathPipe;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.PageExecutor;
+import pdfact.core.util.pipeline.PageListener;
 import pdfact.core.util.pipeline.Pipeline;
 import pdfact.core.util.pipeline.PlainPipeline;
 
@@ -33,40 +36,78 @@ public class PlainPdfActCorePipe implements PdfActCorePipe {
      */
     protected static Logger log = LogManager.getLogger(PlainPdfActCorePipe.class);
 
+    /**
+     * Whether the characters, figures and shapes are normalized while parsing the PDF document.
+     */
+    protected boolean isNormalizeWhileParsing;
+
+    /**
+     * The selector of the pages to parse, or null if all pages should be parsed.
+     */
+    protected PageSelector pageSelector;
+
+    /**
+     * The probe that checks whether the PDF has a text layer before it is parsed, or null if the
+     * PDF should be parsed without probing.
+     */
+    protected TextLayerProbe textLayerProbe;
+
+    /**
+     * The per-page complexity limits above which a page is degraded, or null if no page is
+     * degraded.
+     */
+    protected PageComplexityLimits pageComplexityLimits;
+
+    /**
+     * Whether the PDF file should be kept open after parsing.
+     */
+    protected boolean keepPdDocumentOpen;
+
+    /**
+     * The listener that is notified about a snapshot of each page after the per-page stages.
+     */
+    protected PageListener pageListener;
+
     // ==============================================================================================
 
     /**
      * Processes the given PDF document.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
      * @return The PDF document after processing.
      * @throws PdfActException If something went wrong on processing the PDF
      *                         document.
      */
-    public Document execute(Document pdf) throws PdfActException {
+    @Override
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
         log.debug("Start of pipe: " + getClass().getSimpleName() + ".");
 
         log.debug("Process: Processing the core pipeline.");
 
         // Fill the pipeline with the pipes to execute
         Pipeline pipeline = new PlainPipeline();
+        // Process the pages of the per-page pipes on the given executor.
+        pipeline.setPageExecutor(executor);
 
         // Validate the path to the PDF file.
         pipeline.addPipe(new PlainValidatePdfPathPipe());
+        // Merge the diacritics, split the ligatures, standardize the characters and filter the
+        // characters, figures and shapes, in a single pass per page.
+        NormalizeCharactersPipe normalizePipe = new PlainNormalizeCharactersPipe();
         // Extract the characters, shapes and figures.
-        pipeline.addPipe(new PlainParseDocumentPipe());
-        // Merge the diacritics.
-        pipeline.addPipe(new PlainMergeDiacriticsPipe());
-        // Split the ligatures.
-        pipeline.addPipe(new PlainSplitLigaturesPipe());
-        // Standardize characters.
-        pipeline.addPipe(new PlainStandardizeCharactersPipe());
-        // Filter the characters.
-        pipeline.addPipe(new PlainFilterCharactersPipe());
-        // Filter the figures.
-        pipeline.addPipe(new PlainFilterFiguresPipe());
-        // Filter the shapes.
-        pipeline.addPipe(new PlainFilterShapesPipe());
+        ParseDocumentPipe parsePipe = new PlainParseDocumentPipe();
+        parsePipe.setPageSelector(this.pageSelector);
+        parsePipe.setTextLayerProbe(this.textLayerProbe);
+        parsePipe.setPageComplexityLimits(this.pageComplexityLimits);
+        parsePipe.setKeepPdDocumentOpen(this.keepPdDocumentOpen);
+        if (this.isNormalizeWhileParsing) {
+            parsePipe.setNormalizeCharactersPipe(normalizePipe);
+            pipeline.addPipe(parsePipe);
+        } else {
+            pipeline.addPipe(parsePipe);
+            pipeline.addPipe(normalizePipe);
+        }
         // Tokenize the page into text areas.
         pipeline.addPipe(new XYCutTokenizeToTextAreasPipe());
         // Tokenize the text areas into text lines.
@@ -75,6 +116,8 @@ public class PlainPdfActCorePipe implements PdfActCorePipe {
         pipeline.addPipe(new XYCutTokenizeToWordsPipe());
         // Tokenize the text lines into text blocks.
         pipeline.addPipe(new PlainTokenizeToTextBlocksPipe());
+        // Publish the pages, whose per-page stages are done.
+        pipeline.addPipe(this::publishPages);
         // Identify the roles of the text blocks.
         pipeline.addPipe(new PlainDetectSemanticsPipe());
         // Tokenize the text blocks into paragraphs.
@@ -94,4 +137,99 @@ public class PlainPdfActCorePipe implements PdfActCorePipe {
         log.debug("End of pipe: " + getClass().getSimpleName() + ".");
         return pdf;
     }
+
+    /**
+     * Notifies the page listener about a snapshot of each page of the given document. The
+     * document-level stages that follow (the semantic roles, paragraphs and the dehyphenation across
+     * page boundaries) still modify the pages, so the listener gets snapshots, which can be read
+     * while the pipeline continues.
+     *
+     * @param pdf The PDF document to process.
+     * @return The PDF document.
+     * @throws PdfActException If the deadline of the document expired.
+     */
+    protected Document publishPages(Document pdf) throws PdfActException {
+        if (this.pageListener == null || pdf.getPages() == null) {
+            return pdf;
+        }
+        for (Page page : pdf.getPages()) {
+            if (pdf.getDeadline() != null) {
+                pdf.getDeadline().check();
+            }
+            this.pageListener.pageCompleted(page.snapshot());
+        }
+        return pdf;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public boolean isNormalizeWhileParsing() {
+        return this.isNormalizeWhileParsing;
+    }
+
+    @Override
+    public void setNormalizeWhileParsing(boolean normalizeWhileParsing) {
+        this.isNormalizeWhileParsing = normalizeWhileParsing;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public PageSelector getPageSelector() {
+        return this.pageSelector;
+    }
+
+    @Override
+    public void setPageSelector(PageSelector selector) {
+        this.pageSelector = selector;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public TextLayerProbe getTextLayerProbe() {
+        return this.textLayerProbe;
+    }
+
+    @Override
+    public void setTextLayerProbe(TextLayerProbe probe) {
+        this.textLayerProbe = probe;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public PageComplexityLimits getPageComplexityLimits() {
+        return this.pageComplexityLimits;
+    }
+
+    @Override
+    public void setPageComplexityLimits(PageComplexityLimits limits) {
+        this.pageComplexityLimits = limits;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public boolean isKeepPdDocumentOpen() {
+        return this.keepPdDocumentOpen;
+    }
+
+    @Override
+    public void setKeepPdDocumentOpen(boolean keepPdDocumentOpen) {
+        this.keepPdDocumentOpen = keepPdDocumentOpen;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public PageListener getPageListener() {
+        return this.pageListener;
+    }
+
+    @Override
+    public void setPageListener(PageListener listener) {
+        this.pageListener = listener;
+    }
 }
@@ -11,6 +11,7 @@ import pdfact.core.util.counter.ObjectCounter;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.normalize.WordNormalizer;
+import pdfact.core.util.statistician.CharacterStatistician;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -35,6 +36,11 @@ public class PlainDehyphenateWordsPipe implements DehyphenateWordsPipe {
      */
     protected WordNormalizer wordNormalizer;
 
+    /**
+     * The statistician to compute the character statistics of the dehyphenated words.
+     */
+    protected CharacterStatistician characterStatistician = new CharacterStatistician();
+
     /**
      * The index of all words which do not include a hyphen (normal words).
      */
@@ -336,7 +342,10 @@ public class PlainDehyphenateWordsPipe implements DehyphenateWordsPipe {
         this.numDehyphenatedWords++;
 
         mergedChars.addAll(chars2);
-        word1.setCharacters(chars2);
+        word1.setCharacters(mergedChars);
+        // Recompute the statistic, such that the paragraph statistic (aggregated from the statistics
+        // of its words) also counts the characters of the second word.
+        word1.setCharacterStatistic(this.characterStatistician.compute(mergedChars));
 
         word1.addPositions(word2.getPositions());
         word1.setIsHyphenated(false);
@@ -7,8 +7,9 @@ import pdfact.core.model.Document;
 import pdfact.core.model.Page;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.pipeline.PageExecutor;
 
-import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A plain implementation of {@link FilterCharactersPipe}.
@@ -24,18 +25,18 @@ public class PlainFilterCharactersPipe implements FilterCharactersPipe {
     /**
      * The number of processed characters.
      */
-    protected int numProcessedCharacters;
+    protected final LongAdder numProcessedCharacters = new LongAdder();
 
     /**
      * The number of filtered characters.
      */
-    protected int numFilteredCharacters;
+    protected final LongAdder numFilteredCharacters = new LongAdder();
 
     // ==============================================================================================
 
     @Override
-    public Document execute(Document pdf) throws PdfActException {
-        filterCharacters(pdf);
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
+        filterCharacters(pdf, executor);
         return pdf;
     }
 
@@ -44,28 +45,40 @@ public class PlainFilterCharactersPipe implements FilterCharactersPipe {
     /**
      * Filters those characters of a PDF document that should not be considered.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
+     * @throws PdfActException If something went wrong while processing the pages.
      */
-    protected void filterCharacters(Document pdf) {
+    protected void filterCharacters(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf != null) {
-            List<Page> pages = pdf.getPages();
-            for (Page page : pages) {
-                ElementList<Character> before = page.getCharacters();
-                // Create a new list of characters which should not be filtered.
-                ElementList<Character> after = new ElementList<>(before.size());
-                for (Character character : before) {
-                    this.numProcessedCharacters++;
-
-                    if (isFilterCharacter(character)) {
-                        this.numFilteredCharacters++;
-                        continue;
-                    }
-
-                    after.add(character);
-                }
-                page.setCharacters(after);
+            executor.forEachPage(pdf.getPages(), this::filterCharacters);
+        }
+    }
+
+    /**
+     * Filters those characters of the given page that should not be considered.
+     *
+     * @param page The page to process.
+     */
+    protected void filterCharacters(Page page) {
+        ElementList<Character> before = page.getCharacters();
+        if (before == null) {
+            return;
+        }
+
+        // Create a new list of characters which should not be filtered.
+        ElementList<Character> after = new ElementList<>(before.size());
+        for (Character character : before) {
+            this.numProcessedCharacters.increment();
+
+            if (isFilterCharacter(character)) {
+                this.numFilteredCharacters.increment();
+                continue;
             }
+
+            after.add(character);
         }
+        page.setCharacters(after);
     }
 
     /**
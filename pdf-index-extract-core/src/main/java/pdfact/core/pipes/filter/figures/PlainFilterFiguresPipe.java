@@ -7,8 +7,9 @@ import pdfact.core.model.Figure;
 import pdfact.core.model.Page;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.pipeline.PageExecutor;
 
-import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A plain implementation of {@link FilterFiguresPipe}.
@@ -24,25 +25,25 @@ public class PlainFilterFiguresPipe implements FilterFiguresPipe {
     /**
      * The number of processed figures.
      */
-    protected int numProcessedFigures;
+    protected final LongAdder numProcessedFigures = new LongAdder();
 
     /**
      * The number of filtered figures.
      */
-    protected int numFilteredFigures;
+    protected final LongAdder numFilteredFigures = new LongAdder();
 
     // ==============================================================================================
 
     @Override
-    public Document execute(Document pdf) throws PdfActException {
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
         log.debug("Start of pipe: " + getClass().getSimpleName() + ".");
 
         log.debug("Process: Filtering figures.");
-        filterFigures(pdf);
+        filterFigures(pdf, executor);
 
         log.debug("Filtering figures done.");
-        log.debug("# processed figures: " + this.numProcessedFigures);
-        log.debug("# filtered figures : " + this.numFilteredFigures);
+        log.debug("# processed figures: " + this.numProcessedFigures.sum());
+        log.debug("# filtered figures : " + this.numFilteredFigures.sum());
 
         log.debug("End of pipe: " + getClass().getSimpleName() + ".");
         return pdf;
@@ -53,28 +54,40 @@ public class PlainFilterFiguresPipe implements FilterFiguresPipe {
     /**
      * Filters those figures of a PDF document that should not be considered.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
+     * @throws PdfActException If something went wrong while processing the pages.
      */
-    protected void filterFigures(Document pdf) {
+    protected void filterFigures(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf != null) {
-            List<Page> pages = pdf.getPages();
-            for (Page page : pages) {
-                ElementList<Figure> before = page.getFigures();
-                // Create a new list of figures which should not be filtered.
-                ElementList<Figure> after = new ElementList<>(before.size());
-                for (Figure figure : before) {
-                    this.numProcessedFigures++;
-
-                    if (isFilterFigure(figure)) {
-                        this.numFilteredFigures++;
-                        continue;
-                    }
-
-                    after.add(figure);
-                }
-                page.setFigures(after);
+            executor.forEachPage(pdf.getPages(), this::filterFigures);
+        }
+    }
+
+    /**
+     * Filters those figures of the given page that should not be considered.
+     *
+     * @param page The page to process.
+     */
+    protected void filterFigures(Page page) {
+        ElementList<Figure> before = page.getFigures();
+        if (before == null) {
+            return;
+        }
+
+        // Create a new list of figures which should not be filtered.
+        ElementList<Figure> after = new ElementList<>(before.size());
+        for (Figure figure : before) {
+            this.numProcessedFigures.increment();
+
+            if (isFilterFigure(figure)) {
+                this.numFilteredFigures.increment();
+                continue;
             }
+
+            after.add(figure);
         }
+        page.setFigures(after);
     }
 
     /**
@@ -86,4 +99,4 @@ public class PlainFilterFiguresPipe implements FilterFiguresPipe {
     public static boolean isFilterFigure(Figure figure) {
         return false;
     }
-}
\ No newline at end of file
+}
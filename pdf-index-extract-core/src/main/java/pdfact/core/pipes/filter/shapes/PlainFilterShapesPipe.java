@@ -7,8 +7,9 @@ import pdfact.core.model.Page;
 import pdfact.core.model.Shape;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.pipeline.PageExecutor;
 
-import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A plain implementation of {@link FilterShapesPipe}.
@@ -24,25 +25,25 @@ public class PlainFilterShapesPipe implements FilterShapesPipe {
     /**
      * The number of processed shapes.
      */
-    protected int numProcessedShapes;
+    protected final LongAdder numProcessedShapes = new LongAdder();
 
     /**
      * The number of filtered shapes.
      */
-    protected int numFilteredShapes;
+    protected final LongAdder numFilteredShapes = new LongAdder();
 
     // ==============================================================================================
 
     @Override
-    public Document execute(Document pdf) throws PdfActException {
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
         log.debug("Start of pipe: " + getClass().getSimpleName() + ".");
 
         log.debug("Process: Filtering shapes.");
-        filterShapes(pdf);
+        filterShapes(pdf, executor);
 
         log.debug("Filtering shapes done.");
-        log.debug("# processed shapes: " + this.numProcessedShapes);
-        log.debug("# filtered shapes : " + this.numFilteredShapes);
+        log.debug("# processed shapes: " + this.numProcessedShapes.sum());
+        log.debug("# filtered shapes : " + this.numFilteredShapes.sum());
 
         log.debug("End of pipe: " + getClass().getSimpleName() + ".");
 
@@ -54,28 +55,40 @@ public class PlainFilterShapesPipe implements FilterShapesPipe {
     /**
      * Filters those shapes of a PDF document that should not be considered.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
+     * @throws PdfActException If something went wrong while processing the pages.
      */
-    protected void filterShapes(Document pdf) {
+    protected void filterShapes(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf != null) {
-            List<Page> pages = pdf.getPages();
-            for (Page page : pages) {
-                ElementList<Shape> before = page.getShapes();
-                // Create a new list of shapes which should not be filtered.
-                ElementList<Shape> after = new ElementList<>(before.size());
-                for (Shape shape : before) {
-                    this.numProcessedShapes++;
-
-                    if (isFilterShape(shape)) {
-                        this.numFilteredShapes++;
-                        continue;
-                    }
-
-                    after.add(shape);
-                }
-                page.setShapes(after);
+            executor.forEachPage(pdf.getPages(), this::filterShapes);
+        }
+    }
+
+    /**
+     * Filters those shapes of the given page that should not be considered.
+     *
+     * @param page The page to process.
+     */
+    protected void filterShapes(Page page) {
+        ElementList<Shape> before = page.getShapes();
+        if (before == null) {
+            return;
+        }
+
+        // Create a new list of shapes which should not be filtered.
+        ElementList<Shape> after = new ElementList<>(before.size());
+        for (Shape shape : before) {
+            this.numProcessedShapes.increment();
+
+            if (isFilterShape(shape)) {
+                this.numFilteredShapes.increment();
+                continue;
             }
+
+            after.add(shape);
         }
+        page.setShapes(after);
     }
 
     /**
@@ -87,4 +100,4 @@ public class PlainFilterShapesPipe implements FilterShapesPipe {
     public static boolean isFilterShape(Shape shape) {
         return false;
     }
-}
\ No newline at end of file
+}
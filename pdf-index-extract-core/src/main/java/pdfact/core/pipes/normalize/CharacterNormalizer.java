@@ -0,0 +1,198 @@
+package pdfact.core.pipes.normalize;
+
+import pdfact.core.model.Character;
+import pdfact.core.model.Page;
+import pdfact.core.pipes.filter.characters.PlainFilterCharactersPipe;
+import pdfact.core.pipes.translate.characters.PlainStandardizeCharactersPipe;
+import pdfact.core.pipes.translate.diacritics.PlainMergeDiacriticsPipe;
+import pdfact.core.pipes.translate.ligatures.PlainSplitLigaturesPipe;
+
+/**
+ * A normalizer that merges diacritics, splits ligatures, standardizes and filters the characters
+ * of a single page in one traversal. The characters are passed to {@link #add(Character)} one by
+ * one, in extraction order, and the normalized characters are added to the page.
+ *
+ * <p>
+ * A diacritic is merged with one of its (unfiltered) neighbors, so a character can be modified up
+ * to the point where its right neighbor was processed. For this reason, each character is held
+ * back until its right neighbor was added (or {@link #finish()} is called). Apart from this delay
+ * of one character, the output is the same as of running the individual pipes one after another.
+ */
+public class CharacterNormalizer {
+    /**
+     * The page to which the normalized characters are added.
+     */
+    protected final Page page;
+
+    /**
+     * The pipe to use to merge the diacritics.
+     */
+    protected final PlainMergeDiacriticsPipe diacriticsMerger;
+
+    /**
+     * The pipe to use to split the ligatures.
+     */
+    protected final PlainSplitLigaturesPipe ligaturesSplitter;
+
+    /**
+     * The pipe to use to standardize the characters.
+     */
+    protected final PlainStandardizeCharactersPipe charactersStandardizer;
+
+    /**
+     * The character before the current character.
+     */
+    protected Character prev;
+
+    /**
+     * Whether the character before the current character is a base character (and not a
+     * diacritic).
+     */
+    protected boolean isPrevBaseCharacter;
+
+    /**
+     * The character that was added last and that is not processed yet.
+     */
+    protected Character current;
+
+    /**
+     * Whether there is a current character that is not processed yet.
+     */
+    protected boolean hasCurrent;
+
+    /**
+     * The number of processed characters.
+     */
+    protected int numProcessedCharacters;
+
+    /**
+     * The number of merged diacritics.
+     */
+    protected int numMergedDiacritics;
+
+    /**
+     * The number of filtered characters.
+     */
+    protected int numFilteredCharacters;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new character normalizer.
+     *
+     * @param page                   The page to which the normalized characters should be added.
+     * @param diacriticsMerger       The pipe to use to merge the diacritics.
+     * @param ligaturesSplitter      The pipe to use to split the ligatures.
+     * @param charactersStandardizer The pipe to use to standardize the characters.
+     */
+    public CharacterNormalizer(Page page, PlainMergeDiacriticsPipe diacriticsMerger,
+            PlainSplitLigaturesPipe ligaturesSplitter, PlainStandardizeCharactersPipe charactersStandardizer) {
+        this.page = page;
+        this.diacriticsMerger = diacriticsMerger;
+        this.ligaturesSplitter = ligaturesSplitter;
+        this.charactersStandardizer = charactersStandardizer;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Adds the next character of the page.
+     *
+     * @param character The character to add.
+     */
+    public void add(Character character) {
+        if (this.hasCurrent) {
+            process(character);
+        }
+        this.current = character;
+        this.hasCurrent = true;
+    }
+
+    /**
+     * Processes the remaining characters. Must be called after the last character of the page was
+     * added.
+     */
+    public void finish() {
+        if (this.hasCurrent) {
+            process(null);
+            if (this.isPrevBaseCharacter) {
+                emit(this.prev);
+            }
+        }
+        this.prev = null;
+        this.isPrevBaseCharacter = false;
+        this.current = null;
+        this.hasCurrent = false;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Processes the current character, given the next character: merges the current character
+     * with one of its neighbors if it is a diacritic. Afterwards, the previous character can't be
+     * modified anymore and is emitted (if it is not a diacritic).
+     *
+     * @param next The character after the current character.
+     */
+    protected void process(Character next) {
+        boolean isBaseCharacter = !PlainMergeDiacriticsPipe.isDiacritic(this.current);
+        if (!isBaseCharacter) {
+            this.diacriticsMerger.mergeDiacritic(this.prev, this.current, next);
+            this.numMergedDiacritics++;
+        }
+        this.numProcessedCharacters++;
+
+        if (this.isPrevBaseCharacter) {
+            emit(this.prev);
+        }
+
+        this.prev = this.current;
+        this.isPrevBaseCharacter = isBaseCharacter;
+    }
+
+    /**
+     * Splits the ligature and standardizes the given (final) character and adds it to the page,
+     * unless it should be filtered out.
+     *
+     * @param character The character to emit.
+     */
+    protected void emit(Character character) {
+        this.ligaturesSplitter.splitLigature(character);
+        this.charactersStandardizer.standardizeCharacter(character);
+
+        if (PlainFilterCharactersPipe.isFilterCharacter(character)) {
+            this.numFilteredCharacters++;
+            return;
+        }
+        this.page.addCharacter(character);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the number of processed characters.
+     *
+     * @return The number of processed characters.
+     */
+    public int getNumProcessedCharacters() {
+        return this.numProcessedCharacters;
+    }
+
+    /**
+     * Returns the number of merged diacritics.
+     *
+     * @return The number of merged diacritics.
+     */
+    public int getNumMergedDiacritics() {
+        return this.numMergedDiacritics;
+    }
+
+    /**
+     * Returns the number of filtered characters.
+     *
+     * @return The number of filtered characters.
+     */
+    public int getNumFilteredCharacters() {
+        return this.numFilteredCharacters;
+    }
+}
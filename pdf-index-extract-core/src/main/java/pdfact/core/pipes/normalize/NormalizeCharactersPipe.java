@@ -0,0 +1,42 @@
+package pdfact.core.pipes.normalize;
+
+import pdfact.core.model.Figure;
+import pdfact.core.model.Page;
+import pdfact.core.model.Shape;
+import pdfact.core.util.pipeline.PagePipe;
+
+/**
+ * A pipe that normalizes the characters, figures and shapes of a PDF document in a single pass
+ * per page: it merges the diacritics with their base characters, splits the ligatures,
+ * standardizes the characters and filters those characters, figures and shapes that should not be
+ * considered. The result is the same as running the individual pipes (MergeDiacriticsPipe,
+ * SplitLigaturesPipe, StandardizeCharactersPipe, FilterCharactersPipe, FilterFiguresPipe and
+ * FilterShapesPipe) one after another.
+ */
+public interface NormalizeCharactersPipe extends PagePipe {
+    /**
+     * Creates a normalizer that normalizes the characters passed to it (in extraction order) and
+     * adds the normalized characters to the given page. This allows to normalize the characters
+     * while parsing the page.
+     *
+     * @param page The page to which the normalized characters should be added.
+     * @return The created normalizer.
+     */
+    CharacterNormalizer newCharacterNormalizer(Page page);
+
+    /**
+     * Checks if the given figure should be filtered out.
+     *
+     * @param figure The figure to check.
+     * @return True if the given figure should be filtered out; False otherwise.
+     */
+    boolean isFilterFigure(Figure figure);
+
+    /**
+     * Checks if the given shape should be filtered out.
+     *
+     * @param shape The shape to check.
+     * @return True if the given shape should be filtered out; False otherwise.
+     */
+    boolean isFilterShape(Shape shape);
+}
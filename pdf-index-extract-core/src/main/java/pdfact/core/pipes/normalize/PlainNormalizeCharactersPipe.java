@@ -0,0 +1,172 @@
+package pdfact.core.pipes.normalize;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import pdfact.core.model.Character;
+import pdfact.core.model.Document;
+import pdfact.core.model.Figure;
+import pdfact.core.model.Page;
+import pdfact.core.model.Shape;
+import pdfact.core.pipes.filter.figures.PlainFilterFiguresPipe;
+import pdfact.core.pipes.filter.shapes.PlainFilterShapesPipe;
+import pdfact.core.pipes.translate.characters.PlainStandardizeCharactersPipe;
+import pdfact.core.pipes.translate.diacritics.PlainMergeDiacriticsPipe;
+import pdfact.core.pipes.translate.ligatures.PlainSplitLigaturesPipe;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.list.ElementList;
+import pdfact.core.util.pipeline.PageExecutor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A plain implementation of {@link NormalizeCharactersPipe}. The individual steps are delegated to
+ * the plain implementations of the individual pipes, which are kept as reference implementation.
+ */
+public class PlainNormalizeCharactersPipe implements NormalizeCharactersPipe {
+    /**
+     * The logger.
+     */
+    protected static Logger log = LogManager.getLogger(PlainNormalizeCharactersPipe.class);
+
+    /**
+     * The pipe to use to merge the diacritics.
+     */
+    protected final PlainMergeDiacriticsPipe diacriticsMerger = new PlainMergeDiacriticsPipe();
+
+    /**
+     * The pipe to use to split the ligatures.
+     */
+    protected final PlainSplitLigaturesPipe ligaturesSplitter = new PlainSplitLigaturesPipe();
+
+    /**
+     * The pipe to use to standardize the characters.
+     */
+    protected final PlainStandardizeCharactersPipe charactersStandardizer = new PlainStandardizeCharactersPipe();
+
+    /**
+     * The number of processed characters.
+     */
+    protected final LongAdder numProcessedCharacters = new LongAdder();
+
+    /**
+     * The number of merged diacritics.
+     */
+    protected final LongAdder numMergedDiacritics = new LongAdder();
+
+    /**
+     * The number of filtered characters.
+     */
+    protected final LongAdder numFilteredCharacters = new LongAdder();
+
+    /**
+     * The number of filtered figures.
+     */
+    protected final LongAdder numFilteredFigures = new LongAdder();
+
+    /**
+     * The number of filtered shapes.
+     */
+    protected final LongAdder numFilteredShapes = new LongAdder();
+
+    // ==============================================================================================
+
+    @Override
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
+        log.debug("Start of pipe: " + getClass().getSimpleName() + ".");
+
+        log.debug("Process: Normalizing the characters, figures and shapes.");
+        normalize(pdf, executor);
+
+        log.debug("Normalizing the characters, figures and shapes done.");
+        log.debug("# processed characters: " + this.numProcessedCharacters.sum());
+        log.debug("# merged diacritics   : " + this.numMergedDiacritics.sum());
+        log.debug("# filtered characters : " + this.numFilteredCharacters.sum());
+        log.debug("# filtered figures    : " + this.numFilteredFigures.sum());
+        log.debug("# filtered shapes     : " + this.numFilteredShapes.sum());
+
+        log.debug("End of pipe: " + getClass().getSimpleName() + ".");
+        return pdf;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Normalizes the characters, figures and shapes of the given PDF document.
+     *
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
+     * @throws PdfActException If something went wrong while processing the pages.
+     */
+    protected void normalize(Document pdf, PageExecutor executor) throws PdfActException {
+        if (pdf != null) {
+            executor.forEachPage(pdf.getPages(), this::normalize);
+        }
+    }
+
+    /**
+     * Normalizes the characters, figures and shapes of the given page.
+     *
+     * @param page The page to process.
+     */
+    protected void normalize(Page page) {
+        ElementList<Character> characters = page.getCharacters();
+        if (characters != null) {
+            // Replace the characters by the normalized characters.
+            page.setCharacters(new ElementList<>(characters.size()));
+
+            CharacterNormalizer normalizer = newCharacterNormalizer(page);
+            for (Character character : characters) {
+                normalizer.add(character);
+            }
+            normalizer.finish();
+
+            this.numProcessedCharacters.add(normalizer.getNumProcessedCharacters());
+            this.numMergedDiacritics.add(normalizer.getNumMergedDiacritics());
+            this.numFilteredCharacters.add(normalizer.getNumFilteredCharacters());
+        }
+
+        ElementList<Figure> figures = page.getFigures();
+        if (figures != null) {
+            ElementList<Figure> after = new ElementList<>(figures.size());
+            for (Figure figure : figures) {
+                if (isFilterFigure(figure)) {
+                    this.numFilteredFigures.increment();
+                    continue;
+                }
+                after.add(figure);
+            }
+            page.setFigures(after);
+        }
+
+        ElementList<Shape> shapes = page.getShapes();
+        if (shapes != null) {
+            ElementList<Shape> after = new ElementList<>(shapes.size());
+            for (Shape shape : shapes) {
+                if (isFilterShape(shape)) {
+                    this.numFilteredShapes.increment();
+                    continue;
+                }
+                after.add(shape);
+            }
+            page.setShapes(after);
+        }
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public CharacterNormalizer newCharacterNormalizer(Page page) {
+        return new CharacterNormalizer(page, this.diacriticsMerger, this.ligaturesSplitter,
+                this.charactersStandardizer);
+    }
+
+    @Override
+    public boolean isFilterFigure(Figure figure) {
+        return PlainFilterFiguresPipe.isFilterFigure(figure);
+    }
+
+    @Override
+    public boolean isFilterShape(Shape shape) {
+        return PlainFilterShapesPipe.isFilterShape(shape);
+    }
+}
@@ -0,0 +1,316 @@
+package pdfact.core.pipes.parse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.pdfbox.contentstream.PDContentStream;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import pdfact.core.model.DocumentSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * A cheap estimator of the heap memory needed to process a PDF document, used to admit documents
+ * to a {@link pdfact.core.util.pipeline.MemoryBudget}. The model of a document (characters, words,
+ * lines, blocks, paragraphs) grows with the number of glyphs, so the estimator tokenizes the content
+ * streams of a sample of pages (spread over the whole document), counts the bytes of the shown
+ * strings and the painted paths, and extrapolates them to all pages to parse. No glyph or image is
+ * decoded. A document that can't be loaded is estimated from its file size only.
+ */
+public class DocumentCostEstimator {
+    /**
+     * The logger.
+     */
+    protected static Logger log = LogManager.getFormatterLogger("pdf-parsing");
+
+    /**
+     * The default number of pages to sample.
+     */
+    public static final int DEFAULT_NUM_SAMPLE_PAGES = 8;
+
+    /**
+     * The heap bytes per shown character, for the character and its share of the words, lines,
+     * blocks and paragraphs (the retained size is about 450-500 bytes per character; the shown
+     * strings also contain the spaces, which are no characters of the model).
+     */
+    public static final long BYTES_PER_CHARACTER = 512;
+
+    /**
+     * The heap bytes per shape.
+     */
+    public static final long BYTES_PER_SHAPE = 256;
+
+    /**
+     * The heap bytes per page, for the page itself and its resources.
+     */
+    public static final long BYTES_PER_PAGE = 16 * 1024;
+
+    /**
+     * The heap bytes per byte of the PDF file, for the loaded PDF file itself.
+     */
+    public static final long BYTES_PER_FILE_BYTE = 2;
+
+    /**
+     * The max. depth of nested form XObjects to sample.
+     */
+    protected static final int MAX_FORM_DEPTH = 4;
+
+    /**
+     * The number of pages to sample.
+     */
+    protected int numSamplePages;
+
+    /**
+     * The number of pages to parse, as counted by the last estimation.
+     */
+    protected int numPages;
+
+    /**
+     * The number of pages sampled by the last estimation.
+     */
+    protected int numSampledPages;
+
+    /**
+     * The number of characters on the sampled pages, as counted by the last estimation.
+     */
+    protected long numSampledCharacters;
+
+    /**
+     * The number of shapes on the sampled pages, as counted by the last estimation.
+     */
+    protected long numSampledShapes;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new estimator with the default number of pages to sample.
+     */
+    public DocumentCostEstimator() {
+        this(DEFAULT_NUM_SAMPLE_PAGES);
+    }
+
+    /**
+     * Creates a new estimator.
+     *
+     * @param numSamplePages The number of pages to sample.
+     */
+    public DocumentCostEstimator(int numSamplePages) {
+        this.numSamplePages = numSamplePages;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Estimates the heap memory needed to process the given PDF document.
+     *
+     * @param source   The source of the PDF document.
+     * @param selector The selector of the pages to parse, or null if all pages are parsed.
+     * @return The estimated number of bytes.
+     */
+    public long estimate(DocumentSource source, PageSelector selector) {
+        try (PDDocument doc = source.load()) {
+            return estimate(source, doc, selector);
+        } catch (IOException | RuntimeException e) {
+            // The parser reports the actual error, so go with the file size here.
+            log.debug("Couldn't load the PDF: %s", e.getMessage());
+            return estimate(source, null, selector);
+        }
+    }
+
+    /**
+     * Estimates the heap memory needed to process the given PDF document, which is already loaded
+     * (e.g. to be parsed afterwards).
+     *
+     * @param source   The source of the PDF document.
+     * @param doc      The loaded PDF document, or null if it couldn't be loaded.
+     * @param selector The selector of the pages to parse, or null if all pages are parsed.
+     * @return The estimated number of bytes.
+     */
+    public long estimate(DocumentSource source, PDDocument doc, PageSelector selector) {
+        this.numPages = 0;
+        this.numSampledPages = 0;
+        this.numSampledCharacters = 0;
+        this.numSampledShapes = 0;
+
+        long estimate = 0;
+        try {
+            estimate = estimateLoad(source);
+            if (doc != null) {
+                estimate += estimate(doc, selector);
+            }
+        } catch (IOException | RuntimeException e) {
+            // The parser reports the actual error, so go with the file size here.
+            log.debug("Couldn't sample the PDF: %s", e.getMessage());
+        }
+        log.debug("Estimated %d bytes for %s (%d pages, sampled %d pages with %d chars and %d shapes).",
+                estimate, source.getName(), this.numPages, this.numSampledPages, this.numSampledCharacters,
+                this.numSampledShapes);
+        return estimate;
+    }
+
+    /**
+     * Estimates the heap memory needed to load the given PDF document, from its file size only.
+     *
+     * @param source The source of the PDF document.
+     * @return The estimated number of bytes.
+     * @throws IOException If the size of the PDF document couldn't be determined.
+     */
+    public long estimateLoad(DocumentSource source) throws IOException {
+        return Math.max(source.size(), 0) * BYTES_PER_FILE_BYTE;
+    }
+
+    /**
+     * Estimates the heap memory needed to process the pages of the given loaded PDF document.
+     *
+     * @param doc      The loaded PDF document.
+     * @param selector The selector of the pages to parse, or null if all pages are parsed.
+     * @return The estimated number of bytes, without the loaded PDF document itself.
+     */
+    public long estimate(PDDocument doc, PageSelector selector) {
+        IntPredicate selectedPages = selector != null ? selector.selectPages(doc) : null;
+        List<Integer> pageIndexes = new ArrayList<>();
+        for (int i = 0; i < doc.getNumberOfPages(); i++) {
+            if (selectedPages == null || selectedPages.test(i + 1)) {
+                pageIndexes.add(i);
+            }
+        }
+        this.numPages = pageIndexes.size();
+
+        int numSamples = Math.min(this.numPages, this.numSamplePages);
+        for (int i = 0; i < numSamples; i++) {
+            // Spread the samples evenly over the pages to parse.
+            int pageIndex = pageIndexes.get((int) ((long) i * this.numPages / numSamples));
+            PDPage page = doc.getPage(pageIndex);
+            try {
+                sample(page, page.getResources(), 0);
+            } catch (IOException e) {
+                log.debug("Couldn't sample page %d: %s", pageIndex + 1, e.getMessage());
+            }
+            this.numSampledPages++;
+        }
+
+        long estimate = (long) doc.getNumberOfPages() * BYTES_PER_PAGE;
+        if (this.numSampledPages > 0) {
+            estimate += (this.numSampledCharacters * BYTES_PER_CHARACTER + this.numSampledShapes * BYTES_PER_SHAPE)
+                    * this.numPages / this.numSampledPages;
+        }
+        return estimate;
+    }
+
+    /**
+     * Counts the shown characters and the painted paths of the given content stream, including the
+     * nested form XObjects.
+     *
+     * @param stream    The content stream.
+     * @param resources The resources of the content stream.
+     * @param depth     The depth of the nested form XObjects.
+     * @throws IOException If reading the content stream failed.
+     */
+    protected void sample(PDContentStream stream, PDResources resources, int depth) throws IOException {
+        PDFStreamParser parser = new PDFStreamParser(stream);
+        long numStringBytes = 0;
+        for (Object token = parser.parseNextToken(); token != null; token = parser.parseNextToken()) {
+            if (token instanceof COSString) {
+                numStringBytes += ((COSString) token).getBytes().length;
+            } else if (token instanceof COSArray) {
+                for (COSBase element : (COSArray) token) {
+                    if (element instanceof COSString) {
+                        numStringBytes += ((COSString) element).getBytes().length;
+                    }
+                }
+            } else if (token instanceof Operator) {
+                String name = ((Operator) token).getName();
+                if (TextLayerProbe.isTextShowingOperator(name)) {
+                    this.numSampledCharacters += numStringBytes;
+                } else if (isPathPaintingOperator(name)) {
+                    this.numSampledShapes++;
+                }
+                numStringBytes = 0;
+            }
+        }
+
+        if (resources == null || depth >= MAX_FORM_DEPTH) {
+            return;
+        }
+        for (COSName name : resources.getXObjectNames()) {
+            PDXObject xObject = resources.getXObject(name);
+            if (xObject instanceof PDFormXObject) {
+                PDFormXObject form = (PDFormXObject) xObject;
+                sample(form, form.getResources() != null ? form.getResources() : resources, depth + 1);
+            }
+        }
+    }
+
+    /**
+     * Checks if the given operator paints (strokes or fills) a path.
+     *
+     * @param name The name of the operator.
+     * @return True if the operator paints a path; false otherwise.
+     */
+    protected static boolean isPathPaintingOperator(String name) {
+        switch (name) {
+            case "S":
+            case "s":
+            case "f":
+            case "F":
+            case "f*":
+            case "B":
+            case "B*":
+            case "b":
+            case "b*":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the number of pages to parse, as counted by the last estimation.
+     *
+     * @return The number of pages to parse.
+     */
+    public int getNumPages() {
+        return this.numPages;
+    }
+
+    /**
+     * Returns the number of pages sampled by the last estimation.
+     *
+     * @return The number of sampled pages.
+     */
+    public int getNumSampledPages() {
+        return this.numSampledPages;
+    }
+
+    /**
+     * Returns the number of characters on the sampled pages.
+     *
+     * @return The number of sampled characters.
+     */
+    public long getNumSampledCharacters() {
+        return this.numSampledCharacters;
+    }
+
+    /**
+     * Returns the number of shapes on the sampled pages.
+     *
+     * @return The number of sampled shapes.
+     */
+    public long getNumSampledShapes() {
+        return this.numSampledShapes;
+    }
+}
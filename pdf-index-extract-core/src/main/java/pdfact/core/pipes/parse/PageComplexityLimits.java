@@ -0,0 +1,164 @@
+package pdfact.core.pipes.parse;
+
+import pdfact.core.model.ComplexityGuard;
+
+/**
+ * The per-page complexity limits above which a page is degraded while parsing (see
+ * {@link pdfact.core.model.Page#isDegraded()}). Pages like maps, dense charts or tables typeset
+ * with per-glyph positioning can consist of hundreds of thousands of glyphs or path segments, on
+ * which the tokenizers would need a multiple of the time of all other pages of a book. A degraded
+ * page is processed with cheaper strategies: its shapes are skipped, its images are not classified
+ * into shapes and figures, and it is cut into text areas by horizontal bands only.
+ *
+ * <p>
+ * The default limits are far above the complexity of ordinary book pages. A limit of 0 disables
+ * the corresponding guard.
+ */
+public class PageComplexityLimits {
+    /**
+     * The default max. number of operators per page.
+     */
+    public static final int DEFAULT_MAX_OPERATORS = 250_000;
+
+    /**
+     * The default max. number of characters per page.
+     */
+    public static final int DEFAULT_MAX_CHARACTERS = 50_000;
+
+    /**
+     * The default max. number of shapes per page.
+     */
+    public static final int DEFAULT_MAX_SHAPES = 50_000;
+
+    /**
+     * The max. number of operators per page (0 for no limit).
+     */
+    protected int maxOperators;
+
+    /**
+     * The max. number of characters per page (0 for no limit).
+     */
+    protected int maxCharacters;
+
+    /**
+     * The max. number of shapes per page (0 for no limit).
+     */
+    protected int maxShapes;
+
+    // ==============================================================================================
+
+    /**
+     * Creates new limits with the default values.
+     */
+    public PageComplexityLimits() {
+        this(DEFAULT_MAX_OPERATORS, DEFAULT_MAX_CHARACTERS, DEFAULT_MAX_SHAPES);
+    }
+
+    /**
+     * Creates new limits.
+     *
+     * @param maxOperators  The max. number of operators per page (0 for no limit).
+     * @param maxCharacters The max. number of characters per page (0 for no limit).
+     * @param maxShapes     The max. number of shapes per page (0 for no limit).
+     */
+    public PageComplexityLimits(int maxOperators, int maxCharacters, int maxShapes) {
+        this.maxOperators = maxOperators;
+        this.maxCharacters = maxCharacters;
+        this.maxShapes = maxShapes;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the limit of the given guard.
+     *
+     * @param guard The guard.
+     * @return The limit of the guard (0 for no limit).
+     */
+    public int getLimit(ComplexityGuard guard) {
+        switch (guard) {
+            case OPERATORS:
+                return this.maxOperators;
+            case CHARACTERS:
+                return this.maxCharacters;
+            case SHAPES:
+                return this.maxShapes;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Returns true if the given count exceeds the limit of the given guard.
+     *
+     * @param guard The guard.
+     * @param count The count to check.
+     * @return True if the count exceeds the limit, false otherwise.
+     */
+    public boolean isExceeded(ComplexityGuard guard, int count) {
+        int limit = getLimit(guard);
+        return limit > 0 && count > limit;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the max. number of operators per page (0 for no limit).
+     *
+     * @return The max. number of operators per page.
+     */
+    public int getMaxOperators() {
+        return this.maxOperators;
+    }
+
+    /**
+     * Sets the max. number of operators per page (0 for no limit).
+     *
+     * @param maxOperators The max. number of operators per page.
+     */
+    public void setMaxOperators(int maxOperators) {
+        this.maxOperators = maxOperators;
+    }
+
+    /**
+     * Returns the max. number of characters per page (0 for no limit).
+     *
+     * @return The max. number of characters per page.
+     */
+    public int getMaxCharacters() {
+        return this.maxCharacters;
+    }
+
+    /**
+     * Sets the max. number of characters per page (0 for no limit).
+     *
+     * @param maxCharacters The max. number of characters per page.
+     */
+    public void setMaxCharacters(int maxCharacters) {
+        this.maxCharacters = maxCharacters;
+    }
+
+    /**
+     * Returns the max. number of shapes per page (0 for no limit).
+     *
+     * @return The max. number of shapes per page.
+     */
+    public int getMaxShapes() {
+        return this.maxShapes;
+    }
+
+    /**
+     * Sets the max. number of shapes per page (0 for no limit).
+     *
+     * @param maxShapes The max. number of shapes per page.
+     */
+    public void setMaxShapes(int maxShapes) {
+        this.maxShapes = maxShapes;
+    }
+
+    @Override
+    public String toString() {
+        return "PageComplexityLimits(operators: " + this.maxOperators + ", characters: " + this.maxCharacters
+                + ", shapes: " + this.maxShapes + ")";
+    }
+}
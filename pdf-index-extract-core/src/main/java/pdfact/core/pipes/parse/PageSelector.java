@@ -0,0 +1,41 @@
+package pdfact.core.pipes.parse;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import java.util.function.IntPredicate;
+
+/**
+ * A selector that decides, once the PDF file is loaded and before any page is parsed, which pages
+ * should be parsed. Pages that are not selected are added to the document as empty pages (with
+ * their page number and size), such that the page numbers still match the positions of the pages
+ * in the document.
+ */
+public interface PageSelector {
+    /**
+     * Selects the pages of the given PDF file to parse.
+     *
+     * @param document The loaded PDF file.
+     * @return A predicate that tests if the page with a given (1-based) page number should be
+     * parsed, or null if all pages should be parsed.
+     */
+    IntPredicate selectPages(PDDocument document);
+
+    /**
+     * Returns a selector that asks the given selectors in order and uses the selection of the first
+     * selector that selects any pages.
+     *
+     * @param selectors The selectors to ask.
+     * @return The combined selector.
+     */
+    static PageSelector firstOf(PageSelector... selectors) {
+        return document -> {
+            for (PageSelector selector : selectors) {
+                IntPredicate selection = selector.selectPages(document);
+                if (selection != null) {
+                    return selection;
+                }
+            }
+            return null;
+        };
+    }
+}
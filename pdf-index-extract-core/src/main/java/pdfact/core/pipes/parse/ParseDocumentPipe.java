@@ -1,5 +1,7 @@
 package pdfact.core.pipes.parse;
 
+import pdfact.core.model.Document;
+import pdfact.core.pipes.normalize.NormalizeCharactersPipe;
 import pdfact.core.util.pipeline.Pipe;
 
 /**
@@ -10,5 +12,78 @@ import pdfact.core.util.pipeline.Pipe;
  * @author Claudius Korzen
  */
 public interface ParseDocumentPipe extends Pipe {
+    /**
+     * Returns the pipe with which the characters, figures and shapes are normalized while parsing.
+     *
+     * @return The pipe with which the characters, figures and shapes are normalized, or null if
+     * they are kept as they are.
+     */
+    NormalizeCharactersPipe getNormalizeCharactersPipe();
 
+    /**
+     * Sets the pipe with which the characters, figures and shapes should be normalized while
+     * parsing.
+     *
+     * @param pipe The pipe with which the characters, figures and shapes should be normalized, or
+     *             null if they should be kept as they are.
+     */
+    void setNormalizeCharactersPipe(NormalizeCharactersPipe pipe);
+
+    /**
+     * Returns the selector of the pages to parse.
+     *
+     * @return The selector of the pages to parse, or null if all pages are parsed.
+     */
+    PageSelector getPageSelector();
+
+    /**
+     * Sets the selector of the pages to parse.
+     *
+     * @param selector The selector of the pages to parse, or null if all pages should be parsed.
+     */
+    void setPageSelector(PageSelector selector);
+
+    /**
+     * Returns the probe that checks whether the PDF has a text layer before it is parsed.
+     *
+     * @return The probe, or null if the PDF is parsed without probing.
+     */
+    TextLayerProbe getTextLayerProbe();
+
+    /**
+     * Sets the probe that checks whether the PDF has a text layer before it is parsed.
+     *
+     * @param probe The probe, or null if the PDF should be parsed without probing.
+     */
+    void setTextLayerProbe(TextLayerProbe probe);
+
+    /**
+     * Returns the per-page complexity limits above which a page is degraded.
+     *
+     * @return The limits, or null if no page is degraded.
+     */
+    PageComplexityLimits getPageComplexityLimits();
+
+    /**
+     * Sets the per-page complexity limits above which a page is degraded.
+     *
+     * @param limits The limits, or null if no page should be degraded.
+     */
+    void setPageComplexityLimits(PageComplexityLimits limits);
+
+    /**
+     * Returns whether the PDF file is kept open after parsing.
+     *
+     * @return True if the PDF file is kept open after parsing.
+     */
+    boolean isKeepPdDocumentOpen();
+
+    /**
+     * Sets whether the PDF file should be kept open after parsing (see
+     * {@link Document#getPdDocument()}), such that later pipes can reuse it. The caller is then
+     * responsible for closing it.
+     *
+     * @param keepPdDocumentOpen True to keep the PDF file open after parsing.
+     */
+    void setKeepPdDocumentOpen(boolean keepPdDocumentOpen);
 }
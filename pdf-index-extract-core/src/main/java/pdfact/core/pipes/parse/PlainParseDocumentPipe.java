@@ -1,6 +1,7 @@
 package pdfact.core.pipes.parse;
 
 import pdfact.core.model.Document;
+import pdfact.core.pipes.normalize.NormalizeCharactersPipe;
 import pdfact.core.pipes.parse.stream.pdfbox.PdfBoxPdfStreamsParser;
 import pdfact.core.util.exception.PdfActException;
 
@@ -10,6 +11,34 @@ import pdfact.core.util.exception.PdfActException;
  * @author Claudius Korzen
  */
 public class PlainParseDocumentPipe implements ParseDocumentPipe {
+    /**
+     * The pipe with which the characters, figures and shapes are normalized while parsing.
+     */
+    protected NormalizeCharactersPipe normalizePipe;
+
+    /**
+     * The selector of the pages to parse.
+     */
+    protected PageSelector pageSelector;
+
+    /**
+     * The probe that checks whether the PDF has a text layer before it is parsed.
+     */
+    protected TextLayerProbe textLayerProbe;
+
+    /**
+     * The per-page complexity limits above which a page is degraded, or null if no page is
+     * degraded.
+     */
+    protected PageComplexityLimits pageComplexityLimits;
+
+    /**
+     * Whether the PDF file should be kept open after parsing.
+     */
+    protected boolean keepPdDocumentOpen;
+
+    // ==============================================================================================
+
     @Override
     public Document execute(Document doc) throws PdfActException {
         parseDocument(doc);
@@ -23,6 +52,71 @@ public class PlainParseDocumentPipe implements ParseDocumentPipe {
      * @throws PdfActException If something went wrong while parsing the document.
      */
     protected void parseDocument(Document doc) throws PdfActException {
-        new PdfBoxPdfStreamsParser().parse(doc);
+        PdfBoxPdfStreamsParser parser = new PdfBoxPdfStreamsParser(this.normalizePipe);
+        parser.setPageSelector(this.pageSelector);
+        parser.setTextLayerProbe(this.textLayerProbe);
+        parser.setPageComplexityLimits(this.pageComplexityLimits);
+        parser.setKeepPdDocumentOpen(this.keepPdDocumentOpen);
+        parser.parse(doc);
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public NormalizeCharactersPipe getNormalizeCharactersPipe() {
+        return this.normalizePipe;
+    }
+
+    @Override
+    public void setNormalizeCharactersPipe(NormalizeCharactersPipe pipe) {
+        this.normalizePipe = pipe;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public PageSelector getPageSelector() {
+        return this.pageSelector;
+    }
+
+    @Override
+    public void setPageSelector(PageSelector selector) {
+        this.pageSelector = selector;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public TextLayerProbe getTextLayerProbe() {
+        return this.textLayerProbe;
+    }
+
+    @Override
+    public void setTextLayerProbe(TextLayerProbe probe) {
+        this.textLayerProbe = probe;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public PageComplexityLimits getPageComplexityLimits() {
+        return this.pageComplexityLimits;
+    }
+
+    @Override
+    public void setPageComplexityLimits(PageComplexityLimits limits) {
+        this.pageComplexityLimits = limits;
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public boolean isKeepPdDocumentOpen() {
+        return this.keepPdDocumentOpen;
+    }
+
+    @Override
+    public void setKeepPdDocumentOpen(boolean keepPdDocumentOpen) {
+        this.keepPdDocumentOpen = keepPdDocumentOpen;
     }
 }
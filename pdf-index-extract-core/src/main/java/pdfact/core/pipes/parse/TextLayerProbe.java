@@ -0,0 +1,207 @@
+package pdfact.core.pipes.parse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.pdfbox.contentstream.PDContentStream;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+import java.io.IOException;
+
+/**
+ * A cheap probe that checks whether a PDF document has a text layer at all, before it is parsed.
+ * It tokenizes the content streams of a sample of pages (spread over the whole document, since
+ * the first pages are often covers without text) and counts the text-showing operators and the
+ * font resources, without decoding any glyph or image. A document without any text-showing
+ * operator on the sampled pages (e.g., a scanned book without OCR) is considered to be text-less,
+ * so it can be rejected without running the full pipeline.
+ */
+public class TextLayerProbe {
+    /**
+     * The logger.
+     */
+    protected static Logger log = LogManager.getFormatterLogger("pdf-parsing");
+
+    /**
+     * The default number of pages to probe.
+     */
+    public static final int DEFAULT_NUM_SAMPLE_PAGES = 8;
+
+    /**
+     * The max. depth of nested form XObjects to probe.
+     */
+    protected static final int MAX_FORM_DEPTH = 4;
+
+    /**
+     * The number of pages to probe.
+     */
+    protected int numSamplePages;
+
+    /**
+     * The number of pages probed by the last probe.
+     */
+    protected int numProbedPages;
+
+    /**
+     * The number of text-showing operators found by the last probe.
+     */
+    protected int numTextOperators;
+
+    /**
+     * The number of font resources found by the last probe.
+     */
+    protected int numFonts;
+
+    /**
+     * The number of image XObjects found by the last probe.
+     */
+    protected int numImages;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new probe with the default number of pages to probe.
+     */
+    public TextLayerProbe() {
+        this(DEFAULT_NUM_SAMPLE_PAGES);
+    }
+
+    /**
+     * Creates a new probe.
+     *
+     * @param numSamplePages The number of pages to probe.
+     */
+    public TextLayerProbe(int numSamplePages) {
+        this.numSamplePages = numSamplePages;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Checks if the given PDF document has no text layer, that is: if none of the sampled pages
+     * contains a text-showing operator. Stops at the first sampled page with text.
+     *
+     * @param doc The PDF document to probe.
+     * @return True if the given document is text-less; false otherwise.
+     */
+    public boolean isTextLess(PDDocument doc) {
+        this.numProbedPages = 0;
+        this.numTextOperators = 0;
+        this.numFonts = 0;
+        this.numImages = 0;
+
+        int numPages = doc.getNumberOfPages();
+        int numSamples = Math.min(numPages, this.numSamplePages);
+        for (int i = 0; i < numSamples && this.numTextOperators == 0; i++) {
+            // Spread the samples evenly over the document.
+            int pageIndex = (int) ((long) i * numPages / numSamples);
+            PDPage page = doc.getPage(pageIndex);
+            try {
+                probe(page, page.getResources(), 0);
+            } catch (IOException e) {
+                // Don't reject a document just because a single page couldn't be probed.
+                log.debug("Couldn't probe page %d: %s", pageIndex + 1, e.getMessage());
+                return false;
+            }
+            this.numProbedPages++;
+        }
+
+        log.debug("Probed %d pages: %d text operators, %d fonts, %d images.", this.numProbedPages,
+                this.numTextOperators, this.numFonts, this.numImages);
+
+        return numSamples > 0 && this.numTextOperators == 0;
+    }
+
+    /**
+     * Counts the text-showing operators of the given content stream and the fonts and images of
+     * its resources, including the nested form XObjects.
+     *
+     * @param stream    The content stream.
+     * @param resources The resources of the content stream.
+     * @param depth     The depth of the nested form XObjects.
+     * @throws IOException If reading the content stream failed.
+     */
+    protected void probe(PDContentStream stream, PDResources resources, int depth) throws IOException {
+        PDFStreamParser parser = new PDFStreamParser(stream);
+        for (Object token = parser.parseNextToken(); token != null; token = parser.parseNextToken()) {
+            if (token instanceof Operator && isTextShowingOperator(((Operator) token).getName())) {
+                this.numTextOperators++;
+                return;
+            }
+        }
+
+        if (resources == null) {
+            return;
+        }
+        for (COSName fontName : resources.getFontNames()) {
+            this.numFonts++;
+        }
+        for (COSName name : resources.getXObjectNames()) {
+            PDXObject xObject = resources.getXObject(name);
+            if (xObject instanceof PDImageXObject) {
+                this.numImages++;
+            } else if (xObject instanceof PDFormXObject && depth < MAX_FORM_DEPTH) {
+                PDFormXObject form = (PDFormXObject) xObject;
+                probe(form, form.getResources() != null ? form.getResources() : resources, depth + 1);
+                if (this.numTextOperators > 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the given operator shows text.
+     *
+     * @param name The name of the operator.
+     * @return True if the operator shows text; false otherwise.
+     */
+    protected static boolean isTextShowingOperator(String name) {
+        return "Tj".equals(name) || "TJ".equals(name) || "'".equals(name) || "\"".equals(name);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the number of pages probed by the last probe.
+     *
+     * @return The number of probed pages.
+     */
+    public int getNumProbedPages() {
+        return this.numProbedPages;
+    }
+
+    /**
+     * Returns the number of text-showing operators found by the last probe.
+     *
+     * @return The number of text-showing operators.
+     */
+    public int getNumTextOperators() {
+        return this.numTextOperators;
+    }
+
+    /**
+     * Returns the number of font resources found by the last probe.
+     *
+     * @return The number of font resources.
+     */
+    public int getNumFonts() {
+        return this.numFonts;
+    }
+
+    /**
+     * Returns the number of image XObjects found by the last probe.
+     *
+     * @return The number of image XObjects.
+     */
+    public int getNumImages() {
+        return this.numImages;
+    }
+}
@@ -6,6 +6,7 @@ import org.apache.pdfbox.contentstream.PDContentStream;
 import org.apache.pdfbox.contentstream.operator.Operator;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.io.IOUtils;
 import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -16,6 +17,11 @@ import org.apache.pdfbox.pdmodel.graphics.state.PDGraphicsState;
 import org.apache.pdfbox.util.Matrix;
 import pdfact.core.model.Character;
 import pdfact.core.model.*;
+import pdfact.core.pipes.normalize.CharacterNormalizer;
+import pdfact.core.pipes.normalize.NormalizeCharactersPipe;
+import pdfact.core.pipes.parse.PageComplexityLimits;
+import pdfact.core.pipes.parse.PageSelector;
+import pdfact.core.pipes.parse.TextLayerProbe;
 import pdfact.core.pipes.parse.stream.PdfStreamsParser;
 import pdfact.core.pipes.parse.stream.pdfbox.operators.OperatorProcessor;
 import pdfact.core.pipes.parse.stream.pdfbox.operators.color.*;
@@ -23,13 +29,17 @@ import pdfact.core.pipes.parse.stream.pdfbox.operators.graphic.*;
 import pdfact.core.pipes.parse.stream.pdfbox.operators.text.*;
 import pdfact.core.util.PdfActUtils;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActNoTextLayerException;
 import pdfact.core.util.exception.PdfActParseException;
+import pdfact.core.util.list.ElementList;
 import pdfact.core.util.statistician.CharacterStatistician;
 
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Point2D;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.*;
+import java.util.function.IntPredicate;
 
 import static pdfact.core.PdfActCoreSettings.FLOATING_NUMBER_PRECISION;
 
@@ -47,6 +57,11 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      */
     protected static Logger log = LogManager.getFormatterLogger("pdf-parsing");
 
+    /**
+     * The number of operators after which the deadline of the document is checked.
+     */
+    protected static final int DEADLINE_CHECK_INTERVAL = 1024;
+
     /**
      * The map of operator processors.
      */
@@ -123,6 +138,11 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      */
     protected int numPages;
 
+    /**
+     * The number of processed operators.
+     */
+    protected long numOperators;
+
     /**
      * The number of extracted characters.
      */
@@ -138,6 +158,60 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      */
     protected int numShapes;
 
+    /**
+     * The pipe with which the characters, figures and shapes are normalized while parsing, or
+     * null if they should be kept as they are.
+     */
+    protected NormalizeCharactersPipe normalizePipe;
+
+    /**
+     * The normalizer of the characters of the current page (null if no normalization is done).
+     */
+    protected CharacterNormalizer characterNormalizer;
+
+    /**
+     * The statistic of the characters of the current page (before normalization).
+     */
+    protected CharacterStatistic characterStatistic;
+
+    /**
+     * The selector of the pages to parse, or null if all pages should be parsed.
+     */
+    protected PageSelector pageSelector;
+
+    /**
+     * The probe that checks whether the PDF has a text layer before it is parsed, or null if the
+     * PDF should be parsed without probing.
+     */
+    protected TextLayerProbe textLayerProbe;
+
+    /**
+     * Whether the PDF file should be kept open after parsing (and be set to the document, see
+     * {@link Document#getPdDocument()}), such that later pipes can reuse it.
+     */
+    protected boolean keepPdDocumentOpen;
+
+    /**
+     * The per-page complexity limits above which a page is degraded, or null if no page should be
+     * degraded.
+     */
+    protected PageComplexityLimits pageComplexityLimits;
+
+    /**
+     * The number of operators processed on the current page.
+     */
+    protected int numPageOperators;
+
+    /**
+     * The number of characters extracted from the current page.
+     */
+    protected int numPageCharacters;
+
+    /**
+     * The number of shapes extracted from the current page.
+     */
+    protected int numPageShapes;
+
     /**
      * Creates a new stream engine.
      */
@@ -206,6 +280,16 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
         this.linePath = new GeneralPath();
     }
 
+    /**
+     * Creates a new stream engine that normalizes the characters, figures and shapes while parsing.
+     *
+     * @param normalizePipe The pipe with which the characters, figures and shapes are normalized.
+     */
+    public PdfBoxPdfStreamsParser(NormalizeCharactersPipe normalizePipe) {
+        this();
+        this.normalizePipe = normalizePipe;
+    }
+
     protected void registerOperatorProcessor(OperatorProcessor processor) {
         this.operatorProcessors.put(processor.getName(), processor);
     }
@@ -215,15 +299,48 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
 
     @Override
     public void parse(Document pdf) throws PdfActException {
-        try (PDDocument doc = PDDocument.load(pdf.getFile())) {
+        PDDocument doc = null;
+        try {
+            // Parse the PDF file if it was already opened (e.g. to estimate its memory usage),
+            // instead of loading it again. The parser takes it over, as if it had loaded it.
+            doc = pdf.getPdDocument() != null ? pdf.getPdDocument() : pdf.getSource().load();
+            pdf.setPdDocument(null);
+            // Reject a PDF without a text layer before any page (or image) is processed.
+            if (this.textLayerProbe != null && this.textLayerProbe.isTextLess(doc)) {
+                throw new PdfActNoTextLayerException("The PDF has no text layer (probed "
+                        + this.textLayerProbe.getNumProbedPages() + " pages, found "
+                        + this.textLayerProbe.getNumImages() + " images and no text).");
+            }
+
+            IntPredicate selectedPages = this.pageSelector != null ? this.pageSelector.selectPages(doc) : null;
+
             handlePdfFileStart(pdf);
             for (int i = 0; i < doc.getPages().getCount(); i++) {
+                if (pdf.getDeadline() != null) {
+                    pdf.getDeadline().check();
+                }
+                if (selectedPages != null && !selectedPages.test(i + 1)) {
+                    log.debug("==================== Page %d (skipped) ====================", i + 1);
+                    skipPage(pdf, doc.getPages().get(i), i + 1);
+                    continue;
+                }
                 log.debug("==================== Page %d ====================", i + 1);
                 processPage(pdf, doc.getPages().get(i), i + 1);
             }
             handlePdfFileEnd(pdf);
+
+            if (this.keepPdDocumentOpen) {
+                pdf.setPdDocument(doc);
+                doc = null;
+            }
         } catch (IOException e) {
+            if (pdf.getDeadline() != null && pdf.getDeadline().isExpired()) {
+                // The parsing was stopped by the deadline (or failed after it expired).
+                pdf.getDeadline().check();
+            }
             throw new PdfActParseException("Couldn't parse the PDF.", e);
+        } finally {
+            IOUtils.closeQuietly(doc);
         }
     }
 
@@ -250,6 +367,35 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
         this.currentType3GlyphBoundingBox = null;
         this.isType3Stream = false;
 
+        Page pdfPage = createPage(page, pageNum);
+
+        handlePdfPageStart(pdf, pdfPage);
+        processStream(pdf, pdfPage, page);
+        handlePdfPageEnd(pdf, pdfPage);
+    }
+
+    /**
+     * Adds the given page to the PDF document as an empty page, without processing its streams.
+     *
+     * @param pdf     The PDF document to which the given page belongs to.
+     * @param page    The page to skip.
+     * @param pageNum The number of the page in the PDF document.
+     */
+    protected void skipPage(Document pdf, PDPage page, int pageNum) {
+        Page pdfPage = createPage(page, pageNum);
+
+        handlePdfPageStart(pdf, pdfPage);
+        handlePdfPageEnd(pdf, pdfPage);
+    }
+
+    /**
+     * Creates the page model for the given page, with the page number and the size of the page.
+     *
+     * @param page    The page.
+     * @param pageNum The number of the page in the PDF document.
+     * @return The created page.
+     */
+    protected Page createPage(PDPage page, int pageNum) {
         Page pdfPage = new Page(pageNum);
         PDRectangle rect = page.getMediaBox();
         if (rect == null) {
@@ -262,10 +408,7 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
             pdfPage.setHeight(PdfActUtils.round(rect.getHeight(), FLOATING_NUMBER_PRECISION));
             pdfPage.setWidth(PdfActUtils.round(rect.getWidth(), FLOATING_NUMBER_PRECISION));
         }
-
-        handlePdfPageStart(pdf, pdfPage);
-        processStream(pdf, pdfPage, page);
-        handlePdfPageEnd(pdf, pdfPage);
+        return pdfPage;
     }
 
     /**
@@ -278,6 +421,7 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      */
     public void processStream(Document pdf, Page page, PDContentStream stream) throws IOException {
         if (stream != null) {
+            checkDeadline(pdf);
             PDResources parent = pushResources(stream);
             Stack<PDGraphicsState> savedStack = saveGraphicsStack();
             Matrix parentMatrix = this.initialMatrix;
@@ -308,6 +452,7 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      * @throws IOException if processing the type stream fails.
      */
     public void processType3Stream(Document pdf, Page page, PDType3CharProc proc, Matrix trm) throws IOException {
+        checkDeadline(pdf);
         PDResources parent = pushResources(proc);
         Stack<PDGraphicsState> savedStack = saveGraphicsStack();
 
@@ -335,6 +480,41 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
         popResources(parent);
     }
 
+    /**
+     * Stops the processing of the streams if the deadline of the given document expired. As the
+     * stream methods can only throw IOExceptions, the expiry is signalled by an
+     * {@link InterruptedIOException}, which is translated back on the end of parsing.
+     *
+     * @param pdf The PDF document that is processed.
+     * @throws InterruptedIOException If the deadline of the document expired.
+     */
+    protected void checkDeadline(Document pdf) throws InterruptedIOException {
+        if (pdf.getDeadline() != null && pdf.getDeadline().isExpired()) {
+            throw new InterruptedIOException("The deadline of the document expired.");
+        }
+    }
+
+    /**
+     * Degrades the given page if the given count exceeds the limit of the given complexity guard.
+     *
+     * @param page  The page to check.
+     * @param guard The complexity guard.
+     * @param count The current count of the guard on the page.
+     */
+    protected void checkComplexity(Page page, ComplexityGuard guard, int count) {
+        if (this.pageComplexityLimits == null || !this.pageComplexityLimits.isExceeded(guard, count)
+                || page.getExceededGuards().contains(guard)) {
+            return;
+        }
+        if (!page.isDegraded()) {
+            log.debug("Page %d exceeds %d %s, processing it with cheaper strategies.", page.getPageNumber(),
+                    this.pageComplexityLimits.getLimit(guard), guard.getName());
+            // Skip the shapes of a degraded page, including those extracted so far.
+            page.setShapes(new ElementList<>());
+        }
+        page.addExceededGuard(guard);
+    }
+
     /**
      * Processes the operators of the given content stream.
      *
@@ -353,6 +533,10 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
             if (token instanceof COSObject) {
                 arguments.add(((COSObject) token).getObject());
             } else if (token instanceof Operator) {
+                if (++this.numOperators % DEADLINE_CHECK_INTERVAL == 0) {
+                    checkDeadline(pdf);
+                }
+                checkComplexity(page, ComplexityGuard.OPERATORS, ++this.numPageOperators);
                 processOperator(pdf, page, (Operator) token, arguments);
                 arguments = new ArrayList<COSBase>();
             } else {
@@ -396,6 +580,9 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
             try {
                 processor.setStreamEngine(this);
                 processor.process(pdf, page, op, args);
+            } catch (InterruptedIOException e) {
+                // The deadline of the document expired, stop processing.
+                throw e;
             } catch (IOException e) {
                 log.warn("... error on handling the operator.", e);
             }
@@ -752,6 +939,43 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
         this.clippingWindingRule = rule;
     }
 
+    /**
+     * Sets the selector of the pages to parse.
+     *
+     * @param pageSelector The selector of the pages to parse, or null if all pages should be parsed.
+     */
+    public void setPageSelector(PageSelector pageSelector) {
+        this.pageSelector = pageSelector;
+    }
+
+    /**
+     * Sets the probe that checks whether the PDF has a text layer before it is parsed.
+     *
+     * @param probe The probe, or null if the PDF should be parsed without probing.
+     */
+    public void setTextLayerProbe(TextLayerProbe probe) {
+        this.textLayerProbe = probe;
+    }
+
+    /**
+     * Sets whether the PDF file should be kept open after parsing, such that later pipes can reuse
+     * it. The caller is then responsible for closing it.
+     *
+     * @param keepPdDocumentOpen True to keep the file open after parsing.
+     */
+    public void setKeepPdDocumentOpen(boolean keepPdDocumentOpen) {
+        this.keepPdDocumentOpen = keepPdDocumentOpen;
+    }
+
+    /**
+     * Sets the per-page complexity limits above which a page is degraded.
+     *
+     * @param limits The limits, or null if no page should be degraded.
+     */
+    public void setPageComplexityLimits(PageComplexityLimits limits) {
+        this.pageComplexityLimits = limits;
+    }
+
     // ==============================================================================================
     // Handler methods.
 
@@ -782,6 +1006,13 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      */
     public void handlePdfPageStart(Document pdf, Page page) {
         pdf.addPage(page);
+        this.characterStatistic = new CharacterStatistic();
+        this.numPageOperators = 0;
+        this.numPageCharacters = 0;
+        this.numPageShapes = 0;
+        if (this.normalizePipe != null) {
+            this.characterNormalizer = this.normalizePipe.newCharacterNormalizer(page);
+        }
         this.numPages++;
     }
 
@@ -792,8 +1023,12 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      * @param page The page to process.
      */
     public void handlePdfPageEnd(Document pdf, Page page) {
-        // Compute the character statistics for the page.
-        page.setCharacterStatistic(this.statistician.compute(page));
+        if (this.characterNormalizer != null) {
+            this.characterNormalizer.finish();
+            this.characterNormalizer = null;
+        }
+        // The character statistic of the page was computed while adding the characters.
+        page.setCharacterStatistic(this.characterStatistic);
     }
 
     /**
@@ -804,8 +1039,15 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      * @param c    The character to process.
      */
     public void handlePdfCharacter(Document pdf, Page page, Character c) {
-        page.addCharacter(c);
+        // Add the character to the statistic before it is modified by the normalization.
+        this.characterStatistic.add(c);
+        if (this.characterNormalizer != null) {
+            this.characterNormalizer.add(c);
+        } else {
+            page.addCharacter(c);
+        }
         this.numCharacters++;
+        checkComplexity(page, ComplexityGuard.CHARACTERS, ++this.numPageCharacters);
     }
 
     /**
@@ -816,7 +1058,9 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      * @param figure The figure to process.
      */
     public void handlePdfFigure(Document pdf, Page page, Figure figure) {
-        page.addFigure(figure);
+        if (this.normalizePipe == null || !this.normalizePipe.isFilterFigure(figure)) {
+            page.addFigure(figure);
+        }
         this.numFigures++;
     }
 
@@ -828,7 +1072,14 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
      * @param shape The shape to process.
      */
     public void handlePdfShape(Document pdf, Page page, Shape shape) {
-        page.addShape(shape);
         this.numShapes++;
+        checkComplexity(page, ComplexityGuard.SHAPES, ++this.numPageShapes);
+        if (page.isDegraded()) {
+            // The shapes of a degraded page are skipped.
+            return;
+        }
+        if (this.normalizePipe == null || !this.normalizePipe.isFilterShape(shape)) {
+            page.addShape(shape);
+        }
     }
 }
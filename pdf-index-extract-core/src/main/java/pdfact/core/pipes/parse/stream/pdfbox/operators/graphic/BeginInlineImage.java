@@ -60,7 +60,8 @@ public class BeginInlineImage extends OperatorProcessor {
 
             // If the image consists of only one color, consider it as a shape.
             // TODO: Manage the colors.
-            int[] exclusiveColor = ColorUtils.getExclusiveColor(image.getImage());
+            // The images of a degraded page are not decoded, but considered as figures.
+            int[] exclusiveColor = page.isDegraded() ? null : ColorUtils.getExclusiveColor(image.getImage());
 
             Point ll = new Point(minX, minY);
             Point ur = new Point(maxX, maxY);
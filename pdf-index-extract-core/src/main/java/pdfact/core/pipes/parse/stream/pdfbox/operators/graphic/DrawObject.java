@@ -103,7 +103,8 @@ public class DrawObject extends OperatorProcessor {
 
             // If the image consists of only one color, consider it as a shape.
             // TODO: Manage the colors.
-            int[] exclusiveColor = ColorUtils.getExclusiveColor(image.getImage());
+            // The images of a degraded page are not decoded, but considered as figures.
+            int[] exclusiveColor = page.isDegraded() ? null : ColorUtils.getExclusiveColor(image.getImage());
 
             if (exclusiveColor != null) {
                 Color color = ColorManager.getColor(exclusiveColor);
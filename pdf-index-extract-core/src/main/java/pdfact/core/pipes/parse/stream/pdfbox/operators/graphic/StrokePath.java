@@ -26,6 +26,12 @@ import static pdfact.core.PdfActCoreSettings.FLOATING_NUMBER_PRECISION;
 public class StrokePath extends OperatorProcessor {
     @Override
     public void process(Document pdf, Page page, Operator op, List<COSBase> args) throws IOException {
+        if (page.isDegraded()) {
+            // The shapes of a degraded page are skipped, so don't split the path into shapes.
+            this.engine.getLinePath().reset();
+            return;
+        }
+
         int windingRule = -1;
         if (args.size() > 0) {
             windingRule = ((COSNumber) args.get(0)).intValue();
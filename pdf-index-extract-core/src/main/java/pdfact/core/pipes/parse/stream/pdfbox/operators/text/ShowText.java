@@ -33,6 +33,7 @@ import java.awt.geom.Rectangle2D;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -171,6 +172,9 @@ public class ShowText extends OperatorProcessor {
                 Matrix translate = Matrix.getTranslateInstance(tx, ty);
                 this.engine.getTextMatrix().concatenate(translate);
             }
+        } catch (InterruptedIOException e) {
+            // The deadline of the document expired, stop processing.
+            throw e;
         } catch (Exception e) {
             log.warn("An error occurred on processing the character " + text, e);
         }
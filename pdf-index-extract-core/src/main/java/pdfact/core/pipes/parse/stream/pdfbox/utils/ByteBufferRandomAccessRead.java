@@ -0,0 +1,143 @@
+package pdfact.core.pipes.parse.stream.pdfbox.utils;
+
+import org.apache.pdfbox.io.RandomAccessRead;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link RandomAccessRead} that reads from a (heap or direct) {@link ByteBuffer}, such that
+ * PdfBox can parse a PDF file held in memory without copying it. The remaining bytes of the buffer
+ * (from its position to its limit) are read; the position and limit of the given buffer are not
+ * changed. Closing this object doesn't release the buffer.
+ */
+public class ByteBufferRandomAccessRead implements RandomAccessRead {
+    /**
+     * The buffer to read from, with index 0 at the position of the given buffer.
+     */
+    protected final ByteBuffer buffer;
+
+    /**
+     * Whether this object is closed.
+     */
+    protected boolean isClosed;
+
+    /**
+     * Creates a new object that reads the remaining bytes of the given buffer.
+     *
+     * @param buffer The buffer to read from.
+     */
+    public ByteBufferRandomAccessRead(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public int read() throws IOException {
+        checkClosed();
+        if (!this.buffer.hasRemaining()) {
+            return -1;
+        }
+        return this.buffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkClosed();
+        if (len == 0) {
+            return 0;
+        }
+        if (!this.buffer.hasRemaining()) {
+            return -1;
+        }
+        int numBytes = Math.min(len, this.buffer.remaining());
+        this.buffer.get(b, off, numBytes);
+        return numBytes;
+    }
+
+    @Override
+    public long getPosition() throws IOException {
+        checkClosed();
+        return this.buffer.position();
+    }
+
+    @Override
+    public void seek(long position) throws IOException {
+        checkClosed();
+        if (position < 0) {
+            throw new IOException("Invalid position: " + position);
+        }
+        this.buffer.position((int) Math.min(position, this.buffer.limit()));
+    }
+
+    @Override
+    public long length() throws IOException {
+        checkClosed();
+        return this.buffer.limit();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return this.isClosed;
+    }
+
+    @Override
+    public int peek() throws IOException {
+        int b = read();
+        if (b != -1) {
+            rewind(1);
+        }
+        return b;
+    }
+
+    @Override
+    public void rewind(int numBytes) throws IOException {
+        seek(getPosition() - numBytes);
+    }
+
+    @Override
+    public byte[] readFully(int length) throws IOException {
+        checkClosed();
+        if (this.buffer.remaining() < length) {
+            throw new EOFException("Premature end of buffer.");
+        }
+        byte[] bytes = new byte[length];
+        this.buffer.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public boolean isEOF() throws IOException {
+        checkClosed();
+        return !this.buffer.hasRemaining();
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkClosed();
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public void close() {
+        this.isClosed = true;
+    }
+
+    /**
+     * Throws an exception if this object is closed.
+     *
+     * @throws IOException If this object is closed.
+     */
+    protected void checkClosed() throws IOException {
+        if (this.isClosed) {
+            throw new IOException("The buffer is already closed.");
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package pdfact.core.pipes.parse.stream.pdfbox.utils;
+
+import org.apache.pdfbox.io.RandomAccessRead;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * A {@link RandomAccessRead} that reads from a {@link SeekableByteChannel} through a buffered
+ * window, such that PdfBox can parse a PDF file from any channel (e.g., an in-memory channel or a
+ * channel of a blob store) without writing it to a file first. The channel is shared: the reads
+ * are synchronized on the channel, and closing this object doesn't close the channel.
+ */
+public class SeekableByteChannelRandomAccessRead implements RandomAccessRead {
+    /**
+     * The size of the buffered window.
+     */
+    protected static final int WINDOW_SIZE = 64 * 1024;
+
+    /**
+     * The channel to read from.
+     */
+    protected final SeekableByteChannel channel;
+
+    /**
+     * The length of the channel.
+     */
+    protected final long length;
+
+    /**
+     * The buffered window of the channel.
+     */
+    protected final byte[] window = new byte[WINDOW_SIZE];
+
+    /**
+     * The position in the channel of the first byte of the window.
+     */
+    protected long windowStart;
+
+    /**
+     * The number of valid bytes in the window.
+     */
+    protected int windowLength;
+
+    /**
+     * The current position in the channel.
+     */
+    protected long position;
+
+    /**
+     * Whether this object is closed.
+     */
+    protected boolean isClosed;
+
+    /**
+     * Creates a new object that reads the given channel from its beginning.
+     *
+     * @param channel The channel to read from.
+     * @throws IOException If the size of the channel couldn't be read.
+     */
+    public SeekableByteChannelRandomAccessRead(SeekableByteChannel channel) throws IOException {
+        this.channel = channel;
+        this.length = channel.size();
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public int read() throws IOException {
+        checkClosed();
+        if (this.position >= this.length) {
+            return -1;
+        }
+        fillWindow();
+        return this.window[(int) (this.position++ - this.windowStart)] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkClosed();
+        if (len == 0) {
+            return 0;
+        }
+        if (this.position >= this.length) {
+            return -1;
+        }
+        fillWindow();
+        int offset = (int) (this.position - this.windowStart);
+        int numBytes = Math.min(len, this.windowLength - offset);
+        System.arraycopy(this.window, offset, b, off, numBytes);
+        this.position += numBytes;
+        return numBytes;
+    }
+
+    /**
+     * Reads the window that contains the current position, if the current window doesn't.
+     *
+     * @throws IOException If reading the channel failed.
+     */
+    protected void fillWindow() throws IOException {
+        if (this.position >= this.windowStart && this.position < this.windowStart + this.windowLength) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(this.window);
+        synchronized (this.channel) {
+            this.channel.position(this.position);
+            while (buffer.hasRemaining() && this.channel.read(buffer) >= 0) {
+                // Read until the window is full or the end of the channel is reached.
+            }
+        }
+        this.windowStart = this.position;
+        this.windowLength = buffer.position();
+        if (this.windowLength == 0) {
+            throw new EOFException("Premature end of channel.");
+        }
+    }
+
+    @Override
+    public long getPosition() throws IOException {
+        checkClosed();
+        return this.position;
+    }
+
+    @Override
+    public void seek(long position) throws IOException {
+        checkClosed();
+        if (position < 0) {
+            throw new IOException("Invalid position: " + position);
+        }
+        this.position = Math.min(position, this.length);
+    }
+
+    @Override
+    public long length() throws IOException {
+        checkClosed();
+        return this.length;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return this.isClosed;
+    }
+
+    @Override
+    public int peek() throws IOException {
+        int b = read();
+        if (b != -1) {
+            rewind(1);
+        }
+        return b;
+    }
+
+    @Override
+    public void rewind(int numBytes) throws IOException {
+        seek(getPosition() - numBytes);
+    }
+
+    @Override
+    public byte[] readFully(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int numRead = 0;
+        while (numRead < length) {
+            int n = read(bytes, numRead, length - numRead);
+            if (n < 0) {
+                throw new EOFException("Premature end of channel.");
+            }
+            numRead += n;
+        }
+        return bytes;
+    }
+
+    @Override
+    public boolean isEOF() throws IOException {
+        checkClosed();
+        return this.position >= this.length;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkClosed();
+        return (int) Math.min(this.length - this.position, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() {
+        this.isClosed = true;
+    }
+
+    /**
+     * Throws an exception if this object is closed.
+     *
+     * @throws IOException If this object is closed.
+     */
+    protected void checkClosed() throws IOException {
+        if (this.isClosed) {
+            throw new IOException("The channel reader is already closed.");
+        }
+    }
+}
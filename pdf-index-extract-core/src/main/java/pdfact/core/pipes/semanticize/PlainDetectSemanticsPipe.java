@@ -5,6 +5,7 @@ import org.apache.logging.log4j.Logger;
 import pdfact.core.model.Document;
 import pdfact.core.pipes.semanticize.modules.*;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.statistician.PageGeometryStatistician;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +26,11 @@ public class PlainDetectSemanticsPipe implements DetectSemanticsPipe {
      */
     protected List<PdfTextSemanticizerModule> modules;
 
+    /**
+     * The statistician to compute the page geometry profile.
+     */
+    protected PageGeometryStatistician pageGeometryStatistician = new PageGeometryStatistician();
+
     /**
      * The default constructor.
      */
@@ -66,6 +72,9 @@ public class PlainDetectSemanticsPipe implements DetectSemanticsPipe {
             module.semanticize(pdf);
         }
 
+        // The page geometry depends on the semantic roles (the body text), so compute it afterwards.
+        pdf.setPageGeometryProfile(this.pageGeometryStatistician.compute(pdf));
+
         return pdf;
     }
 }
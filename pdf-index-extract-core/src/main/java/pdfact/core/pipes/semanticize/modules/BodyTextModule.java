@@ -3,9 +3,8 @@ package pdfact.core.pipes.semanticize.modules;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import pdfact.core.model.*;
+import pdfact.core.util.lexicon.HeadingDictionary;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -19,18 +18,18 @@ public class BodyTextModule implements PdfTextSemanticizerModule {
      */
     protected static Logger log = LogManager.getFormatterLogger("role-detection");
 
-    @Override
-    public void semanticize(Document pdf) {
-
-        ArrayList<Integer> maxYRoundedPerPage = new ArrayList<>();
-        ArrayList<Integer> minYRoundedPerPage = new ArrayList<>();
-
-        ArrayList<Float> local_min_y = new ArrayList<>();
-        ArrayList<Float> local_max_y = new ArrayList<>();
+    /**
+     * The largest page number that is ignored as body text.
+     */
+    protected static final int MAX_IGNORED_PAGE_NUMBER = 1999;
 
-        maxYRoundedPerPage = new ArrayList<>();
-        minYRoundedPerPage = new ArrayList<>();
+    /**
+     * The known headings.
+     */
+    protected HeadingDictionary knownHeadings = HeadingDictionary.getDefault();
 
+    @Override
+    public void semanticize(Document pdf) {
         log.debug("=====================================================");
         log.debug("Detecting text blocks of semantic role '%s' ...", SemanticRole.BODY_TEXT);
         log.debug("=====================================================");
@@ -53,25 +52,6 @@ public class BodyTextModule implements PdfTextSemanticizerModule {
             if (page == null) {
                 continue;
             }
-            if (!local_max_y.isEmpty()) {
-                maxYRoundedPerPage.add(Math.round(Collections.max(local_max_y)));
-            }
-            if (!local_min_y.isEmpty()) {
-                minYRoundedPerPage.add(Math.round(Collections.min(local_min_y)));
-            }
-            local_max_y.removeAll(local_max_y);
-            local_min_y.removeAll(local_min_y);
-
-            List<String> ignore = new ArrayList<String>();
-            ignore.add("Index");
-            ignore.add("index");
-            ignore.add("INDEX");
-
-            for (int i = 0; i < 2000; i++) {
-                ignore.add(Integer.toString(i));
-            }
-
-            OUTER_LOOP:
             for (TextBlock block : page.getTextBlocks()) {
                 if (block == null) {
                     continue;
@@ -98,10 +78,8 @@ public class BodyTextModule implements PdfTextSemanticizerModule {
                     continue;
                 }
 
-                for (int i = 0; i < ignore.size(); i++) {
-                    if (block.getText().equals(ignore.get(i))) {
-                        continue OUTER_LOOP;
-                    }
+                if (isIgnored(block.getText())) {
+                    continue;
                 }
 
                 log.debug("-----------------------------------------------------");
@@ -112,15 +90,33 @@ public class BodyTextModule implements PdfTextSemanticizerModule {
                 log.debug("... role reason:   the block exhibits the most common font face");
 
                 block.setSemanticRole(SemanticRole.BODY_TEXT);
-                local_max_y.add(block.getPosition().getRectangle().getMaxY());
-                local_min_y.add(block.getPosition().getRectangle().getMinY());
-
             }
         }
-
-        pdf.setRoundMinYForPages(minYRoundedPerPage);
-        pdf.setRoundMaxYForPages(maxYRoundedPerPage);
-
     }
 
+    /**
+     * Checks if the given text of a block must not be body text, even if the block exhibits the
+     * most common font face: index headings and page numbers.
+     *
+     * @param text The text of the block.
+     * @return True if the block must not be body text; false otherwise.
+     */
+    protected boolean isIgnored(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        if (text.length() <= 4 && (text.length() == 1 || text.charAt(0) != '0')) {
+            int number = 0;
+            for (int i = 0; i < text.length() && number >= 0; i++) {
+                char c = text.charAt(i);
+                number = c >= '0' && c <= '9' ? number * 10 + (c - '0') : -1;
+            }
+            if (number >= 0) {
+                return number <= MAX_IGNORED_PAGE_NUMBER;
+            }
+        }
+        // Only a block that is an index heading as a whole (like the former "Index"), not any block
+        // that starts with one (like the entry "Register, 12").
+        return this.knownHeadings.isExactHeading(text, SemanticRole.INDEX);
+    }
 }
@@ -4,10 +4,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import pdfact.core.model.Character;
 import pdfact.core.model.*;
+import pdfact.core.util.lexicon.HeadingDictionary;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.statistician.CharacterStatistician;
 
-import java.util.*;
+import java.util.List;
 
 /**
  * A module that identifies the text blocks with the semantic role "heading".
@@ -26,70 +27,9 @@ public class HeadingModule implements PdfTextSemanticizerModule {
     protected CharacterStatistician charStatistician;
 
     /**
-     * The texts of known headings, per *secondary* role.
+     * The known headings, with their *secondary* roles.
      */
-    protected static final Map<SemanticRole, Set<String>> KNOWN_HEADINGS;
-
-    static {
-        KNOWN_HEADINGS = new HashMap<>();
-
-        Set<String> abstractHeadings = new HashSet<>();
-        abstractHeadings.add("abstract");
-
-        KNOWN_HEADINGS.put(SemanticRole.ABSTRACT, abstractHeadings);
-
-        Set<String> acknowledgmentsHeadings = new HashSet<>();
-        acknowledgmentsHeadings.add("acknowledgments");
-        acknowledgmentsHeadings.add("acknowledgements");
-
-        KNOWN_HEADINGS.put(SemanticRole.ACKNOWLEDGMENTS, acknowledgmentsHeadings);
-
-        Set<String> appendixHeadings = new HashSet<>();
-        appendixHeadings = new HashSet<>();
-        appendixHeadings.add("appendix");
-
-        KNOWN_HEADINGS.put(SemanticRole.APPENDIX, appendixHeadings);
-
-        Set<String> keywordsHeadings = new HashSet<>();
-        keywordsHeadings.add("keywords");
-
-        KNOWN_HEADINGS.put(SemanticRole.KEYWORDS, keywordsHeadings);
-
-        Set<String> IndexHeadings = new HashSet<>();
-        IndexHeadings.add("index");
-        IndexHeadings.add("INDEX");
-
-        KNOWN_HEADINGS.put(SemanticRole.INDEX, IndexHeadings);
-
-        Set<String> referencesHeadings = new HashSet<>();
-        referencesHeadings.add("references");
-        referencesHeadings.add("bibliography");
-
-        KNOWN_HEADINGS.put(SemanticRole.REFERENCE, referencesHeadings);
-
-        Set<String> generalTermsHeadings = new HashSet<>();
-        generalTermsHeadings.add("generalterms");
-
-        KNOWN_HEADINGS.put(SemanticRole.GENERAL_TERMS, generalTermsHeadings);
-
-        Set<String> categoriesHeadings = new HashSet<>();
-        categoriesHeadings.add("categories");
-        categoriesHeadings.add("categoriesandsubjectdescriptors");
-
-        KNOWN_HEADINGS.put(SemanticRole.CATEGORIES, categoriesHeadings);
-
-        Set<String> otherHeadings = new HashSet<>();
-        otherHeadings.add("introduction");
-        otherHeadings.add("contribution");
-        otherHeadings.add("contributions");
-        otherHeadings.add("related work");
-        otherHeadings.add("experiments");
-        otherHeadings.add("conclusion");
-        otherHeadings.add("conclusions");
-        otherHeadings.add("future work");
-
-        KNOWN_HEADINGS.put(SemanticRole.BODY_TEXT, otherHeadings);
-    }
+    protected HeadingDictionary knownHeadings;
 
     // ==============================================================================================
     // Constructors.
@@ -99,6 +39,7 @@ public class HeadingModule implements PdfTextSemanticizerModule {
      */
     public HeadingModule() {
         this.charStatistician = new CharacterStatistician();
+        this.knownHeadings = HeadingDictionary.getDefault();
     }
 
     // ==============================================================================================
@@ -138,7 +79,6 @@ public class HeadingModule implements PdfTextSemanticizerModule {
 
                 CharacterStatistic blockCharStats = block.getCharacterStatistic();
                 FontFace fontFace = blockCharStats.getMostCommonFontFace();
-                String text = toNormalizedText(block);
 
                 // The text block is a heading if its font face is equal to the
                 // computed section heading font face.
@@ -150,13 +90,10 @@ public class HeadingModule implements PdfTextSemanticizerModule {
                     log.debug("... assigned role: %s", SemanticRole.HEADING);
                     log.debug("... role reason:   the block exhibits the detected heading font face");
                     block.setSemanticRole(SemanticRole.HEADING);
-                    // Iterate through the known headings to obtain the secondary role.
-                    for (SemanticRole role : KNOWN_HEADINGS.keySet()) {
-                        Set<String> headings = KNOWN_HEADINGS.get(role);
-                        if (headings.contains(text)) {
-                            block.setSecondarySemanticRole(role);
-                            break;
-                        }
+                    // Look up the known headings to obtain the secondary role.
+                    SemanticRole secondaryRole = this.knownHeadings.getRole(block.getText());
+                    if (secondaryRole != null) {
+                        block.setSecondarySemanticRole(secondaryRole);
                     }
                 }
             }
@@ -222,27 +159,6 @@ public class HeadingModule implements PdfTextSemanticizerModule {
      * @return True if the text of the given text block is a known section heading.
      */
     protected boolean hasKnownSectionHeadingText(TextBlock block) {
-        String text = toNormalizedText(block);
-        for (SemanticRole role : KNOWN_HEADINGS.keySet()) {
-            Set<String> headings = KNOWN_HEADINGS.get(role);
-            if (headings.contains(text)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Normalizes the text of the given text block.
-     *
-     * @param block The text block to normalize.
-     * @return The normalized text of the given text block.
-     */
-    @Deprecated
-    protected static String toNormalizedText(TextBlock block) {
-        if (block == null || block.getText() == null) {
-            return null;
-        }
-        return block.getText().replaceAll("[^A-Za-z]", "").toLowerCase().trim();
+        return block != null && this.knownHeadings.isHeading(block.getText());
     }
 }
@@ -6,11 +6,10 @@ import pdfact.core.model.Document;
 import pdfact.core.model.Page;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.model.TextBlock;
-import pdfact.core.util.comparator.MinYComparator;
 import pdfact.core.util.counter.ObjectCounter;
+import pdfact.core.util.list.PositionOrder;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -51,8 +50,7 @@ public class PageHeaderFooterModule implements PdfTextSemanticizerModule {
             }
 
             // Sort the blocks by minY to obtain the lowest and topmost block.
-            List<TextBlock> sortedBlocks = new ArrayList<>(textBlocks);
-            Collections.sort(sortedBlocks, new MinYComparator());
+            List<TextBlock> sortedBlocks = page.getTextBlocks(PositionOrder.MIN_Y);
 
             lowestBlocks.add(sortedBlocks.get(0));
             topMostBlocks.add(sortedBlocks.get(sortedBlocks.size() - 1));
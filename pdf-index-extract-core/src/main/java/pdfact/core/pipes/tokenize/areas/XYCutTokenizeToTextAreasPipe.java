@@ -7,14 +7,17 @@ import pdfact.core.model.*;
 import pdfact.core.util.PdfActUtils;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.PositionOrder;
 import pdfact.core.util.statistician.CharacterStatistician;
 import pdfact.core.util.xycut.XYCut;
+import pdfact.core.util.pipeline.PageExecutor;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An implementation of {@link TokenizeToTextAreasPipe} based on XYCut.
@@ -36,12 +39,12 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut implements TokenizeToTex
     /**
      * The number of processed pages.
      */
-    protected int numProcessedPages;
+    protected final LongAdder numProcessedPages = new LongAdder();
 
     /**
      * The number of tokenized text areas.
      */
-    protected int numTokenizedTextAreas;
+    protected final LongAdder numTokenizedTextAreas = new LongAdder();
 
     /**
      * Creates a new pipe that tokenizes the pages of a PDF document into text
@@ -54,15 +57,15 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut implements TokenizeToTex
     // ==============================================================================================
 
     @Override
-    public Document execute(Document pdf) throws PdfActException {
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
         log.debug("Start of pipe: " + getClass().getSimpleName() + ".");
 
         log.debug("Process: Tokenizing the pages into text areas.");
-        tokenizeToTextAreas(pdf);
+        tokenizeToTextAreas(pdf, executor);
 
         log.debug("Tokenizing the pages into text areas done.");
-        log.debug("# processed pages     : " + this.numProcessedPages);
-        log.debug("# tokenized text areas: " + this.numTokenizedTextAreas);
+        log.debug("# processed pages     : " + this.numProcessedPages.sum());
+        log.debug("# tokenized text areas: " + this.numTokenizedTextAreas.sum());
 
         log.debug("End of pipe: " + getClass().getSimpleName() + ".");
         return pdf;
@@ -73,37 +76,22 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut implements TokenizeToTex
     /**
      * Tokenizes the pages of the given PDF document into text areas.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
      * @throws PdfActException If something went wrong while tokenization.
      */
-    protected void tokenizeToTextAreas(Document pdf) throws PdfActException {
+    protected void tokenizeToTextAreas(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf == null) {
             return;
         }
 
-        List<Page> pages = pdf.getPages();
-        if (pages == null) {
-            return;
-        }
-
-        Stream<Page> pageStream = pages.parallelStream().filter(page -> page != null);
-        Stream<ElementList<TextArea>> textAreaStream = pageStream.map(page -> mapPage(pdf, page));
-
-        List<ElementList<TextArea>> textAreasOfPages = textAreaStream.collect(Collectors.toList());
-
-        this.numProcessedPages = textAreasOfPages.size();
-
-        for (ElementList<TextArea> textAreas : textAreasOfPages) {
-            this.numTokenizedTextAreas += textAreas.size();
-
-        }
-
-    }
+        executor.forEachPage(pdf.getPages(), page -> {
+            ElementList<TextArea> textAreas = tokenizeToTextAreas(pdf, page);
+            page.setTextAreas(textAreas);
 
-    private ElementList<TextArea> mapPage(Document pdf, Page page) {
-        ElementList<TextArea> textAreas = tokenizeToTextAreas(pdf, page);
-        page.setTextAreas(textAreas);
-        return textAreas;
+            this.numProcessedPages.increment();
+            this.numTokenizedTextAreas.add(textAreas.size());
+        });
     }
 
     /**
@@ -118,13 +106,15 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut implements TokenizeToTex
         ElementList<TextArea> result = new ElementList<>();
 
         ElementList<Character> characters = page.getCharacters();
-        List<ElementList<Character>> areaCharsList = cutTextareasFast(pdf, page, characters);
+        // A degraded page is cut by horizontal bands only, in O(n log n).
+        List<ElementList<Character>> areaCharsList = page.isDegraded()
+                ? cutTextAreasByBands(page, characters)
+                : cutTextareasFast(pdf, page, characters);
         if (areaCharsList != null) {
             for (ElementList<Character> areaChars : areaCharsList) {
+                // The position and the character statistic are computed while setting the characters.
                 TextArea area = new TextArea();
                 area.setCharacters(areaChars);
-                area.setPosition(computePosition(pdf, page, area));
-                area.setCharacterStatistic(computeCharacterStatistic(pdf, page, area));
                 result.add(area);
             }
         }
@@ -133,29 +123,45 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut implements TokenizeToTex
     }
 
     /**
-     * Computes the position for the given text area.
+     * Cuts the given characters into horizontal bands, separated by vertical gaps that are at least
+     * as high as the most common character height of the page. This is a coarse, but cheap
+     * alternative to {@link #cutTextareasFast(Document, Page, ElementList)} for degraded pages:
+     * columns are not separated.
      *
-     * @param pdf  The PDF document to which the given text area belongs to.
-     * @param page The PDF page to which the given text area belongs to.
-     * @param a    The text area to process.
-     * @return The computed position.
+     * @param page       The page in which the characters are located.
+     * @param characters The characters to cut.
+     * @return The characters of the bands, from top to bottom, each in extraction order.
      */
-    protected Position computePosition(Document pdf, Page page, TextArea a) {
-        ElementList<Character> characters = a.getCharacters();
-        Rectangle r = new Rectangle(characters);
-        return new Position(page, r);
-    }
+    protected List<ElementList<Character>> cutTextAreasByBands(Page page, ElementList<Character> characters) {
+        List<ElementList<Character>> bands = new ArrayList<>();
+        if (characters == null || characters.isEmpty()) {
+            return bands;
+        }
 
-    /**
-     * Computes the statistic about the given characters.
-     *
-     * @param pdf  The PDF document to which the given text area belongs to.
-     * @param page The PDF page to which the given text area belongs to.
-     * @param area The text area to process.
-     * @return The computed statistic.
-     */
-    protected CharacterStatistic computeCharacterStatistic(Document pdf, Page page, TextArea area) {
-        return this.characterStatistician.compute(area.getCharacters());
+        CharacterStatistic stats = page.getCharacterStatistic();
+        float minGap = stats != null ? stats.getMostCommonHeight() : 0;
+
+        ElementList<Character> sorted = new ElementList<>(characters.size());
+        sorted.addAll(characters);
+        sorted.sort(PositionOrder.MAX_Y_DESCENDING);
+
+        ElementList<Character> band = null;
+        float bandMinY = Float.MAX_VALUE;
+        for (Character character : sorted) {
+            Rectangle rect = character.getPosition().getRectangle();
+            if (band == null || rect.getMaxY() < bandMinY - minGap) {
+                band = new ElementList<>();
+                bands.add(band);
+                bandMinY = Float.MAX_VALUE;
+            }
+            band.add(character);
+            bandMinY = Math.min(bandMinY, rect.getMinY());
+        }
+
+        for (ElementList<Character> b : bands) {
+            b.sort(Comparator.comparingInt(Character::getExtractionRank));
+        }
+        return bands;
     }
 
     // ==============================================================================================
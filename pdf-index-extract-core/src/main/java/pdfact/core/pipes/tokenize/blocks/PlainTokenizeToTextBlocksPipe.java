@@ -6,11 +6,11 @@ import pdfact.core.model.*;
 import pdfact.core.util.PdfActUtils;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
-import pdfact.core.util.statistician.CharacterStatistician;
-import pdfact.core.util.statistician.TextLineStatistician;
+import pdfact.core.util.pipeline.PageExecutor;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 /**
@@ -24,39 +24,27 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
      */
     protected static Logger log = LogManager.getFormatterLogger("block-detection");
 
-    /**
-     * The statistician to compute statistics about characters.
-     */
-    protected CharacterStatistician characterStatistician;
-
-    /**
-     * The statistician to compute statistics about text lines.
-     */
-    protected TextLineStatistician textLineStatistician;
-
     /**
      * The number of processed text lines.
      */
-    protected int numProcessedTextLines;
+    protected final LongAdder numProcessedTextLines = new LongAdder();
 
     /**
      * The number of tokenized text blocks.
      */
-    protected int numTokenizedTextBlocks;
+    protected final LongAdder numTokenizedTextBlocks = new LongAdder();
 
     /**
      * The default constructor.
      */
     public PlainTokenizeToTextBlocksPipe() {
-        this.characterStatistician = new CharacterStatistician();
-        this.textLineStatistician = new TextLineStatistician();
     }
 
     // ==============================================================================================
 
     @Override
-    public Document execute(Document doc) throws PdfActException {
-        tokenizeToTextBlocks(doc);
+    public Document execute(Document doc, PageExecutor executor) throws PdfActException {
+        tokenizeToTextBlocks(doc, executor);
 
         // Print the debug info for line detection here (and not in
         // PlainTokenizeToTextLines.class),
@@ -96,10 +84,11 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
      * Tokenizes the text lines in the pages of the given PDF document into text
      * blocks.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
      * @throws PdfActException If something went wrong while tokenization.
      */
-    protected void tokenizeToTextBlocks(Document pdf) throws PdfActException {
+    protected void tokenizeToTextBlocks(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf == null) {
             return;
         }
@@ -109,14 +98,10 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
             return;
         }
 
-        for (Page page : pages) {
-            if (page == null) {
-                continue;
-            }
-
+        executor.forEachPage(pages, page -> {
             log.debug("====================== Page %d ======================", page.getPageNumber());
             page.setTextBlocks(tokenizeToTextBlocks(pdf, page));
-        }
+        });
     }
 
     // ==============================================================================================
@@ -139,7 +124,7 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
             TextLine line = lines.get(i);
             TextLine next = i < lines.size() - 1 ? lines.get(i + 1) : null;
 
-            this.numProcessedTextLines++;
+            this.numProcessedTextLines.increment();
 
             if (introducesNewTextBlock(pdf, page, textBlock, prev, line, next)) {
                 if (!textBlock.getTextLines().isEmpty()) {
@@ -157,54 +142,18 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
             textBlocks.add(textBlock);
         }
 
-        // Iterate through the text blocks in order to compute their properties.
+        // The position and the statistics of the text blocks are maintained while adding the lines.
         for (TextBlock block : textBlocks) {
-            block.setCharacterStatistic(computeCharacterStatistic(block));
-            block.setTextLineStatistic(computeTextLineStatistic(block));
-            block.setPosition(computePosition(page, block));
             block.setText(computeText(block));
         }
 
-        this.numTokenizedTextBlocks += textBlocks.size();
+        this.numTokenizedTextBlocks.add(textBlocks.size());
 
         return textBlocks;
     }
 
     // ==============================================================================================
 
-    /**
-     * Computes the character statistic for the given text block.
-     *
-     * @param block The text block to process.
-     * @return The character statistic for the given text block.
-     */
-    protected CharacterStatistic computeCharacterStatistic(TextBlock block) {
-        return this.characterStatistician.aggregate(block.getTextLines());
-    }
-
-    /**
-     * Computes the text line statistic for the given text block.
-     *
-     * @param block The text block to process.
-     * @return The text line statistic for the given text block.
-     */
-    protected TextLineStatistic computeTextLineStatistic(TextBlock block) {
-        return this.textLineStatistician.compute(block.getTextLines());
-    }
-
-    /**
-     * Computes the position for the given text block.
-     *
-     * @param page  The PDF page in which the block is located.
-     * @param block The text block to process.
-     * @return The position for the given text block.
-     */
-    protected Position computePosition(Page page, TextBlock block) {
-        ElementList<TextLine> textLines = block.getTextLines();
-        Rectangle rect = Rectangle.fromHasPositionElements(textLines);
-        return new Position(page, rect);
-    }
-
     /**
      * Computes the text for the given text block.
      *
@@ -336,8 +285,12 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
             return false;
         }
 
-        ElementList<TextLine> lines = block.getTextLines();
-        Rectangle blockBox = Rectangle.fromHasPositionElements(lines);
+        Position blockPosition = block.getPosition();
+        if (blockPosition == null) {
+            return false;
+        }
+
+        Rectangle blockBox = blockPosition.getRectangle();
         Rectangle lineBox = line.getPosition().getRectangle();
         if (blockBox == null || lineBox == null) {
             return false;
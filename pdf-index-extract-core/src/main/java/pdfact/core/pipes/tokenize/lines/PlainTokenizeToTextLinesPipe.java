@@ -4,18 +4,18 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import pdfact.core.model.Character;
 import pdfact.core.model.*;
-import pdfact.core.util.comparator.MinXComparator;
-import pdfact.core.util.counter.FloatCounter;
+import pdfact.core.util.counter.FloatHistogram;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.lexicon.CharacterLexicon;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.PositionOrder;
+import pdfact.core.util.pipeline.PageExecutor;
 import pdfact.core.util.statistician.CharacterStatistician;
 import pdfact.core.util.statistician.TextLineStatistician;
 import pdfact.core.util.xycut.XYCut;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A plain implementation of {@link TokenizeToTextLinesPipe}.
@@ -41,12 +41,12 @@ public class PlainTokenizeToTextLinesPipe extends XYCut implements TokenizeToTex
     /**
      * The number of processed text areas.
      */
-    protected int numProcessedTextAreas;
+    protected final LongAdder numProcessedTextAreas = new LongAdder();
 
     /**
      * The number of tokenized text lines.
      */
-    protected int numTokenizedTextLines;
+    protected final LongAdder numTokenizedTextLines = new LongAdder();
 
     /**
      * Creates a new text line tokenizer.
@@ -59,8 +59,8 @@ public class PlainTokenizeToTextLinesPipe extends XYCut implements TokenizeToTex
     // ==============================================================================================
 
     @Override
-    public Document execute(Document doc) throws PdfActException {
-        tokenizeToTextLines(doc);
+    public Document execute(Document doc, PageExecutor executor) throws PdfActException {
+        tokenizeToTextLines(doc, executor);
 
         return doc;
     }
@@ -71,10 +71,11 @@ public class PlainTokenizeToTextLinesPipe extends XYCut implements TokenizeToTex
      * Tokenizes the text areas in the pages of the given PDF document into text
      * lines.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
      * @throws PdfActException If something went wrong while tokenization.
      */
-    protected void tokenizeToTextLines(Document pdf) throws PdfActException {
+    protected void tokenizeToTextLines(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf == null) {
             return;
         }
@@ -84,18 +85,15 @@ public class PlainTokenizeToTextLinesPipe extends XYCut implements TokenizeToTex
             return;
         }
 
-        Stream<Page> pageStream = pages.parallelStream().filter(page -> page != null);
-        pageStream.forEach(page -> mapPage(pdf, page));
+        executor.forEachPage(pages, page -> {
+            ElementList<TextLine> textLines = tokenizeToTextLines(pdf, page);
+            page.setTextLineStatistic(this.textLineStatistician.compute(textLines));
+            page.setTextLines(textLines);
+        });
 
         pdf.setTextLineStatistic(this.textLineStatistician.aggregate(pages));
     }
 
-    private void mapPage(Document pdf, Page page) {
-        ElementList<TextLine> textLines = tokenizeToTextLines(pdf, page);
-        page.setTextLineStatistic(this.textLineStatistician.compute(textLines));
-        page.setTextLines(textLines);
-    }
-
     /**
      * Tokenizes the text areas in the given page into text lines.
      *
@@ -111,7 +109,7 @@ public class PlainTokenizeToTextLinesPipe extends XYCut implements TokenizeToTex
             ElementList<Character> characters = area.getCharacters();
             List<ElementList<Character>> charLists = cutTextlinesFast(pdf, page, characters);
 
-            this.numProcessedTextAreas++;
+            this.numProcessedTextAreas.increment();
 
             for (ElementList<Character> charList : charLists) {
                 // Create a PdfTextLine object.
@@ -124,7 +122,7 @@ public class PlainTokenizeToTextLinesPipe extends XYCut implements TokenizeToTex
             }
         }
 
-        this.numTokenizedTextLines += result.size();
+        this.numTokenizedTextLines.add(result.size());
 
         return result;
     }
@@ -139,24 +137,24 @@ public class PlainTokenizeToTextLinesPipe extends XYCut implements TokenizeToTex
      */
     protected Line computeBaseline(ElementList<Character> characters) {
         Line baseLine = null;
-        FloatCounter minYCounter = new FloatCounter();
+        FloatHistogram minYHistogram = new FloatHistogram();
 
         if (characters != null && !characters.isEmpty()) {
-            Collections.sort(characters, new MinXComparator());
+            characters.sort(PositionOrder.MIN_X);
 
             float minX = Float.MAX_VALUE;
             float maxX = -Float.MAX_VALUE;
             for (Character character : characters) {
                 if (CharacterLexicon.isBaselineCharacter(character)) {
-                    minYCounter.add(character.getPosition().getRectangle().getMinY());
+                    minYHistogram.add(character.getPosition().getRectangle().getMinY());
                 }
 
                 minX = Math.min(minX, character.getPosition().getRectangle().getMinX());
                 maxX = Math.max(maxX, character.getPosition().getRectangle().getMaxX());
             }
 
-            if (!minYCounter.isEmpty()) {
-                float minY = minYCounter.getMostCommonFloat();
+            if (!minYHistogram.isEmpty()) {
+                float minY = minYHistogram.getMostCommonFloat();
                 baseLine = new Line(minX, minY, maxX, minY);
             }
         }
@@ -10,8 +10,6 @@ import pdfact.core.util.PdfActUtils;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.lexicon.CharacterLexicon;
 import pdfact.core.util.list.ElementList;
-import pdfact.core.util.statistician.CharacterStatistician;
-import pdfact.core.util.statistician.TextLineStatistician;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,16 +26,6 @@ public class PlainTokenizeToParagraphsPipe implements TokenizeToParagraphsPipe {
      */
     protected static Logger log = LogManager.getFormatterLogger("paragraph-detection");
 
-    /**
-     * The statistician to compute statistics about characters.
-     */
-    protected CharacterStatistician characterStatistician;
-
-    /**
-     * The statistician to compute statistics about text lines.
-     */
-    protected TextLineStatistician textLineStatistician;
-
     /**
      * The number of processed text blocks.
      */
@@ -53,8 +41,6 @@ public class PlainTokenizeToParagraphsPipe implements TokenizeToParagraphsPipe {
      * paragraphs.
      */
     public PlainTokenizeToParagraphsPipe() {
-        this.characterStatistician = new CharacterStatistician();
-        this.textLineStatistician = new TextLineStatistician();
     }
 
     @Override
@@ -116,7 +102,6 @@ public class PlainTokenizeToParagraphsPipe implements TokenizeToParagraphsPipe {
             paragraph.setText(computeText(paragraph));
             paragraph.setPositions(computePositions(segment));
             paragraph.setSemanticRole(computeRole(segment));
-            paragraph.setCharacterStatistic(computeCharacterStatistic(paragraph));
             paragraphs.add(paragraph);
         }
 
@@ -163,16 +148,6 @@ public class PlainTokenizeToParagraphsPipe implements TokenizeToParagraphsPipe {
         return blocks.get(0).getSemanticRole();
     }
 
-    /**
-     * Computes the statistic about the characters of the given paragraph.
-     *
-     * @param paragraph The paragraph to process.
-     * @return The statistic.
-     */
-    protected CharacterStatistic computeCharacterStatistic(Paragraph paragraph) {
-        return this.characterStatistician.aggregate(paragraph.getWords());
-    }
-
     // ==============================================================================================
 
     /**
@@ -5,18 +5,18 @@ import org.apache.logging.log4j.Logger;
 import pdfact.core.model.Character;
 import pdfact.core.model.*;
 import pdfact.core.util.PdfActUtils;
-import pdfact.core.util.comparator.MinXComparator;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.lexicon.CharacterLexicon;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.PositionOrder;
+import pdfact.core.util.pipeline.PageExecutor;
 import pdfact.core.util.statistician.CharacterStatistician;
 import pdfact.core.util.xycut.XYCut;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An implementation of {@link TokenizeToWordsPipe} based on XYCut.
@@ -38,12 +38,12 @@ public class XYCutTokenizeToWordsPipe extends XYCut implements TokenizeToWordsPi
     /**
      * The number of processed text lines.
      */
-    protected int numProcessedTextLines;
+    protected final LongAdder numProcessedTextLines = new LongAdder();
 
     /**
      * The number of tokenized words.
      */
-    protected int numTokenizedWords;
+    protected final LongAdder numTokenizedWords = new LongAdder();
 
     /**
      * Creates a new word tokenizer.
@@ -55,8 +55,8 @@ public class XYCutTokenizeToWordsPipe extends XYCut implements TokenizeToWordsPi
     // ==============================================================================================
 
     @Override
-    public Document execute(Document doc) throws PdfActException {
-        tokenizeToWords(doc);
+    public Document execute(Document doc, PageExecutor executor) throws PdfActException {
+        tokenizeToWords(doc, executor);
 
         // Print the debug info for line detection here (and not in
         // PlainTokenizeToTextLines.class),
@@ -125,35 +125,33 @@ public class XYCutTokenizeToWordsPipe extends XYCut implements TokenizeToWordsPi
     /**
      * Tokenizes the text lines in the pages of the given PDF document into words.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
      * @throws PdfActException If something went wrong while tokenization.
      */
-    protected void tokenizeToWords(Document pdf) throws PdfActException {
+    protected void tokenizeToWords(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf == null) {
             return;
         }
 
-        List<List<ElementList<Word>>> wordLists = pdf.getPages().parallelStream()
-                .map((page) -> this.transformToWords(pdf, page)).collect(Collectors.toList());
-
-        for (List<ElementList<Word>> wordList : wordLists) {
-            this.numProcessedTextLines++;
-            this.numTokenizedWords += wordList.size();
-        }
+        executor.forEachPage(pdf.getPages(), page -> tokenizeToWords(pdf, page));
     }
 
-    private List<ElementList<Word>> transformToWords(Document pdf, Page page) {
-        List<ElementList<Word>> wordLists = new ArrayList<>();
-
+    /**
+     * Tokenizes the text lines of the given page into words.
+     *
+     * @param pdf  The PDF document to which the given page belongs to.
+     * @param page The page to process.
+     */
+    protected void tokenizeToWords(Document pdf, Page page) {
         for (TextLine line : page.getTextLines()) {
             ElementList<Word> words = tokenizeToWords(pdf, page, line);
             line.setWords(words);
             line.setText(PdfActUtils.join(words, " "));
 
-            wordLists.add(words);
+            this.numProcessedTextLines.increment();
+            this.numTokenizedWords.add(words.size());
         }
-
-        return wordLists;
     }
 
     /**
@@ -249,7 +247,7 @@ public class XYCutTokenizeToWordsPipe extends XYCut implements TokenizeToWordsPi
      * @return The text for the given word.
      */
     protected String computeText(Word word) {
-        Collections.sort(word.getCharacters(), new MinXComparator());
+        word.getCharacters().sort(PositionOrder.MIN_X);
         return PdfActUtils.join(word.getCharacters(), "");
     }
 
@@ -271,4 +269,4 @@ public class XYCutTokenizeToWordsPipe extends XYCut implements TokenizeToWordsPi
 
         return CharacterLexicon.isHyphen(word.getLastCharacter());
     }
-}
\ No newline at end of file
+}
@@ -6,10 +6,12 @@ import pdfact.core.model.Character;
 import pdfact.core.model.Document;
 import pdfact.core.model.Page;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.PageExecutor;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A plain implementation of {@link StandardizeCharactersPipe}.
@@ -31,12 +33,12 @@ public class PlainStandardizeCharactersPipe implements StandardizeCharactersPipe
     /**
      * The number of processed characters.
      */
-    protected int numProcessedCharacters;
+    protected final LongAdder numProcessedCharacters = new LongAdder();
 
     /**
      * The number of standardized characters.
      */
-    protected int numStandardizedCharacters;
+    protected final LongAdder numStandardizedCharacters = new LongAdder();
 
     // TODO: Move this to character lexicon.
     static {
@@ -56,8 +58,8 @@ public class PlainStandardizeCharactersPipe implements StandardizeCharactersPipe
     // ==============================================================================================
 
     @Override
-    public Document execute(Document pdf) throws PdfActException {
-        standardizeCharacters(pdf);
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
+        standardizeCharacters(pdf, executor);
         return pdf;
     }
 
@@ -66,16 +68,13 @@ public class PlainStandardizeCharactersPipe implements StandardizeCharactersPipe
     /**
      * Standardizes the characters of the given PDF document.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
+     * @throws PdfActException If something went wrong while processing the pages.
      */
-    protected void standardizeCharacters(Document pdf) {
+    protected void standardizeCharacters(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf != null) {
-            List<Page> pages = pdf.getPages();
-            if (pages != null) {
-                for (Page page : pages) {
-                    standardizeCharacters(page);
-                }
-            }
+            executor.forEachPage(pdf.getPages(), this::standardizeCharacters);
         }
     }
 
@@ -104,11 +103,11 @@ public class PlainStandardizeCharactersPipe implements StandardizeCharactersPipe
      *
      * @param ch The character to process.
      */
-    protected void standardizeCharacter(Character ch) {
+    public void standardizeCharacter(Character ch) {
         if (ch == null) {
             return;
         }
 
-        this.numProcessedCharacters++;
+        this.numProcessedCharacters.increment();
     }
 }
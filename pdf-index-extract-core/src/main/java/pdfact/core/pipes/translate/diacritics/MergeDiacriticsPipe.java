@@ -1,12 +1,12 @@
 package pdfact.core.pipes.translate.diacritics;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.PagePipe;
 
 /**
  * A pipe that merges characters with related diacritical marks.
  *
  * @author Claudius Korzen
  */
-public interface MergeDiacriticsPipe extends Pipe {
+public interface MergeDiacriticsPipe extends PagePipe {
 
 }
@@ -6,11 +6,12 @@ import pdfact.core.model.Character;
 import pdfact.core.model.*;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.pipeline.PageExecutor;
 
 import java.text.Normalizer;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A plain implementation of {@link MergeDiacriticsPipe}.
@@ -26,18 +27,18 @@ public class PlainMergeDiacriticsPipe implements MergeDiacriticsPipe {
     /**
      * The number of processed characters.
      */
-    protected int numProcessedCharacters;
+    protected final LongAdder numProcessedCharacters = new LongAdder();
 
     /**
      * The number of merged characters.
      */
-    protected int numMergedDiacritics;
+    protected final LongAdder numMergedDiacritics = new LongAdder();
 
     // ==============================================================================================
 
     @Override
-    public Document execute(Document pdf) throws PdfActException {
-        mergeDiacritics(pdf);
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
+        mergeDiacritics(pdf, executor);
         return pdf;
     }
 
@@ -45,37 +46,45 @@ public class PlainMergeDiacriticsPipe implements MergeDiacriticsPipe {
 
     /**
      * Merges the diacritical marks in the given PDF document with their related
-     * characters.
+     * characters. The pages are processed in parallel.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
+     * @throws PdfActException If something went wrong while processing the pages.
      */
-    protected void mergeDiacritics(Document pdf) {
+    protected void mergeDiacritics(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf != null) {
-            List<Page> pages = pdf.getPages();
-            if (pages != null) {
-                for (Page page : pages) {
-                    ElementList<Character> before = page.getCharacters();
-                    ElementList<Character> after = new ElementList<>(before.size());
-                    if (before != null) {
-                        for (int i = 0; i < before.size(); i++) {
-                            Character prev = i > 0 ? before.get(i - 1) : null;
-                            Character character = before.get(i);
-                            Character next = i < before.size() - 1 ? before.get(i + 1) : null;
-
-                            // Don't proceed if the character in question is not a diacritic.
-                            if (isDiacritic(character)) {
-                                mergeDiacritic(prev, character, next);
-                                this.numMergedDiacritics++;
-                            } else {
-                                after.add(character);
-                            }
-                            this.numProcessedCharacters++;
-                        }
-                        page.setCharacters(after);
-                    }
-                }
+            executor.forEachPage(pdf.getPages(), this::mergeDiacritics);
+        }
+    }
+
+    /**
+     * Merges the diacritical marks in the given page with their related characters.
+     *
+     * @param page The page to process.
+     */
+    protected void mergeDiacritics(Page page) {
+        ElementList<Character> before = page.getCharacters();
+        if (before == null) {
+            return;
+        }
+
+        ElementList<Character> after = new ElementList<>(before.size());
+        for (int i = 0; i < before.size(); i++) {
+            Character prev = i > 0 ? before.get(i - 1) : null;
+            Character character = before.get(i);
+            Character next = i < before.size() - 1 ? before.get(i + 1) : null;
+
+            // Don't proceed if the character in question is not a diacritic.
+            if (isDiacritic(character)) {
+                mergeDiacritic(prev, character, next);
+                this.numMergedDiacritics.increment();
+            } else {
+                after.add(character);
             }
+            this.numProcessedCharacters.increment();
         }
+        page.setCharacters(after);
     }
 
     /**
@@ -7,6 +7,7 @@ import pdfact.core.model.Document;
 import pdfact.core.model.Page;
 import pdfact.core.model.Position;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.PageExecutor;
 
 import java.util.HashMap;
 import java.util.List;
@@ -67,8 +68,8 @@ public class PlainSplitLigaturesPipe implements SplitLigaturesPipe {
     // ==============================================================================================
 
     @Override
-    public Document execute(Document pdf) throws PdfActException {
-        splitLigatures(pdf);
+    public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
+        splitLigatures(pdf, executor);
         return pdf;
     }
 
@@ -78,20 +79,26 @@ public class PlainSplitLigaturesPipe implements SplitLigaturesPipe {
      * Splits the ligatures of the given PDF document into its individual
      * characters.
      *
-     * @param pdf The PDF document to process.
+     * @param pdf      The PDF document to process.
+     * @param executor The executor on which the pages are processed.
+     * @throws PdfActException If something went wrong while processing the pages.
      */
-    protected void splitLigatures(Document pdf) {
+    protected void splitLigatures(Document pdf, PageExecutor executor) throws PdfActException {
         if (pdf != null) {
-            List<Page> pages = pdf.getPages();
-            if (pages != null) {
-                for (Page page : pages) {
-                    List<Character> characters = page.getCharacters();
-                    if (characters != null) {
-                        for (Character character : characters) {
-                            splitLigature(character);
-                        }
-                    }
-                }
+            executor.forEachPage(pdf.getPages(), this::splitLigatures);
+        }
+    }
+
+    /**
+     * Splits the ligatures of the given page into its individual characters.
+     *
+     * @param page The page to process.
+     */
+    protected void splitLigatures(Page page) {
+        List<Character> characters = page.getCharacters();
+        if (characters != null) {
+            for (Character character : characters) {
+                splitLigature(character);
             }
         }
     }
@@ -103,7 +110,7 @@ public class PlainSplitLigaturesPipe implements SplitLigaturesPipe {
      *
      * @param character The PDF character to process.
      */
-    protected void splitLigature(Character character) {
+    public void splitLigature(Character character) {
         if (isLigature(character)) {
             String resolved = getResolvedLigatureText(character);
 
@@ -1,12 +1,12 @@
 package pdfact.core.pipes.translate.ligatures;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.PagePipe;
 
 /**
  * A pipe that splits ligatures.
  *
  * @author Claudius Korzen
  */
-public interface SplitLigaturesPipe extends Pipe {
+public interface SplitLigaturesPipe extends PagePipe {
 
 }
@@ -3,9 +3,11 @@ package pdfact.core.pipes.validate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import pdfact.core.model.Document;
+import pdfact.core.model.DocumentSource;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.exception.PdfActValidateException;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -32,8 +34,13 @@ public class PlainValidatePdfPathPipe implements ValidatePdfPathPipe {
 
         log.debug("Validating the PDF path done.");
         log.debug("validated PDF path: " + pdf.getPath());
-        // Validate the path to the PDF file.
-        validatePdfPath(pdf.getPath());
+        if (pdf.getPath() != null || pdf.getSource() == null) {
+            // Validate the path to the PDF file.
+            validatePdfPath(pdf.getPath());
+        } else {
+            // The PDF file is held in memory or provided by a channel.
+            validatePdfSource(pdf.getSource());
+        }
 
         log.debug("End of pipe: " + getClass().getSimpleName() + ".");
         return pdf;
@@ -70,4 +77,26 @@ public class PlainValidatePdfPathPipe implements ValidatePdfPathPipe {
             throw new PdfActValidateException(message);
         }
     }
+
+    /**
+     * Validates the given source of a PDF file that is not given as a file.
+     *
+     * @param source The source to validate.
+     * @throws PdfActException If the source of the PDF file is not valid.
+     */
+    protected void validatePdfSource(DocumentSource source) throws PdfActException {
+        // Make sure that the source can be read and is not empty.
+        long size;
+        try {
+            size = source.size();
+        } catch (IOException e) {
+            String message = String.format("The file '%s' can't be read.", source.getName());
+            throw new PdfActValidateException(message, e);
+        }
+
+        if (size <= 0) {
+            String message = String.format("The file '%s' is empty.", source.getName());
+            throw new PdfActValidateException(message);
+        }
+    }
 }
@@ -1,194 +1,203 @@
 package pdfact.core.util;
 
+import pdfact.core.util.ComparisonResult.ErrorType;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Compares an extracted index with its gold standard. The entries are matched by their
+ * (normalized) phrases in a hash multimap, the page numbers and references are compared as
+ * multisets, such that a comparison runs in linear time of the number of entries. A comparator
+ * has no state, so it can be shared between threads.
+ */
 public class Comparator {
 
-    private HashMap<String, IndexEntry> pagenumberErrors;
-    private HashMap<String, IndexEntry> wrongEntries;
-    private HashMap<String, IndexEntry> referenceErrors;
-    private HashMap<String, IndexEntry> subEntriesErrors;
-    private HashMap<String, IndexEntry> additionalEntries;
-
-    private int numberOfFalseNegative;
-    private int numberOfTruePositive;
-    private int numberOfFalsePositive;
-    private int indexCount;
-    private int foundIndexCount;
-
-    public void compare(Collection<IndexEntry> goldStandard, Collection<IndexEntry> input) {
-        numberOfFalseNegative = 0;
-        boolean entryFound;
-        pagenumberErrors = new HashMap<>();
-        wrongEntries = new HashMap<>();
-        additionalEntries = new HashMap<>();
-        referenceErrors = new HashMap<>();
-        subEntriesErrors = new HashMap<>();
-        // TODO what does indexCount mean?
-        // indexCount = input.size();
-        indexCount = goldStandard.size();
-        foundIndexCount = input.size();
-        ArrayList<IndexEntry> copy = new ArrayList<>(input);
+    /**
+     * Compares the entries and their page numbers, references and sub-entries. An entry of the
+     * gold standard is a true positive if an extracted entry with the same phrase has exactly the
+     * same page numbers, references and sub-entries. Each extracted entry is matched at most once;
+     * the extracted entries that were not matched are false positives.
+     */
+    public ComparisonResult compare(Collection<IndexEntry> goldStandard, Collection<IndexEntry> input) {
+        ComparisonResult result = new ComparisonResult(goldStandard.size(), input.size());
+
+        // The extracted entries per phrase, in the order of the input.
+        Map<String, ArrayDeque<IndexEntry>> inputByPhrase = new HashMap<>();
+        for (IndexEntry inputEntry : input) {
+            inputByPhrase.computeIfAbsent(normalize(inputEntry.getPhrase()), k -> new ArrayDeque<>()).add(inputEntry);
+        }
+
+        Set<IndexEntry> matched = Collections.newSetFromMap(new IdentityHashMap<>());
         for (IndexEntry goldEntry : goldStandard) {
-            entryFound = false;
-            for (IndexEntry inputEntry : input) {
-                if (inputEntry.getPhrase().equals(goldEntry.getPhrase()) && copy.remove(inputEntry)) {
-                    entryFound = true;
-                    if (compareToEntriesDebug(goldEntry, inputEntry))
-                        numberOfFalseNegative++;
-                    // else numberOfTruePositive++;
-                    break;
-                }
+            ArrayDeque<IndexEntry> candidates = inputByPhrase.get(normalize(goldEntry.getPhrase()));
+            IndexEntry inputEntry = candidates != null ? candidates.poll() : null;
+            if (inputEntry == null) {
+                result.addFalseNegative();
+                result.addError(ErrorType.MISSING_ENTRY, goldEntry, "Entry was not found: " + goldEntry.getPhrase());
+                continue;
             }
-            if (!entryFound) {
-                numberOfFalseNegative++;
-                wrongEntries.put("Entry was not found: " + goldEntry.getPhrase(), goldEntry);
+            matched.add(inputEntry);
+            if (compareToEntriesDebug(goldEntry, inputEntry, result)) {
+                result.addFalseNegative();
+            } else {
+                result.addTruePositive();
             }
         }
-        if (!copy.isEmpty())
-            copy.forEach(entry -> additionalEntries.put("Additional Entry was found: " + entry.getPhrase(), entry));
-        numberOfFalsePositive = additionalEntries.size();
-        numberOfTruePositive = (indexCount - numberOfFalseNegative);
-    }
 
-    public void compareNonStrict(Collection<IndexEntry> goldStandard, Collection<IndexEntry> input) {
-        ArrayList<String> goldPhrases = new ArrayList<>();
-        ArrayList<String> inputPhrases = new ArrayList<>();
-        goldStandard.forEach(e -> {
-            goldPhrases.add(e.getPhrase());
-        });
-        input.forEach(e -> {
-            inputPhrases.add(e.getPhrase());
-        });
-        for (String gPhrase : goldPhrases) {
-            if (!inputPhrases.contains(gPhrase))
-                numberOfFalseNegative++;
-            else
-                numberOfTruePositive++;
+        for (IndexEntry inputEntry : input) {
+            if (!matched.contains(inputEntry)) {
+                result.addFalsePositive();
+                result.addError(ErrorType.ADDITIONAL_ENTRY, inputEntry,
+                        "Additional Entry was found: " + inputEntry.getPhrase());
+            }
         }
+        return result;
+    }
 
-        for (String iPhrase : inputPhrases) {
-            if (!goldPhrases.contains(iPhrase))
-                numberOfFalsePositive++;
+    /**
+     * Compares the phrases of the entries only: a phrase of the gold standard is a true positive
+     * if any extracted entry has the phrase, a phrase of an extracted entry is a false positive if
+     * no entry of the gold standard has the phrase.
+     */
+    public ComparisonResult compareNonStrict(Collection<IndexEntry> goldStandard, Collection<IndexEntry> input) {
+        ComparisonResult result = new ComparisonResult(goldStandard.size(), input.size());
+        Set<String> goldPhrases = new HashSet<>();
+        goldStandard.forEach(e -> goldPhrases.add(normalize(e.getPhrase())));
+        Set<String> inputPhrases = new HashSet<>();
+        input.forEach(e -> inputPhrases.add(normalize(e.getPhrase())));
+
+        for (IndexEntry goldEntry : goldStandard) {
+            if (inputPhrases.contains(normalize(goldEntry.getPhrase()))) {
+                result.addTruePositive();
+            } else {
+                result.addFalseNegative();
+            }
+        }
+        for (IndexEntry inputEntry : input) {
+            if (!goldPhrases.contains(normalize(inputEntry.getPhrase()))) {
+                result.addFalsePositive();
+            }
         }
+        return result;
+    }
 
+    /**
+     * Normalizes the given phrase for matching: unicode normalization (NFC), and all runs of
+     * whitespace are replaced by a single space.
+     */
+    static String normalize(String phrase) {
+        if (phrase == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(phrase, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        boolean isSpace = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                isSpace = sb.length() > 0;
+            } else {
+                if (isSpace) {
+                    sb.append(' ');
+                    isSpace = false;
+                }
+                sb.append(c);
+            }
+        }
+        return sb.toString();
     }
 
     private boolean compareToEntries(IndexEntry e1, IndexEntry e2) {
-        if (e1.getReference() == null || e2.getReference() == null)
-            return e1.getPhrase().equals(e2.getPhrase()) && e1.getNumbers().containsAll(e2.getNumbers());
-        else
-            return e1.getPhrase().equals(e2.getPhrase()) && e1.getNumbers().containsAll(e2.getNumbers())
-                    && e1.getReference().containsAll(e2.getReference());
+        return normalize(e1.getPhrase()).equals(normalize(e2.getPhrase()))
+                && e1.getNumbers().containsAll(e2.getNumbers())
+                && e1.getReference().containsAll(e2.getReference());
     }
 
-    private boolean compareToEntriesDebug(IndexEntry e1, IndexEntry e2) {
-        ArrayList<String> copy = new ArrayList<>(e2.getNumbers());
+    /**
+     * Compares the page numbers, references and sub-entries of the given gold entry with the
+     * given extracted entry and records the differences in the result.
+     *
+     * @return true if the entries differ
+     */
+    private boolean compareToEntriesDebug(IndexEntry e1, IndexEntry e2, ComparisonResult result) {
         boolean entryIsFalse = false;
-        for (String number : e1.getNumbers()) {
-            if (!copy.remove(number)) {
-                pagenumberErrors.put("Missing page number: " + number, e1);
-                entryIsFalse = true;
-            }
+
+        List<String> missing = new ArrayList<>();
+        List<String> additional = new ArrayList<>();
+        compareMultisets(e1.getNumbers(), e2.getNumbers(), missing, additional);
+        for (String number : missing) {
+            result.addError(ErrorType.PAGE_NUMBERS, e1, "Missing page number: " + number);
         }
-        if (!copy.isEmpty()) {
-            pagenumberErrors.put("Wrong numbers: " + String.join(", ", copy), e1);
-            entryIsFalse = true;
+        if (!additional.isEmpty()) {
+            result.addError(ErrorType.PAGE_NUMBERS, e1, "Wrong numbers: " + String.join(", ", additional));
         }
-        if (e1.getReference() != null && e2.getReference() != null) {
-            copy = new ArrayList<>(e2.getReference());
-            for (String ref : e1.getReference()) {
-                if (!copy.remove(ref)) {
-                    referenceErrors.put("Missing references: " + ref, e1);
-                    entryIsFalse = true;
-                }
-            }
-            if (!copy.isEmpty()) {
-                referenceErrors.put("Wrong references: " + String.join(", ", copy), e1);
-                entryIsFalse = true;
-            }
-        } else if (e1.getReference() == null && e2.getReference() != null) {
-            referenceErrors.put("References found but no expected", e1);
-            entryIsFalse = true;
-        } else if ((e2.getReference() == null && e1.getReference() != null)) {
-            referenceErrors.put("No references where found but expected at least one", e1);
-            entryIsFalse = true;
+        entryIsFalse |= !missing.isEmpty() || !additional.isEmpty();
+
+        missing.clear();
+        additional.clear();
+        compareMultisets(e1.getReference(), e2.getReference(), missing, additional);
+        for (String ref : missing) {
+            result.addError(ErrorType.REFERENCES, e1, "Missing references: " + ref);
+        }
+        if (!additional.isEmpty()) {
+            result.addError(ErrorType.REFERENCES, e1, "Wrong references: " + String.join(", ", additional));
         }
+        entryIsFalse |= !missing.isEmpty() || !additional.isEmpty();
 
-        if (e1.getSubentries() != null && e2.getSubentries() != null) {
-            copy = new ArrayList<>();
-            for (IndexEntry e : e2.getSubentries()) {
-                copy.add(e.getPhrase());
-            }
-            for (int i = 0; i < e1.getSubentries().size() && i < e2.getSubentries().size(); i++) {
-                if (compareToEntries(e1.getSubentries().get(i), e2.getSubentries().get(i)))
-                    copy.remove(e1.getSubentries().get(i).getPhrase());
-                else {
-                    subEntriesErrors.put("Something wrong with sub-entry: " + e2.getSubentries().get(i).getPhrase()
-                            + " - Required: " + e1.getSubentries().get(i).getPhrase(), e1);
-                    entryIsFalse = true;
-                }
-            }
-            if (e1.getSubentries().size() < e2.getSubentries().size()) {
-                subEntriesErrors.put("Additional sub-entries found", e1);
-                entryIsFalse = true;
-            } else if (e1.getSubentries().size() > e2.getSubentries().size()) {
-                subEntriesErrors.put("Missing sub-entries", e1);
+        List<IndexEntry> subEntries1 = e1.getSubentries();
+        List<IndexEntry> subEntries2 = e2.getSubentries();
+        for (int i = 0; i < subEntries1.size() && i < subEntries2.size(); i++) {
+            if (!compareToEntries(subEntries1.get(i), subEntries2.get(i))) {
+                result.addError(ErrorType.SUB_ENTRIES, e1, "Something wrong with sub-entry: "
+                        + subEntries2.get(i).getPhrase() + " - Required: " + subEntries1.get(i).getPhrase());
                 entryIsFalse = true;
             }
-        } else if (e1.getSubentries() == null && e2.getSubentries() != null) {
-            subEntriesErrors.put("Sub-entry found but no expected", e1);
+        }
+        if (subEntries1.size() < subEntries2.size()) {
+            result.addError(ErrorType.SUB_ENTRIES, e1, "Additional sub-entries found");
             entryIsFalse = true;
-        } else if (e2.getSubentries() == null && e1.getSubentries() != null) {
-            subEntriesErrors.put("No sub-entries where found but expected at least one", e1);
+        } else if (subEntries1.size() > subEntries2.size()) {
+            result.addError(ErrorType.SUB_ENTRIES, e1, "Missing sub-entries");
             entryIsFalse = true;
         }
         return entryIsFalse;
     }
 
-    public void printResult(boolean printAllStats, boolean strict) throws InterruptedException {
-        if (printAllStats) {
-            System.err.println("Missing or completely wrong entries");
-            wrongEntries.forEach(
-                    (key1, value1) -> System.out.println("Entry: " + value1.getPhrase() + " - Errormessage: " + key1));
-            Thread.sleep(100);
-            System.err.println("Additional found entries");
-            additionalEntries.forEach(
-                    (key1, value1) -> System.out.println("Entry: " + value1.getPhrase() + " - Errormessage: " + key1));
-            Thread.sleep(100);
-            System.err.println("Wrong page numbers");
-            pagenumberErrors.forEach(
-                    (key, value) -> System.out.println("Entry: " + value.getPhrase() + " - Errormessage: " + key));
-            Thread.sleep(100);
-            System.err.println("Wrong sub-entries");
-            subEntriesErrors.forEach(
-                    (key, value) -> System.out.println("Entry: " + value.getPhrase() + " - Errormessage: " + key));
-            Thread.sleep(100);
-            System.err.println("Wrong references");
-            referenceErrors.forEach(
-                    (key, value) -> System.out.println("Entry: " + value.getPhrase() + " - Errormessage: " + key));
-        }
-        System.err.println("Statistics ");
-        System.err.println("Gold Index Count:  " + indexCount);
-        System.err.println("Found Index Count:  " + foundIndexCount);
-
-        if (!strict) {
-            System.err.println("Total count of missing: " + wrongEntries.size());
-            System.err.println("Total count of Wrong page numbers: " + pagenumberErrors.size());
-            System.err.println("Total count of Wrong sub-entries: " + subEntriesErrors.size());
-            System.err.println("Total count of Wrong references: " + referenceErrors.size());
-        }
-
-        double recall = numberOfTruePositive / (double) (numberOfTruePositive + numberOfFalseNegative);
-        double precision = numberOfTruePositive / (double) (numberOfTruePositive + numberOfFalsePositive);
-        System.err.println("True Positive: " + numberOfTruePositive);
-        System.err.println("False Negative: " + numberOfFalseNegative);
-        System.err.println("False Positive: " + numberOfFalsePositive);
-        System.err.println("Precision: " + String.format("%.2f", (precision * 100)) + "%");
-        System.err.println("Recall: " + String.format("%.2f", (recall * 100)) + "%");
-        System.err.println(
-                "F1-Measure: " + String.format("%.2f", ((2 * precision * recall) / (precision + recall)) * 100) + "%");
+    /**
+     * Compares the given lists as multisets: adds each element of the expected list that has no
+     * counterpart in the actual list to missing, and each element of the actual list that has no
+     * counterpart in the expected list to additional (both in the order of the lists).
+     */
+    private static void compareMultisets(List<String> expected, List<String> actual, List<String> missing,
+                                         List<String> additional) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String s : actual) {
+            counts.merge(s, 1, Integer::sum);
+        }
+        for (String s : expected) {
+            Integer count = counts.get(s);
+            if (count == null || count == 0) {
+                missing.add(s);
+            } else {
+                counts.put(s, count - 1);
+            }
+        }
+        for (String s : actual) {
+            Integer count = counts.get(s);
+            if (count != null && count > 0) {
+                additional.add(s);
+                counts.put(s, count - 1);
+            }
+        }
     }
 }
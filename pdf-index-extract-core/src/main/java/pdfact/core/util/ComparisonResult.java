@@ -0,0 +1,190 @@
+package pdfact.core.util;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of comparing an extracted index with its gold standard, see {@link Comparator}.
+ */
+public class ComparisonResult {
+
+    /**
+     * The kinds of errors of an extracted index.
+     */
+    public enum ErrorType {
+        MISSING_ENTRY("Missing or completely wrong entries"),
+        ADDITIONAL_ENTRY("Additional found entries"),
+        PAGE_NUMBERS("Wrong page numbers"),
+        SUB_ENTRIES("Wrong sub-entries"),
+        REFERENCES("Wrong references");
+
+        private final String title;
+
+        ErrorType(String title) {
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+
+    /**
+     * An error of a single entry.
+     */
+    public static class EntryError {
+        private final ErrorType type;
+        private final IndexEntry entry;
+        private final String message;
+
+        public EntryError(ErrorType type, IndexEntry entry, String message) {
+            this.type = type;
+            this.entry = entry;
+            this.message = message;
+        }
+
+        public ErrorType getType() {
+            return type;
+        }
+
+        /**
+         * Returns the entry of the gold standard, or the extracted entry for an additional entry.
+         */
+        public IndexEntry getEntry() {
+            return entry;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry: " + entry.getPhrase() + " - Errormessage: " + message;
+        }
+    }
+
+    private final int numGoldEntries;
+    private final int numExtractedEntries;
+    private int numberOfTruePositive;
+    private int numberOfFalsePositive;
+    private int numberOfFalseNegative;
+    private final List<EntryError> errors = new ArrayList<>();
+
+    public ComparisonResult(int numGoldEntries, int numExtractedEntries) {
+        this.numGoldEntries = numGoldEntries;
+        this.numExtractedEntries = numExtractedEntries;
+    }
+
+    void addTruePositive() {
+        numberOfTruePositive++;
+    }
+
+    void addFalsePositive() {
+        numberOfFalsePositive++;
+    }
+
+    void addFalseNegative() {
+        numberOfFalseNegative++;
+    }
+
+    void addError(ErrorType type, IndexEntry entry, String message) {
+        errors.add(new EntryError(type, entry, message));
+    }
+
+    public int getNumGoldEntries() {
+        return numGoldEntries;
+    }
+
+    public int getNumExtractedEntries() {
+        return numExtractedEntries;
+    }
+
+    public int getNumberOfTruePositive() {
+        return numberOfTruePositive;
+    }
+
+    public int getNumberOfFalsePositive() {
+        return numberOfFalsePositive;
+    }
+
+    public int getNumberOfFalseNegative() {
+        return numberOfFalseNegative;
+    }
+
+    /**
+     * Returns the precision, 0 if nothing was found.
+     */
+    public double getPrecision() {
+        int numFound = numberOfTruePositive + numberOfFalsePositive;
+        return numFound == 0 ? 0 : numberOfTruePositive / (double) numFound;
+    }
+
+    /**
+     * Returns the recall, 0 if the gold standard is empty.
+     */
+    public double getRecall() {
+        int numGold = numberOfTruePositive + numberOfFalseNegative;
+        return numGold == 0 ? 0 : numberOfTruePositive / (double) numGold;
+    }
+
+    /**
+     * Returns the F1-measure.
+     */
+    public double getF1() {
+        double precision = getPrecision();
+        double recall = getRecall();
+        return precision + recall == 0 ? 0 : 2 * precision * recall / (precision + recall);
+    }
+
+    /**
+     * Returns all errors, in the order of the gold standard (the additional entries last).
+     */
+    public List<EntryError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the errors of the given type.
+     */
+    public List<EntryError> getErrors(ErrorType type) {
+        List<EntryError> result = new ArrayList<>();
+        for (EntryError error : errors) {
+            if (error.getType() == type) {
+                result.add(error);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Prints the statistics (and all errors, if printAllStats is true) to the given stream.
+     */
+    public void print(PrintStream out, boolean printAllStats, boolean strict) {
+        if (printAllStats) {
+            for (ErrorType type : ErrorType.values()) {
+                out.println(type.getTitle());
+                getErrors(type).forEach(out::println);
+            }
+        }
+        out.println("Statistics ");
+        out.println("Gold Index Count:  " + numGoldEntries);
+        out.println("Found Index Count:  " + numExtractedEntries);
+
+        if (!strict) {
+            out.println("Total count of missing: " + getErrors(ErrorType.MISSING_ENTRY).size());
+            out.println("Total count of Wrong page numbers: " + getErrors(ErrorType.PAGE_NUMBERS).size());
+            out.println("Total count of Wrong sub-entries: " + getErrors(ErrorType.SUB_ENTRIES).size());
+            out.println("Total count of Wrong references: " + getErrors(ErrorType.REFERENCES).size());
+        }
+
+        out.println("True Positive: " + numberOfTruePositive);
+        out.println("False Negative: " + numberOfFalseNegative);
+        out.println("False Positive: " + numberOfFalsePositive);
+        out.println("Precision: " + String.format("%.2f", (getPrecision() * 100)) + "%");
+        out.println("Recall: " + String.format("%.2f", (getRecall() * 100)) + "%");
+        out.println("F1-Measure: " + String.format("%.2f", getF1() * 100) + "%");
+    }
+}
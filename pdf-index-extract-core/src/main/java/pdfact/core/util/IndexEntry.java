@@ -1,16 +1,19 @@
 package pdfact.core.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
 public class IndexEntry {
 
     private String phrase;
-    private List<String> numbers = new ArrayList<>();
+    private List<IndexLocator> locators = new ArrayList<>();
     private List<IndexEntry> subEntries = new ArrayList<>();
     private List<String> references = new ArrayList<>();
-    private List<Integer> offsets = new ArrayList<>();
+    // the page offsets, one per page number (that is, two per page range), see getNumbers()
+    private int[] offsets = new int[0];
+    private int numOffsets;
 
     public IndexEntry() {
 
@@ -21,8 +24,34 @@ public class IndexEntry {
         this.phrase = phrase;
     }
 
+    /**
+     * Adds the given page numbers, each as a locator that keeps its original text (see
+     * IndexLocator.of()), such that getNumbers() returns the numbers exactly as given, also the
+     * ones that can't be parsed (e.g. "12n" or "S. 5").
+     */
     public void addNumbers(Collection<String> numbers) {
-        this.numbers.addAll(numbers);
+        for (String number : numbers) {
+            IndexLocator locator = IndexLocator.of(number);
+            if (locator != null) {
+                this.locators.add(locator);
+            }
+        }
+    }
+
+    public void addLocator(IndexLocator locator) {
+        this.locators.add(locator);
+    }
+
+    public void addLocators(Collection<IndexLocator> locators) {
+        this.locators.addAll(locators);
+    }
+
+    /**
+     * Removes all locators (and their offsets) of this entry.
+     */
+    public void clearLocators() {
+        this.locators.clear();
+        this.numOffsets = 0;
     }
 
     public void addSubEntry(IndexEntry subEntry) {
@@ -42,7 +71,21 @@ public class IndexEntry {
         return phrase;
     }
 
+    public List<IndexLocator> getLocators() {
+        return locators;
+    }
+
+    /**
+     * Returns the page numbers of the locators as texts, the first and the last page of a range
+     * are separate page numbers.
+     */
     public List<String> getNumbers() {
+        List<String> numbers = new ArrayList<>(locators.size());
+        for (IndexLocator locator : locators) {
+            for (int i = 0; i < locator.getNumPageNumbers(); i++) {
+                numbers.add(locator.getPageNumber(i));
+            }
+        }
         return numbers;
     }
 
@@ -74,11 +117,21 @@ public class IndexEntry {
         }
     }
 
-    public void addOffsets(List<Integer> offsets) {
-        this.offsets.addAll(offsets);
+    public void addOffset(int offset) {
+        if (numOffsets == offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(4, numOffsets * 2));
+        }
+        offsets[numOffsets++] = offset;
+    }
+
+    /**
+     * Returns the offset of the i-th page number (see getNumbers()), or 0 if there is none.
+     */
+    public int getOffset(int i) {
+        return i < numOffsets ? offsets[i] : 0;
     }
 
-    public List<Integer> getOffsets() {
-        return offsets;
+    public int getNumOffsets() {
+        return numOffsets;
     }
 }
@@ -0,0 +1,269 @@
+package pdfact.core.util;
+
+import java.util.Objects;
+
+/**
+ * A locator of an index entry: a single page (e.g. "12", "xii" or "12f.") or a page range (e.g.
+ * "12-15"). The pages are kept as ints, so they don't need to be parsed again by the consumers.
+ * A locator read from a text (e.g. of a gold standard, see {@link #of(String)}) keeps this text
+ * and is written exactly as read, also if the text isn't a locator known to {@link #parse(String)}
+ * (e.g. "12n" or "S. 5").
+ */
+public class IndexLocator {
+
+    private static final String[] ROMAN_SYMBOLS = {"m", "cm", "d", "cd", "c", "xc", "l", "xl", "x", "ix", "v", "iv", "i"};
+    private static final int[] ROMAN_VALUES = {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1};
+
+    private final int start;
+    private final int end;
+    private final boolean range;
+    private final boolean roman;
+    private final boolean followingPage;
+    private final boolean followingPages;
+    // the original text of the locator, or null if the locator is rendered from its pages
+    private final String text;
+
+    /**
+     * @param start          the (first) page
+     * @param end            the last page, equal to start for a single page
+     * @param range          true if the locator is a page range
+     * @param roman          true if the page is a roman number
+     * @param followingPage  true if the locator includes the following page ("f.")
+     * @param followingPages true if the locator includes the following pages ("ff.")
+     */
+    public IndexLocator(int start, int end, boolean range, boolean roman, boolean followingPage,
+                        boolean followingPages) {
+        this(start, end, range, roman, followingPage, followingPages, null);
+    }
+
+    private IndexLocator(int start, int end, boolean range, boolean roman, boolean followingPage,
+                         boolean followingPages, String text) {
+        this.start = start;
+        this.end = end;
+        this.range = range;
+        this.roman = roman;
+        this.followingPage = followingPage;
+        this.followingPages = followingPages;
+        this.text = text;
+    }
+
+    public static IndexLocator page(int page) {
+        return new IndexLocator(page, page, false, false, false, false);
+    }
+
+    public static IndexLocator range(int start, int end) {
+        return new IndexLocator(start, end, true, false, false, false);
+    }
+
+    /**
+     * Returns the locator of the given text, which keeps the text as it is: the pages are parsed
+     * (see {@link #parse(String)}) where possible, a text that isn't a locator gets the pages -1.
+     *
+     * @return the locator, or null if the text is null
+     */
+    public static IndexLocator of(String text) {
+        if (text == null) {
+            return null;
+        }
+        IndexLocator parsed = parse(text);
+        if (parsed == null) {
+            return new IndexLocator(-1, -1, false, false, false, false, text);
+        }
+        return new IndexLocator(parsed.start, parsed.end, parsed.range, parsed.roman, parsed.followingPage,
+                parsed.followingPages, text);
+    }
+
+    /**
+     * Parses the given locator, e.g. "12", "12-15", "xii", "12f." or "12ff.".
+     *
+     * @return the locator, or null if the text isn't a locator
+     */
+    public static IndexLocator parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        String s = text.replace(" ", "");
+        boolean followingPages = false;
+        boolean followingPage = false;
+        if (s.endsWith("ff.") || s.endsWith("ff")) {
+            followingPages = true;
+            s = s.substring(0, s.lastIndexOf("ff"));
+        } else if ((s.endsWith("f.") || s.endsWith("f")) && s.length() > 1 && isDigit(s.charAt(s.lastIndexOf('f') - 1))) {
+            followingPage = true;
+            s = s.substring(0, s.lastIndexOf('f'));
+        }
+
+        int dash = s.indexOf('-');
+        if (dash >= 0) {
+            int start = parseNumber(s, 0, dash);
+            int end = parseNumber(s, dash + 1, s.length());
+            if (start < 0 || end < 0 || followingPage || followingPages) {
+                return null;
+            }
+            return range(start, end);
+        }
+
+        int page = parseNumber(s, 0, s.length());
+        if (page >= 0) {
+            return new IndexLocator(page, page, false, false, followingPage, followingPages);
+        }
+        page = parseRoman(s);
+        if (page > 0) {
+            return new IndexLocator(page, page, false, true, followingPage, followingPages);
+        }
+        return null;
+    }
+
+    /**
+     * Parses the digits in the given range of the given text.
+     *
+     * @return the number, or -1 if the range is empty, contains other characters than digits or
+     * the number exceeds the int range
+     */
+    public static int parseNumber(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses the given (case-insensitive) roman number.
+     *
+     * @return the value, or -1 if the text isn't a roman number in canonical form
+     */
+    public static int parseRoman(String text) {
+        String s = text.toLowerCase();
+        int value = 0;
+        int i = 0;
+        for (int j = 0; j < ROMAN_SYMBOLS.length && i < s.length(); j++) {
+            while (s.startsWith(ROMAN_SYMBOLS[j], i)) {
+                value += ROMAN_VALUES[j];
+                i += ROMAN_SYMBOLS[j].length();
+            }
+        }
+        if (i < s.length() || value == 0 || !toRoman(value).equals(s)) {
+            return -1;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the given (positive) number as lower case roman number.
+     */
+    public static String toRoman(int value) {
+        StringBuilder sb = new StringBuilder();
+        for (int j = 0; j < ROMAN_SYMBOLS.length; j++) {
+            while (value >= ROMAN_VALUES[j]) {
+                sb.append(ROMAN_SYMBOLS[j]);
+                value -= ROMAN_VALUES[j];
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    public boolean isRange() {
+        return range;
+    }
+
+    public boolean isRoman() {
+        return roman;
+    }
+
+    public boolean isFollowingPage() {
+        return followingPage;
+    }
+
+    public boolean isFollowingPages() {
+        return followingPages;
+    }
+
+    /**
+     * Returns the original text of this locator, or null if the locator is rendered from its pages.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns true if the pages of this locator are known, that is: unless this locator was read
+     * from a text that isn't a locator.
+     */
+    public boolean isParsed() {
+        return start >= 0;
+    }
+
+    /**
+     * Returns the number of pages that are written for this locator: 1 for a locator with an
+     * original text, otherwise 2 for a range and 1 for a single page.
+     */
+    public int getNumPageNumbers() {
+        return isRange() && text == null ? 2 : 1;
+    }
+
+    /**
+     * Returns the text of the given page of this locator, 0 for the (first) page and 1 for the last
+     * page of a range, e.g. "12", "xii" or "12f.". A locator with an original text returns this text.
+     */
+    public String getPageNumber(int i) {
+        if (text != null) {
+            return text;
+        }
+        int page = i == 0 ? start : end;
+        String text = roman ? toRoman(page) : String.valueOf(page);
+        if (followingPage) {
+            return text + "f.";
+        }
+        if (followingPages) {
+            return text + "ff.";
+        }
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IndexLocator)) {
+            return false;
+        }
+        IndexLocator other = (IndexLocator) o;
+        return start == other.start && end == other.end && range == other.range && roman == other.roman
+                && followingPage == other.followingPage && followingPages == other.followingPages
+                && Objects.equals(text, other.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, range, roman, followingPage, followingPages, text);
+    }
+
+    @Override
+    public String toString() {
+        if (text != null) {
+            return text;
+        }
+        return isRange() ? getPageNumber(0) + "-" + getPageNumber(1) : getPageNumber(0);
+    }
+}
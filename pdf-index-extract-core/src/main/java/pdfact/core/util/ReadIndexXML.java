@@ -1,108 +1,208 @@
 package pdfact.core.util;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
-
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import java.io.File;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Reads index XML files (as written by {@link WriteToXML}, or the gold standard) in a single forward
+ * pass with a {@link XMLStreamReader}. The entries are either read completely (see
+ * {@link #readPdf(String)}) or one top-level entry at a time (see {@link #iterator(Path)} and
+ * {@link #forEachEntry(Path, Consumer)}), such that huge files don't need to be materialized.
+ */
 public class ReadIndexXML {
 
+    private static final XMLInputFactory FACTORY = createFactory();
+
     public Collection<IndexEntry> readPdf(String path) {
         ArrayList<IndexEntry> entries = new ArrayList<>();
-        DocumentBuilderFactory docBuildFactory = DocumentBuilderFactory.newInstance();
         try {
-            docBuildFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-
-            DocumentBuilder docBuilder = docBuildFactory.newDocumentBuilder();
-            File f = new File(path);
-            Document doc = docBuilder.parse(f);
-
-            // recommended but not necessary
-            doc.getDocumentElement().normalize();
-
-            NodeList nodeEntries = doc.getElementsByTagName("entry");
-
-            ArrayList<Node> nodes = new ArrayList<>();
-            // Filter all nodes with tag "entry" that belong to subentries as parent
-            for (int i = 0; i < nodeEntries.getLength(); i++) {
-                if (!nodeEntries.item(i).getParentNode().getNodeName().equals("subentries"))
-                    nodes.add(nodeEntries.item(i));
-            }
-
-            entries.addAll(castEntriesTag(nodes));
-
-        } catch (ParserConfigurationException | SAXException | IOException e) {
-            // e.printStackTrace();
+            forEachEntry(Paths.get(path), entries::add);
+        } catch (IOException | IllegalStateException e) {
             System.err.println("Goldstandard is not found under " + path);
+            entries.clear();
         }
         return entries;
     }
 
-    private Collection<IndexEntry> castEntriesTag(ArrayList<Node> nodeEntries) {
-        ArrayList<IndexEntry> entries = new ArrayList<>();
-        for (Node n : nodeEntries) {
-            if (n.getNodeType() == Node.ELEMENT_NODE) {
-                Element e = (Element) n;
-                entries.add(castEntryTag(e));
-            }
+    /**
+     * Reads all top-level entries (with their sub-entries) from the given stream.
+     */
+    public List<IndexEntry> read(InputStream stream) throws IOException {
+        List<IndexEntry> entries = new ArrayList<>();
+        try (EntryIterator it = new EntryIterator(stream)) {
+            it.forEachRemaining(entries::add);
         }
         return entries;
     }
 
-    private IndexEntry castEntryTag(Element nodeElement) {
-        IndexEntry entry = new IndexEntry();
-        entry.setPhrase(castPhraseTag(nodeElement));
+    /**
+     * Passes each top-level entry (with its sub-entries) of the given file to the given consumer,
+     * as soon as the entry is read.
+     */
+    public void forEachEntry(Path path, Consumer<IndexEntry> consumer) throws IOException {
+        try (EntryIterator it = iterator(path)) {
+            it.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * Returns an iterator over the top-level entries (with their sub-entries) of the given file. The
+     * iterator must be closed.
+     */
+    public EntryIterator iterator(Path path) throws IOException {
+        return new EntryIterator(new BufferedInputStream(Files.newInputStream(path)));
+    }
 
-        NodeList pagenumbers = ((Element) nodeElement.getElementsByTagName("pagenumbers").item(0))
-                .getElementsByTagName("number");
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
 
-        entry.addNumbers(castPagenumbersTag(pagenumbers));
+    /**
+     * An iterator over the top-level entries of an index XML file. An "entry" element is a
+     * sub-entry of the enclosing entry, the texts of the "phrase", "number" and "reference" elements
+     * belong to the innermost enclosing entry. A failure on reading the file is thrown as
+     * {@link IllegalStateException}.
+     */
+    public static class EntryIterator implements Iterator<IndexEntry>, Closeable {
+        private final InputStream stream;
+        private final XMLStreamReader reader;
+        // the open entries, the innermost one on top
+        private final Deque<IndexEntry> openEntries = new ArrayDeque<>();
+        private final StringBuilder text = new StringBuilder();
+        // the name of the element whose text is collected, or null
+        private String textElement;
+        private IndexEntry next;
+
+        public EntryIterator(InputStream stream) throws IOException {
+            this.stream = stream;
+            try {
+                this.reader = FACTORY.createXMLStreamReader(stream);
+            } catch (XMLStreamException e) {
+                stream.close();
+                throw new IOException(e);
+            }
+        }
 
-        Node subentriesNode = nodeElement.getElementsByTagName("subentries").item(0);
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = readNext();
+                } catch (XMLStreamException e) {
+                    throw new IllegalStateException("Couldn't read the index XML.", e);
+                }
+            }
+            return next != null;
+        }
 
-        if (subentriesNode != null && subentriesNode.getNodeType() == Node.ELEMENT_NODE) {
+        @Override
+        public IndexEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IndexEntry entry = next;
+            next = null;
+            return entry;
+        }
 
-            NodeList subentries = ((Element) subentriesNode).getElementsByTagName("entry");
-            for (int i = 0; i < subentries.getLength(); i++) {
-                if (subentries.item(i).getNodeType() == Node.ELEMENT_NODE) {
-                    entry.addSubEntry(castEntryTag((Element) subentries.item(i)));
+        /**
+         * Reads up to the end of the next top-level entry.
+         *
+         * @return the entry, or null if there are no more entries
+         */
+        private IndexEntry readNext() throws XMLStreamException {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        String name = reader.getLocalName();
+                        if ("entry".equals(name)) {
+                            IndexEntry entry = new IndexEntry();
+                            if (!openEntries.isEmpty()) {
+                                openEntries.peek().addSubEntry(entry);
+                            }
+                            openEntries.push(entry);
+                        } else if (!openEntries.isEmpty() && isTextElement(name)) {
+                            textElement = name;
+                            text.setLength(0);
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (textElement != null) {
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        name = reader.getLocalName();
+                        if (name.equals(textElement)) {
+                            addText(openEntries.peek(), name, text.toString());
+                            textElement = null;
+                        } else if ("entry".equals(name) && !openEntries.isEmpty()) {
+                            IndexEntry entry = openEntries.pop();
+                            if (openEntries.isEmpty()) {
+                                return entry;
+                            }
+                        }
+                        break;
+                    default:
+                        break;
                 }
             }
-            NodeList refNodes = nodeElement.getElementsByTagName("reference");
-            if (refNodes.getLength() != 0)
-                entry.addReferences(castReferencesTag(refNodes));
+            return null;
         }
-        return entry;
-    }
 
-    private Collection<String> castReferencesTag(NodeList nodes) {
-        ArrayList<String> references = new ArrayList<>();
-        for (int j = 0; j < nodes.getLength(); j++) {
-            references.add(nodes.item(j).getTextContent());
+        private static boolean isTextElement(String name) {
+            return "phrase".equals(name) || "number".equals(name) || "reference".equals(name);
         }
-        return references;
-    }
 
-    private Collection<String> castPagenumbersTag(NodeList pagenumberNodes) {
-        ArrayList<String> pagenumbers = new ArrayList<>();
-        for (int j = 0; j < pagenumberNodes.getLength(); j++) {
-            pagenumbers.add(pagenumberNodes.item(j).getTextContent());
+        private static void addText(IndexEntry entry, String name, String text) {
+            switch (name) {
+                case "phrase":
+                    if (entry.getPhrase() == null) {
+                        entry.setPhrase(text);
+                    }
+                    break;
+                case "number":
+                    entry.addNumbers(Collections.singletonList(text));
+                    break;
+                default:
+                    entry.addReferences(Collections.singletonList(text));
+                    break;
+            }
         }
-        return pagenumbers;
-    }
 
-    private String castPhraseTag(Element nodeElement) {
-        return nodeElement.getElementsByTagName("phrase").item(0).getTextContent();
+        @Override
+        public void close() throws IOException {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            } finally {
+                stream.close();
+            }
+        }
     }
-
 }
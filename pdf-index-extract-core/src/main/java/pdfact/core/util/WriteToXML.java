@@ -81,13 +81,14 @@ public class WriteToXML {
         Element pagenumbersEle = dom.createElement("pagenumbers");
         entryEle.appendChild(pagenumbersEle);
 
-        for (int i = 0; i < entry.getNumbers().size(); i++) {
-            String number = entry.getNumbers().get(i);
-            int offset = entry.getOffsets().get(i);
-            e = dom.createElement("number");
-            e.setAttribute("pageOffset", String.valueOf(offset));
-            e.appendChild(dom.createTextNode(number.replace(" ", "")));
-            pagenumbersEle.appendChild(e);
+        int i = 0;
+        for (IndexLocator locator : entry.getLocators()) {
+            for (int j = 0; j < locator.getNumPageNumbers(); j++) {
+                e = dom.createElement("number");
+                e.setAttribute("pageOffset", String.valueOf(entry.getOffset(i++)));
+                e.appendChild(dom.createTextNode(locator.getPageNumber(j)));
+                pagenumbersEle.appendChild(e);
+            }
         }
 
         if (entry.isHasSubEntries()) {
@@ -0,0 +1,73 @@
+package pdfact.core.util.column;
+
+import pdfact.core.model.HasPosition;
+import pdfact.core.model.Rectangle;
+import pdfact.core.util.list.PositionOrder;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A class that detects the columns of elements (e.g., the text lines of a multi-column page like
+ * an index, a glossary or a bibliography) by their horizontal extents.
+ *
+ * <p>
+ * The horizontal extents of the elements are projected onto the x-axis and swept from left to
+ * right in the order of their minX values, maintaining the right end of the currently covered run.
+ * The coverage drops to zero (that is: there is a gutter) where an extent starts to the right of
+ * the end of all previous extents. Each covered run between two gutters is a column. This needs a
+ * single sort of the elements, that is O(n log n) per page.
+ */
+public class ColumnDetector {
+    /**
+     * The min. width of a gap between two covered runs to be a gutter.
+     */
+    protected float minGutterWidth;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new column detector that splits the columns at every gap.
+     */
+    public ColumnDetector() {
+        this(0);
+    }
+
+    /**
+     * Creates a new column detector.
+     *
+     * @param minGutterWidth The min. width of a gap between two covered runs to be a gutter.
+     */
+    public ColumnDetector(float minGutterWidth) {
+        this.minGutterWidth = minGutterWidth;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Detects the columns of the given elements.
+     *
+     * @param elements The elements to process.
+     * @return The detected columns.
+     */
+    public ColumnLayout detect(List<? extends HasPosition> elements) {
+        int[] permutation = PositionOrder.MIN_X.computePermutation(elements);
+
+        float[] minXs = new float[permutation.length];
+        float[] maxXs = new float[permutation.length];
+        int numColumns = 0;
+        for (int index : permutation) {
+            Rectangle rect = elements.get(index).getPosition().getRectangle();
+            if (numColumns == 0 || rect.getMinX() > maxXs[numColumns - 1] + this.minGutterWidth) {
+                // A gutter, so start a new column.
+                minXs[numColumns] = rect.getMinX();
+                maxXs[numColumns] = rect.getMaxX();
+                numColumns++;
+            } else {
+                maxXs[numColumns - 1] = Math.max(maxXs[numColumns - 1], rect.getMaxX());
+            }
+        }
+
+        return new ColumnLayout(Arrays.copyOf(minXs, numColumns), Arrays.copyOf(maxXs, numColumns));
+    }
+}
@@ -0,0 +1,119 @@
+package pdfact.core.util.column;
+
+import pdfact.core.model.HasPosition;
+
+import java.util.Arrays;
+
+/**
+ * The columns of a page (or of a part of a page), as computed by {@link ColumnDetector}. The
+ * columns are disjoint horizontal ranges, sorted from left to right, such that an element is
+ * assigned to its column by a binary search.
+ */
+public class ColumnLayout {
+    /**
+     * The minX values of the columns, sorted from left to right.
+     */
+    protected final float[] minXs;
+
+    /**
+     * The maxX values of the columns.
+     */
+    protected final float[] maxXs;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new column layout.
+     *
+     * @param minXs The minX values of the columns, sorted from left to right.
+     * @param maxXs The maxX values of the columns.
+     */
+    public ColumnLayout(float[] minXs, float[] maxXs) {
+        this.minXs = minXs;
+        this.maxXs = maxXs;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The number of columns.
+     */
+    public int getNumColumns() {
+        return this.minXs.length;
+    }
+
+    /**
+     * Returns the minX value of the given column.
+     *
+     * @param column The index of the column.
+     * @return The minX value of the column.
+     */
+    public float getMinX(int column) {
+        return this.minXs[column];
+    }
+
+    /**
+     * Returns the maxX value of the given column.
+     *
+     * @param column The index of the column.
+     * @return The maxX value of the column.
+     */
+    public float getMaxX(int column) {
+        return this.maxXs[column];
+    }
+
+    /**
+     * Returns the width of the given column.
+     *
+     * @param column The index of the column.
+     * @return The width of the column.
+     */
+    public float getWidth(int column) {
+        return this.maxXs[column] - this.minXs[column];
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the column of the given element, by the minX value of the element.
+     *
+     * @param element The element.
+     * @return The index of the column of the element (see {@link #getColumn(float)}).
+     */
+    public int getColumn(HasPosition element) {
+        return getColumn(element.getPosition().getRectangle().getMinX());
+    }
+
+    /**
+     * Returns the column that contains the given x value. If there is no such column, the
+     * nearest column to the left of the x value is returned (or the first column, if the x value is
+     * to the left of all columns).
+     *
+     * @param x The x value.
+     * @return The index of the column, or -1 if there are no columns.
+     */
+    public int getColumn(float x) {
+        if (this.minXs.length == 0) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(this.minXs, x);
+        if (index < 0) {
+            // The insertion point is the index of the first column that starts right of x.
+            index = -index - 2;
+        }
+        return Math.max(index, 0);
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ColumnLayout(");
+        for (int i = 0; i < this.minXs.length; i++) {
+            sb.append(i > 0 ? ", " : "").append(this.minXs[i]).append("-").append(this.maxXs[i]);
+        }
+        return sb.append(")").toString();
+    }
+}
@@ -0,0 +1,418 @@
+package pdfact.core.util.counter;
+
+import pdfact.core.PdfActCoreSettings;
+
+import java.util.Arrays;
+
+/**
+ * A histogram to compute some statistics about float values. In contrast to a plain counter, the
+ * values are quantized to fixed-point bins (with a resolution given by
+ * {@link PdfActCoreSettings#FLOATING_NUMBER_PRECISION}), such that values that differ only by
+ * rounding noise are counted as the same value. The bins are stored in an open-addressed map of
+ * primitive ints, and the most common value and the average value are maintained on each update,
+ * so they can be obtained in constant time (only removing a value of the most common bin requires
+ * a scan over the bins).
+ */
+public class FloatHistogram {
+    /**
+     * The factor to use on quantizing a float value to its bin.
+     */
+    protected static final float BIN_FACTOR = (float) Math.pow(10, PdfActCoreSettings.FLOATING_NUMBER_PRECISION);
+
+    /**
+     * The initial number of slots in the map of bins (must be a power of two).
+     */
+    protected static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * The bins (quantized values), indexed by slot. Allocated on first use.
+     */
+    protected int[] bins;
+
+    /**
+     * The frequencies of the bins, indexed by slot. A frequency of 0 denotes an empty slot.
+     */
+    protected int[] frequencies;
+
+    /**
+     * The number of non-empty bins.
+     */
+    protected int numBins;
+
+    /**
+     * The number of values added to this histogram.
+     */
+    protected int numValues;
+
+    /**
+     * The sum of all (not quantized) values added to this histogram.
+     */
+    protected double sumValues;
+
+    /**
+     * The bin with the highest frequency.
+     */
+    protected int mostCommonBin;
+
+    /**
+     * The frequency of the bin with the highest frequency.
+     */
+    protected int mostCommonBinFrequency;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new, empty histogram.
+     */
+    public FloatHistogram() {
+    }
+
+    /**
+     * Creates a new histogram with the same content as the given histogram.
+     *
+     * @param other The histogram to copy.
+     */
+    public FloatHistogram(FloatHistogram other) {
+        add(other);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Adds the given float to this histogram. NaN and infinite values are ignored.
+     *
+     * @param f The float to add.
+     */
+    public void add(float f) {
+        if (Float.isNaN(f) || Float.isInfinite(f)) {
+            return;
+        }
+        addToBin(toBin(f), 1);
+        this.numValues++;
+        this.sumValues += f;
+    }
+
+    /**
+     * Adds the given histogram to this histogram. The cost is linear in the number of non-empty
+     * bins of the given histogram and independent of the number of values it was built from.
+     *
+     * @param other The histogram to add.
+     */
+    public void add(FloatHistogram other) {
+        if (other == null || other.numBins == 0) {
+            return;
+        }
+        for (int i = 0; i < other.frequencies.length; i++) {
+            if (other.frequencies[i] > 0) {
+                addToBin(other.bins[i], other.frequencies[i]);
+            }
+        }
+        this.numValues += other.numValues;
+        this.sumValues += other.sumValues;
+    }
+
+    /**
+     * Removes one occurrence of the given float from this histogram, that is decreases the
+     * frequency of its bin by one. Nothing happens if the bin of the given float is empty.
+     *
+     * @param f The float to remove.
+     * @return True if the float was removed, false otherwise.
+     */
+    public boolean remove(float f) {
+        if (this.numBins == 0 || Float.isNaN(f) || Float.isInfinite(f)) {
+            return false;
+        }
+        int bin = toBin(f);
+        int slot = findSlot(this.bins, this.frequencies, bin);
+        if (this.frequencies[slot] == 0) {
+            return false;
+        }
+        if (--this.frequencies[slot] == 0) {
+            deleteSlot(slot);
+            this.numBins--;
+        }
+        this.numValues--;
+        this.sumValues = this.numValues > 0 ? this.sumValues - f : 0;
+
+        if (bin == this.mostCommonBin) {
+            // Another bin may now be more common than the bin of the removed float.
+            computeMostCommonBin();
+        }
+        return true;
+    }
+
+    /**
+     * Removes all values from this histogram.
+     */
+    public void clear() {
+        this.bins = null;
+        this.frequencies = null;
+        this.numBins = 0;
+        this.numValues = 0;
+        this.sumValues = 0;
+        this.mostCommonBin = 0;
+        this.mostCommonBinFrequency = 0;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the most common float, that is the center of the bin with the highest frequency.
+     *
+     * @return The most common float in this histogram or Float.NaN if the histogram is empty.
+     */
+    public float getMostCommonFloat() {
+        if (this.numBins == 0) {
+            return Float.NaN;
+        }
+        return toFloat(this.mostCommonBin);
+    }
+
+    /**
+     * Returns the frequency of the most common float.
+     *
+     * @return The frequency of the most common float in this histogram.
+     */
+    public int getMostCommonFloatFrequency() {
+        return this.mostCommonBinFrequency;
+    }
+
+    /**
+     * Returns the average float.
+     *
+     * @return The average value of the float values or 0 if the histogram is empty.
+     */
+    public float getAverageFloat() {
+        return this.numValues > 0 ? (float) (this.sumValues / this.numValues) : 0;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the floats in this histogram, that is the centers of all non-empty bins.
+     *
+     * @return The floats in this histogram.
+     */
+    public float[] getFloats() {
+        float[] floats = new float[this.numBins];
+        if (this.numBins > 0) {
+            int j = 0;
+            for (int i = 0; i < this.frequencies.length; i++) {
+                if (this.frequencies[i] > 0) {
+                    floats[j++] = toFloat(this.bins[i]);
+                }
+            }
+        }
+        return floats;
+    }
+
+    /**
+     * Returns the frequency of the bin to which the given float belongs.
+     *
+     * @param f The float to process.
+     * @return The frequency of the bin of the given float in this histogram.
+     */
+    public int getFrequency(float f) {
+        if (this.numBins == 0 || Float.isNaN(f) || Float.isInfinite(f)) {
+            return 0;
+        }
+        int slot = findSlot(this.bins, this.frequencies, toBin(f));
+        return this.frequencies[slot];
+    }
+
+    /**
+     * Returns the number of values added to this histogram.
+     *
+     * @return The number of values added to this histogram.
+     */
+    public int size() {
+        return this.numValues;
+    }
+
+    /**
+     * Returns true if no value was added to this histogram.
+     *
+     * @return True if this histogram is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.numValues == 0;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Quantizes the given float to its bin.
+     *
+     * @param f The float to quantize.
+     * @return The bin of the given float.
+     */
+    protected static int toBin(float f) {
+        return Math.round(f * BIN_FACTOR);
+    }
+
+    /**
+     * Returns the center of the given bin.
+     *
+     * @param bin The bin.
+     * @return The float value representing the given bin.
+     */
+    protected static float toFloat(int bin) {
+        return bin / BIN_FACTOR;
+    }
+
+    /**
+     * Increases the frequency of the given bin by the given amount and updates the most common bin.
+     *
+     * @param bin   The bin.
+     * @param count The amount by which to increase the frequency.
+     */
+    protected void addToBin(int bin, int count) {
+        if (this.bins == null) {
+            this.bins = new int[INITIAL_CAPACITY];
+            this.frequencies = new int[INITIAL_CAPACITY];
+        } else if (2 * (this.numBins + 1) > this.bins.length) {
+            rehash(2 * this.bins.length);
+        }
+
+        int slot = findSlot(this.bins, this.frequencies, bin);
+        if (this.frequencies[slot] == 0) {
+            this.bins[slot] = bin;
+            this.numBins++;
+        }
+        int frequency = this.frequencies[slot] += count;
+
+        if (frequency > this.mostCommonBinFrequency) {
+            this.mostCommonBin = bin;
+            this.mostCommonBinFrequency = frequency;
+        }
+    }
+
+    /**
+     * Computes the bin with the highest frequency from scratch.
+     */
+    protected void computeMostCommonBin() {
+        this.mostCommonBin = 0;
+        this.mostCommonBinFrequency = 0;
+        for (int i = 0; this.frequencies != null && i < this.frequencies.length; i++) {
+            if (this.frequencies[i] > this.mostCommonBinFrequency) {
+                this.mostCommonBin = this.bins[i];
+                this.mostCommonBinFrequency = this.frequencies[i];
+            }
+        }
+    }
+
+    /**
+     * Empties the given slot and moves the subsequent bins of the same probe sequence backwards,
+     * such that all bins remain reachable by {@link #findSlot(int[], int[], int)}.
+     *
+     * @param slot The slot to empty.
+     */
+    protected void deleteSlot(int slot) {
+        int mask = this.bins.length - 1;
+        int i = slot;
+        int j = slot;
+        while (true) {
+            j = (j + 1) & mask;
+            if (this.frequencies[j] == 0) {
+                break;
+            }
+            // Keep the bin in place if its home slot lies cyclically in (i, j].
+            int home = hash(this.bins[j]) & mask;
+            if (i <= j ? (i < home && home <= j) : (i < home || home <= j)) {
+                continue;
+            }
+            this.bins[i] = this.bins[j];
+            this.frequencies[i] = this.frequencies[j];
+            i = j;
+        }
+        this.frequencies[i] = 0;
+    }
+
+    /**
+     * Returns the slot of the given bin in the given map, or the empty slot where it is to be
+     * inserted if the bin is not contained.
+     *
+     * @param bins        The bins of the map.
+     * @param frequencies The frequencies of the map.
+     * @param bin         The bin to search for.
+     * @return The slot of the given bin.
+     */
+    protected static int findSlot(int[] bins, int[] frequencies, int bin) {
+        int mask = bins.length - 1;
+        int slot = hash(bin) & mask;
+        while (frequencies[slot] > 0 && bins[slot] != bin) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Moves the bins to a map with the given number of slots.
+     *
+     * @param capacity The new number of slots (must be a power of two).
+     */
+    protected void rehash(int capacity) {
+        int[] newBins = new int[capacity];
+        int[] newFrequencies = new int[capacity];
+        for (int i = 0; i < this.bins.length; i++) {
+            if (this.frequencies[i] > 0) {
+                int slot = findSlot(newBins, newFrequencies, this.bins[i]);
+                newBins[slot] = this.bins[i];
+                newFrequencies[slot] = this.frequencies[i];
+            }
+        }
+        this.bins = newBins;
+        this.frequencies = newFrequencies;
+    }
+
+    /**
+     * Spreads the bits of the given bin, such that neighboring bins are not mapped to neighboring
+     * slots.
+     *
+     * @param bin The bin to hash.
+     * @return The hash value.
+     */
+    protected static int hash(int bin) {
+        int h = bin * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // ==============================================================================================
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof FloatHistogram)) {
+            return false;
+        }
+        FloatHistogram otherHistogram = (FloatHistogram) other;
+        if (this.numBins != otherHistogram.numBins || this.numValues != otherHistogram.numValues) {
+            return false;
+        }
+        for (int i = 0; this.frequencies != null && i < this.frequencies.length; i++) {
+            if (this.frequencies[i] > 0) {
+                int slot = findSlot(otherHistogram.bins, otherHistogram.frequencies, this.bins[i]);
+                if (otherHistogram.frequencies[slot] != this.frequencies[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // Sum up the hashes of the bins, such that the hash code is independent of the slot order.
+        int hashCode = this.numValues;
+        for (int i = 0; this.frequencies != null && i < this.frequencies.length; i++) {
+            if (this.frequencies[i] > 0) {
+                hashCode += 31 * this.bins[i] + this.frequencies[i];
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "FloatHistogram(" + Arrays.toString(getFloats()) + ")";
+    }
+}
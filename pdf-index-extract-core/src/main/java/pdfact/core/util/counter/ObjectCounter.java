@@ -1,5 +1,6 @@
 package pdfact.core.util.counter;
 
+import gnu.trove.function.TIntFunction;
 import gnu.trove.iterator.TObjectIntIterator;
 import gnu.trove.map.hash.TObjectIntHashMap;
 
@@ -20,10 +21,15 @@ public class ObjectCounter<T> extends TObjectIntHashMap<T> {
      */
     protected T mostCommonObject;
 
+    /**
+     * The frequency of the most common object.
+     */
+    protected int mostCommonObjectFrequency;
+
     /**
      * A flag that indicates whether the statistics were already computed.
      */
-    protected boolean isStatisticsComputed;
+    protected boolean isStatisticsComputed = true;
 
     /**
      * Creates a new ObjectCounter with the default initial capacity.
@@ -49,7 +55,7 @@ public class ObjectCounter<T> extends TObjectIntHashMap<T> {
      * @param o The object to add.
      */
     public void add(T o) {
-        adjustOrPutValue(o, 1, 1);
+        updateMostCommonObject(o, adjustOrPutValue(o, 1, 1));
     }
 
     /**
@@ -58,15 +64,73 @@ public class ObjectCounter<T> extends TObjectIntHashMap<T> {
      * @param o The object to add.
      */
     public void add(ObjectCounter<T> o) {
+        if (o == null) {
+            return;
+        }
         TObjectIntIterator<T> itr = o.iterator();
         while (itr.hasNext()) {
             itr.advance();
             T key = itr.key();
             int count = itr.value();
-            adjustOrPutValue(key, count, count);
+            updateMostCommonObject(key, adjustOrPutValue(key, count, count));
         }
     }
 
+    /**
+     * Updates the most common object after the frequency of the given object has changed.
+     *
+     * @param o         The object whose frequency has changed.
+     * @param frequency The new frequency of the object.
+     */
+    protected void updateMostCommonObject(T o, int frequency) {
+        if (frequency > this.mostCommonObjectFrequency) {
+            this.mostCommonObject = o;
+            this.mostCommonObjectFrequency = frequency;
+        }
+    }
+
+    @Override
+    public int put(T key, int value) {
+        // The value may be lower than before, so the most common object must be recomputed.
+        this.isStatisticsComputed = false;
+        return super.put(key, value);
+    }
+
+    @Override
+    public int putIfAbsent(T key, int value) {
+        this.isStatisticsComputed = false;
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean adjustValue(T key, int amount) {
+        // The amount may be negative, so the most common object must be recomputed.
+        this.isStatisticsComputed = false;
+        return super.adjustValue(key, amount);
+    }
+
+    @Override
+    public void transformValues(TIntFunction function) {
+        this.isStatisticsComputed = false;
+        super.transformValues(function);
+    }
+
+    @Override
+    protected void removeAt(int index) {
+        // Called on remove(), retainEntries() and by the iterators. The removed object may be the
+        // most common object, so the most common object must be recomputed.
+        this.isStatisticsComputed = false;
+        super.removeAt(index);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.mostCommonObject = null;
+        this.mostCommonObjectFrequency = 0;
+        this.isStatisticsComputed = true;
+    }
+
     // ==============================================================================================
 
     /**
@@ -88,7 +152,10 @@ public class ObjectCounter<T> extends TObjectIntHashMap<T> {
      * @return The frequency of the most common object in this counter.
      */
     public int getMostCommonObjectFrequency() {
-        return get(getMostCommonObject());
+        if (!this.isStatisticsComputed) {
+            computeStatistics();
+        }
+        return this.mostCommonObjectFrequency;
     }
 
     // ==============================================================================================
@@ -119,6 +186,8 @@ public class ObjectCounter<T> extends TObjectIntHashMap<T> {
      */
     protected void computeStatistics() {
         int largestFreq = -1;
+        this.mostCommonObject = null;
+        this.mostCommonObjectFrequency = 0;
 
         TObjectIntIterator<T> itr = iterator();
         while (itr.hasNext()) {
@@ -127,6 +196,7 @@ public class ObjectCounter<T> extends TObjectIntHashMap<T> {
             int freq = itr.value();
             if (freq > largestFreq) {
                 this.mostCommonObject = object;
+                this.mostCommonObjectFrequency = freq;
                 largestFreq = freq;
             }
         }
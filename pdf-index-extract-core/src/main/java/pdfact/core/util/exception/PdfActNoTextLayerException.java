@@ -0,0 +1,26 @@
+package pdfact.core.util.exception;
+
+/**
+ * The exception to throw if a PDF file has no text layer (e.g., a scanned book without OCR), such
+ * that there is nothing to extract.
+ */
+public class PdfActNoTextLayerException extends PdfActException {
+    /**
+     * The serial id.
+     */
+    protected static final long serialVersionUID = -2361170539873254095L;
+
+    /**
+     * The default exit code of this exception.
+     */
+    protected static final int EXIT_CODE = 21;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message The error message to show when the exception was caught.
+     */
+    public PdfActNoTextLayerException(String message) {
+        super(EXIT_CODE, message);
+    }
+}
@@ -0,0 +1,55 @@
+package pdfact.core.util.exception;
+
+import pdfact.core.model.Document;
+
+/**
+ * The exception to throw if the processing of a PDF file exceeded its deadline or was cancelled
+ * (see {@link pdfact.core.util.pipeline.Deadline}). The exception carries the document as far as it
+ * was processed, such that a caller can use the partial result.
+ */
+public class PdfActTimeoutException extends PdfActException {
+    /**
+     * The serial id.
+     */
+    protected static final long serialVersionUID = 5309145520127318823L;
+
+    /**
+     * The default exit code of this exception.
+     */
+    protected static final int EXIT_CODE = 22;
+
+    /**
+     * The document as far as it was processed.
+     */
+    protected transient Document document;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message The error message to show when the exception was caught.
+     */
+    public PdfActTimeoutException(String message) {
+        super(EXIT_CODE, message);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the document as far as it was processed when the deadline expired. Its pages may be
+     * missing or only partly processed.
+     *
+     * @return The partially processed document, or null if it is unknown.
+     */
+    public Document getDocument() {
+        return this.document;
+    }
+
+    /**
+     * Sets the document as far as it was processed when the deadline expired.
+     *
+     * @param document The partially processed document.
+     */
+    public void setDocument(Document document) {
+        this.document = document;
+    }
+}
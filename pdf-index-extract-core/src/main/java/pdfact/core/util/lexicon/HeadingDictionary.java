@@ -0,0 +1,280 @@
+package pdfact.core.util.lexicon;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import pdfact.core.model.SemanticRole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static pdfact.core.PdfActCoreSettings.HEADINGS_FILE_PATH;
+
+/**
+ * A dictionary of known section headings (like "Abstract", "References" or "Index"), mapping each
+ * heading to its (secondary) semantic role.
+ *
+ * <p>
+ * The headings are compared by their normalized texts, that is: the letters only, in lower case
+ * and without diacritics (the strict lookups only tolerate whitespace and hyphens besides the
+ * letters, such that e.g. an index entry "Register, 12" is not taken for a heading). The
+ * normalized headings are compiled into a character trie, so a text is normalized and looked up in
+ * a single scan over its characters, which stops at the first character that doesn't continue any
+ * heading (that is, usually after a few characters).
+ */
+public class HeadingDictionary {
+    /**
+     * The logger.
+     */
+    protected static final Logger log = LogManager.getLogger(HeadingDictionary.class);
+
+    /**
+     * The dictionary with the headings of all heading files on the classpath.
+     */
+    protected static HeadingDictionary defaultDictionary;
+
+    /**
+     * The root of the trie.
+     */
+    protected final Node root = new Node();
+
+    /**
+     * The number of headings in this dictionary.
+     */
+    protected int size;
+
+    // ==============================================================================================
+
+    /**
+     * Returns the dictionary with the headings of all heading files on the classpath (see
+     * {@link pdfact.core.PdfActCoreSettings#HEADINGS_FILE_PATH}).
+     *
+     * @return The default dictionary.
+     */
+    public static synchronized HeadingDictionary getDefault() {
+        if (defaultDictionary == null) {
+            HeadingDictionary dictionary = new HeadingDictionary();
+            ClassLoader classLoader = HeadingDictionary.class.getClassLoader();
+            try {
+                Enumeration<URL> urls = classLoader.getResources(HEADINGS_FILE_PATH);
+                while (urls.hasMoreElements()) {
+                    URL url = urls.nextElement();
+                    log.debug("Reading headings from '" + url + "'.");
+                    try (InputStream in = url.openStream()) {
+                        dictionary.addAll(in);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("An error occurred while reading the known headings.", e);
+            }
+            defaultDictionary = dictionary;
+        }
+        return defaultDictionary;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Adds the headings of the given stream to this dictionary. A line in square brackets starts
+     * the headings of the semantic role with the given name, each further line is a heading of
+     * this role. Empty lines and lines starting with "#" are ignored.
+     *
+     * @param in The stream to read from (UTF-8 encoded).
+     * @throws IOException If reading the stream failed.
+     */
+    public void addAll(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        SemanticRole role = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("[") && line.endsWith("]")) {
+                String name = line.substring(1, line.length() - 1).trim();
+                role = SemanticRole.fromString(name);
+                if (role == null) {
+                    log.warn("Unknown semantic role '" + name + "' in the headings, ignoring its headings.");
+                }
+                continue;
+            }
+            if (role != null) {
+                add(line, role);
+            }
+        }
+    }
+
+    /**
+     * Adds the given heading to this dictionary.
+     *
+     * @param heading The heading.
+     * @param role    The semantic role of the heading.
+     */
+    public void add(String heading, SemanticRole role) {
+        Node node = this.root;
+        for (int i = 0; i < heading.length(); i++) {
+            char c = heading.charAt(i);
+            if (!isLetter(c)) {
+                continue;
+            }
+            String normalized = normalize(c);
+            for (int j = 0; j < normalized.length(); j++) {
+                node = node.children.computeIfAbsent(normalized.charAt(j), k -> new Node());
+            }
+        }
+        if (node != this.root) {
+            if (node.role == null) {
+                this.size++;
+            }
+            node.role = role;
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the semantic role of the given text, if the text is a known heading.
+     *
+     * @param text The text.
+     * @return The semantic role of the heading, or null if the text isn't a known heading.
+     */
+    public SemanticRole getRole(String text) {
+        return getRole(text, false);
+    }
+
+    /**
+     * Returns the semantic role of the given text, if the text is a known heading.
+     *
+     * @param text     The text.
+     * @param isStrict Whether the text must not contain any character apart from the letters,
+     *                 whitespace and hyphens (like digits or commas).
+     * @return The semantic role of the heading, or null if the text isn't a known heading.
+     */
+    protected SemanticRole getRole(String text, boolean isStrict) {
+        if (text == null) {
+            return null;
+        }
+        Node node = this.root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isLetter(c)) {
+                if (isStrict && !Character.isWhitespace(c) && c != '-') {
+                    return null;
+                }
+                continue;
+            }
+            if (c < 128) {
+                node = node.children.get(c >= 'A' && c <= 'Z' ? (char) (c + 32) : c);
+                if (node == null) {
+                    return null;
+                }
+                continue;
+            }
+            String normalized = normalize(c);
+            for (int j = 0; j < normalized.length() && node != null; j++) {
+                node = node.children.get(normalized.charAt(j));
+            }
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.role;
+    }
+
+    /**
+     * Checks if the given text is a known heading.
+     *
+     * @param text The text.
+     * @return True if the given text is a known heading; false otherwise.
+     */
+    public boolean isHeading(String text) {
+        return getRole(text) != null;
+    }
+
+    /**
+     * Checks if the given text is a known heading of the given semantic role.
+     *
+     * @param text The text.
+     * @param role The semantic role.
+     * @return True if the given text is a known heading of the given role; false otherwise.
+     */
+    public boolean isHeading(String text, SemanticRole role) {
+        return role != null && getRole(text) == role;
+    }
+
+    /**
+     * Checks if the given text is exactly a known heading of the given semantic role, that is: a
+     * known heading that contains no characters apart from the letters, whitespace and hyphens.
+     * Unlike {@link #isHeading(String, SemanticRole)}, this rejects numbered headings like
+     * "12 Index" as well as index entries that are spelled like a heading ("Register, 12, 45").
+     *
+     * @param text The text.
+     * @param role The semantic role.
+     * @return True if the given text is exactly a known heading of the given role; false otherwise.
+     */
+    public boolean isExactHeading(String text, SemanticRole role) {
+        return role != null && getRole(text, true) == role;
+    }
+
+    /**
+     * Returns the number of headings in this dictionary.
+     *
+     * @return The number of headings.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Checks if the given character is part of the normalized text.
+     */
+    protected static boolean isLetter(char c) {
+        if (c < 128) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+        return Character.isLetter(c);
+    }
+
+    /**
+     * Normalizes the given letter: lower case and without diacritics.
+     */
+    protected static String normalize(char c) {
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char d = decomposed.charAt(i);
+            if (Character.isLetter(d)) {
+                normalized.append(Character.toLowerCase(d));
+            }
+        }
+        return normalized.toString();
+    }
+
+    // ==============================================================================================
+
+    /**
+     * A node of the trie.
+     */
+    protected static class Node {
+        /**
+         * The children of this node, per (normalized) character.
+         */
+        protected final Map<Character, Node> children = new HashMap<>();
+
+        /**
+         * The semantic role of the heading that ends in this node, or null if no heading ends in
+         * this node.
+         */
+        protected SemanticRole role;
+    }
+}
@@ -1,6 +1,7 @@
 package pdfact.core.util.list;
 
 import pdfact.core.model.Element;
+import pdfact.core.model.HasPosition;
 
 import java.util.*;
 
@@ -69,9 +70,74 @@ public class ElementList<T extends Element> implements List<T> {
         this.list.set(j, first);
     }
 
+    /**
+     * Sorts this list by the given comparator. The sort is stable, that is elements that are equal
+     * with respect to the comparator keep their relative order.
+     *
+     * @param c The comparator to use.
+     */
     @Override
     public void sort(Comparator<? super T> c) {
-        Quicksort.sort(this, c);
+        sort(0, size(), c);
+    }
+
+    /**
+     * Sorts this list by the given float keys, using a (stable) radix sort.
+     *
+     * @param key        The function to obtain the key of an element.
+     * @param descending True to sort by descending keys, false to sort by ascending keys.
+     */
+    public void sort(FloatKey<? super T> key, boolean descending) {
+        sort(0, size(), key, descending);
+    }
+
+    /**
+     * Sorts this list in the given order, using a (stable) radix sort. The elements of this list
+     * must implement {@link HasPosition}.
+     *
+     * @param order The order.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(PositionOrder order) {
+        sort((FloatKey<? super T>) (FloatKey<?>) order.getKey(), order.isDescending());
+    }
+
+    /**
+     * Sorts the elements in the given range of this list by the given comparator (stable).
+     *
+     * @param fromIndex The start index of the range to sort, inclusive.
+     * @param toIndex   The end index of the range to sort, exclusive.
+     * @param c         The comparator to use.
+     */
+    protected void sort(int fromIndex, int toIndex, Comparator<? super T> c) {
+        this.list.subList(fromIndex, toIndex).sort(c);
+    }
+
+    /**
+     * Sorts the elements in the given range of this list by the given float keys (stable).
+     *
+     * @param fromIndex  The start index of the range to sort, inclusive.
+     * @param toIndex    The end index of the range to sort, exclusive.
+     * @param key        The function to obtain the key of an element.
+     * @param descending True to sort by descending keys, false to sort by ascending keys.
+     */
+    protected void sort(int fromIndex, int toIndex, FloatKey<? super T> key, boolean descending) {
+        FloatKeySort.sort(this.list, fromIndex, toIndex, key, descending);
+    }
+
+    /**
+     * Returns a new list that contains the elements of this list in the order given by the given
+     * permutation (as computed by {@link FloatKeySort#computePermutation}).
+     *
+     * @param permutation The permutation.
+     * @return A new list with the permuted elements.
+     */
+    public ElementList<T> permute(int[] permutation) {
+        ElementList<T> result = new ElementList<>(permutation.length);
+        for (int index : permutation) {
+            result.add(get(index));
+        }
+        return result;
     }
 
     /**
@@ -533,8 +599,13 @@ public class ElementList<T extends Element> implements List<T> {
         }
 
         @Override
-        public void sort(Comparator<? super S> c) {
-            Quicksort.sort(this, c);
+        protected void sort(int fromIndex, int toIndex, Comparator<? super S> c) {
+            this.parent.sort(this.from + fromIndex, this.from + toIndex, c);
+        }
+
+        @Override
+        protected void sort(int fromIndex, int toIndex, FloatKey<? super S> key, boolean descending) {
+            this.parent.sort(this.from + fromIndex, this.from + toIndex, key, descending);
         }
 
         @Override
@@ -580,110 +651,3 @@ public class ElementList<T extends Element> implements List<T> {
         }
     }
 }
-
-/**
- * A custom implementation of Quicksort.
- *
- * @author Claudius Korzen
- */
-class Quicksort {
-    /**
-     * Sorts the given array using QuickSort.
-     *
-     * @param list The list to sort.
-     * @param c    The comparator to use.
-     */
-    public static <T extends Element> void sort(ElementList<T> list, Comparator<? super T> c) {
-        // Do nothing, if the array is not set.
-        if (list == null) {
-            return;
-        }
-
-        // Do nothing, if the array contains less than 2 elements.
-        if (list.size() < 2) {
-            return;
-        }
-
-        quickSortRecursive(list, c, 0, list.size() - 1);
-    }
-
-    // ___________________________________________________________________________
-
-    /**
-     * Recursive method for Quicksort. Each call gets the full array plus two
-     * variables specifying which range of the array should be sorted, where l is
-     * the index of the leftmost element in the range, and r is the index of the
-     * rightmost element in the range. The public method above just calls this one
-     * with l = 0 and r = n - 1, where n is the size of the array.
-     *
-     * @param list The list to process.
-     * @param c    The comparator to use.
-     * @param l    The start index.
-     * @param r    The end index.
-     */
-    protected static <T extends Element> void quickSortRecursive(ElementList<T> list, Comparator<? super T> c, int l,
-                                                                 int r) {
-        // Do nothing, if the range contains no more than 1 element.
-        int index = quickSortDivide(list, c, l, r);
-
-        if (index > l + 1) {
-            quickSortRecursive(list, c, l, index - 1);
-        }
-        if (index < r - 1) {
-            quickSortRecursive(list, c, index + 1, r);
-        }
-    }
-
-    /**
-     * Method for dividing the given range of the given array into two parts such
-     * that all elements in the left part are smaller than all elements in the right
-     * part. Returns the index m of the dividing element, that is left part
-     * array[l..m] and right part = array[m+1..r].
-     *
-     * @param list The list to process.
-     * @param c    The comparator to use.
-     * @param l    The start index.
-     * @param r    The end index.
-     * @return The index of dividing element.
-     */
-    protected static <T extends Element> int quickSortDivide(ElementList<T> list, Comparator<? super T> c, int l,
-                                                             int r) {
-        // Define the two pointers i and j.
-        int i = l;
-        int j = r - 1;
-
-        // Choose the pivot index: Take the leftmost element per default.
-        int pivotIndex = r;
-        T pivot = list.get(pivotIndex);
-
-        // Swap the pivot to the right.
-        list.swap(pivotIndex, r);
-
-        while (true) {
-            // Iterate the array from the left and search for the first element which
-            // is larger than the pivot.
-            while (i <= j && c.compare(list.get(i), pivot) < 0) {
-                i++;
-            }
-
-            // Iterate the array from the right and search for the first element
-            // which is smaller than the pivot.
-            while (i <= j && c.compare(list.get(j), pivot) >= 0) {
-                j--;
-            }
-
-            if (i > j) {
-                break;
-            }
-
-            // Swap the element in the left array which is larger than the pivot
-            // with the element in the right array which is smaller than the pivot.
-            list.swap(i, j);
-        }
-
-        // Swap the pivot back.
-        list.swap(r, i);
-
-        return i;
-    }
-}
@@ -0,0 +1,17 @@
+package pdfact.core.util.list;
+
+/**
+ * A function that maps an element to a float key, used to sort elements by a single coordinate
+ * without the overhead of a comparator.
+ *
+ * @param <T> The type of the elements.
+ */
+public interface FloatKey<T> {
+    /**
+     * Returns the key of the given element.
+     *
+     * @param element The element to process.
+     * @return The key of the given element.
+     */
+    float getKey(T element);
+}
@@ -0,0 +1,187 @@
+package pdfact.core.util.list;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A stable sort of elements by float keys. The keys are extracted once and mapped to ints whose
+ * unsigned order equals the order of the floats (as defined by {@link Float#compare}), which are
+ * then sorted by a least significant digit radix sort. Short lists are sorted by insertion sort.
+ * In contrast to a comparison sort, the running time is linear in the number of elements and
+ * independent of whether the input is already sorted. Elements with a NaN key are sorted last, in
+ * ascending as well as in descending order.
+ */
+public class FloatKeySort {
+    /**
+     * The maximum number of elements that are sorted by insertion sort instead of radix sort.
+     */
+    protected static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * The number of bits per radix digit.
+     */
+    protected static final int DIGIT_BITS = 8;
+
+    /**
+     * The number of buckets per radix digit.
+     */
+    protected static final int NUM_BUCKETS = 1 << DIGIT_BITS;
+
+    /**
+     * Computes the permutation that sorts the given elements by the given keys. The i-th entry of
+     * the returned array is the index (in the given list) of the i-th element in sorted order.
+     * Elements with equal keys keep their relative order.
+     *
+     * @param elements   The elements to sort.
+     * @param key        The function to obtain the key of an element.
+     * @param descending True to sort by descending keys, false to sort by ascending keys.
+     * @param <T>        The type of the elements.
+     * @return The sorting permutation.
+     */
+    public static <T> int[] computePermutation(List<? extends T> elements, FloatKey<? super T> key,
+                                               boolean descending) {
+        return computePermutation(elements, 0, elements.size(), key, descending);
+    }
+
+    /**
+     * Computes the permutation that sorts the elements in the given range of the given list by the
+     * given keys. The i-th entry of the returned array is the index (relative to fromIndex) of the
+     * i-th element in sorted order. Elements with equal keys keep their relative order.
+     *
+     * @param elements   The elements to sort.
+     * @param fromIndex  The start index of the range to sort, inclusive.
+     * @param toIndex    The end index of the range to sort, exclusive.
+     * @param key        The function to obtain the key of an element.
+     * @param descending True to sort by descending keys, false to sort by ascending keys.
+     * @param <T>        The type of the elements.
+     * @return The sorting permutation.
+     */
+    public static <T> int[] computePermutation(List<? extends T> elements, int fromIndex, int toIndex,
+                                               FloatKey<? super T> key, boolean descending) {
+        int n = toIndex - fromIndex;
+        int[] keys = new int[n];
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = toSortableInt(key.getKey(elements.get(fromIndex + i)), descending);
+            permutation[i] = i;
+        }
+
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(keys, permutation);
+            return permutation;
+        }
+        return radixSort(keys, permutation);
+    }
+
+    /**
+     * Sorts the elements in the given range of the given list by the given keys. Elements with
+     * equal keys keep their relative order.
+     *
+     * @param elements   The elements to sort.
+     * @param fromIndex  The start index of the range to sort, inclusive.
+     * @param toIndex    The end index of the range to sort, exclusive.
+     * @param key        The function to obtain the key of an element.
+     * @param descending True to sort by descending keys, false to sort by ascending keys.
+     * @param <T>        The type of the elements.
+     */
+    public static <T> void sort(List<T> elements, int fromIndex, int toIndex, FloatKey<? super T> key,
+                                boolean descending) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+        int[] permutation = computePermutation(elements, fromIndex, toIndex, key, descending);
+        Object[] sorted = new Object[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            sorted[i] = elements.get(fromIndex + permutation[i]);
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) sorted[i];
+            elements.set(fromIndex + i, element);
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Maps the given float to an int, such that the unsigned order of the ints equals the order of
+     * the floats (or its reverse, if descending is true). NaN is mapped to the largest int, in both
+     * orders.
+     *
+     * @param f          The float to map.
+     * @param descending True to reverse the order.
+     * @return The sortable int.
+     */
+    protected static int toSortableInt(float f, boolean descending) {
+        if (Float.isNaN(f)) {
+            return -1;
+        }
+        int bits = Float.floatToIntBits(f);
+        // Flip all bits of negative floats and only the sign bit of positive floats.
+        int sortable = bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+        return descending ? ~sortable : sortable;
+    }
+
+    /**
+     * Sorts the given permutation by the given keys (stable), by insertion sort.
+     *
+     * @param keys        The keys, indexed by the entries of the permutation.
+     * @param permutation The permutation to sort.
+     */
+    protected static void insertionSort(int[] keys, int[] permutation) {
+        for (int i = 1; i < permutation.length; i++) {
+            int index = permutation[i];
+            int k = keys[index];
+            int j = i - 1;
+            while (j >= 0 && Integer.compareUnsigned(keys[permutation[j]], k) > 0) {
+                permutation[j + 1] = permutation[j];
+                j--;
+            }
+            permutation[j + 1] = index;
+        }
+    }
+
+    /**
+     * Sorts the given permutation by the given keys (stable), by a least significant digit radix
+     * sort. Passes in which all keys share the same digit are skipped.
+     *
+     * @param keys        The keys, indexed by the entries of the permutation.
+     * @param permutation The permutation to sort.
+     * @return The sorted permutation (either the given array or a new array).
+     */
+    protected static int[] radixSort(int[] keys, int[] permutation) {
+        int n = permutation.length;
+        int[] buffer = new int[n];
+        int[] counts = new int[NUM_BUCKETS];
+
+        for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(keys[i] >>> shift) & (NUM_BUCKETS - 1)]++;
+            }
+
+            // Skip the pass if all keys share the same digit.
+            if (counts[(keys[0] >>> shift) & (NUM_BUCKETS - 1)] == n) {
+                continue;
+            }
+
+            // Compute the start offsets of the buckets.
+            int offset = 0;
+            for (int b = 0; b < NUM_BUCKETS; b++) {
+                int count = counts[b];
+                counts[b] = offset;
+                offset += count;
+            }
+
+            for (int i = 0; i < n; i++) {
+                int index = permutation[i];
+                buffer[counts[(keys[index] >>> shift) & (NUM_BUCKETS - 1)]++] = index;
+            }
+
+            int[] tmp = permutation;
+            permutation = buffer;
+            buffer = tmp;
+        }
+        return permutation;
+    }
+}
@@ -0,0 +1,103 @@
+package pdfact.core.util.list;
+
+import pdfact.core.model.HasPosition;
+import pdfact.core.model.Position;
+import pdfact.core.model.Rectangle;
+
+import java.util.List;
+
+/**
+ * The orders by which elements with a single position are commonly sorted. Each order sorts by a
+ * single coordinate of the rectangles of the elements, such that it can be computed by a
+ * {@link FloatKeySort}. Elements with equal coordinates keep their relative order. Elements without
+ * a position (or without a rectangle) are sorted last, like by the comparators in
+ * {@link pdfact.core.util.comparator}.
+ */
+public enum PositionOrder {
+    /**
+     * The order by ascending minX values.
+     */
+    MIN_X(Rectangle::getMinX, false),
+
+    /**
+     * The order by ascending minY values.
+     */
+    MIN_Y(Rectangle::getMinY, false),
+
+    /**
+     * The order by descending minY values (top-down).
+     */
+    MIN_Y_DESCENDING(Rectangle::getMinY, true),
+
+    /**
+     * The order by descending maxY values (top-down).
+     */
+    MAX_Y_DESCENDING(Rectangle::getMaxY, true);
+
+    /**
+     * The function to obtain the sort key of an element.
+     */
+    private final FloatKey<HasPosition> key;
+
+    /**
+     * True if the elements are sorted by descending keys.
+     */
+    private final boolean descending;
+
+    /**
+     * Creates a new order.
+     *
+     * @param rectangleKey The function to obtain the sort key from the rectangle of an element.
+     * @param descending   True if the elements are sorted by descending keys.
+     */
+    PositionOrder(FloatKey<Rectangle> rectangleKey, boolean descending) {
+        this.key = e -> {
+            Rectangle rectangle = getRectangle(e);
+            // NaN keys are sorted last by FloatKeySort, in both orders.
+            return rectangle != null ? rectangleKey.getKey(rectangle) : Float.NaN;
+        };
+        this.descending = descending;
+    }
+
+    /**
+     * Returns the rectangle of the given element.
+     *
+     * @param element The element.
+     * @return The rectangle of the element, or null if the element has no position or rectangle.
+     */
+    private static Rectangle getRectangle(HasPosition element) {
+        if (element == null) {
+            return null;
+        }
+        Position position = element.getPosition();
+        return position != null ? position.getRectangle() : null;
+    }
+
+    /**
+     * Returns the function to obtain the sort key of an element.
+     *
+     * @return The function to obtain the sort key of an element.
+     */
+    public FloatKey<HasPosition> getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns true if the elements are sorted by descending keys.
+     *
+     * @return True if the elements are sorted by descending keys, false otherwise.
+     */
+    public boolean isDescending() {
+        return this.descending;
+    }
+
+    /**
+     * Computes the permutation that sorts the given elements in this order.
+     *
+     * @param elements The elements to sort.
+     * @return The sorting permutation.
+     */
+    public int[] computePermutation(List<? extends HasPosition> elements) {
+        return FloatKeySort.computePermutation(elements, this.key, this.descending);
+    }
+}
@@ -0,0 +1,126 @@
+package pdfact.core.util.pipeline;
+
+import pdfact.core.util.exception.PdfActTimeoutException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A deadline for the processing of a document, which can also be cancelled explicitly. The
+ * cancellation is cooperative: the pipeline checks the deadline between its pipes, the page
+ * executor before each page, and the parser before each page, on entering a (form or Type3) stream
+ * and after each batch of operators. A deadline can be shared between threads.
+ */
+public class Deadline {
+    /**
+     * The value of {@link System#nanoTime()} at which this deadline expires.
+     */
+    protected final long expiryNanos;
+
+    /**
+     * The time budget in milliseconds (0 if there is no time budget).
+     */
+    protected final long budgetMillis;
+
+    /**
+     * Whether this deadline was cancelled explicitly.
+     */
+    protected volatile boolean isCancelled;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new deadline.
+     *
+     * @param budgetMillis The time budget in milliseconds, 0 (or less) for no time budget.
+     */
+    protected Deadline(long budgetMillis) {
+        this(budgetMillis, System.nanoTime());
+    }
+
+    /**
+     * Creates a new deadline whose time budget is counted from the given start time.
+     *
+     * @param budgetMillis The time budget in milliseconds, 0 (or less) for no time budget.
+     * @param startNanos   The start time, as a value of {@link System#nanoTime()}.
+     */
+    protected Deadline(long budgetMillis, long startNanos) {
+        this.budgetMillis = Math.max(budgetMillis, 0);
+        this.expiryNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(this.budgetMillis);
+    }
+
+    /**
+     * Creates a deadline that expires after the given time budget, counted from now.
+     *
+     * @param budgetMillis The time budget in milliseconds.
+     * @return The created deadline.
+     */
+    public static Deadline after(long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("The time budget must be positive.");
+        }
+        return new Deadline(budgetMillis);
+    }
+
+    /**
+     * Creates a deadline that never expires, but can be cancelled.
+     *
+     * @return The created deadline.
+     */
+    public static Deadline cancellable() {
+        return new Deadline(0);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Cancels the processing. The processing stops at the next check of this deadline.
+     */
+    public void cancel() {
+        this.isCancelled = true;
+    }
+
+    /**
+     * Returns true if this deadline was cancelled explicitly.
+     *
+     * @return True if this deadline was cancelled, false otherwise.
+     */
+    public boolean isCancelled() {
+        return this.isCancelled;
+    }
+
+    /**
+     * Returns true if this deadline was cancelled or its time budget is exceeded.
+     *
+     * @return True if the processing should stop, false otherwise.
+     */
+    public boolean isExpired() {
+        return this.isCancelled || (this.budgetMillis > 0 && System.nanoTime() - this.expiryNanos >= 0);
+    }
+
+    /**
+     * Returns the time budget of this deadline.
+     *
+     * @return The time budget in milliseconds, or 0 if there is no time budget.
+     */
+    public long getBudgetMillis() {
+        return this.budgetMillis;
+    }
+
+    /**
+     * Throws an exception if this deadline was cancelled or its time budget is exceeded.
+     *
+     * @throws PdfActTimeoutException If the processing should stop.
+     */
+    public void check() throws PdfActTimeoutException {
+        if (isExpired()) {
+            throw new PdfActTimeoutException(this.isCancelled
+                    ? "The processing of the PDF was cancelled."
+                    : "The processing of the PDF exceeded its time budget of " + this.budgetMillis + " ms.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline(budget: " + this.budgetMillis + " ms, cancelled: " + this.isCancelled + ")";
+    }
+}
@@ -0,0 +1,326 @@
+package pdfact.core.util.pipeline;
+
+import pdfact.core.util.exception.PdfActTimeoutException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A budget of heap memory shared by the documents processed concurrently in a JVM. Before a
+ * document is processed, the estimated heap usage of the document is reserved from the budget; a
+ * document that doesn't fit into the remaining budget waits until enough memory is released by the
+ * documents in progress. The documents are admitted first come, first served, such that a large
+ * document is not starved by a stream of small ones. A reservation larger than the whole budget is
+ * clipped to the budget, that is: such a document is processed alone.
+ */
+public class MemoryBudget {
+    /**
+     * The interval in which a waiting document checks its deadline, in milliseconds.
+     */
+    protected static final long DEADLINE_CHECK_INTERVAL_MILLIS = 50;
+
+    /**
+     * The budget in bytes.
+     */
+    protected final long budgetBytes;
+
+    /**
+     * The number of bytes reserved by the documents in progress.
+     */
+    protected long reservedBytes;
+
+    /**
+     * The waiting reservations, in the order of their arrival.
+     */
+    protected final Deque<Reservation> queue = new ArrayDeque<>();
+
+    /**
+     * The number of reservations made so far.
+     */
+    protected long numReservations;
+
+    /**
+     * The number of reservations that had to wait for memory so far.
+     */
+    protected long numQueued;
+
+    /**
+     * The lock that guards the reserved bytes and the queue.
+     */
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The condition that is signalled when the reserved bytes or the queue changed.
+     */
+    protected final Condition changed = this.lock.newCondition();
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new memory budget.
+     *
+     * @param budgetBytes The budget in bytes.
+     */
+    public MemoryBudget(long budgetBytes) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("The memory budget must be positive.");
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Creates a memory budget of the given fraction of the max. heap size of this JVM.
+     *
+     * @param fraction The fraction of the max. heap size, in (0, 1].
+     * @return The created memory budget.
+     */
+    public static MemoryBudget ofMaxHeap(double fraction) {
+        if (fraction <= 0 || fraction > 1) {
+            throw new IllegalArgumentException("The fraction of the heap must be in (0, 1].");
+        }
+        return new MemoryBudget((long) (Runtime.getRuntime().maxMemory() * fraction));
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Reserves the given number of bytes, waiting until they fit into the remaining budget and all
+     * reservations that arrived earlier are admitted.
+     *
+     * @param numBytes The number of bytes to reserve.
+     * @param deadline The deadline of the document, or null if there is none.
+     * @return The reservation, which must be closed after the document was processed.
+     * @throws PdfActTimeoutException If the deadline expired (or the thread was interrupted) while
+     *                                waiting.
+     */
+    public Reservation reserve(long numBytes, Deadline deadline) throws PdfActTimeoutException {
+        Reservation reservation = new Reservation(Math.min(Math.max(numBytes, 0), this.budgetBytes));
+
+        this.lock.lock();
+        try {
+            this.numReservations++;
+            if (this.queue.isEmpty() && fits(reservation)) {
+                this.reservedBytes += reservation.numBytes;
+                return reservation;
+            }
+
+            this.numQueued++;
+            this.queue.addLast(reservation);
+            try {
+                while (this.queue.peekFirst() != reservation || !fits(reservation)) {
+                    if (deadline != null) {
+                        deadline.check();
+                    }
+                    this.changed.await(DEADLINE_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PdfActTimeoutException("The processing of the PDF was interrupted while waiting for "
+                        + "memory.");
+            } finally {
+                // Leave the queue on admission as well as on abort, and let the next one check.
+                this.queue.remove(reservation);
+                this.changed.signalAll();
+            }
+            this.reservedBytes += reservation.numBytes;
+            return reservation;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Reserves the given number of bytes if they fit into the remaining budget right now and no
+     * other reservation is waiting, without waiting otherwise.
+     *
+     * @param numBytes The number of bytes to reserve.
+     * @return The reservation, which must be closed after the document was processed, or null if
+     * the bytes couldn't be reserved right now.
+     */
+    public Reservation tryReserve(long numBytes) {
+        Reservation reservation = new Reservation(Math.min(Math.max(numBytes, 0), this.budgetBytes));
+
+        this.lock.lock();
+        try {
+            if (!this.queue.isEmpty() || !fits(reservation)) {
+                return null;
+            }
+            this.numReservations++;
+            this.reservedBytes += reservation.numBytes;
+            return reservation;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the given reservation fits into the remaining budget.
+     *
+     * @param reservation The reservation.
+     * @return True if the reservation fits, false otherwise.
+     */
+    protected boolean fits(Reservation reservation) {
+        return this.reservedBytes + reservation.numBytes <= this.budgetBytes;
+    }
+
+    /**
+     * Releases the given reservation.
+     *
+     * @param reservation The reservation to release.
+     */
+    protected void release(Reservation reservation) {
+        this.lock.lock();
+        try {
+            this.reservedBytes -= reservation.numBytes;
+            this.changed.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the budget.
+     *
+     * @return The budget in bytes.
+     */
+    public long getBudgetBytes() {
+        return this.budgetBytes;
+    }
+
+    /**
+     * Returns the number of bytes reserved by the documents in progress.
+     *
+     * @return The number of reserved bytes.
+     */
+    public long getReservedBytes() {
+        this.lock.lock();
+        try {
+            return this.reservedBytes;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of documents currently waiting for memory.
+     *
+     * @return The number of waiting documents.
+     */
+    public int getNumWaiting() {
+        this.lock.lock();
+        try {
+            return this.queue.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of reservations requested so far.
+     *
+     * @return The number of reservations.
+     */
+    public long getNumReservations() {
+        this.lock.lock();
+        try {
+            return this.numReservations;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of reservations that had to wait for memory so far.
+     *
+     * @return The number of queued reservations.
+     */
+    public long getNumQueued() {
+        this.lock.lock();
+        try {
+            return this.numQueued;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryBudget(budget: " + this.budgetBytes + " bytes, reserved: " + getReservedBytes()
+                + " bytes, waiting: " + getNumWaiting() + ")";
+    }
+
+    // ==============================================================================================
+
+    /**
+     * A reservation of bytes from a memory budget, released on closing.
+     */
+    public class Reservation implements AutoCloseable {
+        /**
+         * The number of reserved bytes.
+         */
+        protected long numBytes;
+
+        /**
+         * Whether this reservation was released.
+         */
+        protected boolean isReleased;
+
+        /**
+         * Creates a new reservation.
+         *
+         * @param numBytes The number of bytes to reserve.
+         */
+        protected Reservation(long numBytes) {
+            this.numBytes = numBytes;
+        }
+
+        /**
+         * Returns the number of reserved bytes.
+         *
+         * @return The number of reserved bytes.
+         */
+        public long getBytes() {
+            return this.numBytes;
+        }
+
+        /**
+         * Extends this reservation by the given number of bytes if they fit into the remaining
+         * budget right now and no other reservation is waiting, without waiting otherwise. The
+         * extended reservation is clipped to the budget, like a new reservation.
+         *
+         * @param numBytes The number of bytes to add to this reservation.
+         * @return True if this reservation was extended, false otherwise.
+         */
+        public synchronized boolean tryExtend(long numBytes) {
+            lock.lock();
+            try {
+                long extendedBytes = Math.min(this.numBytes + Math.max(numBytes, 0), budgetBytes);
+                if (this.isReleased || !queue.isEmpty()
+                        || reservedBytes - this.numBytes + extendedBytes > budgetBytes) {
+                    return false;
+                }
+                reservedBytes += extendedBytes - this.numBytes;
+                this.numBytes = extendedBytes;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Releases the reserved bytes. Releasing a reservation twice has no effect.
+         */
+        @Override
+        public synchronized void close() {
+            if (!this.isReleased) {
+                this.isReleased = true;
+                release(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package pdfact.core.util.pipeline;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import pdfact.core.model.Page;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActParseException;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An executor that runs the per-page work of the pipes of a pipeline. In contrast to parallel
+ * streams, which run on the common ForkJoinPool shared by the whole JVM, each executor owns its
+ * threads, so the parallelism of PdfAct can be configured independently of other work in the same
+ * JVM.
+ *
+ * <p>
+ * An executor is either sequential (all pages are processed in the calling thread), backed by a
+ * fixed number of platform threads, or backed by virtual threads (JDK 21+).
+ */
+public class PageExecutor implements AutoCloseable {
+    /**
+     * The logger.
+     */
+    protected static Logger log = LogManager.getLogger(PageExecutor.class);
+
+    /**
+     * The executor that is used by pipes that are executed without a given executor.
+     */
+    protected static PageExecutor defaultExecutor;
+
+    /**
+     * The counter to create unique thread names.
+     */
+    protected static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * The underlying executor service, or null if the pages are processed sequentially.
+     */
+    protected final ExecutorService executorService;
+
+    /**
+     * The (maximum) number of pages processed in parallel (0 for unbounded).
+     */
+    protected final int parallelism;
+
+    /**
+     * Whether this executor is backed by virtual threads.
+     */
+    protected final boolean isVirtual;
+
+    /**
+     * The deadline that is checked before each page, or null if there is none.
+     */
+    protected final Deadline deadline;
+
+    /**
+     * Whether this executor owns the executor service (and shuts it down on closing).
+     */
+    protected final boolean isOwningExecutorService;
+
+    // ==============================================================================================
+
+    /**
+     * Creates a new page executor.
+     *
+     * @param executorService The underlying executor service, or null to process the pages
+     *                        sequentially.
+     * @param parallelism     The (maximum) number of pages processed in parallel (0 for unbounded).
+     * @param isVirtual       Whether the executor service is backed by virtual threads.
+     */
+    protected PageExecutor(ExecutorService executorService, int parallelism, boolean isVirtual) {
+        this(executorService, parallelism, isVirtual, null, true);
+    }
+
+    /**
+     * Creates a new page executor.
+     *
+     * @param executorService         The underlying executor service, or null to process the pages
+     *                                sequentially.
+     * @param parallelism             The (maximum) number of pages processed in parallel (0 for
+     *                                unbounded).
+     * @param isVirtual               Whether the executor service is backed by virtual threads.
+     * @param deadline                The deadline to check before each page, or null if there is
+     *                                none.
+     * @param isOwningExecutorService Whether the executor service is shut down on closing.
+     */
+    protected PageExecutor(ExecutorService executorService, int parallelism, boolean isVirtual,
+                           Deadline deadline, boolean isOwningExecutorService) {
+        this.executorService = executorService;
+        this.parallelism = parallelism;
+        this.isVirtual = isVirtual;
+        this.deadline = deadline;
+        this.isOwningExecutorService = isOwningExecutorService;
+    }
+
+    /**
+     * Creates an executor that processes all pages sequentially in the calling thread.
+     *
+     * @return The created executor.
+     */
+    public static PageExecutor sequential() {
+        return new PageExecutor(null, 1, false);
+    }
+
+    /**
+     * Creates an executor that processes up to the given number of pages in parallel, on its own
+     * platform threads. A parallelism of 1 (or less) results in a sequential executor.
+     *
+     * @param parallelism The number of pages to process in parallel.
+     * @return The created executor.
+     */
+    public static PageExecutor withParallelism(int parallelism) {
+        if (parallelism <= 1) {
+            return sequential();
+        }
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "pdfact-page-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new PageExecutor(Executors.newFixedThreadPool(parallelism, threadFactory), parallelism, false);
+    }
+
+    /**
+     * Creates an executor that processes each page in its own virtual thread. Virtual threads are
+     * available from JDK 21 on; on older JDKs, this method falls back to an executor with one
+     * platform thread per available processor.
+     *
+     * @return The created executor.
+     */
+    public static PageExecutor withVirtualThreads() {
+        try {
+            // Use reflection, such that the code still compiles and runs on older JDKs.
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return new PageExecutor((ExecutorService) method.invoke(null), 0, true);
+        } catch (ReflectiveOperationException e) {
+            log.debug("Virtual threads are not available, falling back to platform threads.");
+            return withParallelism(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    /**
+     * Returns the executor to use by pipes that are executed without a given executor. This
+     * executor has one platform thread per available processor and is never closed.
+     *
+     * @return The default executor.
+     */
+    public static synchronized PageExecutor getDefault() {
+        if (defaultExecutor == null) {
+            defaultExecutor = withParallelism(Runtime.getRuntime().availableProcessors());
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Returns an executor that runs on the threads of this executor, but checks the given deadline
+     * before processing each page and skips the remaining pages as soon as the deadline expired.
+     * Closing the returned executor doesn't shut down the threads of this executor.
+     *
+     * @param deadline The deadline to check.
+     * @return The executor that checks the deadline (this executor if it is such an executor for
+     * the given deadline already).
+     */
+    public PageExecutor withDeadline(Deadline deadline) {
+        if (deadline == this.deadline && !this.isOwningExecutorService) {
+            return this;
+        }
+        return new PageExecutor(this.executorService, this.parallelism, this.isVirtual, deadline, false);
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Runs the given task for each (non-null) page of the given list and waits until all tasks are
+     * completed. The tasks may run concurrently, so they must not modify shared state other than
+     * their page (use thread-safe counters, e.g. LongAdder, for statistics).
+     *
+     * @param pages The pages to process.
+     * @param task  The task to run for each page.
+     * @throws PdfActException If a task failed.
+     */
+    public void forEachPage(List<Page> pages, PageTask task) throws PdfActException {
+        forEach(pages, task);
+    }
+
+    /**
+     * Runs the given task for each (non-null) element of the given list and waits until all tasks
+     * are completed. The tasks may run concurrently, so they must not modify shared state other than
+     * their element.
+     *
+     * @param elements The elements to process.
+     * @param task     The task to run for each element.
+     * @param <T>      The type of the elements.
+     * @throws PdfActException If a task failed.
+     */
+    public <T> void forEach(List<T> elements, Task<? super T> task) throws PdfActException {
+        if (elements == null || elements.isEmpty()) {
+            return;
+        }
+
+        if (this.executorService == null || elements.size() == 1) {
+            for (T element : elements) {
+                if (element != null) {
+                    checkDeadline();
+                    task.process(element);
+                }
+            }
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            if (element != null) {
+                futures.add(this.executorService.submit(() -> {
+                    checkDeadline();
+                    task.process(element);
+                    return null;
+                }));
+            }
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new PdfActParseException("Interrupted while processing the pages.", e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof PdfActException) {
+                throw (PdfActException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new PdfActParseException("Error while processing the pages.", cause);
+        }
+    }
+
+    /**
+     * Checks the deadline of this executor, if there is any.
+     *
+     * @throws PdfActException If the deadline expired.
+     */
+    protected void checkDeadline() throws PdfActException {
+        if (this.deadline != null) {
+            this.deadline.check();
+        }
+    }
+
+    /**
+     * Cancels the given futures.
+     *
+     * @param futures The futures to cancel.
+     */
+    protected static void cancel(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Returns the (maximum) number of pages processed in parallel.
+     *
+     * @return The number of pages processed in parallel, or 0 if unbounded.
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Returns true if this executor is backed by virtual threads.
+     *
+     * @return True if this executor is backed by virtual threads, false otherwise.
+     */
+    public boolean isVirtual() {
+        return this.isVirtual;
+    }
+
+    /**
+     * Shuts down the threads of this executor. The default executor (and the threads shared with
+     * another executor, see {@link #withDeadline(Deadline)}) are never shut down.
+     */
+    @Override
+    public void close() {
+        if (this.executorService != null && this.isOwningExecutorService && this != defaultExecutor) {
+            this.executorService.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PageExecutor(parallelism: " + this.parallelism + ", virtual: " + this.isVirtual + ")";
+    }
+
+    // ==============================================================================================
+
+    /**
+     * A task to run for a single element.
+     *
+     * @param <T> The type of the element.
+     */
+    public interface Task<T> {
+        /**
+         * Processes the given element.
+         *
+         * @param element The element to process.
+         * @throws PdfActException If processing the element failed.
+         */
+        void process(T element) throws PdfActException;
+    }
+
+    /**
+     * A task to run for a single page.
+     */
+    public interface PageTask extends Task<Page> {
+    }
+}
@@ -0,0 +1,19 @@
+package pdfact.core.util.pipeline;
+
+import pdfact.core.model.Page;
+
+/**
+ * A listener that is notified about a snapshot of each page of a document once the per-page stages
+ * of the pipeline are done, such that the page can be read safely (also from another thread) while
+ * the pipeline continues with the document-level results.
+ */
+public interface PageListener {
+    /**
+     * Handles the given page snapshot, which is not modified by the pipeline. The processing of the
+     * document can be aborted by throwing an unchecked exception or by cancelling the deadline of
+     * the document.
+     *
+     * @param page The snapshot of the completed page.
+     */
+    void pageCompleted(Page page);
+}
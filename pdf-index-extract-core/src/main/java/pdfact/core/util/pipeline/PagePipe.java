@@ -0,0 +1,33 @@
+package pdfact.core.util.pipeline;
+
+import pdfact.core.model.Document;
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * A pipe that processes the pages of a document independently of each other, on a
+ * {@link PageExecutor}. A pipeline passes its own executor to each such pipe on executing it, such
+ * that the executor is bound to a single execution and not to the pipe.
+ */
+public interface PagePipe extends Pipe {
+    /**
+     * Executes this pipe, processing the pages on the default executor.
+     *
+     * @param pdf The input PDF document for this pipe.
+     * @return The state of the PDF document after executing this pipe.
+     * @throws PdfActException If something went wrong while executing this pipe.
+     */
+    @Override
+    default Document execute(Document pdf) throws PdfActException {
+        return execute(pdf, PageExecutor.getDefault());
+    }
+
+    /**
+     * Executes this pipe, processing the pages on the given executor.
+     *
+     * @param pdf      The input PDF document for this pipe.
+     * @param executor The executor on which the pages are processed.
+     * @return The state of the PDF document after executing this pipe.
+     * @throws PdfActException If something went wrong while executing this pipe.
+     */
+    Document execute(Document pdf, PageExecutor executor) throws PdfActException;
+}
@@ -56,6 +56,22 @@ public interface Pipeline {
 
     // ==============================================================================================
 
+    /**
+     * Returns the executor which is passed to each {@link PagePipe} of this pipeline.
+     *
+     * @return The executor, or null if the pipes use the default executor.
+     */
+    PageExecutor getPageExecutor();
+
+    /**
+     * Sets the executor which is passed to each {@link PagePipe} of this pipeline.
+     *
+     * @param executor The executor, or null if the pipes should use the default executor.
+     */
+    void setPageExecutor(PageExecutor executor);
+
+    // ==============================================================================================
+
     /**
      * Returns the number of pipes in this pipeline.
      *
@@ -2,6 +2,7 @@ package pdfact.core.util.pipeline;
 
 import pdfact.core.model.Document;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActTimeoutException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +18,11 @@ public class PlainPipeline implements Pipeline {
      */
     protected List<Pipe> pipes;
 
+    /**
+     * The executor to pass to the page pipes.
+     */
+    protected PageExecutor pageExecutor;
+
     /**
      * Creates an empty pipeline.
      */
@@ -29,8 +35,29 @@ public class PlainPipeline implements Pipeline {
     @Override
     public Document process(Document pdf) throws PdfActException {
         Document processed = pdf;
-        for (Pipe pipe : this.pipes) {
-            processed = pipe.execute(processed);
+        Deadline deadline = pdf != null ? pdf.getDeadline() : null;
+        PageExecutor executor = this.pageExecutor != null ? this.pageExecutor : PageExecutor.getDefault();
+        if (deadline != null) {
+            // Check the deadline before each page, too.
+            executor = executor.withDeadline(deadline);
+        }
+        try {
+            for (Pipe pipe : this.pipes) {
+                if (deadline != null) {
+                    deadline.check();
+                }
+                if (pipe instanceof PagePipe) {
+                    // Pass the executor to this execution only, such that the pipe doesn't keep it.
+                    processed = ((PagePipe) pipe).execute(processed, executor);
+                } else {
+                    processed = pipe.execute(processed);
+                }
+            }
+        } catch (PdfActTimeoutException e) {
+            if (e.getDocument() == null) {
+                e.setDocument(processed);
+            }
+            throw e;
         }
         return processed;
     }
@@ -59,6 +86,18 @@ public class PlainPipeline implements Pipeline {
 
     // ==============================================================================================
 
+    @Override
+    public PageExecutor getPageExecutor() {
+        return this.pageExecutor;
+    }
+
+    @Override
+    public void setPageExecutor(PageExecutor executor) {
+        this.pageExecutor = executor;
+    }
+
+    // ==============================================================================================
+
     @Override
     public int size() {
         return this.pipes != null ? this.pipes.size() : 0;
@@ -0,0 +1,153 @@
+package pdfact.core.util.statistician;
+
+import gnu.trove.iterator.TIntIntIterator;
+import gnu.trove.map.hash.TIntIntHashMap;
+import pdfact.core.model.Document;
+import pdfact.core.model.Page;
+import pdfact.core.model.PageGeometryProfile;
+import pdfact.core.model.PageGeometryProfile.PageGeometry;
+import pdfact.core.model.Rectangle;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.model.TextBlock;
+import pdfact.core.model.TextLine;
+import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.PositionOrder;
+
+/**
+ * A class that computes the page geometry profile of a document, in a single pass over the pages.
+ * The semantic roles of the text blocks must be already detected, since the body text band is
+ * derived from the blocks with the role {@link SemanticRole#BODY_TEXT}.
+ */
+public class PageGeometryStatistician {
+    /**
+     * Computes the page geometry profile of the given document.
+     *
+     * @param pdf The document to process.
+     * @return The computed page geometry profile.
+     */
+    public PageGeometryProfile compute(Document pdf) {
+        PageGeometryProfile profile = new PageGeometryProfile();
+        if (pdf == null || pdf.getPages() == null) {
+            return profile;
+        }
+
+        TIntIntHashMap bodyTextMinYFrequencies = new TIntIntHashMap();
+        TIntIntHashMap bodyTextMaxYFrequencies = new TIntIntHashMap();
+
+        for (Page page : pdf.getPages()) {
+            if (page == null) {
+                continue;
+            }
+
+            float bodyTextMinY = Float.MAX_VALUE;
+            float bodyTextMaxY = -Float.MAX_VALUE;
+            for (TextBlock block : page.getTextBlocks()) {
+                if (block == null || block.getSemanticRole() != SemanticRole.BODY_TEXT) {
+                    continue;
+                }
+                Rectangle rect = block.getPosition().getRectangle();
+                bodyTextMinY = Math.min(bodyTextMinY, rect.getMinY());
+                bodyTextMaxY = Math.max(bodyTextMaxY, rect.getMaxY());
+            }
+            if (bodyTextMaxY >= bodyTextMinY) {
+                bodyTextMinYFrequencies.adjustOrPutValue(Math.round(bodyTextMinY), 1, 1);
+                bodyTextMaxYFrequencies.adjustOrPutValue(Math.round(bodyTextMaxY), 1, 1);
+            }
+
+            for (TextLine line : page.getTextLines()) {
+                profile.getLineHeightFrequencies().add(line.getPosition().getRectangle().getHeight());
+            }
+
+            profile.addPageGeometry(page, computePageGeometry(page));
+        }
+
+        profile.setBodyTextMinY(getMostCommonValue(bodyTextMinYFrequencies));
+        profile.setBodyTextMaxY(getMostCommonValue(bodyTextMaxYFrequencies));
+
+        return profile;
+    }
+
+    /**
+     * Computes the geometry of the given page.
+     *
+     * @param page The page to process.
+     * @return The computed page geometry.
+     */
+    public PageGeometry computePageGeometry(Page page) {
+        ElementList<TextLine> lines = page.getTextLines();
+        int numLines = lines.size();
+
+        if (numLines == 0) {
+            return new PageGeometry(0, 0f, 0f, 0);
+        }
+
+        double sumLineHeights = 0;
+        float averageLineWidth = 0f;
+        for (TextLine line : lines) {
+            Rectangle rect = line.getPosition().getRectangle();
+            sumLineHeights += rect.getHeight();
+            averageLineWidth += rect.getWidth();
+        }
+        double averageLineHeight = sumLineHeights / numLines;
+        averageLineWidth /= numLines;
+
+        float lineWidthVariance = 0f;
+        for (TextLine line : lines) {
+            float width = line.getPosition().getRectangle().getWidth();
+            lineWidthVariance += (width - averageLineWidth) * (width - averageLineWidth);
+        }
+        lineWidthVariance /= numLines;
+
+        PageGeometry geometry = new PageGeometry(averageLineHeight, averageLineWidth, lineWidthVariance, 0);
+        geometry.setFooterMaxY(computeFooterMaxY(page, geometry));
+        return geometry;
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Computes the maxY value of the footer block of the given page: if the lowest block is
+     * unusually wide and separated from the block above by more than 2 line heights, it is assumed
+     * to be a footer.
+     *
+     * @param page     The page to process.
+     * @param geometry The geometry of the text lines of the page.
+     * @return The maxY value of the footer block, or 0 if the page has no footer block.
+     */
+    protected float computeFooterMaxY(Page page, PageGeometry geometry) {
+        ElementList<TextBlock> blocks = page.getTextBlocks(PositionOrder.MIN_Y_DESCENDING);
+        if (blocks.size() < 2) {
+            return 0;
+        }
+
+        Rectangle lowestRect = blocks.getLastElement().getPosition().getRectangle();
+        Rectangle aboveRect = blocks.get(blocks.size() - 2).getPosition().getRectangle();
+        float verticalSpacing = aboveRect.getMaxY() - lowestRect.getMinY();
+
+        if (verticalSpacing > 2 * geometry.getAverageLineHeight()
+                && geometry.getMaxRegularLineWidth() < lowestRect.getWidth()) {
+            return lowestRect.getMaxY();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the most common value of the given frequencies (the smallest one on ties).
+     *
+     * @param frequencies The frequencies of the values.
+     * @return The most common value, or 0 if there are no values.
+     */
+    protected static int getMostCommonValue(TIntIntHashMap frequencies) {
+        int mostCommonValue = 0;
+        int mostCommonFrequency = 0;
+        for (TIntIntIterator it = frequencies.iterator(); it.hasNext(); ) {
+            it.advance();
+            if (it.value() > mostCommonFrequency
+                    || (it.value() == mostCommonFrequency && it.key() < mostCommonValue)) {
+                mostCommonValue = it.key();
+                mostCommonFrequency = it.value();
+            }
+        }
+        return mostCommonValue;
+    }
+}
@@ -1,12 +1,13 @@
 package pdfact.core.util.statistician;
 
-import pdfact.core.model.*;
-import pdfact.core.util.counter.FloatCounter;
+import pdfact.core.model.HasTextLineStatistic;
+import pdfact.core.model.HasTextLines;
+import pdfact.core.model.Line;
+import pdfact.core.model.TextLine;
+import pdfact.core.model.TextLineStatistic;
 import pdfact.core.util.list.ElementList;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * A class that computes statistics about text line.
@@ -31,91 +32,24 @@ public class TextLineStatistician {
      * @return The computed text line statistics.
      */
     public TextLineStatistic compute(ElementList<TextLine> textLines) {
-        // Create new statistic object.
         TextLineStatistic statistic = new TextLineStatistic();
-
-        // Initialize counters for the line pitches and whitespace widths.
-        Map<FontFace, FloatCounter> linePitches = new HashMap<>();
-        FloatCounter whitespaceWidthFreqs = new FloatCounter();
-
         for (int i = 1; i < textLines.size(); i++) {
-            TextLine prevLine = textLines.get(i - 1);
-            TextLine line = textLines.get(i);
-
-            if (prevLine == null || line == null) {
-                continue;
-            }
-
-            // Compute the line pitch between the current line and the previous line.
-            float linePitch = computeLinePitch(prevLine, line);
-            if (!Float.isNaN(linePitch)) {
-                // Compute the font face of the current line.
-                CharacterStatistic charStatistics = line.getCharacterStatistic();
-                FontFace fontFace = charStatistics.getMostCommonFontFace();
-                // Add a new float counter if there is none for the given font face.
-                linePitches.putIfAbsent(fontFace, new FloatCounter());
-                linePitches.get(fontFace).add(linePitch);
-            }
-
-            // Compute the whitespace widths in the line.
-            ElementList<Word> words = line.getWords();
-            if (words != null) {
-                for (int j = 1; j < words.size(); j++) {
-                    Word prevWord = words.get(j - 1);
-                    Word word = words.get(j);
-                    if (prevWord != null && word != null) {
-                        Rectangle prevRectangle = prevWord.getLastPosition().getRectangle();
-                        Rectangle rectangle = word.getFirstPosition().getRectangle();
-                        if (prevRectangle != null && rectangle != null) {
-                            float prevMaxX = prevRectangle.getMaxX();
-                            float minX = rectangle.getMinX();
-                            whitespaceWidthFreqs.add(minX - prevMaxX);
-                        }
-                    }
-                }
-            }
+            statistic.add(textLines.get(i - 1), textLines.get(i));
         }
-
-        statistic.setLinePitchFrequencies(linePitches);
-        statistic.setWhitespaceWidthFrequencies(whitespaceWidthFreqs);
-
         return statistic;
     }
 
     /**
      * Combines the given list of text line statistics to a single statistic.
      *
-     * @param stats The statistics to combine.
+     * @param hasStats The statistics to combine.
      * @return The combined statistics.
      */
     public TextLineStatistic aggregate(List<? extends HasTextLineStatistic> hasStats) {
-        // Create new statistic object.
         TextLineStatistic statistic = new TextLineStatistic();
-
-        // Initialize counters for the line pitches and whitespace widths.
-        Map<FontFace, FloatCounter> linePitches = new HashMap<>();
-        FloatCounter whitespaceWidthFreqs = new FloatCounter();
-
-        // Aggregate the given statistics.
         for (HasTextLineStatistic hasStat : hasStats) {
-            TextLineStatistic stat = hasStat.getTextLineStatistic();
-            for (FontFace fontFace : stat.getLinePitchFrequencies().keySet()) {
-                FloatCounter linePitchFreqs;
-                if (linePitches.containsKey(fontFace)) {
-                    linePitchFreqs = linePitches.get(fontFace);
-                } else {
-                    linePitchFreqs = new FloatCounter();
-                    linePitches.put(fontFace, linePitchFreqs);
-                }
-                linePitchFreqs.add(stat.getLinePitchFrequencies().get(fontFace));
-            }
-            whitespaceWidthFreqs.add(stat.getWhitespaceWidthFrequencies());
+            statistic.add(hasStat.getTextLineStatistic());
         }
-
-        // Fill the statistic object.
-        statistic.setLinePitchFrequencies(linePitches);
-        statistic.setWhitespaceWidthFrequencies(whitespaceWidthFreqs);
-
         return statistic;
     }
 
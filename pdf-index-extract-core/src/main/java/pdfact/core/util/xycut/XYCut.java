@@ -4,13 +4,11 @@ import pdfact.core.model.Character;
 import pdfact.core.model.Document;
 import pdfact.core.model.Page;
 import pdfact.core.model.Rectangle;
-import pdfact.core.util.comparator.MaxYComparator;
-import pdfact.core.util.comparator.MinXComparator;
 import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.PositionOrder;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -85,7 +83,7 @@ public abstract class XYCut {
     protected List<ElementList<Character>> xCut(Document pdf, Page page, ElementList<Character> chars) {
         if (chars != null && !chars.isEmpty()) {
             // Sort the characters by minX in order to sweep them in x direction.
-            Collections.sort(chars, new MinXComparator());
+            chars.sort(PositionOrder.MIN_X);
 
             // The score of the best cut found so far.
             float bestCutScore = 0;
@@ -212,8 +210,8 @@ public abstract class XYCut {
      */
     protected List<ElementList<Character>> yCut(Document pdf, Page page, ElementList<Character> chars) {
         if (chars != null && !chars.isEmpty()) {
-            // Sort the characters by minX in order to sweep them in x direction.
-            Collections.sort(chars, Collections.reverseOrder(new MaxYComparator()));
+            // Sort the characters by maxY in order to sweep them in y direction.
+            chars.sort(PositionOrder.MAX_Y_DESCENDING);
 
             // The score of the best cut found so far.
             float bestCutScore = 0;
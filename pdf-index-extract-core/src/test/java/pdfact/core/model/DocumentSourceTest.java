@@ -0,0 +1,79 @@
+package pdfact.core.model;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Checks the loading of PDF files from the different sources.
+ */
+public class DocumentSourceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static byte[] pdfBytes;
+
+    @BeforeClass
+    public static void createPdf() throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            for (int i = 0; i < 3; i++) {
+                doc.addPage(new PDPage());
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.save(out);
+            pdfBytes = out.toByteArray();
+        }
+    }
+
+    @Test
+    public void testLoadFromMemory() throws IOException {
+        assertLoads(DocumentSource.of(pdfBytes, null));
+        assertLoads(DocumentSource.of(new ByteArrayInputStream(pdfBytes), "book.pdf"));
+
+        // Only the remaining bytes of a buffer belong to the PDF file.
+        ByteBuffer buffer = ByteBuffer.allocateDirect(pdfBytes.length + 10);
+        buffer.position(10);
+        buffer.put(pdfBytes);
+        buffer.position(10);
+        assertLoads(DocumentSource.of(buffer, null));
+    }
+
+    @Test
+    public void testLoadFromChannel() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("book.pdf");
+        Files.write(path, pdfBytes);
+
+        try (FileChannel channel = FileChannel.open(path)) {
+            DocumentSource source = DocumentSource.of(channel, "book.pdf");
+            assertLoads(source);
+            // A source can be loaded more than once.
+            assertLoads(source);
+            Assert.assertTrue(channel.isOpen());
+        }
+
+        Document pdf = new Document(path);
+        Assert.assertEquals(path, pdf.getPath());
+        Assert.assertEquals("book.pdf", pdf.getName());
+        Assert.assertEquals(new Document(path), pdf);
+    }
+
+    private static void assertLoads(DocumentSource source) throws IOException {
+        Assert.assertEquals(pdfBytes.length, source.size());
+        try (PDDocument doc = source.load()) {
+            Assert.assertEquals(3, doc.getNumberOfPages());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package pdfact.core.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.util.counter.FloatHistogram;
+import pdfact.core.util.list.ElementList;
+
+/**
+ * Checks that the set*() list methods of the model copy the given list, such that later changes
+ * of the list by the caller don't change the model.
+ */
+public class ElementListSetterTest {
+
+    @Test
+    public void testSetTextLines() {
+        Page page = new Page(1);
+        ElementList<TextLine> lines = new ElementList<>();
+        lines.add(createLine(page, 700, 10));
+        lines.add(createLine(page, 686, 10));
+
+        TextBlock block = new TextBlock();
+        block.setTextLines(lines);
+
+        lines.add(createLine(page, 100, 20));
+        lines.remove(0);
+
+        Assert.assertEquals(2, block.getTextLines().size());
+        Assert.assertNotSame(lines, block.getTextLines());
+        Assert.assertEquals(686, block.getPosition().getRectangle().getMinY(), 0);
+        Assert.assertEquals(712, block.getPosition().getRectangle().getMaxY(), 0);
+        Assert.assertEquals(10, block.getCharacterStatistic().getAverageFontsize(), 0);
+
+        lines.clear();
+        Assert.assertEquals(2, block.getTextLines().size());
+    }
+
+    @Test
+    public void testSetWords() {
+        ElementList<Word> words = new ElementList<>();
+        words.add(createWord(10));
+        words.add(createWord(10));
+
+        Paragraph paragraph = new Paragraph();
+        paragraph.setWords(words);
+
+        words.add(createWord(20));
+        words.add(createWord(20));
+        words.add(createWord(20));
+
+        Assert.assertEquals(2, paragraph.getWords().size());
+        Assert.assertNotSame(words, paragraph.getWords());
+        Assert.assertEquals(10, paragraph.getCharacterStatistic().getAverageFontsize(), 0);
+
+        words.clear();
+        Assert.assertEquals(2, paragraph.getWords().size());
+    }
+
+    // ==============================================================================================
+
+    private static TextLine createLine(Page page, float minY, float fontsize) {
+        TextLine line = new TextLine();
+        line.setPosition(new Position(page, 72, minY, 500, minY + 12));
+        line.setCharacterStatistic(createStatistic(fontsize));
+        return line;
+    }
+
+    private static Word createWord(float fontsize) {
+        Word word = new Word();
+        word.setCharacterStatistic(createStatistic(fontsize));
+        return word;
+    }
+
+    private static CharacterStatistic createStatistic(float fontsize) {
+        FloatHistogram fontsizes = new FloatHistogram();
+        fontsizes.add(fontsize);
+        CharacterStatistic statistic = new CharacterStatistic();
+        statistic.setFontSizeFrequencies(fontsizes);
+        return statistic;
+    }
+}
@@ -0,0 +1,131 @@
+package pdfact.core.pipes.normalize;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.model.Character;
+import pdfact.core.model.Document;
+import pdfact.core.model.Page;
+import pdfact.core.model.Position;
+import pdfact.core.model.Rectangle;
+import pdfact.core.pipes.filter.characters.PlainFilterCharactersPipe;
+import pdfact.core.pipes.filter.figures.PlainFilterFiguresPipe;
+import pdfact.core.pipes.filter.shapes.PlainFilterShapesPipe;
+import pdfact.core.pipes.translate.characters.PlainStandardizeCharactersPipe;
+import pdfact.core.pipes.translate.diacritics.PlainMergeDiacriticsPipe;
+import pdfact.core.pipes.translate.ligatures.PlainSplitLigaturesPipe;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.PagePipe;
+import pdfact.core.util.pipeline.PageExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks that the fused normalization produces the same characters as the individual pipes.
+ */
+public class PlainNormalizeCharactersPipeTest {
+    /**
+     * The texts of the generated characters: base characters, (non-)combining diacritics,
+     * ligatures, quotes, whitespaces and empty texts.
+     */
+    static final String[] TEXTS = {"a", "e", "o", "u", "x", "\u00B4", "\u0308", "\u0301", "^",
+            "`", "\u00A8", "\uFB01", "\uFB03", "\u00E6", "\u2019", " ", ""};
+
+    @Test
+    public void testSeparatePass() throws PdfActException {
+        for (long seed = 0; seed < 200; seed++) {
+            Document expected = createDocument(seed);
+            normalizeByReferencePipes(expected);
+
+            Document actual = createDocument(seed);
+            PlainNormalizeCharactersPipe pipe = new PlainNormalizeCharactersPipe();
+            pipe.execute(actual, PageExecutor.sequential());
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testWhileParsing() throws PdfActException {
+        for (long seed = 0; seed < 200; seed++) {
+            Document expected = createDocument(seed);
+            normalizeByReferencePipes(expected);
+
+            // Simulate the parser, which passes the characters to a normalizer one by one.
+            Document actual = createDocument(seed);
+            NormalizeCharactersPipe pipe = new PlainNormalizeCharactersPipe();
+            for (Page page : actual.getPages()) {
+                List<Character> characters = new ArrayList<>(page.getCharacters());
+                page.getCharacters().clear();
+                CharacterNormalizer normalizer = pipe.newCharacterNormalizer(page);
+                for (Character character : characters) {
+                    normalizer.add(character);
+                }
+                normalizer.finish();
+            }
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    // ==============================================================================================
+
+    /**
+     * Normalizes the given document by running the individual pipes one after another.
+     */
+    protected void normalizeByReferencePipes(Document pdf) throws PdfActException {
+        PagePipe[] pipes = {new PlainMergeDiacriticsPipe(), new PlainSplitLigaturesPipe(),
+                new PlainStandardizeCharactersPipe(), new PlainFilterCharactersPipe(), new PlainFilterFiguresPipe(),
+                new PlainFilterShapesPipe()};
+        for (PagePipe pipe : pipes) {
+            pipe.execute(pdf, PageExecutor.sequential());
+        }
+    }
+
+    /**
+     * Creates a document with random characters, such that diacritics overlap their neighbors in
+     * various ways.
+     */
+    protected Document createDocument(long seed) {
+        Random random = new Random(seed);
+        Document pdf = new Document("test.pdf");
+        for (int pageNum = 1; pageNum <= 3; pageNum++) {
+            Page page = new Page(pageNum);
+            int numCharacters = random.nextInt(40);
+            float x = 0;
+            for (int i = 0; i < numCharacters; i++) {
+                Character character = new Character();
+                character.setText(TEXTS[random.nextInt(TEXTS.length)]);
+                // Let the characters overlap each other now and then and create some empty boxes.
+                float minX = x - random.nextInt(3);
+                float width = random.nextInt(5);
+                float minY = random.nextInt(2);
+                float height = random.nextInt(10) == 0 ? 0 : 10;
+                character.setPosition(new Position(page, new Rectangle(minX, minY, minX + width, minY + height)));
+                page.addCharacter(character);
+                x += random.nextInt(4);
+            }
+            pdf.addPage(page);
+        }
+        return pdf;
+    }
+
+    /**
+     * Asserts that the given documents have the same characters (with same texts and positions).
+     */
+    protected void assertEquals(Document expected, Document actual) {
+        Assert.assertEquals(expected.getPages().size(), actual.getPages().size());
+        for (int i = 0; i < expected.getPages().size(); i++) {
+            List<Character> expectedChars = expected.getPages().get(i).getCharacters();
+            List<Character> actualChars = actual.getPages().get(i).getCharacters();
+            Assert.assertEquals(expectedChars.size(), actualChars.size());
+            for (int j = 0; j < expectedChars.size(); j++) {
+                Character expectedChar = expectedChars.get(j);
+                Character actualChar = actualChars.get(j);
+                Assert.assertEquals(expectedChar.getText(), actualChar.getText());
+                Assert.assertEquals(expectedChar.getPosition().getRectangle(), actualChar.getPosition().getRectangle());
+            }
+        }
+    }
+}
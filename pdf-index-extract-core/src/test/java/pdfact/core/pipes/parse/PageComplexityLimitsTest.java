@@ -0,0 +1,90 @@
+package pdfact.core.pipes.parse;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.model.ComplexityGuard;
+import pdfact.core.model.Document;
+import pdfact.core.model.DocumentSource;
+import pdfact.core.model.Page;
+import pdfact.core.pipes.parse.stream.pdfbox.PdfBoxPdfStreamsParser;
+import pdfact.core.util.exception.PdfActException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Checks the degradation of pages that exceed the complexity limits.
+ */
+public class PageComplexityLimitsTest {
+
+    @Test
+    public void testDegradedPage() throws IOException, PdfActException {
+        Document pdf = parse(createDocument(500), new PageComplexityLimits(0, 0, 100));
+
+        Page page = pdf.getPages().get(0);
+        Assert.assertTrue(page.isDegraded());
+        Assert.assertTrue(page.getExceededGuards().contains(ComplexityGuard.SHAPES));
+        Assert.assertTrue(page.getShapes().isEmpty());
+        // The text is extracted nevertheless.
+        Assert.assertFalse(page.getCharacters().isEmpty());
+    }
+
+    @Test
+    public void testRegularPage() throws IOException, PdfActException {
+        Document pdf = parse(createDocument(50), new PageComplexityLimits(0, 0, 100));
+
+        Page page = pdf.getPages().get(0);
+        Assert.assertFalse(page.isDegraded());
+        Assert.assertFalse(page.getShapes().isEmpty());
+    }
+
+    @Test
+    public void testLimits() {
+        PageComplexityLimits limits = new PageComplexityLimits(10, 0, 5);
+        Assert.assertTrue(limits.isExceeded(ComplexityGuard.OPERATORS, 11));
+        Assert.assertFalse(limits.isExceeded(ComplexityGuard.OPERATORS, 10));
+        // A limit of 0 means no limit.
+        Assert.assertFalse(limits.isExceeded(ComplexityGuard.CHARACTERS, Integer.MAX_VALUE));
+        Assert.assertTrue(limits.isExceeded(ComplexityGuard.SHAPES, 6));
+    }
+
+    /**
+     * Parses the given PDF with the given limits.
+     */
+    protected static Document parse(byte[] bytes, PageComplexityLimits limits) throws PdfActException {
+        Document pdf = new Document(DocumentSource.of(bytes, "shapes.pdf"));
+        PdfBoxPdfStreamsParser parser = new PdfBoxPdfStreamsParser();
+        parser.setPageComplexityLimits(limits);
+        parser.parse(pdf);
+        return pdf;
+    }
+
+    /**
+     * Creates a single-page document with a line of text and the given number of stroked lines.
+     */
+    protected static byte[] createDocument(int numLines) throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            PDPage page = new PDPage();
+            doc.addPage(page);
+            try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                stream.beginText();
+                stream.setFont(PDType1Font.HELVETICA, 12);
+                stream.newLineAtOffset(50, 700);
+                stream.showText("Index");
+                stream.endText();
+                for (int i = 0; i < numLines; i++) {
+                    stream.moveTo(50, 50 + i);
+                    stream.lineTo(500, 50 + i);
+                    stream.stroke();
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package pdfact.core.pipes.parse;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * Checks the detection of PDFs without a text layer.
+ */
+public class TextLayerProbeTest {
+
+    @Test
+    public void testImageOnly() throws IOException {
+        try (PDDocument doc = createDocument(20, -1)) {
+            TextLayerProbe probe = new TextLayerProbe();
+            Assert.assertTrue(probe.isTextLess(doc));
+            Assert.assertEquals(TextLayerProbe.DEFAULT_NUM_SAMPLE_PAGES, probe.getNumProbedPages());
+            Assert.assertEquals(TextLayerProbe.DEFAULT_NUM_SAMPLE_PAGES, probe.getNumImages());
+        }
+    }
+
+    @Test
+    public void testText() throws IOException {
+        // The cover is an image only, the text starts on the second page.
+        try (PDDocument doc = createDocument(20, 1)) {
+            TextLayerProbe probe = new TextLayerProbe();
+            Assert.assertFalse(probe.isTextLess(doc));
+            Assert.assertEquals(1, probe.getNumTextOperators());
+        }
+        // A single page with text, among the image pages.
+        try (PDDocument doc = createDocument(3, 2)) {
+            Assert.assertFalse(new TextLayerProbe().isTextLess(doc));
+        }
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            Assert.assertFalse(new TextLayerProbe().isTextLess(doc));
+        }
+    }
+
+    /**
+     * Creates a document with the given number of pages, each showing an image. The pages from
+     * the given index on also show text (none if the index is negative).
+     */
+    protected static PDDocument createDocument(int numPages, int firstTextPageIndex) throws IOException {
+        PDDocument doc = new PDDocument();
+        PDImageXObject image = LosslessFactory.createFromImage(doc,
+                new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        for (int i = 0; i < numPages; i++) {
+            PDPage page = new PDPage();
+            doc.addPage(page);
+            try (PDPageContentStream stream = new PDPageContentStream(doc, page)) {
+                stream.drawImage(image, 0, 0, 100, 100);
+                if (firstTextPageIndex >= 0 && i >= firstTextPageIndex) {
+                    stream.beginText();
+                    stream.setFont(PDType1Font.HELVETICA, 12);
+                    stream.showText("Index");
+                    stream.endText();
+                }
+            }
+        }
+        return doc;
+    }
+}
@@ -0,0 +1,72 @@
+package pdfact.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.util.ComparisonResult.ErrorType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks the comparison of extracted indices with their gold standard.
+ */
+public class ComparatorTest {
+
+    @Test
+    public void testCompare() {
+        List<IndexEntry> gold = Arrays.asList(
+                entry("Apfel", "3", "5"),
+                entry("Birne", "7"),
+                entry("Birne", "9"),
+                entry("Kirsche", "12"));
+        List<IndexEntry> input = Arrays.asList(
+                entry("Birne", "7"),
+                entry("Apfel", "5", "3"),
+                entry("Birne", "8"),
+                entry("Pflaume", "1"),
+                entry("Pflaume", "2"));
+
+        ComparisonResult result = new Comparator().compare(gold, input);
+        Assert.assertEquals(2, result.getNumberOfTruePositive());
+        Assert.assertEquals(2, result.getNumberOfFalseNegative());
+        Assert.assertEquals(2, result.getNumberOfFalsePositive());
+        Assert.assertEquals(0.5, result.getPrecision(), 1e-9);
+        Assert.assertEquals(0.5, result.getRecall(), 1e-9);
+        Assert.assertEquals(0.5, result.getF1(), 1e-9);
+
+        Assert.assertEquals(1, result.getErrors(ErrorType.MISSING_ENTRY).size());
+        Assert.assertEquals("Kirsche", result.getErrors(ErrorType.MISSING_ENTRY).get(0).getEntry().getPhrase());
+        Assert.assertEquals(2, result.getErrors(ErrorType.ADDITIONAL_ENTRY).size());
+        Assert.assertEquals(2, result.getErrors(ErrorType.PAGE_NUMBERS).size());
+        Assert.assertEquals("Missing page number: 9", result.getErrors(ErrorType.PAGE_NUMBERS).get(0).getMessage());
+        Assert.assertEquals("Wrong numbers: 8", result.getErrors(ErrorType.PAGE_NUMBERS).get(1).getMessage());
+    }
+
+    @Test
+    public void testCompareMultisetNumbersAndNormalizedPhrases() {
+        List<IndexEntry> gold = Arrays.asList(entry("Satz  von Bayes", "4", "4"));
+
+        Assert.assertEquals(1, new Comparator().compare(gold,
+                Arrays.asList(entry(" Satz von Bayes", "4", "4"))).getNumberOfTruePositive());
+        Assert.assertEquals(1, new Comparator().compare(gold,
+                Arrays.asList(entry("Satz von Bayes", "4"))).getNumberOfFalseNegative());
+    }
+
+    @Test
+    public void testCompareNonStrict() {
+        List<IndexEntry> gold = Arrays.asList(entry("Apfel", "3"), entry("Birne", "7"));
+        List<IndexEntry> input = Arrays.asList(entry("Apfel", "4"), entry("Pflaume", "1"));
+
+        ComparisonResult result = new Comparator().compareNonStrict(gold, input);
+        Assert.assertEquals(1, result.getNumberOfTruePositive());
+        Assert.assertEquals(1, result.getNumberOfFalseNegative());
+        Assert.assertEquals(1, result.getNumberOfFalsePositive());
+    }
+
+    private static IndexEntry entry(String phrase, String... numbers) {
+        IndexEntry entry = new IndexEntry();
+        entry.setPhrase(phrase);
+        entry.addNumbers(Arrays.asList(numbers));
+        return entry;
+    }
+}
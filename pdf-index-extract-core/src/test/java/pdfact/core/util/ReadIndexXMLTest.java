@@ -0,0 +1,113 @@
+package pdfact.core.util;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Checks the reading of index XML files.
+ */
+public class ReadIndexXMLTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRead() throws IOException {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<index><file>book.pdf</file><entries>\n"
+                + "  <entry><phrase>Apfel &amp; Birne</phrase><pagenumbers><number>3</number>"
+                + "<number pageOffset=\"12\">5-7</number></pagenumbers>\n"
+                + "    <subentries>\n"
+                + "      <entry><phrase>grün</phrase><pagenumbers><number>4</number></pagenumbers>\n"
+                + "        <subentries><entry><phrase>sauer</phrase><pagenumbers/></entry></subentries>\n"
+                + "      </entry>\n"
+                + "      <entry><phrase>rot</phrase><pagenumbers><number>xii</number></pagenumbers>"
+                + "<reference>Obst</reference></entry>\n"
+                + "    </subentries>\n"
+                + "  </entry>\n"
+                + "  <entry><phrase>Kirsche</phrase><pagenumbers><number>9</number></pagenumbers></entry>\n"
+                + "</entries></index>";
+
+        List<IndexEntry> entries = new ReadIndexXML().read(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(2, entries.size());
+
+        IndexEntry apfel = entries.get(0);
+        Assert.assertEquals("Apfel & Birne", apfel.getPhrase());
+        Assert.assertEquals(Arrays.asList("3", "5-7"), apfel.getNumbers());
+        Assert.assertEquals(2, apfel.getSubentries().size());
+        Assert.assertTrue(apfel.getReference().isEmpty());
+
+        IndexEntry gruen = apfel.getSubentries().get(0);
+        Assert.assertEquals("grün", gruen.getPhrase());
+        Assert.assertEquals(Arrays.asList("4"), gruen.getNumbers());
+        Assert.assertEquals(1, gruen.getSubentries().size());
+        Assert.assertEquals("sauer", gruen.getSubentries().get(0).getPhrase());
+
+        IndexEntry rot = apfel.getSubentries().get(1);
+        Assert.assertEquals(Arrays.asList("xii"), rot.getNumbers());
+        Assert.assertEquals(Arrays.asList("Obst"), rot.getReference());
+
+        Assert.assertEquals("Kirsche", entries.get(1).getPhrase());
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        IndexEntry entry = new IndexEntry();
+        entry.setPhrase("Satz von Bayes");
+        entry.addNumbers(Arrays.asList("12", "14-16"));
+        IndexEntry subEntry = new IndexEntry();
+        subEntry.setPhrase("Beweis");
+        subEntry.addNumbers(Arrays.asList("13"));
+        entry.addSubEntry(subEntry);
+
+        Path xml = folder.getRoot().toPath().resolve("index.xml");
+        new WriteToXML().saveToXML(xml, "book.pdf", Arrays.asList(entry, subEntry));
+
+        List<IndexEntry> entries = new ArrayList<>();
+        new ReadIndexXML().forEachEntry(xml, entries::add);
+        Assert.assertEquals(2, entries.size());
+        Assert.assertEquals("Satz von Bayes", entries.get(0).getPhrase());
+        Assert.assertEquals(Arrays.asList("12", "14-16"), entries.get(0).getNumbers());
+        Assert.assertEquals(1, entries.get(0).getSubentries().size());
+        Assert.assertEquals("Beweis", entries.get(1).getPhrase());
+
+        Collection<IndexEntry> all = new ReadIndexXML().readPdf(xml.toString());
+        Assert.assertEquals(0, new Comparator().compare(entries, all).getErrors().size());
+    }
+
+    @Test
+    public void testNumbersAreKeptAsWritten() throws IOException {
+        List<String> numbers = Arrays.asList("XII", "0012", "12f.", "12n", "A-3", "S. 5", "45");
+        StringBuilder xml = new StringBuilder("<index><entries><entry><phrase>Apfel</phrase><pagenumbers>");
+        numbers.forEach(number -> xml.append("<number>").append(number).append("</number>"));
+        xml.append("</pagenumbers></entry></entries></index>");
+
+        List<IndexEntry> entries = new ReadIndexXML().read(
+                new ByteArrayInputStream(xml.toString().getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(numbers, entries.get(0).getNumbers());
+
+        // The gold standard round-trips without losing any number.
+        Path path = folder.getRoot().toPath().resolve("gold.xml");
+        new WriteToXML().saveToXML(path, "book.pdf", entries);
+        List<IndexEntry> read = new ArrayList<>();
+        new ReadIndexXML().forEachEntry(path, read::add);
+        Assert.assertEquals(numbers, read.get(0).getNumbers());
+    }
+
+    @Test
+    public void testMissingFile() {
+        Assert.assertTrue(new ReadIndexXML().readPdf(folder.getRoot() + "/missing.xml").isEmpty());
+    }
+}
@@ -0,0 +1,124 @@
+package pdfact.core.util.counter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Checks the statistics of float histograms and object counters.
+ */
+public class FloatHistogramTest {
+
+    @Test
+    public void testBinEdges() {
+        FloatHistogram histogram = new FloatHistogram();
+        // Values that differ only by rounding noise belong to the same bin.
+        histogram.add(1.96f);
+        histogram.add(2.0f);
+        histogram.add(2.04f);
+        // Values beyond the half of the resolution belong to the neighboring bins.
+        histogram.add(1.94f);
+        histogram.add(2.06f);
+        histogram.add(-0.04f);
+        histogram.add(0.04f);
+
+        Assert.assertEquals(7, histogram.size());
+        Assert.assertEquals(3, histogram.getFrequency(2f));
+        Assert.assertEquals(3, histogram.getFrequency(2.04f));
+        Assert.assertEquals(1, histogram.getFrequency(1.9f));
+        Assert.assertEquals(1, histogram.getFrequency(2.1f));
+        Assert.assertEquals(2, histogram.getFrequency(0f));
+        Assert.assertEquals(2f, histogram.getMostCommonFloat(), 0);
+        Assert.assertEquals(3, histogram.getMostCommonFloatFrequency());
+        Assert.assertEquals(4, histogram.getFloats().length);
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        FloatHistogram histogram = new FloatHistogram();
+        histogram.add(Float.NaN);
+        histogram.add(Float.POSITIVE_INFINITY);
+
+        Assert.assertTrue(histogram.isEmpty());
+        Assert.assertEquals(0, histogram.size());
+        Assert.assertTrue(Float.isNaN(histogram.getMostCommonFloat()));
+        Assert.assertEquals(0, histogram.getMostCommonFloatFrequency());
+        Assert.assertEquals(0, histogram.getAverageFloat(), 0);
+        Assert.assertEquals(0, histogram.getFrequency(1f));
+        Assert.assertEquals(0, histogram.getFloats().length);
+        Assert.assertFalse(histogram.remove(1f));
+        Assert.assertEquals(new FloatHistogram(), histogram);
+
+        histogram.add(new FloatHistogram());
+        Assert.assertTrue(histogram.isEmpty());
+    }
+
+    @Test
+    public void testModeAfterRemove() {
+        FloatHistogram histogram = new FloatHistogram();
+        histogram.add(10f);
+        histogram.add(10f);
+        histogram.add(10f);
+        histogram.add(12f);
+        histogram.add(12f);
+        Assert.assertEquals(10f, histogram.getMostCommonFloat(), 0);
+
+        Assert.assertTrue(histogram.remove(10f));
+        Assert.assertTrue(histogram.remove(10f));
+        Assert.assertEquals(12f, histogram.getMostCommonFloat(), 0);
+        Assert.assertEquals(2, histogram.getMostCommonFloatFrequency());
+        Assert.assertEquals(3, histogram.size());
+
+        Assert.assertFalse(histogram.remove(11f));
+        histogram.clear();
+        Assert.assertTrue(histogram.isEmpty());
+        Assert.assertTrue(Float.isNaN(histogram.getMostCommonFloat()));
+    }
+
+    @Test
+    public void testRemoveKeepsBinsReachable() {
+        // Remove many values in random order, such that bins of the same probe sequences are moved.
+        Random random = new Random(0);
+        FloatHistogram histogram = new FloatHistogram();
+        int[] expected = new int[200];
+        for (int i = 0; i < 2000; i++) {
+            int bin = random.nextInt(expected.length);
+            histogram.add(bin / 10f);
+            expected[bin]++;
+        }
+        for (int i = 0; i < 1500; i++) {
+            int bin = random.nextInt(expected.length);
+            Assert.assertEquals(expected[bin] > 0, histogram.remove(bin / 10f));
+            expected[bin] = Math.max(0, expected[bin] - 1);
+        }
+
+        int mostCommonFrequency = 0;
+        for (int bin = 0; bin < expected.length; bin++) {
+            Assert.assertEquals(expected[bin], histogram.getFrequency(bin / 10f));
+            mostCommonFrequency = Math.max(mostCommonFrequency, expected[bin]);
+        }
+        Assert.assertEquals(mostCommonFrequency, histogram.getMostCommonFloatFrequency());
+    }
+
+    @Test
+    public void testObjectCounterModeAfterRemove() {
+        ObjectCounter<String> counter = new ObjectCounter<>();
+        counter.add("a");
+        counter.add("a");
+        counter.add("b");
+        Assert.assertEquals("a", counter.getMostCommonObject());
+
+        counter.remove("a");
+        Assert.assertEquals("b", counter.getMostCommonObject());
+        Assert.assertEquals(1, counter.getMostCommonObjectFrequency());
+
+        counter.adjustValue("b", -1);
+        counter.add("c");
+        Assert.assertEquals("c", counter.getMostCommonObject());
+
+        counter.clear();
+        Assert.assertNull(counter.getMostCommonObject());
+        Assert.assertEquals(0, counter.getMostCommonObjectFrequency());
+    }
+}
@@ -0,0 +1,63 @@
+package pdfact.core.util.lexicon;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.model.SemanticRole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks the lookup of the known headings.
+ */
+public class HeadingDictionaryTest {
+
+    @Test
+    public void testDefaultHeadings() {
+        HeadingDictionary dictionary = HeadingDictionary.getDefault();
+        Assert.assertEquals(SemanticRole.INDEX, dictionary.getRole("Index"));
+        Assert.assertEquals(SemanticRole.INDEX, dictionary.getRole("INDEX"));
+        Assert.assertEquals(SemanticRole.INDEX, dictionary.getRole("12 Index"));
+        Assert.assertEquals(SemanticRole.INDEX, dictionary.getRole("Namen- und Sachverzeichnis"));
+        Assert.assertEquals(SemanticRole.INDEX, dictionary.getRole("Index alphabétique"));
+        Assert.assertEquals(SemanticRole.INDEX, dictionary.getRole("ÍNDICE ANALÍTICO"));
+        Assert.assertEquals(SemanticRole.REFERENCE, dictionary.getRole("References"));
+        Assert.assertEquals(SemanticRole.BODY_TEXT, dictionary.getRole("1 Related Work"));
+        Assert.assertEquals(SemanticRole.CATEGORIES, dictionary.getRole("Categories and Subject Descriptors"));
+
+        Assert.assertNull(dictionary.getRole("Indexing"));
+        Assert.assertNull(dictionary.getRole("Inde"));
+        Assert.assertNull(dictionary.getRole("Literaturverzeichnis"));
+        Assert.assertNull(dictionary.getRole("Índice"));
+        Assert.assertNull(dictionary.getRole("123"));
+        Assert.assertNull(dictionary.getRole(""));
+        Assert.assertNull(dictionary.getRole(null));
+    }
+
+    @Test
+    public void testExactHeadings() {
+        HeadingDictionary dictionary = HeadingDictionary.getDefault();
+        Assert.assertTrue(dictionary.isExactHeading("Index", SemanticRole.INDEX));
+        Assert.assertTrue(dictionary.isExactHeading(" Namen- und Sachverzeichnis ", SemanticRole.INDEX));
+
+        // Index entries that are spelled like a heading.
+        Assert.assertFalse(dictionary.isExactHeading("Register, 12, 45", SemanticRole.INDEX));
+        Assert.assertFalse(dictionary.isExactHeading("Konkordanz, 33", SemanticRole.INDEX));
+        Assert.assertFalse(dictionary.isExactHeading("Subject index, 3", SemanticRole.INDEX));
+        Assert.assertFalse(dictionary.isExactHeading("index, 12-14", SemanticRole.INDEX));
+        Assert.assertFalse(dictionary.isExactHeading("12 Index", SemanticRole.INDEX));
+    }
+
+    @Test
+    public void testAddAll() throws IOException {
+        String headings = "# comment\n[index]\níndice general\n\n[unknown]\nfoo\n[toc]\nTable des matières\n";
+        HeadingDictionary dictionary = new HeadingDictionary();
+        dictionary.addAll(new ByteArrayInputStream(headings.getBytes(StandardCharsets.UTF_8)));
+
+        Assert.assertEquals(2, dictionary.size());
+        Assert.assertTrue(dictionary.isHeading("Indice General", SemanticRole.INDEX));
+        Assert.assertTrue(dictionary.isHeading("TABLE DES MATIERES", SemanticRole.TABLE_OF_CONTENTS));
+        Assert.assertFalse(dictionary.isHeading("foo"));
+    }
+}
@@ -0,0 +1,83 @@
+package pdfact.core.util.list;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.model.Page;
+import pdfact.core.model.Position;
+import pdfact.core.model.TextBlock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks the sort of elements by float keys and by position orders.
+ */
+public class FloatKeySortTest {
+
+    @Test
+    public void testSortEqualsStableSort() {
+        Random random = new Random(0);
+        // Lengths below and above the threshold of the insertion sort.
+        for (int n : new int[]{0, 1, 2, 5, 32, 33, 100, 1000}) {
+            List<float[]> elements = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                // Few distinct keys, such that there are many equal keys, including -0 and 0.
+                float key = (random.nextInt(21) - 10) / 2f;
+                elements.add(new float[]{key == 0 && random.nextBoolean() ? -0f : key, i});
+            }
+
+            for (boolean descending : new boolean[]{false, true}) {
+                Comparator<float[]> comparator = (e1, e2) -> Float.compare(e1[0], e2[0]);
+                List<float[]> expected = new ArrayList<>(elements);
+                expected.sort(descending ? comparator.reversed() : comparator);
+
+                int[] permutation = FloatKeySort.computePermutation(elements, e -> e[0], descending);
+                Assert.assertEquals(n, permutation.length);
+                for (int i = 0; i < n; i++) {
+                    Assert.assertSame("n = " + n + ", descending = " + descending, expected.get(i),
+                            elements.get(permutation[i]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSortRange() {
+        List<Float> elements = new ArrayList<>(Arrays.asList(9f, 3f, 2f, 1f, 0f));
+        FloatKeySort.sort(elements, 1, 4, e -> e, false);
+        Assert.assertEquals(Arrays.asList(9f, 1f, 2f, 3f, 0f), elements);
+    }
+
+    @Test
+    public void testNaNLast() {
+        List<Float> elements = Arrays.asList(Float.NaN, 2f, Float.NEGATIVE_INFINITY, Float.NaN,
+                Float.POSITIVE_INFINITY);
+        int[] ascending = FloatKeySort.computePermutation(elements, e -> e, false);
+        Assert.assertArrayEquals(new int[]{2, 1, 4, 0, 3}, ascending);
+        int[] descending = FloatKeySort.computePermutation(elements, e -> e, true);
+        Assert.assertArrayEquals(new int[]{4, 1, 2, 0, 3}, descending);
+    }
+
+    @Test
+    public void testPositionOrderWithoutPositions() {
+        Page page = new Page(1);
+        TextBlock lower = createBlock(page, 100);
+        TextBlock upper = createBlock(page, 500);
+        TextBlock withoutPosition = new TextBlock();
+        List<TextBlock> blocks = Arrays.asList(withoutPosition, lower, null, upper);
+
+        // Elements without a position are sorted last, like by the comparators.
+        Assert.assertArrayEquals(new int[]{1, 3, 0, 2}, PositionOrder.MIN_Y.computePermutation(blocks));
+        Assert.assertArrayEquals(new int[]{3, 1, 0, 2},
+                PositionOrder.MIN_Y_DESCENDING.computePermutation(blocks));
+    }
+
+    private static TextBlock createBlock(Page page, float minY) {
+        TextBlock block = new TextBlock();
+        block.setPosition(new Position(page, 72, minY, 500, minY + 12));
+        return block;
+    }
+}
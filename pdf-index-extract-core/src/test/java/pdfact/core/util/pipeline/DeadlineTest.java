@@ -0,0 +1,116 @@
+package pdfact.core.util.pipeline;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.model.Document;
+import pdfact.core.model.DocumentSource;
+import pdfact.core.model.Page;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActTimeoutException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the cooperative cancellation of a pipeline by a deadline.
+ */
+public class DeadlineTest {
+
+    @Test
+    public void testExpiry() {
+        Assert.assertFalse(Deadline.after(60_000).isExpired());
+
+        // A deadline whose time budget has already elapsed.
+        long startNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+        Deadline deadline = new Deadline(20, startNanos);
+        Assert.assertTrue(deadline.isExpired());
+        Assert.assertFalse(deadline.isCancelled());
+        try {
+            deadline.check();
+            Assert.fail("The deadline must be expired.");
+        } catch (PdfActTimeoutException e) {
+            // Expected.
+        }
+        Assert.assertFalse(new Deadline(60_000, startNanos).isExpired());
+
+        Deadline cancellable = Deadline.cancellable();
+        Assert.assertFalse(cancellable.isExpired());
+        cancellable.cancel();
+        Assert.assertTrue(cancellable.isExpired());
+    }
+
+    @Test
+    public void testCancelBetweenPages() throws PdfActException {
+        Document pdf = new Document((DocumentSource) null);
+        pdf.setPages(Arrays.asList(new Page(1), new Page(2), new Page(3)));
+        pdf.setDeadline(Deadline.cancellable());
+
+        List<Integer> processed = new ArrayList<>();
+        Pipeline pipeline = new PlainPipeline();
+        pipeline.setPageExecutor(PageExecutor.sequential());
+        pipeline.addPipe(new TestPagePipe(page -> {
+            processed.add(page.getPageNumber());
+            if (page.getPageNumber() == 2) {
+                pdf.getDeadline().cancel();
+            }
+        }));
+        pipeline.addPipe(new TestPagePipe(page -> Assert.fail("The second pipe must not run.")));
+
+        try {
+            pipeline.process(pdf);
+            Assert.fail("The pipeline must be cancelled.");
+        } catch (PdfActTimeoutException e) {
+            Assert.assertSame(pdf, e.getDocument());
+            Assert.assertEquals(22, e.getExitCode());
+        }
+        Assert.assertEquals(Arrays.asList(1, 2), processed);
+    }
+
+    @Test
+    public void testDeadlineOfSingleExecution() throws PdfActException {
+        Document cancelled = new Document((DocumentSource) null);
+        cancelled.setPages(Arrays.asList(new Page(1), new Page(2)));
+        cancelled.setDeadline(Deadline.cancellable());
+
+        List<Integer> processed = new ArrayList<>();
+        Pipeline pipeline = new PlainPipeline();
+        pipeline.setPageExecutor(PageExecutor.sequential());
+        pipeline.addPipe(new TestPagePipe(page -> {
+            processed.add(page.getPageNumber());
+            cancelled.getDeadline().cancel();
+        }));
+
+        try {
+            pipeline.process(cancelled);
+            Assert.fail("The pipeline must be cancelled.");
+        } catch (PdfActTimeoutException e) {
+            // Expected.
+        }
+        Assert.assertEquals(Arrays.asList(1), processed);
+
+        // The deadline of the former document must not be kept by the pipe.
+        Document pdf = new Document((DocumentSource) null);
+        pdf.setPages(Arrays.asList(new Page(1), new Page(2)));
+        pipeline.process(pdf);
+        Assert.assertEquals(Arrays.asList(1, 1, 2), processed);
+    }
+
+    /**
+     * A page pipe that runs the given task for each page.
+     */
+    private static class TestPagePipe implements PagePipe {
+        private final PageExecutor.PageTask task;
+
+        TestPagePipe(PageExecutor.PageTask task) {
+            this.task = task;
+        }
+
+        @Override
+        public Document execute(Document pdf, PageExecutor executor) throws PdfActException {
+            executor.forEachPage(pdf.getPages(), this.task);
+            return pdf;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package pdfact.core.util.pipeline;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.util.exception.PdfActTimeoutException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Checks the admission of documents by a shared memory budget.
+ */
+public class MemoryBudgetTest {
+
+    @Test
+    public void testQueueing() throws Exception {
+        MemoryBudget budget = new MemoryBudget(100);
+        MemoryBudget.Reservation first = budget.reserve(60, null);
+        Assert.assertEquals(60, budget.getReservedBytes());
+
+        // The second document doesn't fit, and the third one must not overtake it.
+        CompletableFuture<MemoryBudget.Reservation> second = reserveAsync(budget, 60);
+        awaitWaiting(budget, 1);
+        CompletableFuture<MemoryBudget.Reservation> third = reserveAsync(budget, 10);
+        awaitWaiting(budget, 2);
+        try {
+            third.get(100, TimeUnit.MILLISECONDS);
+            Assert.fail("The third document must wait for the second one.");
+        } catch (TimeoutException e) {
+            // Expected.
+        }
+
+        first.close();
+        first.close();
+        Assert.assertEquals(60, second.get(1, TimeUnit.SECONDS).getBytes());
+        Assert.assertEquals(10, third.get(1, TimeUnit.SECONDS).getBytes());
+        Assert.assertEquals(70, budget.getReservedBytes());
+        Assert.assertEquals(2, budget.getNumQueued());
+    }
+
+    @Test
+    public void testTryReserve() throws Exception {
+        MemoryBudget budget = new MemoryBudget(100);
+        MemoryBudget.Reservation first = budget.tryReserve(60);
+        Assert.assertNotNull(first);
+        Assert.assertNull(budget.tryReserve(60));
+
+        // A document that fits must not overtake a waiting one.
+        CompletableFuture<MemoryBudget.Reservation> second = reserveAsync(budget, 60);
+        awaitWaiting(budget, 1);
+        Assert.assertNull(budget.tryReserve(10));
+
+        first.close();
+        second.get(1, TimeUnit.SECONDS).close();
+        Assert.assertNotNull(budget.tryReserve(100));
+    }
+
+    @Test
+    public void testOversizedReservation() throws PdfActTimeoutException {
+        MemoryBudget budget = new MemoryBudget(100);
+        try (MemoryBudget.Reservation reservation = budget.reserve(1000, null)) {
+            Assert.assertEquals(100, reservation.getBytes());
+        }
+        Assert.assertEquals(0, budget.getReservedBytes());
+    }
+
+    @Test
+    public void testDeadlineWhileWaiting() throws PdfActTimeoutException {
+        MemoryBudget budget = new MemoryBudget(100);
+        try (MemoryBudget.Reservation reservation = budget.reserve(100, null)) {
+            budget.reserve(1, Deadline.after(50));
+            Assert.fail("The reservation must time out.");
+        } catch (PdfActTimeoutException e) {
+            Assert.assertEquals(0, budget.getNumWaiting());
+        }
+        Assert.assertEquals(0, budget.getReservedBytes());
+    }
+
+    /**
+     * Reserves the given number of bytes in another thread.
+     */
+    protected static CompletableFuture<MemoryBudget.Reservation> reserveAsync(MemoryBudget budget, long numBytes) {
+        CompletableFuture<MemoryBudget.Reservation> future = new CompletableFuture<>();
+        new Thread(() -> {
+            try {
+                future.complete(budget.reserve(numBytes, null));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }).start();
+        return future;
+    }
+
+    /**
+     * Waits until the given number of documents waits for memory.
+     */
+    protected static void awaitWaiting(MemoryBudget budget, int numWaiting) throws InterruptedException {
+        for (int i = 0; i < 200 && budget.getNumWaiting() < numWaiting; i++) {
+            Thread.sleep(5);
+        }
+        Assert.assertEquals(numWaiting, budget.getNumWaiting());
+    }
+}
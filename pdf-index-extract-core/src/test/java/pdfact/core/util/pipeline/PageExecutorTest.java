@@ -0,0 +1,124 @@
+package pdfact.core.util.pipeline;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActParseException;
+import pdfact.core.util.exception.PdfActTimeoutException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks the processing of elements by the different page executors.
+ */
+public class PageExecutorTest {
+
+    @Test
+    public void testSequential() throws PdfActException {
+        PageExecutor executor = PageExecutor.sequential();
+        Assert.assertEquals(1, executor.getParallelism());
+        Assert.assertFalse(executor.isVirtual());
+        // A parallelism of 1 results in a sequential executor, too.
+        Assert.assertEquals(1, PageExecutor.withParallelism(1).getParallelism());
+
+        // The elements are processed in order, in the calling thread, and null elements are skipped.
+        List<Integer> processed = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        executor.forEach(Arrays.asList(1, null, 2, 3), element -> {
+            Assert.assertSame(caller, Thread.currentThread());
+            processed.add(element);
+        });
+        Assert.assertEquals(Arrays.asList(1, 2, 3), processed);
+
+        try {
+            executor.forEach(Arrays.asList(1, 2), element -> {
+                throw new PdfActParseException("Failed on " + element + ".");
+            });
+            Assert.fail("The exception of the task must be thrown.");
+        } catch (PdfActParseException e) {
+            Assert.assertEquals("Failed on 1.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testFixed() throws Exception {
+        try (PageExecutor executor = PageExecutor.withParallelism(4)) {
+            Assert.assertEquals(4, executor.getParallelism());
+
+            // All elements are processed, by at most 4 threads of the executor at the same time.
+            Set<Integer> processed = ConcurrentHashMap.newKeySet();
+            AtomicInteger numRunning = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            List<Integer> elements = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                elements.add(i);
+            }
+            executor.forEach(elements, element -> {
+                Assert.assertTrue(Thread.currentThread().getName().startsWith("pdfact-page-"));
+                maxRunning.accumulateAndGet(numRunning.incrementAndGet(), Math::max);
+                processed.add(element);
+                numRunning.decrementAndGet();
+            });
+            Assert.assertEquals(100, processed.size());
+            Assert.assertTrue(maxRunning.get() <= 4);
+
+            // The elements are processed in parallel.
+            CountDownLatch latch = new CountDownLatch(2);
+            executor.forEach(Arrays.asList(1, 2), element -> {
+                latch.countDown();
+                try {
+                    Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            // The exceptions of the tasks are thrown in the calling thread.
+            try {
+                executor.forEach(Arrays.asList(1, 2), element -> {
+                    throw new IllegalStateException("Failed.");
+                });
+                Assert.fail("The exception of the task must be thrown.");
+            } catch (IllegalStateException e) {
+                Assert.assertEquals("Failed.", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testWithDeadline() throws PdfActException {
+        try (PageExecutor executor = PageExecutor.withParallelism(2)) {
+            Deadline deadline = Deadline.cancellable();
+            PageExecutor withDeadline = executor.withDeadline(deadline);
+            Assert.assertEquals(2, withDeadline.getParallelism());
+            Assert.assertSame(withDeadline, withDeadline.withDeadline(deadline));
+
+            List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+            withDeadline.forEach(Arrays.asList(1, 2), processed::add);
+            Assert.assertEquals(2, processed.size());
+
+            // No element is processed after the deadline expired.
+            deadline.cancel();
+            try {
+                withDeadline.forEach(Arrays.asList(3, 4), processed::add);
+                Assert.fail("The deadline must be expired.");
+            } catch (PdfActTimeoutException e) {
+                // Expected.
+            }
+            Assert.assertEquals(2, processed.size());
+
+            // Closing the executor with the deadline doesn't shut down the threads it shares.
+            withDeadline.close();
+            executor.forEach(Arrays.asList(3, 4), processed::add);
+            Assert.assertEquals(4, processed.size());
+        }
+    }
+}